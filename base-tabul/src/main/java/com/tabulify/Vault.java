@@ -220,21 +220,7 @@ public class Vault {
             if (valueString.startsWith(Vault.VAULT_PREFIX)) {
 
                 this.rawValueType = RawValueType.VAULT;
-
-                /*
-                 * Decrypt
-                 */
-                String valueToDecrypt = valueString.substring(Vault.VAULT_PREFIX.length());
-                if (protector == null) {
-                    throw new CastException("No passphrase was given, we can't decrypt the vault value (" + valueToDecrypt + ")");
-                }
-                try {
-                    return protector.decrypt(valueToDecrypt);
-                } catch (Exception exception) {
-                    String message = "We were unable to decrypt the value with the given passphrase. Value:" + valueToDecrypt;
-                    DbLoggers.LOGGER_DB_ENGINE.severe(message);
-                    throw new CastException(message);
-                }
+                return decrypt(getValueToDecrypt(valueString));
 
             }
 
@@ -257,6 +243,28 @@ public class Vault {
                     .getResult();
         }
 
+        /**
+         * @return the encrypted value without the vault prefix
+         * @throws CastException if there is no passphrase
+         */
+        private String getValueToDecrypt(String vaultValue) throws CastException {
+            String valueToDecrypt = vaultValue.substring(Vault.VAULT_PREFIX.length());
+            if (protector == null) {
+                throw new CastException("No passphrase was given, we can't decrypt the vault value (" + valueToDecrypt + ")");
+            }
+            return valueToDecrypt;
+        }
+
+        private String decrypt(String valueToDecrypt) throws CastException {
+            try {
+                return protector.decrypt(valueToDecrypt);
+            } catch (Exception exception) {
+                String message = "We were unable to decrypt the value with the given passphrase. Value:" + valueToDecrypt;
+                DbLoggers.LOGGER_DB_ENGINE.severe(message);
+                throw new CastException(message);
+            }
+        }
+
         private com.tabulify.conf.Attribute builtAttribute(Class<?> valueClazz) {
 
             if (this.attributeEnum != null) {
@@ -295,6 +303,23 @@ public class Vault {
             // The raw (String, integer, ...)
             attribute.setRawValue(value);
 
+            /*
+             * A vault value is decrypted when it's used
+             * (the key derivation is slow by design)
+             */
+            if (value instanceof String valueString && valueString.startsWith(Vault.VAULT_PREFIX)) {
+                String valueToDecrypt = getValueToDecrypt(valueString);
+                attribute.setRawValueType(RawValueType.VAULT);
+                attribute.setPlainValueLoader(() -> {
+                    try {
+                        return decrypt(valueToDecrypt);
+                    } catch (CastException e) {
+                        throw new RuntimeException(e.getMessage(), e);
+                    }
+                }, castFunction);
+                return attribute;
+            }
+
             // Decode all string
             Object valueDecoded = toPlain(value);
             // setRawValueType should happen after the toPlain function
@@ -59,8 +59,9 @@ public class Attribute implements Comparable<Attribute> {
 
     /**
      * A plain value (decrypted if needed, and casted as {@link AttributeEnum#getValueClazz()})
+     * Volatile as it's read without lock in {@link #getValue()} and set by {@link #loadPlainValue()}
      */
-    private Object plainValue;
+    private volatile Object plainValue;
 
 
     /**
@@ -68,6 +69,15 @@ public class Attribute implements Comparable<Attribute> {
      */
     private Supplier<?> valueProvider;
 
+    /**
+     * A function that gives the plain value the first time that it's asked
+     * (ie a vault value is decrypted only when it's used)
+     * and its cast function
+     * Volatile as it's read without lock in {@link #getValue()} (double-checked in {@link #loadPlainValue()})
+     */
+    private volatile Supplier<?> plainValueLoader;
+    private volatile Function<Object, ?> plainValueLoaderCast;
+
 
     private final Function<Object, ?> defaultCast = o -> defaultCastToPlainValueFunction(o, this.attributeEnum.getValueClazz());
 
@@ -351,6 +361,12 @@ public class Attribute implements Comparable<Attribute> {
         if (this.plainValue != null) {
             return this.plainValue;
         }
+        if (this.plainValueLoader != null) {
+            loadPlainValue();
+            if (this.plainValue != null) {
+                return this.plainValue;
+            }
+        }
         if (this.valueProvider != null) {
             return this.valueProvider.get();
         }
@@ -392,6 +408,28 @@ public class Attribute implements Comparable<Attribute> {
     }
 
 
+    /**
+     * @param plainValueLoader - the function that returns the plain value, called only once at the first {@link #getValue()}
+     *                         (use it if the plain value is expensive to compute such as with a vault value)
+     * @param cast             - cast function (maybe null) that will cast the value to {@link AttributeEnum#getValueClazz()}
+     * @return the variable
+     */
+    public Attribute setPlainValueLoader(Supplier<?> plainValueLoader, Function<Object, ?> cast) {
+        this.plainValueLoader = plainValueLoader;
+        this.plainValueLoaderCast = cast;
+        return this;
+    }
+
+    private synchronized void loadPlainValue() {
+        if (this.plainValueLoader == null) {
+            return;
+        }
+        setPlainValue(this.plainValueLoader.get(), this.plainValueLoaderCast);
+        this.plainValueLoader = null;
+        this.plainValueLoaderCast = null;
+    }
+
+
     public void setAttributeMetadata(AttributeEnum attributeEnum) {
         this.attributeEnum = attributeEnum;
     }
@@ -114,6 +114,14 @@ public class ConnectionMetadata {
     return 100;
   }
 
+  /**
+   * @return The number of transfers that can read from the data store at the same time
+   * (the reads of a data store that share one connection should not be concurrent)
+   */
+  public Integer getMaxReaderConnection() {
+    return Integer.MAX_VALUE;
+  }
+
   public Connection getConnection() {
     return connection;
   }
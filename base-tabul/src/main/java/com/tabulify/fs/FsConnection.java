@@ -35,6 +35,16 @@ public class FsConnection extends NoOpConnection {
    */
   private FileSystem fileSystem;
 
+  /**
+   * The digests of the files (ie the MD5 and SHA attributes)
+   */
+  private final FsDigestCache digestCache = new FsDigestCache();
+
+  /**
+   * The record counts of the text files
+   */
+  private final FsCountCache countCache = new FsCountCache();
+
 
   public FsConnection(Tabular tabular, Attribute name, Attribute uri) {
 
@@ -104,6 +114,14 @@ public class FsConnection extends NoOpConnection {
   }
 
 
+  public FsDigestCache getDigestCache() {
+    return this.digestCache;
+  }
+
+  public FsCountCache getCountCache() {
+    return this.countCache;
+  }
+
   @Override
   public FsDataSystem getDataSystem() {
     return new FsDataSystem(this);
@@ -0,0 +1,76 @@
+package com.tabulify.fs;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * The record counts of the text files of a {@link FsConnection}
+ * <p>
+ * A count is valid as long as the file key (ie inode), the size and the last modified time of the file are the same
+ * (ie counting a big file twice scans it only once)
+ */
+public class FsCountCache {
+
+  private final Map<String, CachedCount> counts = new ConcurrentHashMap<>();
+
+  private static class CachedCount {
+
+    private final Object fileKey;
+    private final long size;
+    private final FileTime lastModifiedTime;
+    private final long count;
+
+    private CachedCount(BasicFileAttributes attributes, long count) {
+      this.fileKey = attributes.fileKey();
+      this.size = attributes.size();
+      this.lastModifiedTime = attributes.lastModifiedTime();
+      this.count = count;
+    }
+
+    /**
+     * @return true if the file was not replaced or modified
+     * (a file without key, ie on Windows, is checked only on its size and last modified time)
+     */
+    private boolean isValid(BasicFileAttributes attributes) {
+      return Objects.equals(fileKey, attributes.fileKey())
+        && size == attributes.size()
+        && lastModifiedTime.equals(attributes.lastModifiedTime());
+    }
+
+  }
+
+  /**
+   * @param path    - the path of the file
+   * @param variant - the count variant (ie the format properties that changes the count)
+   * @param counter - the count function
+   * @return the cached count if the file has the same file key, size and last modified time, otherwise the count
+   */
+  public long getOrCount(Path path, String variant, ToLongFunction<Path> counter) {
+
+    BasicFileAttributes attributes;
+    try {
+      attributes = Files.readAttributes(path, BasicFileAttributes.class);
+    } catch (IOException e) {
+      throw new RuntimeException("Error while reading the attributes of the file (" + path + "). Error: " + e.getMessage(), e);
+    }
+
+    String key = path.toAbsolutePath().normalize() + "|" + variant;
+    CachedCount cachedCount = counts.get(key);
+    if (cachedCount != null && cachedCount.isValid(attributes)) {
+      return cachedCount.count;
+    }
+
+    long count = counter.applyAsLong(path);
+    counts.put(key, new CachedCount(attributes, count));
+    return count;
+
+  }
+
+}
@@ -265,7 +265,7 @@ public abstract class FsDataPathAbs extends DataPathAbs implements FsDataPath {
   @Override
   public byte[] getByteDigest(String algorithm) throws NoSuchFileException {
 
-    return Digest.createFromPath(Digest.Algorithm.createFrom(algorithm), getAbsoluteNioPath()).getHashBytes();
+    return this.getConnection().getDigestCache().getOrCreate(getAbsoluteNioPath(), Digest.Algorithm.createFrom(algorithm));
 
   }
 
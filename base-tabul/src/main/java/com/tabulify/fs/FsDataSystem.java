@@ -11,8 +11,6 @@ import com.tabulify.transfer.*;
 import com.tabulify.exception.InternalException;
 import com.tabulify.exception.NotAbsoluteException;
 import com.tabulify.fs.Fs;
-import com.tabulify.fs.FsShortFileName;
-import com.tabulify.glob.Glob;
 import com.tabulify.type.KeyNormalizer;
 import com.tabulify.type.MediaType;
 import com.tabulify.type.MediaTypes;
@@ -25,8 +23,9 @@ import java.nio.file.*;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.stream.Collectors;
 
 
@@ -416,9 +415,12 @@ public class FsDataSystem extends DataSystemAbs {
           if (transferProperties.getTargetOperations().contains(TransferResourceOperations.CREATE) && !Files.exists(targetAbsoluteNioPath)) {
             options.add(StandardOpenOption.CREATE_NEW);
           }
-          Files.write(
+          /*
+           * Channel to channel (no content in memory, the kernel does the copy if possible)
+           */
+          Fs.transfer(
+            fsSource.getAbsoluteNioPath(),
             targetAbsoluteNioPath,
-            Files.readAllBytes(fsSource.getAbsoluteNioPath()),
             options.toArray(new StandardOpenOption[0]));
           break;
       }
@@ -524,120 +526,20 @@ public class FsDataSystem extends DataSystemAbs {
     }
 
     /**
-     * Recursive processing
-     * We go through all glob names and retain only
-     * the matched paths in the currentMatchesPaths variable
+     * Walk
+     * The traversal is parallel, the paths are sorted
+     * to return always the same list
      */
-    List<Path> currentMatchesPaths = new ArrayList<>();
-    currentMatchesPaths.add(startPath);
-    boolean recursiveWildCardFound = false;
-    for (String name : stringNames) {
-
-      if (name.equals(Glob.DOUBLE_STAR)) {
-        recursiveWildCardFound = true;
-        continue;
-      }
-
-      FsShortFileName sfn = FsShortFileName.of(name);
-      Pattern pattern;
-      if (!sfn.isShortFileName()) {
-        pattern = Pattern.compile(Glob.createOf(name).toRegexPattern());
-      } else {
-        pattern = Pattern.compile(Glob.createOf(sfn.getShortName() + "*").toRegexPattern(), Pattern.CASE_INSENSITIVE);
-      }
-
-      /**
-       * Is it a recursive traversal, now ?
-       */
-      if (!recursiveWildCardFound) {
-        /**
-         * This is not, we just look up this level
-         */
-        List<Path> matchesPath = new ArrayList<>();
-        for (Path currentRecursivePath : currentMatchesPaths) {
-          List<Path> recursiveMatchesPath = getMatchesPath(pattern, currentRecursivePath, false);
-          matchesPath.addAll(recursiveMatchesPath);
-        }
-        // Recursion
-        currentMatchesPaths = matchesPath;
-        // Break if there is no match
-        if (matchesPath.isEmpty()) {
-          break;
-        }
-      } else {
-        List<Path> matchedFiles = new ArrayList<>();
-        while (!currentMatchesPaths.isEmpty()) {
-          List<Path> matchesPath = new ArrayList<>();
-          for (Path currentRecursivePath : currentMatchesPaths) {
-            List<Path> currentMatchesPath = getMatchesPath(pattern, currentRecursivePath, true);
-            matchesPath.addAll(currentMatchesPath);
-          }
-          /**
-           * Recursion only on directories
-           */
-          currentMatchesPaths = matchesPath
-            .stream()
-            .filter(Files::isDirectory)
-            .collect(Collectors.toList());
-          /**
-           * Collect the files
-           */
-          matchedFiles.addAll(
-            matchesPath
-              .stream()
-              .filter(Files::isRegularFile)
-              .collect(Collectors.toList())
-          );
-        }
-        /**
-         * Update the returned variables
-         */
-        currentMatchesPaths = matchedFiles;
-        break;
-      }
-    }
-
-    return currentMatchesPaths;
+    Queue<Path> matchesPaths = new ConcurrentLinkedQueue<>();
+    FsGlobWalker.create(startPath, stringNames)
+      .walk(matchesPaths::add);
+    return matchesPaths
+      .stream()
+      .sorted()
+      .collect(Collectors.toList());
 
   }
 
-  private static List<Path> getMatchesPath(Pattern pattern, Path currentRecursivePath, Boolean recursiveWildCardFound) {
-
-    // The list where the actual matches path will be stored
-    List<Path> matchesPath = new ArrayList<>();
-    // There is also newDirectoryStream
-    // https://docs.oracle.com/javase/8/docs/api/java/nio/file/Files.html#newDirectoryStream-java.nio.file.Path-java.lang.String-
-    // but yeah ...
-    if (Files.isDirectory(currentRecursivePath)) {
-      try {
-        List<Path> paths = Fs.getChildrenFiles(currentRecursivePath);
-        for (Path childrenPath : paths) {
-          if (pattern.matcher(childrenPath.getFileName().toString()).find()) {
-            matchesPath.add(childrenPath);
-          } else {
-            if (recursiveWildCardFound) {
-              if (Files.isDirectory(childrenPath)) {
-                matchesPath.add(childrenPath);
-              }
-            }
-          }
-        }
-      } catch (Exception e) {
-        if (e.getCause().getClass().equals(AccessDeniedException.class)) {
-          FsLog.LOGGER_DB_FS.warning("The path (" + currentRecursivePath + ") was denied");
-        } else {
-          throw e;
-        }
-      }
-    } else {
-      if (pattern.matcher(currentRecursivePath.getFileName().toString()).find()) {
-        matchesPath.add(currentRecursivePath);
-      }
-    }
-    return matchesPath;
-  }
-
-
   /**
    * An utility to get the files by entering the glob path or glob names
    * Relative from the current path
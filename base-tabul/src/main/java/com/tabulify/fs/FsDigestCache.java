@@ -0,0 +1,76 @@
+package com.tabulify.fs;
+
+import com.tabulify.crypto.Digest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The digests of the files of a {@link FsConnection}
+ * <p>
+ * A digest is valid as long as the file key (ie inode), the size and the last modified time of the file are the same
+ * (ie listing a directory twice with the md5 attribute reads the files only once)
+ */
+public class FsDigestCache {
+
+  private final Map<String, CachedDigest> digests = new ConcurrentHashMap<>();
+
+  private static class CachedDigest {
+
+    private final Object fileKey;
+    private final long size;
+    private final FileTime lastModifiedTime;
+    private final byte[] digest;
+
+    private CachedDigest(BasicFileAttributes attributes, byte[] digest) {
+      this.fileKey = attributes.fileKey();
+      this.size = attributes.size();
+      this.lastModifiedTime = attributes.lastModifiedTime();
+      this.digest = digest;
+    }
+
+    private boolean isValid(BasicFileAttributes attributes) {
+      return Objects.equals(fileKey, attributes.fileKey())
+        && size == attributes.size()
+        && lastModifiedTime.equals(attributes.lastModifiedTime());
+    }
+
+  }
+
+  /**
+   * @param path      - the path of the file
+   * @param algorithm - the digest algorithm
+   * @return the digest of the file bytes
+   * @throws NoSuchFileException if the file does not exist
+   */
+  public byte[] getOrCreate(Path path, Digest.Algorithm algorithm) throws NoSuchFileException {
+
+    BasicFileAttributes attributes;
+    try {
+      attributes = Files.readAttributes(path, BasicFileAttributes.class);
+    } catch (NoSuchFileException e) {
+      throw e;
+    } catch (IOException e) {
+      throw new RuntimeException("Error while reading the attributes of the file (" + path + "). Error: " + e.getMessage(), e);
+    }
+
+    String key = path.toAbsolutePath().normalize() + "|" + algorithm;
+    CachedDigest cachedDigest = digests.get(key);
+    if (cachedDigest != null && cachedDigest.isValid(attributes)) {
+      return cachedDigest.digest.clone();
+    }
+
+    byte[] digest = Digest.createFromPath(algorithm, path).getHashBytes();
+    digests.put(key, new CachedDigest(attributes, digest));
+    return digest.clone();
+
+  }
+
+}
@@ -0,0 +1,265 @@
+package com.tabulify.fs;
+
+import com.tabulify.glob.Glob;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * A walker that pushes the paths that match the names of a glob path to a consumer
+ * <p>
+ * * the glob names are compiled once
+ * * the attributes of an entry are read once
+ * * a literal name (ie without wildcard) is resolved and not listed
+ * * a directory that does not match a name before the recursive wildcard `**` is not traversed
+ * * the directories are traversed in parallel (one fork join task by directory)
+ * <p>
+ * As the traversal is parallel, the consumer should be thread safe
+ * and the order of the paths is not deterministic
+ * <p>
+ * Only the first name after the recursive wildcard `**` is used
+ */
+public class FsGlobWalker {
+
+  private final Path startPath;
+
+  /**
+   * The names before the recursive wildcard
+   */
+  private final List<GlobName> names = new ArrayList<>();
+  /**
+   * Is there a recursive wildcard
+   */
+  private boolean recursive = false;
+  /**
+   * The first name after the recursive wildcard
+   * (null if there is none)
+   */
+  private GlobName recursiveName;
+
+  /**
+   * @param startPath - the path where the traversal starts
+   * @param names     - the glob names relative to the start path (without any current or parent name)
+   */
+  private FsGlobWalker(Path startPath, List<String> names) {
+    this.startPath = startPath;
+    for (String name : names) {
+      if (name.equals(Glob.DOUBLE_STAR)) {
+        recursive = true;
+        continue;
+      }
+      if (!recursive) {
+        this.names.add(new GlobName(name));
+        continue;
+      }
+      recursiveName = new GlobName(name);
+      break;
+    }
+  }
+
+  public static FsGlobWalker create(Path startPath, List<String> names) {
+    return new FsGlobWalker(startPath, names);
+  }
+
+  /**
+   * @param consumer - the consumer of the matched paths (called concurrently)
+   */
+  public void walk(Consumer<Path> consumer) {
+    ForkJoinPool.commonPool().invoke(new NameTask(startPath, readAttributes(startPath), 0, consumer));
+  }
+
+  /**
+   * @return the attributes or null if they can't be read (ie the path does not exist, the link is broken)
+   */
+  private static BasicFileAttributes readAttributes(Path path) {
+    try {
+      return Files.readAttributes(path, BasicFileAttributes.class);
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  private static boolean isDirectory(BasicFileAttributes attributes) {
+    return attributes != null && attributes.isDirectory();
+  }
+
+  private static boolean isRegularFile(BasicFileAttributes attributes) {
+    return attributes != null && attributes.isRegularFile();
+  }
+
+  /**
+   * @return the children or an empty list if the access was denied
+   */
+  private static List<Path> getChildren(Path directory) {
+    List<Path> children = new ArrayList<>();
+    try (DirectoryStream<Path> paths = Files.newDirectoryStream(directory)) {
+      for (Path childPath : paths) {
+        children.add(childPath);
+      }
+    } catch (AccessDeniedException e) {
+      FsLog.LOGGER_DB_FS.warning("The path (" + directory + ") was denied");
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+    return children;
+  }
+
+  /**
+   * A name of the glob path
+   */
+  private static class GlobName {
+
+    private final Pattern pattern;
+    /**
+     * The name if it does not have any wildcard
+     */
+    private final String literal;
+
+    GlobName(String name) {
+      FsShortFileName sfn = FsShortFileName.of(name);
+      if (sfn.isShortFileName()) {
+        pattern = Pattern.compile(Glob.createOf(sfn.getShortName() + "*").toRegexPattern(), Pattern.CASE_INSENSITIVE);
+        literal = null;
+        return;
+      }
+      pattern = Pattern.compile(Glob.createOf(name).toRegexPattern());
+      boolean wildcard = name.chars().anyMatch(c -> "*?[]{}\\".indexOf(c) != -1);
+      // the current and parent names are not in a directory listing
+      literal = wildcard || name.equals(".") || name.equals("..") ? null : name;
+    }
+
+    boolean matches(Path path) {
+      Path fileName = path.getFileName();
+      return fileName != null && pattern.matcher(fileName.toString()).find();
+    }
+
+  }
+
+  /**
+   * Match the name at the index against a path
+   * (ie the children of a directory or the path itself if this is not a directory)
+   */
+  private class NameTask extends RecursiveAction {
+
+    private final Path path;
+    private final BasicFileAttributes attributes;
+    private final int nameIndex;
+    private final Consumer<Path> consumer;
+
+    NameTask(Path path, BasicFileAttributes attributes, int nameIndex, Consumer<Path> consumer) {
+      this.path = path;
+      this.attributes = attributes;
+      this.nameIndex = nameIndex;
+      this.consumer = consumer;
+    }
+
+    @Override
+    protected void compute() {
+
+      Path currentPath = path;
+      BasicFileAttributes currentAttributes = attributes;
+      int currentIndex = nameIndex;
+      while (currentIndex < names.size()) {
+
+        GlobName name = names.get(currentIndex);
+        if (!isDirectory(currentAttributes)) {
+          /**
+           * Not a directory, the path itself should match
+           */
+          if (!name.matches(currentPath)) {
+            return;
+          }
+          currentIndex++;
+          continue;
+        }
+
+        if (name.literal != null) {
+          /**
+           * No wildcard, no listing
+           */
+          Path child = currentPath.resolve(name.literal);
+          if (!Files.exists(child, LinkOption.NOFOLLOW_LINKS)) {
+            return;
+          }
+          currentPath = child;
+          currentAttributes = currentIndex + 1 == names.size() && !recursive ? null : readAttributes(child);
+          currentIndex++;
+          continue;
+        }
+
+        /**
+         * The last name: the matches are the result (no attributes needed)
+         */
+        boolean lastName = currentIndex + 1 == names.size() && (!recursive || recursiveName == null);
+        List<NameTask> tasks = new ArrayList<>();
+        for (Path child : getChildren(currentPath)) {
+          if (!name.matches(child)) {
+            continue;
+          }
+          if (lastName) {
+            consumer.accept(child);
+            continue;
+          }
+          tasks.add(new NameTask(child, readAttributes(child), currentIndex + 1, consumer));
+        }
+        invokeAll(tasks);
+        return;
+
+      }
+
+      if (!recursive || recursiveName == null) {
+        consumer.accept(currentPath);
+        return;
+      }
+
+      if (isDirectory(currentAttributes)) {
+        new TreeTask(currentPath, consumer).compute();
+        return;
+      }
+      if (isRegularFile(currentAttributes) && recursiveName.matches(currentPath)) {
+        consumer.accept(currentPath);
+      }
+
+    }
+
+  }
+
+  /**
+   * Match the name after the recursive wildcard against the files of a directory tree
+   */
+  private class TreeTask extends RecursiveAction {
+
+    private final Path directory;
+    private final Consumer<Path> consumer;
+
+    TreeTask(Path directory, Consumer<Path> consumer) {
+      this.directory = directory;
+      this.consumer = consumer;
+    }
+
+    @Override
+    protected void compute() {
+      List<TreeTask> tasks = new ArrayList<>();
+      for (Path child : getChildren(directory)) {
+        BasicFileAttributes childAttributes = readAttributes(child);
+        if (isDirectory(childAttributes)) {
+          tasks.add(new TreeTask(child, consumer));
+          continue;
+        }
+        if (isRegularFile(childAttributes) && recursiveName.matches(child)) {
+          consumer.accept(child);
+        }
+      }
+      invokeAll(tasks);
+    }
+
+  }
+
+}
@@ -30,6 +30,8 @@ import java.nio.charset.MalformedInputException;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import static com.tabulify.conf.Origin.DEFAULT;
 import static com.tabulify.fs.textfile.FsTextDataPathAttributes.CHARACTER_SET;
@@ -219,9 +221,25 @@ public class FsTextDataPath extends FsBinaryDataPath implements FsDataPath {
 
   }
 
+  /**
+   * The count of a text file is the count of its lines.
+   * If the lines can be found at the byte level, the file is not read with a select stream
+   * but scanned with the {@link FsTextRecordCounter}
+   */
   @Override
   public Long getCount() {
 
+    if (this.getClass().equals(FsTextDataPath.class)) {
+      Path path = this.getAbsoluteNioPath();
+      String[] endOfRecords = this.getEndOfRecords();
+      if (FsTextRecordCounter.isMappable(path)
+        && FsTextRecordCounter.isLineCountable(endOfRecords)
+        && FsTextRecordCounter.isByteCountable(this.getCharset())) {
+        String variant = "text:" + String.join("|", endOfRecords);
+        return this.getConnection().getCountCache().getOrCount(path, variant, p -> FsTextRecordCounter.countLines(p, endOfRecords));
+      }
+    }
+
     try {
       return super.getCount();
     } catch (Exception e) {
@@ -233,6 +251,35 @@ public class FsTextDataPath extends FsBinaryDataPath implements FsDataPath {
 
   }
 
+  /**
+   * If the lines can be found at the byte level, the start of the last lines
+   * is {@link FsTextTailSeeker seeked} from the end of the file
+   * and only the last lines are read
+   */
+  @Override
+  public List<List<?>> getTailRecords(int limit) {
+
+    if (this.getClass().equals(FsTextDataPath.class)) {
+      Path path = this.getAbsoluteNioPath();
+      String[] endOfRecords = this.getEndOfRecords();
+      if (FsTextRecordCounter.isMappable(path)
+        && FsTextRecordCounter.isLineCountable(endOfRecords)
+        && FsTextRecordCounter.isByteCountable(this.getCharset())) {
+        long startPosition = FsTextTailSeeker.seekLines(path, limit, endOfRecords);
+        List<List<?>> records = new ArrayList<>();
+        try (SelectStream selectStream = FsTextSelectStream.create(this, startPosition)) {
+          while (selectStream.next()) {
+            records.add(selectStream.getObjects());
+          }
+        }
+        // the file may have changed between the seek and the read
+        return records.subList(Math.max(0, records.size() - limit), records.size());
+      }
+    }
+    return super.getTailRecords(limit);
+
+  }
+
   @Override
   public InsertStream getInsertStream(DataPath source, TransferPropertiesSystem transferProperties) {
     return FsTextInsertStream.create(this);
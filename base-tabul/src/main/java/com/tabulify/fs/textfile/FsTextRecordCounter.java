@@ -0,0 +1,189 @@
+package com.tabulify.fs.textfile;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+/**
+ * Count the records of a text file at the byte level
+ * without decoding the characters and without creating a record.
+ * <p>
+ * * The file is mapped in memory by chunk of {@link #CHUNK_SIZE}
+ * * The record ends are counted in parallel over the chunks
+ * * The count is cached by file in the {@link com.tabulify.fs.FsCountCache count cache} of the connection
+ * <p>
+ * This is only possible when the end of record characters can be found at the byte level
+ * (See {@link #isByteCountable(Charset)})
+ */
+public class FsTextRecordCounter {
+
+  /**
+   * The size of a mapped chunk
+   */
+  static final int CHUNK_SIZE = 64 * 1024 * 1024;
+
+  private static final byte LF = '\n';
+  private static final byte CR = '\r';
+
+  /**
+   * @return true if the charset encodes the ASCII characters on one byte
+   * and does not use the ASCII bytes in a multibyte character
+   * (ie a byte equal to the line feed is a line feed)
+   */
+  public static boolean isByteCountable(Charset charset) {
+    if (charset.equals(StandardCharsets.UTF_8)
+      || charset.equals(StandardCharsets.US_ASCII)
+      || charset.equals(StandardCharsets.ISO_8859_1)) {
+      return true;
+    }
+    String name = charset.name().toLowerCase();
+    return name.startsWith("iso-8859-") || name.startsWith("windows-125");
+  }
+
+  /**
+   * @return true if the path can be mapped in memory (ie the path is on the local file system)
+   */
+  public static boolean isMappable(Path path) {
+    return path.getFileSystem().equals(FileSystems.getDefault()) && Files.isRegularFile(path);
+  }
+
+  /**
+   * @return true if the end of records are end of lines that can be counted by {@link #countLines(Path, String[])}
+   * <p>
+   * `\r\n` alone is not countable at the byte level because the {@link FsTextSelectStream select stream}
+   * does not see a `\r\n` whose `\r` ends the previous record
+   */
+  public static boolean isLineCountable(String[] endOfRecords) {
+    if (endOfRecords == null || endOfRecords.length == 0) {
+      return false;
+    }
+    List<String> endOfLines = Arrays.asList("\n", "\r", "\r\n");
+    List<String> endOfRecordList = Arrays.asList(endOfRecords);
+    if (!endOfLines.containsAll(endOfRecordList)) {
+      return false;
+    }
+    return endOfRecordList.contains("\n") || endOfRecordList.contains("\r");
+  }
+
+  /**
+   * The count is the same as the {@link FsTextSelectStream select stream}:
+   * consecutive end of records are merged, a record ends at the end of record that is not followed by another one.
+   * ie `a\n\nb` has 2 records (`a\n` and `b`) and `a\n` has 1 record
+   *
+   * @param path         - the path of the file
+   * @param endOfRecords - the end of records (a combination of `\n`, `\r` and `\r\n`)
+   * @return the number of records, the last record may have no end of record
+   */
+  public static long countLines(Path path, String[] endOfRecords) {
+
+    List<String> endOfLines = Arrays.asList(endOfRecords);
+    boolean lineFeed = endOfLines.contains("\n");
+    boolean carriageReturn = endOfLines.contains("\r");
+    boolean pair = endOfLines.contains("\r\n");
+
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+
+      long size = channel.size();
+      if (size == 0) {
+        return 0;
+      }
+      long chunkCount = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+      long recordEndCount = LongStream.range(0, chunkCount)
+        .parallel()
+        .map(chunk -> countRecordEnds(channel, chunk * CHUNK_SIZE, Math.min(size, (chunk + 1) * CHUNK_SIZE), lineFeed, carriageReturn, pair))
+        .sum();
+
+      /**
+       * The last record ends with the file
+       */
+      return recordEndCount + 1;
+
+    } catch (IOException e) {
+      throw new RuntimeException("Error while counting the lines of the file (" + path + "). Error: " + e.getMessage(), e);
+    }
+
+  }
+
+  /**
+   * Count the records that end before a byte of the range (the start included, the end excluded),
+   * ie the bytes that are not an end of record and that follow an end of record
+   * <p>
+   * The two bytes before the range are mapped to see the end of records that crosses the chunks
+   */
+  private static long countRecordEnds(FileChannel channel, long start, long end, boolean lineFeed, boolean carriageReturn, boolean pair) {
+
+    long mapStart = Math.max(0, start - 2);
+    ByteBuffer buffer = map(channel, mapStart, end - mapStart);
+    int from = (int) (start - mapStart);
+    int to = (int) (end - mapStart);
+    long count = 0;
+    byte beforePrevious = from > 1 ? buffer.get(from - 2) : 0;
+    byte previous = from > 0 ? buffer.get(from - 1) : 0;
+    boolean previousIsEndOfLine = isEndOfLine(beforePrevious, previous, lineFeed, carriageReturn, pair);
+    for (int i = from; i < to; i++) {
+      byte b = buffer.get(i);
+      boolean isEndOfLine = isEndOfLine(previous, b, lineFeed, carriageReturn, pair);
+      if (previousIsEndOfLine && !isEndOfLine) {
+        count++;
+      }
+      previous = b;
+      previousIsEndOfLine = isEndOfLine;
+    }
+    return count;
+
+  }
+
+  /**
+   * @return true if the byte is a character of an end of record
+   * (a `\n` is one if it's an end of record or the end of a `\r\n` end of record)
+   */
+  private static boolean isEndOfLine(byte previous, byte b, boolean lineFeed, boolean carriageReturn, boolean pair) {
+    if (b == CR) {
+      return carriageReturn;
+    }
+    if (b == LF) {
+      return lineFeed || (pair && previous == CR);
+    }
+    return false;
+  }
+
+  /**
+   * Pass the file sequentially chunk by chunk
+   * (for a count where the state of a byte depends on all the previous one, ie the quote in a CSV)
+   *
+   * @param path          - the path
+   * @param chunkConsumer - the consumer of the mapped chunks in the file order
+   */
+  public static void forEachChunk(Path path, Consumer<ByteBuffer> chunkConsumer) {
+
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long size = channel.size();
+      for (long start = 0; start < size; start += CHUNK_SIZE) {
+        chunkConsumer.accept(map(channel, start, Math.min(CHUNK_SIZE, size - start)));
+      }
+    } catch (IOException e) {
+      throw new RuntimeException("Error while reading the file (" + path + "). Error: " + e.getMessage(), e);
+    }
+
+  }
+
+  private static MappedByteBuffer map(FileChannel channel, long position, long size) {
+    try {
+      return channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+    } catch (IOException e) {
+      throw new RuntimeException("Error while mapping the file. Error: " + e.getMessage(), e);
+    }
+  }
+
+}
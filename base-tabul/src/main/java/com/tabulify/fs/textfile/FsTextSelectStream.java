@@ -9,9 +9,12 @@ import com.tabulify.type.TailQueue;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.MalformedInputException;
 import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 import java.sql.Clob;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -41,9 +44,20 @@ public class FsTextSelectStream extends SelectStreamAbs {
    */
   private String record;
 
+  /**
+   * The position in the file where the read starts
+   * (the start of a record, See {@link FsTextTailSeeker})
+   */
+  private final long startPosition;
+
   FsTextSelectStream(FsTextDataPath fsTextDataPath) {
+    this(fsTextDataPath, 0);
+  }
+
+  FsTextSelectStream(FsTextDataPath fsTextDataPath, long startPosition) {
 
     super(fsTextDataPath);
+    this.startPosition = startPosition;
 
     eorLengthSizes = Arrays.stream(getDataPath().getEndOfRecords())
       .map(String::length).distinct().collect(Collectors.toList());
@@ -62,6 +76,15 @@ public class FsTextSelectStream extends SelectStreamAbs {
 
   }
 
+  /**
+   * @param startPosition - the byte position of the first record to read
+   */
+  static FsTextSelectStream create(FsTextDataPath fsTextDataPath, long startPosition) {
+
+    return new FsTextSelectStream(fsTextDataPath, startPosition);
+
+  }
+
 
   @Override
   public boolean next() {
@@ -91,6 +114,14 @@ public class FsTextSelectStream extends SelectStreamAbs {
        */
       List<TailQueue<Character>> endOfRecordBuffers = new ArrayList<>();
       this.eorLengthSizes.forEach(size -> endOfRecordBuffers.add(new TailQueue<>(size)));
+      /**
+       * The character that ended the previous record starts this one,
+       * it's seen by the queues (ie the `\r` of a `\r\n`)
+       */
+      for (int i = 0; i < readBuffer.length(); i++) {
+        char previousCharacter = readBuffer.charAt(i);
+        endOfRecordBuffers.forEach(endOfRecordBuffer -> endOfRecordBuffer.add(previousCharacter));
+      }
 
       /**
        * The end of record found to handle
@@ -132,8 +163,11 @@ public class FsTextSelectStream extends SelectStreamAbs {
              * Case of \r\n
              * where \r is first seen as an EOR
              * and stays \n that is also seen as a EOR
+             * (the longest end of record ending at this character wins, whatever the order of the end of records)
              */
-            previousEndOfRecordFound = eorBufferAsString;
+            if (!endOfRecordFound || eorBufferAsString.length() > previousEndOfRecordFound.length()) {
+              previousEndOfRecordFound = eorBufferAsString;
+            }
             endOfRecordFound = true;
           }
         }
@@ -212,7 +246,13 @@ public class FsTextSelectStream extends SelectStreamAbs {
     try {
       recordNumberInTextFile = 0;
       Charset charset = getDataPath().getCharset();
-      bufferedReader = Files.newBufferedReader(getDataPath().getAbsoluteNioPath(), charset);
+      if (startPosition == 0) {
+        bufferedReader = Files.newBufferedReader(getDataPath().getAbsoluteNioPath(), charset);
+      } else {
+        SeekableByteChannel channel = Files.newByteChannel(getDataPath().getAbsoluteNioPath(), StandardOpenOption.READ)
+          .position(startPosition);
+        bufferedReader = new BufferedReader(Channels.newReader(channel, charset.newDecoder(), -1));
+      }
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
@@ -0,0 +1,168 @@
+package com.tabulify.fs.textfile;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Seek the start of the last lines of a text file
+ * by reading the file backwards from the end by block (ie without reading the whole file)
+ * <p>
+ * As for the {@link FsTextRecordCounter}, the end of lines are searched at the byte level,
+ * the character set should then be {@link FsTextRecordCounter#isByteCountable(java.nio.charset.Charset) byte countable}
+ */
+public class FsTextTailSeeker implements AutoCloseable {
+
+  /**
+   * The size of a block read backwards
+   */
+  static final int BLOCK_SIZE = 64 * 1024;
+
+  /**
+   * A value that is not a byte (no character)
+   */
+  public static final int NONE = Integer.MIN_VALUE;
+
+  private static final byte LF = '\n';
+  private static final byte CR = '\r';
+
+  private final FileChannel channel;
+  private final long size;
+  private final ByteBuffer block = ByteBuffer.allocate(BLOCK_SIZE);
+  /**
+   * The position of the block in the file
+   */
+  private long blockStart = 0;
+  private long blockEnd = 0;
+
+  private FsTextTailSeeker(Path path) throws IOException {
+    this.channel = FileChannel.open(path, StandardOpenOption.READ);
+    this.size = channel.size();
+  }
+
+  /**
+   * The lines are the records of the {@link FsTextSelectStream}:
+   * a record starts after an end of record that is not followed by another end of record
+   *
+   * @param path         - the file
+   * @param lineCount    - the number of lines
+   * @param endOfRecords - the end of records (a combination of `\n`, `\r` and `\r\n`, See {@link FsTextRecordCounter#isLineCountable(String[])})
+   * @return the position of the first of the last lines, 0 if the file does not have more lines
+   */
+  public static long seekLines(Path path, long lineCount, String[] endOfRecords) {
+
+    List<String> endOfLines = Arrays.asList(endOfRecords);
+    boolean lineFeed = endOfLines.contains("\n");
+    boolean carriageReturn = endOfLines.contains("\r");
+    boolean pair = endOfLines.contains("\r\n");
+    try (FsTextTailSeeker seeker = new FsTextTailSeeker(path)) {
+      long count = 0;
+      for (long position = seeker.size - 1; position > 0; position--) {
+        if (!seeker.isEndOfRecord(position - 1, lineFeed, carriageReturn, pair)) {
+          continue;
+        }
+        if (seeker.isEndOfRecord(position, lineFeed, carriageReturn, pair)) {
+          continue;
+        }
+        count++;
+        if (count == lineCount) {
+          return position;
+        }
+      }
+      return 0;
+    } catch (IOException e) {
+      throw new RuntimeException("Error while reading the end of the file (" + path + "). Error: " + e.getMessage(), e);
+    }
+
+  }
+
+  /**
+   * The lines are the lines of a CSV file:
+   * * a line ends with a `\n`, a `\r` or a `\r\n`
+   * * an end of line in a quoted cell is not an end of line
+   * <p>
+   * Reading backwards, a position is in a quoted cell if the number of quotes after it is odd.
+   * The file should then have its quote characters only in quoted cells and escaped by doubling (RFC 4180)
+   *
+   * @param path      - the file
+   * @param lineCount - the number of lines
+   * @param quote     - the quote character or {@link #NONE}
+   * @return the position of the first of the last lines, 0 if the file does not have more lines
+   */
+  public static long seekCsvLines(Path path, long lineCount, int quote) {
+
+    try (FsTextTailSeeker seeker = new FsTextTailSeeker(path)) {
+      long count = 0;
+      long quoteCount = 0;
+      for (long position = seeker.size - 1; position > 0; position--) {
+        byte b = seeker.get(position);
+        if (b == quote) {
+          quoteCount++;
+        }
+        if (quoteCount % 2 != 0) {
+          continue;
+        }
+        byte previous = seeker.get(position - 1);
+        if (previous == LF || (previous == CR && b != LF)) {
+          count++;
+          if (count == lineCount) {
+            return position;
+          }
+        }
+      }
+      return 0;
+    } catch (IOException e) {
+      throw new RuntimeException("Error while reading the end of the file (" + path + "). Error: " + e.getMessage(), e);
+    }
+
+  }
+
+  /**
+   * @return true if an end of record ends at the position
+   */
+  private boolean isEndOfRecord(long position, boolean lineFeed, boolean carriageReturn, boolean pair) throws IOException {
+    byte b = get(position);
+    if (b == CR) {
+      return carriageReturn;
+    }
+    if (b == LF) {
+      if (lineFeed) {
+        return true;
+      }
+      return pair && position > 0 && get(position - 1) == CR;
+    }
+    return false;
+  }
+
+  /**
+   * @return the byte at the position (the block is loaded backwards)
+   */
+  private byte get(long position) throws IOException {
+    if (position < blockStart || position >= blockEnd) {
+      // the block ends a little after the position to read the next bytes without reload
+      blockEnd = Math.min(size, position + 2);
+      blockStart = Math.max(0, blockEnd - BLOCK_SIZE);
+      block.clear();
+      block.limit((int) (blockEnd - blockStart));
+      long readPosition = blockStart;
+      while (block.hasRemaining()) {
+        int read = channel.read(block, readPosition);
+        if (read == -1) {
+          break;
+        }
+        readPosition += read;
+      }
+    }
+    return block.get((int) (position - blockStart));
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+}
@@ -4,6 +4,7 @@ import com.tabulify.stream.InsertStream;
 import com.tabulify.stream.InsertStreamAbs;
 import com.tabulify.transfer.TransferLog;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class MemoryListInsertStream extends InsertStreamAbs implements InsertStream {
@@ -30,7 +31,8 @@ public class MemoryListInsertStream extends InsertStreamAbs implements InsertStr
   public InsertStream insert(List<Object> objects) {
 
     currentRowInBatch++;
-    tabular.add(objects);
+    // copy as the caller may reuse the list
+    tabular.add(new ArrayList<>(objects));
 
     // Batch processing
     // because the log feedback is based on it
@@ -26,7 +26,11 @@ public class MemoryQueueDataPath extends MemoryDataPathAbs implements MemoryData
 
   public static final TimeUnit DEFAULT_TIME_UNIT = TimeUnit.SECONDS;
   public static final Integer DEFAULT_TIME_OUT = 10;
-  private ArrayBlockingQueue<List<Object>> values;
+  /**
+   * The elements of the queue are batches of records
+   * See {@link #setBatchSize(int)}
+   */
+  private ArrayBlockingQueue<List<List<Object>>> values;
 
   public MemoryQueueDataPath(MemoryConnection memoryConnection, String path) {
     super(memoryConnection, path, MemoryDataPathType.QUEUE);
@@ -70,23 +74,64 @@ public class MemoryQueueDataPath extends MemoryDataPathAbs implements MemoryData
    */
   private Integer capacity = Integer.MAX_VALUE;
 
+  /**
+   * The number of records by element of the queue
+   * See {@link #setBatchSize(int)}
+   */
+  private int batchSize = 1;
+
+  /**
+   * @param batchSize - the number of records that are put and taken at once in the queue (1 by default, ie record by record)
+   * @return a {@link MemoryQueueDataPath} instance for chaining initialization
+   * <p>
+   * With a batch size bigger than one, the lock of the queue is taken once by batch and not once by record.
+   */
+  public MemoryQueueDataPath setBatchSize(int batchSize) {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("The batch size of the queue (" + this + ") should be at least 1, not (" + batchSize + ")");
+    }
+    this.batchSize = batchSize;
+    return this;
+  }
+
+  /**
+   * See {@link #setBatchSize(int)}
+   *
+   * @return the number of records by element of the queue
+   */
+  public int getBatchSize() {
+    return this.batchSize;
+  }
+
 
   @Override
   public void truncate() {
     this.create();
   }
 
+  /**
+   * @return the number of records in the queue
+   */
   @Override
   public Long getCount() {
-    return (long) this.values.size();
+    if (this.batchSize == 1) {
+      return (long) this.values.size();
+    }
+    return this.values.stream()
+      .mapToLong(List::size)
+      .sum();
   }
 
+  /**
+   * The capacity is expressed in records,
+   * the queue holds then capacity / batch size elements
+   */
   @Override
   public void create() {
-    this.values = new ArrayBlockingQueue<>(capacity);
+    this.values = new ArrayBlockingQueue<>(Math.max(1, capacity / batchSize));
   }
 
-  public ArrayBlockingQueue<List<Object>> getValues() {
+  public ArrayBlockingQueue<List<List<Object>>> getValues() {
     return this.values;
   }
 
@@ -117,7 +162,7 @@ public class MemoryQueueDataPath extends MemoryDataPathAbs implements MemoryData
 
   @Override
   public Long getSize() {
-    return (long) this.values.size();
+    return getCount();
   }
 
 }
@@ -4,6 +4,8 @@ import com.tabulify.stream.InsertStream;
 import com.tabulify.stream.InsertStreamAbs;
 import com.tabulify.transfer.TransferLog;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.TimeUnit;
@@ -13,7 +15,19 @@ public class MemoryQueueInsertStream extends InsertStreamAbs implements InsertSt
 
   private final MemoryQueueDataPath memoryQueueDataPath;
 
-  private final ArrayBlockingQueue<List<Object>> listObjectQueue;
+  private final ArrayBlockingQueue<List<List<Object>>> listObjectQueue;
+
+  /**
+   * The number of records put at once in the queue
+   * See {@link MemoryQueueDataPath#setBatchSize(int)}
+   */
+  private final int queueBatchSize;
+
+  /**
+   * The records not yet put in the queue
+   * (used only if the {@link #queueBatchSize} is bigger than one)
+   */
+  private List<List<Object>> pendingRows;
 
   private int currentRowInBatch = 0;
   private int batchExecutionCount = 0;
@@ -22,6 +36,8 @@ public class MemoryQueueInsertStream extends InsertStreamAbs implements InsertSt
     super(memoryQueueDataPath);
     this.memoryQueueDataPath = memoryQueueDataPath;
     this.listObjectQueue = memoryQueueDataPath.getValues();
+    this.queueBatchSize = memoryQueueDataPath.getBatchSize();
+    this.pendingRows = new ArrayList<>(queueBatchSize);
   }
 
 
@@ -29,11 +45,41 @@ public class MemoryQueueInsertStream extends InsertStreamAbs implements InsertSt
   public InsertStream insert(List<Object> objects) {
 
     currentRowInBatch++;
+
+    // copy as the caller may reuse the list
+    List<Object> row = new ArrayList<>(objects);
+    if (queueBatchSize == 1) {
+      offer(Collections.singletonList(row));
+    } else {
+      pendingRows.add(row);
+      if (pendingRows.size() >= queueBatchSize) {
+        offerPendingRows();
+      }
+    }
+
+    // Batch processing
+    // because the log feedback is based on it
+    if (currentRowInBatch >= this.batchSize) {
+      process_batch_info();
+    }
+
+    return this;
+  }
+
+  private void offerPendingRows() {
+    if (pendingRows.isEmpty()) {
+      return;
+    }
+    offer(pendingRows);
+    pendingRows = new ArrayList<>(queueBatchSize);
+  }
+
+  private void offer(List<List<Object>> rows) {
     // Offer method in place of the add method to avoid a java.lang.IllegalStateException: Queue full
     int timeout = memoryQueueDataPath.getTimeOut();
     boolean result;
     try {
-      result = listObjectQueue.offer(objects, timeout, TimeUnit.SECONDS);
+      result = listObjectQueue.offer(rows, timeout, TimeUnit.SECONDS);
     } catch (InterruptedException e) {
       this.insertStreamListener.addException(e);
       throw new RuntimeException(e);
@@ -44,14 +90,6 @@ public class MemoryQueueInsertStream extends InsertStreamAbs implements InsertSt
       TransferLog.LOGGER.severe(msg);
       throw new RuntimeException(msg);
     }
-
-    // Batch processing
-    // because the log feedback is based on it
-    if (currentRowInBatch >= this.batchSize) {
-      process_batch_info();
-    }
-
-    return this;
   }
 
   private void process_batch_info() {
@@ -66,13 +104,17 @@ public class MemoryQueueInsertStream extends InsertStreamAbs implements InsertSt
 
   @Override
   public void close() {
+    offerPendingRows();
     process_batch_info();
   }
 
 
+  /**
+   * Put the pending records in the queue
+   */
   @Override
   public void flush() {
-
+    offerPendingRows();
   }
 
 
@@ -16,13 +16,20 @@ import java.util.concurrent.TimeUnit;
  */
 public class MemoryQueueSelectStream extends SelectStreamAbs implements SelectStream {
 
-  private final ArrayBlockingQueue<List<Object>> recordQueue;
+  private final ArrayBlockingQueue<List<List<Object>>> recordQueue;
   private final MemoryQueueDataPath memoryQueueDataPath;
 
   // Index is used for a list for a queue
   private int rowIndex = -1;
   private List<Object> currentRow;
 
+  /**
+   * The batch taken from the queue and the position of the current row in it
+   * See {@link MemoryQueueDataPath#setBatchSize(int)}
+   */
+  private List<List<Object>> currentBatch;
+  private int positionInBatch = -1;
+
   MemoryQueueSelectStream(MemoryQueueDataPath memoryQueueDataPath) {
     super(memoryQueueDataPath);
     this.memoryQueueDataPath = memoryQueueDataPath;
@@ -51,21 +58,53 @@ public class MemoryQueueSelectStream extends SelectStreamAbs implements SelectSt
 
     assert timeout != null : "The timeout should not be null for a queue";
     assert timeUnit != null : "The time unit  should not be null for a queue";
-    try {
 
-      currentRow = recordQueue.poll(timeout, timeUnit);
-      if (currentRow != null) {
-        rowIndex++;
-        return true;
-      } else {
-        return false;
-      }
+    if (currentBatch != null && positionInBatch + 1 < currentBatch.size()) {
+      positionInBatch++;
+      currentRow = currentBatch.get(positionInBatch);
+      rowIndex++;
+      return true;
+    }
+
+    currentBatch = pollBatch(timeout, timeUnit);
+    if (currentBatch == null || currentBatch.isEmpty()) {
+      currentBatch = null;
+      return false;
+    }
+    positionInBatch = 0;
+    currentRow = currentBatch.get(positionInBatch);
+    rowIndex++;
+    return true;
+
+  }
 
+  /**
+   * Take a whole batch of records at once
+   * <p>
+   * The records of the batch are not seen by the cursor functions (ie {@link #next()}, {@link #getObject(int)}, ...)
+   * It should not be mixed with the {@link #next()} function.
+   *
+   * @param timeout  - the timeout to wait
+   * @param timeUnit - the timeunit to wait
+   * @return the next batch of records (of {@link MemoryQueueDataPath#getBatchSize()} records at most) or null if the timeout has elapsed
+   */
+  public List<List<Object>> nextBatch(Integer timeout, TimeUnit timeUnit) {
+
+    List<List<Object>> batch = pollBatch(timeout, timeUnit);
+    if (batch != null) {
+      rowIndex += batch.size();
+    }
+    return batch;
+
+  }
+
+  private List<List<Object>> pollBatch(Integer timeout, TimeUnit timeUnit) {
+    try {
+      return recordQueue.poll(timeout, timeUnit);
     } catch (InterruptedException e) {
       this.selectStreamListener.addException(e);
       throw new RuntimeException(e);
     }
-
   }
 
 
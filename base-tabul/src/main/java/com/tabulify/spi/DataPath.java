@@ -169,6 +169,18 @@ public interface DataPath extends Comparable<DataPath>, Dependency, StreamDepend
    */
   DataPath getSelectStreamDependency() throws NotFoundException;
 
+  /**
+   * Split the select of this resource into partitions that can be read concurrently
+   * (ie each partition has its own {@link #getSelectStreamSafe() select stream})
+   * <p>
+   * The records of all partitions are the records of this resource.
+   * A resource that cannot be partitioned returns itself as unique partition.
+   *
+   * @param partitionCount - the maximum number of partitions
+   * @return the partitions
+   */
+  List<DataPath> getSelectPartitions(int partitionCount);
+
   /**
    * @return an {@link RelationDef} object initialized with the metadata of the underlying {@link DataSystem system} metastore
    * Overwrite the actual relation def if any
@@ -380,6 +392,18 @@ public interface DataPath extends Comparable<DataPath>, Dependency, StreamDepend
    */
   List<List<?>> getRecords();
 
+  /**
+   * The last records of the data path in the {@link #getSelectStreamSafe() select} order
+   * <p>
+   * By default, all records are read and the last ones are kept.
+   * A data path that can seek its end (ie a file read backwards, a table sorted in the descending order)
+   * should override it.
+   *
+   * @param limit - the maximum number of records
+   * @return the last records
+   */
+  List<List<?>> getTailRecords(int limit);
+
   /**
    * Execute a {@link #isRuntime() runtime} and returns its results
    *
@@ -377,6 +377,11 @@ public abstract class DataPathAbs implements Comparable<DataPath>, StreamDepende
         throw new NotFoundException("No select stream dependency found");
     }
 
+    @Override
+    public List<DataPath> getSelectPartitions(int partitionCount) {
+        return Collections.singletonList(this);
+    }
+
     @Override
     public RelationDef getRelationDef() {
         return this.relationDef;
@@ -398,13 +403,14 @@ public abstract class DataPathAbs implements Comparable<DataPath>, StreamDepende
     public byte[] getByteDigest(String algorithm) throws NoSuchFileException {
         try {
             MessageDigest digest = MessageDigest.getInstance(algorithm);
-            SelectStream selectStream = this.getSelectStreamSafe();
-            while (selectStream.next()) {
-                for (Object object : selectStream.getObjects()) {
-                    if (object == null) {
-                        object = "null";
+            try (SelectStream selectStream = this.getSelectStreamSafe()) {
+                while (selectStream.next()) {
+                    for (Object object : selectStream.getObjects()) {
+                        if (object == null) {
+                            object = "null";
+                        }
+                        digest.update(object.toString().getBytes());
                     }
-                    digest.update(object.toString().getBytes());
                 }
             }
             return digest.digest();
@@ -961,6 +967,26 @@ public abstract class DataPathAbs implements Comparable<DataPath>, StreamDepende
         return records;
     }
 
+    @Override
+    public List<List<?>> getTailRecords(int limit) {
+        TailQueue<List<?>> queue = new TailQueue<>(limit);
+        try (SelectStream selectStream = this.getSelectStreamSafe()) {
+            RelationDef dataDef = selectStream.getRuntimeRelationDef();
+            if (dataDef.getColumnsSize() == 0) {
+                // No row structure even at runtime
+                throw new RuntimeException(Strings.createMultiLineFromStrings(
+                                "The data path (" + this + ") has no row structure. ",
+                                "To extract a tail, a row structure is needed.",
+                                "Tip for intern developer: if it's a text file, create a line structure (one row, one cell with one line)")
+                        .toString());
+            }
+            while (selectStream.next()) {
+                queue.add(selectStream.getObjects());
+            }
+        }
+        return new ArrayList<>(queue);
+    }
+
     @Override
     public DataPath execute() {
         if (this.isRuntime()) {
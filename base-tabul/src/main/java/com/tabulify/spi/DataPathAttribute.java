@@ -25,8 +25,8 @@ public enum DataPathAttribute implements AttributeEnum {
   MEDIA_TYPE("The media type", String.class, false),
   MEDIA_SUBTYPE("The media subType", String.class, false),
   KIND("The kind of media", String.class, false),
-  MD5("The Md5 hash", String.class, false),
-  SHA384("The Sha384 hash", String.class, false),
+  MD5("The Md5 hash (of the rows without order for a table or a view)", String.class, false),
+  SHA384("The Sha384 hash (of the rows without order for a table or a view)", String.class, false),
   SHA384_INTEGRITY("The sha384 value used in the html integrity attribute", String.class, false),
   // Private attributes (used to parse Yaml)
   COLUMNS("The columns definition (used in Yaml)", List.class, true),
@@ -0,0 +1,105 @@
+package com.tabulify.spi;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+
+/**
+ * A digest of rows that does not depend on the order of the rows
+ * <p>
+ * Each row is digested and the row digests are added (modulo 2^(8 * digest length)).
+ * Because an addition is commutative:
+ * * a table without order gives always the same digest
+ * * the digests of partitions can be {@link #merge(UnorderedRowDigest) merged}
+ */
+public class UnorderedRowDigest {
+
+  private final String algorithm;
+  private final MessageDigest rowDigest;
+  private final byte[] sum;
+  private long count = 0;
+
+  private UnorderedRowDigest(String algorithm) {
+    this.algorithm = algorithm;
+    try {
+      this.rowDigest = MessageDigest.getInstance(algorithm);
+    } catch (NoSuchAlgorithmException e) {
+      throw new RuntimeException(e);
+    }
+    this.sum = new byte[this.rowDigest.getDigestLength()];
+  }
+
+  public static UnorderedRowDigest create(String algorithm) {
+    return new UnorderedRowDigest(algorithm);
+  }
+
+  /**
+   * Add a row
+   * <p>
+   * The values are prefixed by their length so that (`ab`, `c`) and (`a`, `bc`) are not the same row
+   */
+  public UnorderedRowDigest update(List<?> row) {
+    for (Object value : row) {
+      if (value == null) {
+        updateLength(-1);
+        continue;
+      }
+      byte[] bytes = value.toString().getBytes(StandardCharsets.UTF_8);
+      updateLength(bytes.length);
+      rowDigest.update(bytes);
+    }
+    add(rowDigest.digest());
+    count++;
+    return this;
+  }
+
+  private void updateLength(int length) {
+    rowDigest.update((byte) (length >>> 24));
+    rowDigest.update((byte) (length >>> 16));
+    rowDigest.update((byte) (length >>> 8));
+    rowDigest.update((byte) length);
+  }
+
+  /**
+   * Add the bytes to the sum (big endian, the last carry is lost)
+   */
+  private void add(byte[] bytes) {
+    int carry = 0;
+    for (int i = sum.length - 1; i >= 0; i--) {
+      int value = (sum[i] & 0xFF) + (bytes[i] & 0xFF) + carry;
+      sum[i] = (byte) value;
+      carry = value >>> 8;
+    }
+  }
+
+  /**
+   * @param other - the digest of another set of rows (ie a partition)
+   * @return this digest with the rows of the other one
+   */
+  public UnorderedRowDigest merge(UnorderedRowDigest other) {
+    if (!this.algorithm.equals(other.algorithm)) {
+      throw new IllegalArgumentException("The digest algorithms are not the same (" + this.algorithm + ", " + other.algorithm + ")");
+    }
+    add(other.sum);
+    count += other.count;
+    return this;
+  }
+
+  /**
+   * @return the digest of the sum and of the row count
+   */
+  public byte[] digest() {
+    try {
+      MessageDigest digest = MessageDigest.getInstance(algorithm);
+      digest.update(sum);
+      for (int i = 56; i >= 0; i -= 8) {
+        digest.update((byte) (count >>> i));
+      }
+      return digest.digest();
+    } catch (NoSuchAlgorithmException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+}
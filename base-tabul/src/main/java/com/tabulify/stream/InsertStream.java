@@ -27,11 +27,31 @@ public interface InsertStream extends Stream, AutoCloseable {
   InsertStream insert(Object... values);
 
   /**
+   * The list is read only during the call, the caller may reuse it for the next record.
+   * An implementation that keeps the values should copy them.
+   *
    * @param values - The values to insert in the same positional order than the source
    * @return the {@link InsertStream} for insert chaining
    */
   InsertStream insert(List<Object> values);
 
+  /**
+   * Insert a batch of records at once
+   * <p>
+   * By default, the records are inserted one by one with {@link #insert(List)}.
+   * An implementation that supports it may send them as one unit to the data store
+   * (ie one batch against a database)
+   *
+   * @param rows - The records to insert, each with values in the same positional order than the source
+   * @return the {@link InsertStream} for insert chaining
+   */
+  default InsertStream insertBatch(List<List<Object>> rows) {
+    for (List<Object> row : rows) {
+      insert(row);
+    }
+    return this;
+  }
+
 
   /**
    * To send feedback and retrieve the exception if the input stream
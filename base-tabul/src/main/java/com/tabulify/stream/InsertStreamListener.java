@@ -71,7 +71,7 @@ public class InsertStreamListener extends ThreadListenerAbs implements ThreadLis
    *
    * @param rows The number of records added
    */
-  public void addRows(int rows) {
+  public void addRows(long rows) {
 
     this.rows = this.rows + rows;
 
@@ -27,7 +27,7 @@ public class PrinterExecution {
   private final boolean seenDataPath;
   private ColumnDef<?> colorsColumnDef;
   private final DataPath dataPath;
-  private final Map<Integer, Integer> columnPositionLengthMap;
+  private Map<Integer, Integer> columnPositionLengthMap;
   private final String blankStringToken;
   private final String emptyStringToken;
   private final String nullToken;
@@ -36,10 +36,11 @@ public class PrinterExecution {
   private RelationDef runtimeRelationDef;
 
   /**
-   * Executable are executed when a {@link DataPath#getSelectStream()}
-   * We can't execute it twice (open it twice), this insert stream permits to store the result temporarily
+   * The look-ahead buffer: the first {@link Printer.PrintBuilder#maxSampleSize} records
+   * used to calculate the column lengths, printed first and then the rest is streamed
+   * (the values by column position, index 0 is the column 1)
    */
-  private InsertStream executableInsertStream;
+  private final Deque<Object[]> lookAheadRecords = new ArrayDeque<>();
 
   public PrinterExecution(Printer printer, DataPath dataPath) {
 
@@ -111,11 +112,6 @@ public class PrinterExecution {
     }
     this.nullToken = nullToken1;
 
-    /**
-     * Must be after the token initialization (emptyString, null, ...)
-     */
-    columnPositionLengthMap = this.getColumnPositionLengthMapAndDetectColorColumnIfAny();
-
   }
 
   /**
@@ -204,108 +200,79 @@ public class PrinterExecution {
    * * to determine the max length
    * * to verify that the number of values is the same as the number of columns
    */
-  private Map<Integer, Integer> getColumnPositionLengthMapAndDetectColorColumnIfAny() {
+  private Map<Integer, Integer> getColumnPositionLengthMapAndDetectColorColumnIfAny(SelectStream selectStream) {
 
     Map<Integer, Integer> columnPositionLengthMap = new HashMap<>();
     int maxSampleSize = this.printBuilder.maxSampleSize;
-    if (dataPath.isRuntime()) {
-      /**
-       * an executable is executed before select, we can't execute it twice
-       * so we insert all data in {@link #executableInsertStream}
-       */
-      maxSampleSize = Integer.MAX_VALUE;
-    }
-    int sampleCounter = 0;
-
 
-    try (SelectStream dataPathSelectStream = getSelectStream(dataPath)) {
+    this.runtimeRelationDef = selectStream.getRuntimeRelationDef();
 
-      this.runtimeRelationDef = dataPathSelectStream.getRuntimeRelationDef();
+    /**
+     * Printing the table header (not the column header)
+     * (ie name and comment)
+     */
+    if (getPrintTableHeader(actualFormat, seenDataPath)) {
+      StringBuilder stringBuilder = new StringBuilder();
+      if (!(dataPath instanceof MemoryDataPath)) {
+        // name is not random
+        stringBuilder.append(dataPath.toDataUri());
+      }
+      if (dataPath.getComment() != null) {
+        if (stringBuilder.length() != 0) {
+          stringBuilder.append(": ");
+        }
+        // trim to get a consistent output if the dev delete it
+        stringBuilder.append(dataPath.getComment().trim());
+      }
+      System.out.println(stringBuilder);
+    }
 
-      /**
-       * An executable is executed at runtime
-       * We open the data path 2 times, one to get the max length {@link #getColumnPositionLengthMapAndDetectColorColumnIfAny()}
-       * and one to {@link #print}. We don't want to execute it twice
-       * We store then the data in another data path
-       * We suppose that the cardinality is low
-       * We do it at runtime time, ie selectStream otherwise there is no data def
-       */
-      if (this.dataPath.isRuntime() && executableInsertStream == null) {
-        executableInsertStream = dataPath.getConnection().getTabular()
-          .getMemoryConnection().getDataPath(dataPath.getLogicalName())
-          .getOrCreateRelationDef()
-          .mergeStruct(this.runtimeRelationDef)
-          .getDataPath()
-          .getInsertStream();
+    /**
+     * The color column
+     * we take the color column from the runtime and not from the original resource.
+     * Why? because a <select> of a table is another resource (ie it's a SQLRequest)
+     * Therefore the column of the table is not the same as the column of the executable
+     */
+    if (this.printBuilder.colorsColumnName != null) {
+      for (ColumnDef<?> columnDef : runtimeRelationDef.getColumnDefs()) {
+        if (columnDef.getColumnNameNormalized().equals(this.printBuilder.colorsColumnName)) {
+          this.colorsColumnDef = columnDef;
+          break;
+        }
       }
+    }
+
+    while (lookAheadRecords.size() < maxSampleSize && selectStream.next()) {
 
       /**
-       * Printing the table header (not the column header)
-       * (ie name and comment)
+       * Check that the number of values is the same as the number of columns
        */
-      if (getPrintTableHeader(actualFormat, seenDataPath)) {
-        StringBuilder stringBuilder = new StringBuilder();
-        if (!(dataPath instanceof MemoryDataPath)) {
-          // name is not random
-          stringBuilder.append(dataPath.toDataUri());
-        }
-        if (dataPath.getComment() != null) {
-          if (stringBuilder.length() != 0) {
-            stringBuilder.append(": ");
-          }
-          // trim to get a consistent output if the dev delete it
-          stringBuilder.append(dataPath.getComment().trim());
-        }
-        System.out.println(stringBuilder);
+      List<?> objects = selectStream.getObjects();
+      if (objects.size() != runtimeRelationDef.getColumnsSize()) {
+        throw new IllegalStateException("The data path (" + runtimeRelationDef.getDataPath() + ", Logical Name: " + runtimeRelationDef.getDataPath().getLogicalName() + ") has " + runtimeRelationDef.getColumnsSize() + " columns (" + runtimeRelationDef.getColumnDefs().stream().map(ColumnDef::getColumnName).collect(Collectors.joining(", ")) + ") but has (" + objects.size() + ") values (" + objects + ") to print. This is inconsistent.");
       }
 
-      while (dataPathSelectStream.next()) {
+      Object[] record = this.getRecord(selectStream);
+      lookAheadRecords.add(record);
 
-        sampleCounter++;
-        if (sampleCounter > maxSampleSize) {
-          break;
-        }
-
-        List<?> objects = dataPathSelectStream.getObjects();
-        if (this.executableInsertStream != null) {
-          this.executableInsertStream.insert(objects);
+      /**
+       * Max length calculation of each column
+       */
+      for (ColumnDef<?> columnDef : runtimeRelationDef.getColumnDefs()) {
+        if (columnDef.equals(this.colorsColumnDef)) {
+          continue;
         }
-
-        /**
-         * Check that the number of values is the same as the number of columns
-         */
-        if (objects.size() != runtimeRelationDef.getColumnsSize()) {
-          throw new IllegalStateException("The data path (" + runtimeRelationDef.getDataPath() + ", Logical Name: " + runtimeRelationDef.getDataPath().getLogicalName() + ") has " + runtimeRelationDef.getColumnsSize() + " columns (" + runtimeRelationDef.getColumnDefs().stream().map(ColumnDef::getColumnName).collect(Collectors.joining(", ")) + ") but has (" + objects.size() + ") values (" + objects + ") to print. This is inconsistent.");
+        Integer i = columnDef.getColumnPosition();
+        String string = this.getPrintedString(record[i - 1], columnDef);
+        // Add
+        int length = string.length();
+        Integer actualLength = columnPositionLengthMap.get(i);
+        if (actualLength == null) {
+          columnPositionLengthMap.put(i, length);
+          continue;
         }
-
-        /**
-         * Max length calculation of each column
-         */
-        for (ColumnDef<?> columnDef : runtimeRelationDef.getColumnDefs()) {
-          if (this.printBuilder.colorsColumnName != null) {
-            if (columnDef.getColumnNameNormalized().equals(this.printBuilder.colorsColumnName)) {
-              /**
-               * we take the color column from the runtime and not from the original resource.
-               * Why? because a <select> of a table is another resource (ie it's a SQLRequest)
-               * Therefore the column of the table is not the same as the column of the executable
-               */
-              this.colorsColumnDef = columnDef;
-              continue;
-            }
-          }
-          Integer i = columnDef.getColumnPosition();
-          Object value = dataPathSelectStream.getObject(i);
-          String string = this.getPrintedString(value, columnDef);
-          // Add
-          int length = string.length();
-          Integer actualLength = columnPositionLengthMap.get(i);
-          if (actualLength == null) {
-            columnPositionLengthMap.put(i, length);
-            continue;
-          }
-          if (actualLength < length) {
-            columnPositionLengthMap.put(i, length);
-          }
+        if (actualLength < length) {
+          columnPositionLengthMap.put(i, length);
         }
       }
     }
@@ -355,6 +322,22 @@ public class PrinterExecution {
 
   }
 
+  /**
+   * @return the values of the actual record by column position (the color column value is the string)
+   */
+  private Object[] getRecord(SelectStream selectStream) {
+    int columnsSize = runtimeRelationDef.getColumnsSize();
+    Object[] record = new Object[columnsSize];
+    for (int i = 1; i <= columnsSize; i++) {
+      if (this.colorsColumnDef != null && i == this.colorsColumnDef.getColumnPosition()) {
+        record[i - 1] = selectStream.getString(i);
+        continue;
+      }
+      record[i - 1] = selectStream.getObject(i);
+    }
+    return record;
+  }
+
   /**
    * @return the select stream
    */
@@ -447,8 +430,30 @@ public class PrinterExecution {
     return this.printBuilder.printColumnHeaders;
   }
 
+  /**
+   * The data path is read only once (an executable is executed when a {@link DataPath#getSelectStream()} is asked),
+   * the first records are buffered to calculate the column lengths and the rest is streamed
+   */
   public void print() {
 
+    try (SelectStream selectStream = getSelectStream(dataPath)) {
+      print(selectStream);
+    }
+
+    /**
+     * A separation between 2 print
+     */
+    for (int i = 0; i < getFooterSeparationLineCount(); i++) {
+      System.out.println();
+    }
+  }
+
+  private void print(SelectStream selectStream) {
+
+    /**
+     * Must be after the token initialization (emptyString, null, ...)
+     */
+    columnPositionLengthMap = this.getColumnPositionLengthMapAndDetectColorColumnIfAny(selectStream);
 
     // Adding headers
     String formatString = this.getHeaderFormatString();
@@ -494,78 +499,74 @@ public class PrinterExecution {
 
     /**
      * Print the data
+     * The look-ahead records first, then the rest of the stream
      */
     long recordCounter = 0;
-    SelectStream selectStream;
-    if (executableInsertStream != null) {
-      executableInsertStream.close();
-      selectStream = executableInsertStream.getDataPath().getSelectStreamSafe();
-    } else {
-      selectStream = dataPath.getSelectStreamSafe();
-    }
-    try (SelectStream dataPathSelectStream = selectStream) {
-      while (dataPathSelectStream.next()) {
-        recordCounter++;
-        List<Object> record = new ArrayList<>();
-        StringBuilder formatStringColumns = new StringBuilder();
-        Map<Integer, PrinterColor> columnPositionColorMap = new HashMap<>();
-        RelationDef runtimeRelationDef = dataPathSelectStream.getRuntimeRelationDef();
-        if (colorsColumnDef != null) {
-          String colorsDef = dataPathSelectStream.getString(colorsColumnDef.getColumnPosition());
-          try {
-            switch (colorsDef.length()) {
-              case 0:
-                break;
-              case 1:
-                /**
-                 * One color for the whole record
-                 */
-                PrinterColor color = PrinterColor.cast(colorsDef);
-                columnPositionColorMap = runtimeRelationDef
-                  .getColumnDefs()
-                  .stream()
-                  .collect(Collectors.toMap(
-                    ColumnDef::getColumnPosition,
-                    c -> color
-                  ));
-                break;
-              default:
-                columnPositionColorMap = this.getPositionColorMap(colorsDef);
-                break;
-            }
-          } catch (CastException e) {
-            throw new IllegalStateException("The color value (" + colorsDef + ") in the column (" + colorsColumnDef + ") at record " + recordCounter + " is not valid. Error: " + e.getMessage(), e);
-          }
-
-        }
-        for (ColumnDef columnDef : runtimeRelationDef.getColumnDefs()) {
-          Integer i = columnDef.getColumnPosition();
-          Object value = dataPathSelectStream.getObject(i);
-          if (columnDef.equals(colorsColumnDef)) {
-            continue;
-          }
-          String string = this.getPrintedString(value, columnDef);
-          PrinterColor printerColor = columnPositionColorMap.get(columnDef.getColumnPosition());
-          formatStringColumns.append(PrinterColor.addColorIfNotNull(this.getColumnFormatString(columnDef), printerColor));
-          record.add(string);
+    while (true) {
+      Object[] record = lookAheadRecords.poll();
+      if (record == null) {
+        if (!selectStream.next()) {
+          break;
         }
-        System.out.printf(
-          (formatStringColumns) + "%n",
-          // Null show up as null, we want it to be the empty string
-          // to show that there is nothing
-          // It comes from the fact that size is not always implemented and may return null
-          record.stream()
-            .map(o -> Objects.requireNonNullElse(o, "")).toArray());
+        record = this.getRecord(selectStream);
       }
+      recordCounter++;
+      this.printRecord(record, recordCounter);
     }
 
+  }
+
+  private void printRecord(Object[] record, long recordCounter) {
+
+    List<Object> strings = new ArrayList<>();
+    StringBuilder formatStringColumns = new StringBuilder();
+    Map<Integer, PrinterColor> columnPositionColorMap = new HashMap<>();
+    if (colorsColumnDef != null) {
+      String colorsDef = (String) record[colorsColumnDef.getColumnPosition() - 1];
+      try {
+        switch (colorsDef.length()) {
+          case 0:
+            break;
+          case 1:
+            /**
+             * One color for the whole record
+             */
+            PrinterColor color = PrinterColor.cast(colorsDef);
+            columnPositionColorMap = runtimeRelationDef
+              .getColumnDefs()
+              .stream()
+              .collect(Collectors.toMap(
+                ColumnDef::getColumnPosition,
+                c -> color
+              ));
+            break;
+          default:
+            columnPositionColorMap = this.getPositionColorMap(colorsDef);
+            break;
+        }
+      } catch (CastException e) {
+        throw new IllegalStateException("The color value (" + colorsDef + ") in the column (" + colorsColumnDef + ") at record " + recordCounter + " is not valid. Error: " + e.getMessage(), e);
+      }
 
-    /**
-     * A separation between 2 print
-     */
-    for (int i = 0; i < getFooterSeparationLineCount(); i++) {
-      System.out.println();
     }
+    for (ColumnDef<?> columnDef : runtimeRelationDef.getColumnDefs()) {
+      if (columnDef.equals(colorsColumnDef)) {
+        continue;
+      }
+      Integer i = columnDef.getColumnPosition();
+      String string = this.getPrintedString(record[i - 1], columnDef);
+      PrinterColor printerColor = columnPositionColorMap.get(columnDef.getColumnPosition());
+      formatStringColumns.append(PrinterColor.addColorIfNotNull(this.getColumnFormatString(columnDef), printerColor));
+      strings.add(string);
+    }
+    System.out.printf(
+      (formatStringColumns) + "%n",
+      // Null show up as null, we want it to be the empty string
+      // to show that there is nothing
+      // It comes from the fact that size is not always implemented and may return null
+      strings.stream()
+        .map(o -> Objects.requireNonNullElse(o, "")).toArray());
+
   }
 
   private Map<Integer, PrinterColor> getPositionColorMap(String colorSpec) throws CastException {
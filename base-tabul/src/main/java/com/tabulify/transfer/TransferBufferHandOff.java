@@ -0,0 +1,28 @@
+package com.tabulify.transfer;
+
+import com.tabulify.type.KeyInterface;
+
+/**
+ * The unit of work handed from the producer to the consumers
+ * through the memory buffer in a multi-threaded cross transfer
+ * (ie when the {@link TransferPropertiesCross#setTargetWorkerCount(int) target worker count} is bigger than one)
+ */
+public enum TransferBufferHandOff implements KeyInterface {
+
+  /**
+   * Every record goes through the buffer one by one
+   */
+  RECORD,
+  /**
+   * The producer fills batches of {@link TransferPropertiesCross#setBatchSize(Integer) batch size} records
+   * and the consumers take a whole batch at once.
+   * The queue lock is then taken once by batch and not once by record.
+   */
+  BATCH;
+
+  @Override
+  public String toString() {
+    return toKeyNormalizer().toCliLongOptionName();
+  }
+
+}
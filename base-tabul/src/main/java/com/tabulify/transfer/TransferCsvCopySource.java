@@ -0,0 +1,30 @@
+package com.tabulify.transfer;
+
+import java.io.OutputStream;
+
+/**
+ * A source data path that can export its records natively as CSV bytes
+ * (ie without the creation of an object by cell as in a {@link com.tabulify.stream.SelectStream})
+ * <p>
+ * Example: Postgres `COPY (SELECT ...) TO STDOUT`
+ * <p>
+ * The target should be a {@link TransferCsvCopyTarget}
+ */
+public interface TransferCsvCopySource {
+
+  /**
+   * @param transferSourceTarget - the transfer
+   * @return true if the transfer can be done with a native CSV export,
+   * false if the target format is not the same or if a column mapping or a type conversion is required
+   */
+  boolean isCsvCopySupported(TransferSourceTargetOrder transferSourceTarget);
+
+  /**
+   * Export the records as CSV (without header)
+   *
+   * @param outputStream - the output stream where to write the CSV records
+   * @return the number of records exported
+   */
+  long copyAsCsv(OutputStream outputStream);
+
+}
@@ -0,0 +1,28 @@
+package com.tabulify.transfer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+
+/**
+ * A CSV target data path where the bytes of a {@link TransferCsvCopySource native CSV export}
+ * can be appended as is
+ */
+public interface TransferCsvCopyTarget {
+
+  /**
+   * @param delimiter       - the delimiter of the exported records
+   * @param quote           - the quote character of the exported records (a quote in a value is escaped by doubling it)
+   * @param recordSeparator - the end of record
+   * @param charset         - the character set of the exported bytes
+   * @return true if the CSV format of the target is the same
+   */
+  boolean isCsvCopyFormat(char delimiter, char quote, String recordSeparator, Charset charset);
+
+  /**
+   * @return an output stream that appends to the target
+   * (the header, if any, was written at the creation of the target)
+   */
+  OutputStream newCsvCopyOutputStream() throws IOException;
+
+}
@@ -5,6 +5,7 @@ import com.tabulify.spi.DataPath;
 import com.tabulify.spi.Tabulars;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.logging.Logger;
 
@@ -40,8 +41,9 @@ public class TransferManager {
      * To avoid deleting multiple time a target
      * on a concat operation
      * Cardinality being pretty low
+     * Synchronized as the transfers may run concurrently (See {@link TransferPropertiesCross#setTransferWorkerCount(int)})
      */
-    final List<DataPath> targetsSeenInOrders = new ArrayList<>();
+    final List<DataPath> targetsSeenInOrders = Collections.synchronizedList(new ArrayList<>());
 
 
     /**
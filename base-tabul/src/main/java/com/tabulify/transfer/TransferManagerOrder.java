@@ -2,6 +2,7 @@ package com.tabulify.transfer;
 
 import com.tabulify.Tabular;
 import com.tabulify.connection.Connection;
+import com.tabulify.dag.Dependency;
 import com.tabulify.engine.ForeignKeyDag;
 import com.tabulify.memory.MemoryDataPathType;
 import com.tabulify.memory.queue.MemoryQueueDataPath;
@@ -11,14 +12,26 @@ import com.tabulify.spi.DataSystem;
 import com.tabulify.spi.SelectException;
 import com.tabulify.spi.Tabulars;
 import com.tabulify.stream.InsertStream;
+import com.tabulify.stream.InsertStreamListener;
 import com.tabulify.stream.SelectStream;
 import com.tabulify.exception.InternalException;
 import com.tabulify.exception.NotFoundException;
 import com.tabulify.type.Casts;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
@@ -51,6 +64,18 @@ public class TransferManagerOrder {
    */
   private List<List<TransferSourceTarget>> transfersGroupedByStreamDependency;
 
+  /**
+   * The execution duration by source (filled concurrently by {@link #executeGroup(List)})
+   */
+  private final Map<DataPath, Duration> durationsBySource = new ConcurrentHashMap<>();
+
+  /**
+   * A lock by target connection
+   * The target pre-operations (ie DDL) and the same connection transfers run on the shared connection
+   * and are serialized when the groups are {@link #executeConcurrently(int) executed concurrently}
+   */
+  private final Map<Connection, Object> targetConnectionLocks = new ConcurrentHashMap<>();
+
 
   public TransferManagerOrder(TransferManager transferManager, List<TransferSourceTarget> transfersList) {
     this.transferManager = transferManager;
@@ -231,29 +256,248 @@ public class TransferManagerOrder {
     /**
      * The run
      */
+    int transferWorkerCount = this.getTransferProperties().getTransferWorkerCount();
+    if (transferWorkerCount > 1 && transfersGroupedByStreamDependency.size() > 1 && !hasConcat) {
+      transferListeners.addAll(executeConcurrently(transferWorkerCount));
+    } else {
+      for (List<TransferSourceTarget> transferList : transfersGroupedByStreamDependency) {
+        transferListeners.addAll(executeGroup(transferList));
+      }
+    }
+    /**
+     * The durations in loading order
+     */
+    Map<DataPath, Duration> durationsBySource = new LinkedHashMap<>();
     for (List<TransferSourceTarget> transferList : transfersGroupedByStreamDependency) {
+      for (TransferSourceTarget transferSourceTarget : transferList) {
+        Duration duration = this.durationsBySource.get(transferSourceTarget.getSourceDataPath());
+        if (duration != null) {
+          durationsBySource.put(transferSourceTarget.getSourceDataPath(), duration);
+        }
+      }
+    }
+    return new TransferManagerResult(this.transferManager, transferListeners, durationsBySource);
+
+  }
+
+  /**
+   * Execute a group of {@link #transfersGroupedByStreamDependency}
+   * and record its duration
+   */
+  private List<TransferListener> executeGroup(List<TransferSourceTarget> transferList) {
+    Instant start = Instant.now();
+    List<TransferListener> transferListeners;
+    /**
+     * Stream dependency transfer?
+     */
+    switch (transferList.size()) {
       /**
-       * Stream dependency transfer?
+       * No stream dependency on target, the most normal case
        */
-      switch (transferList.size()) {
+      case 1:
+        transferListeners = executeNormalTransfer(transferList.get(0));
+        break;
+      /**
+       * Transfer with Stream dependency
+       */
+      default:
+        transferListeners = executeStreamDependentTransfer(transferList);
+        break;
+    }
+    Duration duration = Duration.between(start, Instant.now());
+    for (TransferSourceTarget transferSourceTarget : transferList) {
+      this.durationsBySource.put(transferSourceTarget.getSourceDataPath(), duration);
+    }
+    return transferListeners;
+  }
+
+  /**
+   * Execute the groups of {@link #transfersGroupedByStreamDependency} concurrently
+   * <p>
+   * The scheduling runs on the calling thread:
+   * * a group starts only when the groups of its foreign key parents are done (ie committed)
+   * * a group starts only if its target connection has enough free {@link com.tabulify.connection.ConnectionMetadata#getMaxWriterConnection() writer connection}
+   * * a group starts only if its source connections have a free {@link com.tabulify.connection.ConnectionMetadata#getMaxReaderConnection() reader connection}
+   * (ie the groups that read on the same shared connection run one after the other)
+   * * at most `transferWorkerCount` groups run at the same time
+   * * the target pre-operations run one at a time by target connection (See {@link #targetConnectionLocks})
+   * <p>
+   * There is no concurrent execution on concat operation (ie multiple transfers into the same target)
+   *
+   * @param transferWorkerCount - the maximum number of groups executed at the same time
+   * @return the listeners in loading order
+   */
+  private List<TransferListener> executeConcurrently(int transferWorkerCount) {
+
+    int groupCount = transfersGroupedByStreamDependency.size();
+
+    /**
+     * The parents of each group (by index)
+     */
+    Map<DataPath, Integer> groupBySource = new HashMap<>();
+    for (int i = 0; i < groupCount; i++) {
+      for (TransferSourceTarget transferSourceTarget : transfersGroupedByStreamDependency.get(i)) {
+        groupBySource.put(transferSourceTarget.getSourceDataPath(), i);
+      }
+    }
+    List<Set<Integer>> parentGroups = new ArrayList<>();
+    for (int i = 0; i < groupCount; i++) {
+      Set<Integer> parents = new HashSet<>();
+      for (TransferSourceTarget transferSourceTarget : transfersGroupedByStreamDependency.get(i)) {
+        for (Dependency parent : transferSourceTarget.getSourceDataPath().getDependencies()) {
+          Integer parentGroup = groupBySource.get(parent);
+          if (parentGroup != null && parentGroup != i) {
+            parents.add(parentGroup);
+          }
+        }
+      }
+      parentGroups.add(parents);
+    }
+
+    /**
+     * The writer connections used by a group and the free ones by target connection
+     */
+    int targetWorkerCount = this.getTransferProperties().getTargetWorkerCount();
+    Map<Connection, Integer> freeWriterConnections = new HashMap<>();
+    int[] groupWriterConnections = new int[groupCount];
+    for (int i = 0; i < groupCount; i++) {
+      Connection targetConnection = getTargetConnection(i);
+      int maxWriterConnection = Math.max(1, targetConnection.getMetadata().getMaxWriterConnection());
+      freeWriterConnections.put(targetConnection, maxWriterConnection);
+      groupWriterConnections[i] = Math.min(targetWorkerCount, maxWriterConnection);
+    }
+
+    /**
+     * The reader connections by source connection (one by group)
+     */
+    Map<Connection, Integer> freeReaderConnections = new HashMap<>();
+    for (int i = 0; i < groupCount; i++) {
+      for (Connection sourceConnection : getSourceConnections(i)) {
+        freeReaderConnections.put(sourceConnection, Math.max(1, sourceConnection.getMetadata().getMaxReaderConnection()));
+      }
+    }
+
+    List<List<TransferListener>> groupListeners = new ArrayList<>(Collections.nCopies(groupCount, null));
+    Set<Integer> doneGroups = new HashSet<>();
+    Set<Integer> pendingGroups = new LinkedHashSet<>(IntStream.range(0, groupCount).boxed().collect(Collectors.toList()));
+    ExecutorService executor = Executors.newFixedThreadPool(Math.min(transferWorkerCount, groupCount));
+    CompletionService<Integer> completionService = new ExecutorCompletionService<>(executor);
+    int runningGroups = 0;
+    RuntimeException error = null;
+    try {
+      while (!pendingGroups.isEmpty() || runningGroups > 0) {
+
         /**
-         * No stream dependency on target, the most normal case
+         * Start the ready groups in loading order
          */
-        case 1:
-          transferListeners.addAll(executeNormalTransfer(transferList.get(0)));
-          break;
+        if (error == null) {
+          Iterator<Integer> pendingIterator = pendingGroups.iterator();
+          while (pendingIterator.hasNext() && runningGroups < transferWorkerCount) {
+            int group = pendingIterator.next();
+            if (!doneGroups.containsAll(parentGroups.get(group))) {
+              continue;
+            }
+            Connection targetConnection = getTargetConnection(group);
+            int freeWriterConnection = freeWriterConnections.get(targetConnection);
+            if (freeWriterConnection < groupWriterConnections[group]) {
+              continue;
+            }
+            Set<Connection> sourceConnections = getSourceConnections(group);
+            if (sourceConnections.stream().anyMatch(c -> freeReaderConnections.get(c) < 1)) {
+              continue;
+            }
+            freeWriterConnections.put(targetConnection, freeWriterConnection - groupWriterConnections[group]);
+            sourceConnections.forEach(c -> freeReaderConnections.merge(c, -1, Integer::sum));
+            pendingIterator.remove();
+            runningGroups++;
+            List<TransferSourceTarget> transferList = transfersGroupedByStreamDependency.get(group);
+            TransferLog.LOGGER.fine("Transfer started for the source(s) " + transferList.stream().map(t -> t.getSourceDataPath().toString()).collect(Collectors.joining(", ")));
+            completionService.submit(() -> {
+              groupListeners.set(group, executeGroup(transferList));
+              return group;
+            });
+          }
+        }
+
+        if (runningGroups == 0) {
+          if (error != null) {
+            break;
+          }
+          // Should not happen as a group needs at most the max writer connections
+          throw new InternalException("No transfer could be started while (" + pendingGroups.size() + ") transfers are pending");
+        }
+
         /**
-         * Transfer with Stream dependency
+         * Wait for a group to finish
          */
-        default:
-          transferListeners.addAll(executeStreamDependentTransfer(transferList));
-          break;
+        Future<Integer> future = completionService.take();
+        runningGroups--;
+        try {
+          int group = future.get();
+          doneGroups.add(group);
+          Connection targetConnection = getTargetConnection(group);
+          freeWriterConnections.merge(targetConnection, groupWriterConnections[group], Integer::sum);
+          getSourceConnections(group).forEach(c -> freeReaderConnections.merge(c, 1, Integer::sum));
+        } catch (ExecutionException e) {
+          // we don't start any new transfer but we wait for the running ones
+          if (error == null) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+              error = (RuntimeException) cause;
+            } else {
+              error = new RuntimeException(cause);
+            }
+          }
+        }
+
       }
+    } catch (InterruptedException e) {
+      throw new RuntimeException(e);
+    } finally {
+      executor.shutdownNow();
+    }
+    if (error != null) {
+      throw error;
     }
-    return new TransferManagerResult(this.transferManager, transferListeners);
+
+    return groupListeners
+      .stream()
+      .flatMap(List::stream)
+      .collect(Collectors.toList());
 
   }
 
+  /**
+   * Run the target pre-operations (ie create, truncate) one transfer at a time by target connection
+   * (ie before the data phase, the DDL of the groups executed concurrently does not run at the same time on the shared connection)
+   */
+  private void targetPreOperationsAndCheck(TransferSourceTargetOrder transferSourceTarget, TransferListener transferListener) {
+    synchronized (getTargetConnectionLock(transferSourceTarget)) {
+      transferSourceTarget.targetPreOperationsAndCheck(transferListener, true);
+    }
+  }
+
+  private Object getTargetConnectionLock(TransferSourceTargetOrder transferSourceTarget) {
+    return targetConnectionLocks.computeIfAbsent(transferSourceTarget.getTargetDataPath().getConnection(), c -> new Object());
+  }
+
+  /**
+   * @return the target connection of a group of {@link #transfersGroupedByStreamDependency}
+   */
+  private Connection getTargetConnection(int group) {
+    return transfersGroupedByStreamDependency.get(group).get(0).getTargetDataPath().getConnection();
+  }
+
+  /**
+   * @return the source connections of a group of {@link #transfersGroupedByStreamDependency}
+   */
+  private Set<Connection> getSourceConnections(int group) {
+    return transfersGroupedByStreamDependency.get(group)
+      .stream()
+      .map(t -> t.getSourceDataPath().getConnection())
+      .collect(Collectors.toSet());
+  }
+
   /**
    * A transfer of a source transfer without stream dependency
    */
@@ -324,7 +568,9 @@ public class TransferManagerOrder {
     final DataSystem sourceDataSystem = connection.getDataSystem();
     try {
 
-      return List.of(sourceDataSystem.transfer(transferSourceTarget));
+      synchronized (getTargetConnectionLock(transferSourceTarget)) {
+        return List.of(sourceDataSystem.transfer(transferSourceTarget));
+      }
 
     } catch (UnsupportedOperationException e) {
 
@@ -369,37 +615,37 @@ public class TransferManagerOrder {
     List<List<DataPath>> sourcesListList = new ArrayList<>();
     for (DataPath dataPath : sourcesInLoadingOrder) {
 
-      boolean hasStreamDependency;
+      DataPath dataPathStreamDependency;
       try {
-        DataPath dataPathStreamDependency = dataPath.getSelectStreamDependency();
-        hasStreamDependency = dataPathStreamDependency != null;
+        dataPathStreamDependency = dataPath.getSelectStreamDependency();
       } catch (NotFoundException e) {
-        hasStreamDependency = false;
+        dataPathStreamDependency = null;
       }
 
-      if (hasStreamDependency) {
+      if (dataPathStreamDependency != null) {
         /**
-         * Do we have already the source in the grouped source
+         * Do we have already the dependency in the grouped source
          */
+        DataPath streamDependency = dataPathStreamDependency;
         List<DataPath> sourcesList = sourcesListList
           .stream()
-          .filter(l -> l.contains(dataPath))
+          .filter(l -> l.contains(streamDependency))
           .findFirst()
           .orElse(null);
 
         /**
-         * If the source is not in grouped path create it
+         * If the dependency is not in grouped path create it
          * otherwise add it
          */
         if (sourcesList == null) {
-          sourcesListList.add(Collections.singletonList(dataPath));
+          sourcesListList.add(new ArrayList<>(Collections.singletonList(dataPath)));
         } else {
           sourcesList.add(dataPath);
         }
 
       } else {
 
-        sourcesListList.add(Collections.singletonList(dataPath));
+        sourcesListList.add(new ArrayList<>(Collections.singletonList(dataPath)));
 
       }
 
@@ -430,6 +676,13 @@ public class TransferManagerOrder {
    * easily imagine that in a tree format (Xml, ...), you first need to create
    * the parent to be able to create the child
    * <p>
+   * Each source/target pair runs on its own thread so that a slow target does not stall the others.
+   * A stream can't be ahead of its parent of more than a {@link TransferPropertiesCross#getBatchSizeOrDefault() batch} of rows
+   * to keep the dependency order.
+   * <p>
+   * If the streams share a target connection (ie more streams than {@link com.tabulify.connection.ConnectionMetadata#getMaxWriterConnection() writer connection}
+   * such as Sqlite), they write row by row in turn on the calling thread.
+   * <p>
    * If a source has no {@link DataPath#getSelectStreamDependency()}, the {@link #executeNormalTransferCrossConnection(TransferSourceTargetOrder)} is normally used
    *
    * @param transferSourceTargets - the source target transfer
@@ -440,7 +693,9 @@ public class TransferManagerOrder {
 
     List<TransferListener> transferListeners = new ArrayList<>();
 
-    List<List<Object>> streamTransfers = new ArrayList<>();
+    int streamCount = transferSourceTargets.size();
+    List<SelectStream> sourceSelectStreams = new ArrayList<>();
+    List<InsertStream> targetInsertStreams = new ArrayList<>();
     for (TransferSourceTarget transferSourceTargetBuilder : transferSourceTargets) {
 
       TransferSourceTargetOrder transferSourceTarget = toTransferOrder(transferSourceTargetBuilder);
@@ -457,13 +712,9 @@ public class TransferManagerOrder {
 
       /**
        * Target operation run only once by target
+       * (ie the operations are set only for the first transfer in {@link #toTransferOrder(TransferSourceTarget)})
        */
-      if (
-        !this.transferManager.targetsSeenInOrders.contains(transferSourceTarget.getTargetDataPath())
-      ) {
-        transferSourceTarget.targetPreOperationsAndCheck(transferListenerStream, true);
-        this.transferManager.targetsSeenInOrders.add(transferSourceTarget.getTargetDataPath());
-      }
+      targetPreOperationsAndCheck(transferSourceTarget, transferListenerStream);
 
 
       /**
@@ -479,37 +730,169 @@ public class TransferManagerOrder {
         transferSourceTarget.getSourceDataPath(),
         transferSourceTarget.getTransferProperties()
       );
-      List<Object> mapStream = new ArrayList<>();
-      mapStream.add(sourceSelectStream);
-      mapStream.add(targetInsertStream);
-      streamTransfers.add(mapStream);
+      sourceSelectStreams.add(sourceSelectStream);
+      targetInsertStreams.add(targetInsertStream);
       transferListenerStream.addInsertListener(targetInsertStream.getInsertStreamListener());
 
     }
 
+    /**
+     * A writer connection shared by several streams
+     */
+    Map<Connection, Integer> streamsByTargetConnection = new HashMap<>();
+    for (TransferSourceTarget transferSourceTarget : transferSourceTargets) {
+      streamsByTargetConnection.merge(transferSourceTarget.getTargetDataPath().getConnection(), 1, Integer::sum);
+    }
+    boolean sharedWriterConnection = streamsByTargetConnection.entrySet()
+      .stream()
+      .anyMatch(e -> e.getValue() > e.getKey().getMetadata().getMaxWriterConnection());
+    if (sharedWriterConnection) {
+      executeStreamDependentTransferInTurn(sourceSelectStreams, targetInsertStreams, transferListeners);
+      return transferListeners;
+    }
+
+    /**
+     * The parent of each stream in the group (-1 if none)
+     * A stream without a parent in the group is attached to the previous one (loading order)
+     */
+    int[] parents = new int[streamCount];
+    for (int i = 0; i < streamCount; i++) {
+      parents[i] = i - 1;
+      try {
+        DataPath streamDependency = transferSourceTargets.get(i).getSourceDataPath().getSelectStreamDependency();
+        for (int j = 0; j < streamCount; j++) {
+          if (j != i && transferSourceTargets.get(j).getSourceDataPath().equals(streamDependency)) {
+            parents[i] = j;
+            break;
+          }
+        }
+      } catch (NotFoundException e) {
+        // no dependency, previous
+      }
+    }
 
-    boolean showMustGoOn = true;
-    while (showMustGoOn) {
-      showMustGoOn = false;
-      for (List<Object> streamTransfer : streamTransfers) {
+    /**
+     * The back-pressure: a stream can't be ahead of its parent of more than a batch of rows
+     * The parent releases a permit by inserted row, the child acquires one by row
+     */
+    int maxRowsAhead = this.getTransferProperties().getBatchSizeOrDefault();
+    Semaphore[] rowPermits = new Semaphore[streamCount];
+    AtomicBoolean[] streamDone = new AtomicBoolean[streamCount];
+    for (int i = 0; i < streamCount; i++) {
+      rowPermits[i] = new Semaphore(maxRowsAhead);
+      streamDone[i] = new AtomicBoolean(false);
+    }
+    AtomicBoolean error = new AtomicBoolean(false);
 
-        SelectStream sourceSelectStream = (SelectStream) streamTransfer.get(0);
-        boolean next = sourceSelectStream.next();
-        if (next) {
-          showMustGoOn = true;
-          InsertStream targetInsertStream = (InsertStream) streamTransfer.get(1);
-          List<Object> objects = IntStream.range(0, sourceSelectStream.getDataPath().getOrCreateRelationDef().getColumnsSize())
-            .mapToObj(sourceSelectStream::getObject)
+    /**
+     * One worker by stream
+     */
+    ExecutorService executor = Executors.newFixedThreadPool(streamCount);
+    List<Future<?>> futures = new ArrayList<>();
+    for (int i = 0; i < streamCount; i++) {
+      int stream = i;
+      futures.add(executor.submit(() -> {
+        try (
+          SelectStream sourceSelectStream = sourceSelectStreams.get(stream);
+          InsertStream targetInsertStream = targetInsertStreams.get(stream)
+        ) {
+          List<Integer> children = IntStream.range(0, streamCount)
+            .filter(child -> parents[child] == stream)
+            .boxed()
             .collect(Collectors.toList());
-          targetInsertStream.insert(objects);
+          int parent = parents[stream];
+          /**
+           * The row buffer is reused (an insert stream does not keep the list)
+           */
+          Object[] values = new Object[sourceSelectStream.getDataPath().getOrCreateRelationDef().getColumnsSize()];
+          List<Object> row = Arrays.asList(values);
+          while (!error.get() && sourceSelectStream.next()) {
+            if (parent != -1) {
+              while (!streamDone[parent].get() && !rowPermits[stream].tryAcquire(100, TimeUnit.MILLISECONDS)) {
+                if (error.get()) {
+                  return null;
+                }
+              }
+            }
+            for (int j = 0; j < values.length; j++) {
+              values[j] = sourceSelectStream.getObject(j + 1);
+            }
+            targetInsertStream.insert(row);
+            for (int child : children) {
+              rowPermits[child].release();
+            }
+          }
+        } catch (Exception e) {
+          error.set(true);
+          throw e;
+        } finally {
+          streamDone[stream].set(true);
+          transferListeners.get(stream).stopTimer();
+        }
+        return null;
+      }));
+    }
+    executor.shutdown();
+
+    RuntimeException firstError = null;
+    for (Future<?> future : futures) {
+      try {
+        future.get();
+      } catch (ExecutionException e) {
+        if (firstError == null) {
+          Throwable cause = e.getCause();
+          if (cause instanceof RuntimeException) {
+            firstError = (RuntimeException) cause;
+          } else {
+            firstError = new RuntimeException(cause);
+          }
         }
+      } catch (InterruptedException e) {
+        executor.shutdownNow();
+        throw new RuntimeException(e);
       }
     }
+    if (firstError != null) {
+      throw firstError;
+    }
 
-    transferListeners.forEach(TransferListener::stopTimer);
     return transferListeners;
   }
 
+  /**
+   * Execute the streams of a {@link #executeStreamDependentTransfer(List) stream dependent transfer}
+   * row by row in turn (ie a row of the first stream, then a row of the second, ...)
+   */
+  private void executeStreamDependentTransferInTurn(List<SelectStream> sourceSelectStreams, List<InsertStream> targetInsertStreams, List<TransferListener> transferListeners) {
+
+    try {
+      int streamCount = sourceSelectStreams.size();
+      List<Integer> columnCounts = sourceSelectStreams.stream()
+        .map(selectStream -> selectStream.getDataPath().getOrCreateRelationDef().getColumnsSize())
+        .collect(Collectors.toList());
+      boolean showMustGoOn = true;
+      while (showMustGoOn) {
+        showMustGoOn = false;
+        for (int i = 0; i < streamCount; i++) {
+          SelectStream sourceSelectStream = sourceSelectStreams.get(i);
+          if (sourceSelectStream.next()) {
+            showMustGoOn = true;
+            List<Object> row = new ArrayList<>(columnCounts.get(i));
+            for (int j = 1; j <= columnCounts.get(i); j++) {
+              row.add(sourceSelectStream.getObject(j));
+            }
+            targetInsertStreams.get(i).insert(row);
+          }
+        }
+      }
+    } finally {
+      sourceSelectStreams.forEach(SelectStream::close);
+      targetInsertStreams.forEach(InsertStream::close);
+      transferListeners.forEach(TransferListener::stopTimer);
+    }
+
+  }
+
   private TransferSourceTargetOrder toTransferOrder(TransferSourceTarget transferSourceTarget) {
 
     /**
@@ -546,6 +929,28 @@ public class TransferManagerOrder {
 
   }
 
+  /**
+   * Execute a transfer where the bytes of a {@link TransferCsvCopySource native CSV export}
+   * are written straight into the {@link TransferCsvCopyTarget target}
+   */
+  private TransferListener executeCsvCopyTransfer(TransferSourceTargetOrder transferSourceTarget, TransferListenerStream transferListenerStream) {
+
+    DataPath targetDataPath = transferSourceTarget.getTargetDataPath();
+    transferListenerStream.setMethod(TransferMethod.NATIVE_EXPORT);
+    InsertStreamListener insertStreamListener = InsertStreamListener.create(null);
+    transferListenerStream.addInsertListener(insertStreamListener);
+    try (OutputStream outputStream = new BufferedOutputStream(((TransferCsvCopyTarget) targetDataPath).newCsvCopyOutputStream())) {
+      long rows = ((TransferCsvCopySource) transferSourceTarget.getSourceDataPath()).copyAsCsv(outputStream);
+      insertStreamListener.addRows(rows);
+      insertStreamListener.incrementBatch();
+    } catch (IOException e) {
+      throw new RuntimeException("Error while writing the native CSV export into (" + targetDataPath + "). Error: " + e.getMessage(), e);
+    }
+    transferListenerStream.stopTimer();
+    return transferListenerStream;
+
+  }
+
   /**
    * Transfer of a data resource from:
    * * one connection to another
@@ -556,6 +961,8 @@ public class TransferManagerOrder {
    * <p>
    * This function supports the loading of data with multiple threads (ie
    * when the {@link TransferPropertiesCross#setTargetWorkerCount(int)} is bigger than one)
+   * and the source may then be read in {@link DataPath#getSelectPartitions(int) partitions}
+   * with multiple threads (ie {@link TransferPropertiesCross#setSourceWorkerCount(int)})
    *
    * @param transferSourceTarget - the source target transfer to execute
    * @return the result
@@ -580,7 +987,14 @@ public class TransferManagerOrder {
      * Preload checks
      */
     transferSourceTarget.sourcePreChecks();
-    transferSourceTarget.targetPreOperationsAndCheck(transferListenerStream, true);
+    targetPreOperationsAndCheck(transferSourceTarget, transferListenerStream);
+
+    /*
+     * Native CSV export ?
+     */
+    if (sourceDataPath instanceof TransferCsvCopySource && ((TransferCsvCopySource) sourceDataPath).isCsvCopySupported(transferSourceTarget)) {
+      return Collections.singletonList(executeCsvCopyTransfer(transferSourceTarget, transferListenerStream));
+    }
 
     /*
      * Single thread ?
@@ -605,14 +1019,15 @@ public class TransferManagerOrder {
           .map(ColumnDef::getColumnPosition)
           .sorted()
           .collect(Collectors.toList());
-        // Run
+        // Run (the row buffer is reused, an insert stream does not keep the list)
+        int[] sourceColumnPositions = sourceColumnInAscOrder.stream().mapToInt(Integer::intValue).toArray();
+        Object[] values = new Object[sourceColumnPositions.length];
+        List<Object> row = Arrays.asList(values);
         while (sourceSelectStream.next()) {
-          List<Object> objects = new ArrayList<>();
-          for (Integer sourceColumnPosition : sourceColumnInAscOrder) {
-            Object object = sourceSelectStream.getObject(sourceColumnPosition);
-            objects.add(object);
+          for (int i = 0; i < sourceColumnPositions.length; i++) {
+            values[i] = sourceSelectStream.getObject(sourceColumnPositions[i]);
           }
-          targetInsertStream.insert(objects);
+          targetInsertStream.insert(row);
         }
 
       }
@@ -642,11 +1057,20 @@ public class TransferManagerOrder {
 
       // The queue between the producer (source) and the consumer (target)
       int timeout = transferPropertiesCrossManager.getTimeOut();
+      /*
+       * The unit of work put in the queue
+       * With a batch hand-off, the batches are aligned on the target batch size
+       */
+      int bufferBatchSize = 1;
+      if (transferPropertiesCrossManager.getBufferHandOff() == TransferBufferHandOff.BATCH) {
+        bufferBatchSize = transferPropertiesCrossManager.getBatchSizeOrDefault();
+      }
       Tabular tabular = sourceDataPath.getConnection().getTabular();
       MemoryQueueDataPath buffer = (MemoryQueueDataPath) ((MemoryQueueDataPath) tabular.getMemoryConnection()
         .getTypedDataPath(MemoryDataPathType.QUEUE, "buffer"))
         .setTimeout(timeout)
         .setCapacity(transferPropertiesCrossManager.getBufferSize())
+        .setBatchSize(bufferBatchSize)
         .getOrCreateRelationDef()
         .mergeStruct(sourceDataPath.getRelationDef())
         .getDataPath();
@@ -659,13 +1083,21 @@ public class TransferManagerOrder {
         Thread viewer = new Thread(transferWorkerMetricsViewer);
         viewer.start();
 
-        // Start the producer thread
-        TransferWorkerProducer transferWorkerProducer = new TransferWorkerProducer(
-          TransferSourceTarget.create(sourceDataPath, buffer).buildOrder(transferPropertiesSystem),
-          transferWorkerMetricsViewer
-        );
-        Thread producer = new Thread(transferWorkerProducer);
-        producer.start();
+        // Start the producer threads, one by source partition
+        List<DataPath> sourcePartitions = sourceDataPath.getSelectPartitions(transferPropertiesCrossManager.getSourceWorkerCount());
+        if (sourcePartitions.size() > 1) {
+          TransferLog.LOGGER.info("The source (" + sourceDataPath + ") is read with (" + sourcePartitions.size() + ") partitions");
+        }
+        List<Thread> producers = new ArrayList<>();
+        for (DataPath sourcePartition : sourcePartitions) {
+          TransferWorkerProducer transferWorkerProducer = new TransferWorkerProducer(
+            TransferSourceTarget.create(sourcePartition, buffer).buildOrder(transferPropertiesSystem),
+            transferWorkerMetricsViewer
+          );
+          Thread producer = new Thread(transferWorkerProducer);
+          producer.start();
+          producers.add(producer);
+        }
 
         // Start the consumer / target threads
         ExecutorService targetWorkExecutor = Executors.newFixedThreadPool(targetWorkerCount);
@@ -680,8 +1112,10 @@ public class TransferManagerOrder {
         }
 
 
-        // Wait the producer
-        producer.join(); // Waits for this thread to die.
+        // Wait the producers
+        for (Thread producer : producers) {
+          producer.join(); // Waits for this thread to die.
+        }
         producerWorkIsDone.set(true);
 
         // Shut down the targetWorkExecutor Service
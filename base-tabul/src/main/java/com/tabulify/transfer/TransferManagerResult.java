@@ -1,23 +1,40 @@
 package com.tabulify.transfer;
 
+import com.tabulify.spi.DataPath;
+
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 public class TransferManagerResult {
 
   @SuppressWarnings("FieldCanBeLocal")
   private final TransferManager transferManager;
   List<TransferListener> transferListeners;
+  private final Map<DataPath, Duration> durationsBySource;
 
   public TransferManagerResult(TransferManager transferManager, List<TransferListener> transferListeners) {
+    this(transferManager, transferListeners, Collections.emptyMap());
+  }
+
+  public TransferManagerResult(TransferManager transferManager, List<TransferListener> transferListeners, Map<DataPath, Duration> durationsBySource) {
     this.transferListeners = transferListeners;
     this.transferManager = transferManager;
+    this.durationsBySource = durationsBySource;
   }
 
   public List<TransferListener> getTransferListeners() {
     return transferListeners;
   }
 
+  /**
+   * @return the execution duration of the transfer by source data path (in loading order)
+   */
+  public Map<DataPath, Duration> getDurationsBySource() {
+    return durationsBySource;
+  }
+
   public int getExitStatus() {
 
     return transferListeners.stream().mapToInt(TransferListener::getExitStatus).sum();
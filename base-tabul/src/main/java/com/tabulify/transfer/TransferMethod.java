@@ -82,6 +82,16 @@ public enum TransferMethod {
    * A delete with values
    */
   DELETE,
+  /**
+   * A native bulk load of the database
+   * (ie Postgres COPY, SQL Server bulk copy)
+   */
+  BULK_LOAD,
+  /**
+   * A native export of the database in the target format
+   * (ie Postgres COPY TO STDOUT into a CSV file)
+   */
+  NATIVE_EXPORT,
 
 
 }
@@ -20,6 +20,15 @@ public class TransferPropertiesCross {
   // Default target worker count
   public static final Integer DEFAULT_TARGET_WORKER_COUNT = 1;
 
+  // Default source worker count
+  public static final Integer DEFAULT_SOURCE_WORKER_COUNT = 1;
+
+  // Default transfer worker count (ie the transfers are executed one after the other)
+  public static final Integer DEFAULT_TRANSFER_WORKER_COUNT = 1;
+
+  // Default unit of work handed from the producer to the consumers
+  public static final TransferBufferHandOff DEFAULT_BUFFER_HAND_OFF = TransferBufferHandOff.RECORD;
+
 
   /**
    * The size of the {@link #setBufferSize(Integer) | queue} between the source and the target
@@ -32,6 +41,18 @@ public class TransferPropertiesCross {
    */
   private int targetWorkCount = DEFAULT_TARGET_WORKER_COUNT;
 
+  /**
+   * The number of threads against the source data store
+   * See {@link #setSourceWorkerCount(int)}
+   */
+  private int sourceWorkerCount = DEFAULT_SOURCE_WORKER_COUNT;
+
+  /**
+   * The number of transfers executed at the same time
+   * See {@link #setTransferWorkerCount(int)}
+   */
+  private int transferWorkerCount = DEFAULT_TRANSFER_WORKER_COUNT;
+
 
   /**
    * The location of the metrics data (ie snapshot of the counters by time)
@@ -68,6 +89,11 @@ public class TransferPropertiesCross {
    */
   private Integer feedbackFrequency;
 
+  /**
+   * See {@link #setBufferHandOff(TransferBufferHandOff)}
+   */
+  private TransferBufferHandOff bufferHandOff = DEFAULT_BUFFER_HAND_OFF;
+
 
   /**
    * @return a {@link TransferPropertiesCross} instance
@@ -94,6 +120,29 @@ public class TransferPropertiesCross {
     return this;
   }
 
+  /**
+   * @param sourceWorkerCount - The maximum number of threads against the source data store.
+   *                          Each thread reads a {@link DataPath#getSelectPartitions(int) partition} of the source.
+   *                          It's used only when the {@link #setTargetWorkerCount(int) target worker count} is bigger than one.
+   * @return the {@link TransferPropertiesCross} instance itself for chaining instantiation
+   */
+  public TransferPropertiesCross setSourceWorkerCount(int sourceWorkerCount) {
+    this.sourceWorkerCount = sourceWorkerCount;
+    return this;
+  }
+
+  /**
+   * @param transferWorkerCount - The maximum number of transfers (ie tables) executed at the same time.
+   *                            A transfer starts only when the transfers of its foreign key parents are done
+   *                            the target connection has a free {@link com.tabulify.connection.ConnectionMetadata#getMaxWriterConnection() writer connection}
+   *                            and the source connection has a free {@link com.tabulify.connection.ConnectionMetadata#getMaxReaderConnection() reader connection}.
+   * @return the {@link TransferPropertiesCross} instance itself for chaining instantiation
+   */
+  public TransferPropertiesCross setTransferWorkerCount(int transferWorkerCount) {
+    this.transferWorkerCount = transferWorkerCount;
+    return this;
+  }
+
   /**
    * @param feedbackFrequency - The number of rows when a feedback is given back to the console
    * @return the {@link TransferPropertiesCross} instance itself for chaining instantiation
@@ -177,6 +226,19 @@ public class TransferPropertiesCross {
   }
 
 
+  /**
+   * @param bufferHandOff - The unit of work (record or batch) handed from the source thread to the target threads through the {@link #setBufferSize(Integer)  | queue}
+   * @return the {@link TransferPropertiesCross} instance itself for chaining instantiation
+   * <p>
+   * With a {@link TransferBufferHandOff#BATCH batch} hand-off, the source worker fills batches
+   * of {@link #setBatchSize(Integer) batch size} records and the target workers
+   * send them as a whole to the target data store.
+   */
+  public TransferPropertiesCross setBufferHandOff(TransferBufferHandOff bufferHandOff) {
+    this.bufferHandOff = bufferHandOff;
+    return this;
+  }
+
   /**
    * @return the {@link #setTargetWorkerCount(int) | the target worker count}
    */
@@ -184,6 +246,20 @@ public class TransferPropertiesCross {
     return targetWorkCount;
   }
 
+  /**
+   * @return the {@link #setSourceWorkerCount(int) | the source worker count}
+   */
+  public int getSourceWorkerCount() {
+    return sourceWorkerCount;
+  }
+
+  /**
+   * @return the {@link #setTransferWorkerCount(int) | the transfer worker count}
+   */
+  public int getTransferWorkerCount() {
+    return transferWorkerCount;
+  }
+
   /**
    * @return the {@link #setBatchSize(Integer) | batchSize}
    */
@@ -208,6 +284,23 @@ public class TransferPropertiesCross {
     return metricsPath;
   }
 
+  /**
+   * @return the {@link #setBufferHandOff(TransferBufferHandOff) | buffer hand-off}
+   */
+  public TransferBufferHandOff getBufferHandOff() {
+    return bufferHandOff;
+  }
+
+  /**
+   * @return the {@link #setBatchSize(Integer) | batchSize} or the default
+   */
+  public Integer getBatchSizeOrDefault() {
+    if (batchSize == null) {
+      return DEFAULT_BATCH_SIZE;
+    }
+    return batchSize;
+  }
+
   /**
    * @return the {@link #setTimeOut(Integer)|Timeout}
    */
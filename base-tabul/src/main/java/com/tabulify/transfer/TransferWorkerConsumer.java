@@ -1,5 +1,7 @@
 package com.tabulify.transfer;
 
+import com.tabulify.memory.queue.MemoryQueueDataPath;
+import com.tabulify.memory.queue.MemoryQueueSelectStream;
 import com.tabulify.spi.DataPath;
 import com.tabulify.stream.InsertStream;
 import com.tabulify.stream.SelectStream;
@@ -48,19 +50,47 @@ public class TransferWorkerConsumer implements Runnable {
 
       transferListenerStream.addInsertListener(insertStream.getInsertStreamListener());
 
-      List<?> objects;
-      while (true) {
+      Integer timeOut = 1;
+      if (isBatchHandOff(selectStream)) {
+
+        /**
+         * The batch is drained as a whole into the target
+         * (ie one batch against a database)
+         */
+        MemoryQueueSelectStream queueSelectStream = (MemoryQueueSelectStream) selectStream;
         while (true) {
-          Integer timeOut = 1;
-          if (!selectStream.next(timeOut, TimeUnit.SECONDS)) break;
+          /**
+           * The flag is read before draining the buffer
+           * so that we don't miss the last batches put between
+           * the timeout and the read of the flag
+           */
+          boolean producerIsDone = producerWorkIsDone.get();
+          List<List<Object>> batch;
+          while ((batch = queueSelectStream.nextBatch(timeOut, TimeUnit.SECONDS)) != null) {
+            insertStream.insertBatch(batch);
+          }
+          if (producerIsDone) {
+            break;
+          }
+        }
 
-          objects = selectStream.getObjects();
-          insertStream.insert(objects);
+      } else {
 
+        List<?> objects;
+        while (true) {
+          boolean producerIsDone = producerWorkIsDone.get();
+          while (true) {
+            if (!selectStream.next(timeOut, TimeUnit.SECONDS)) break;
+
+            objects = selectStream.getObjects();
+            insertStream.insert(objects);
+
+          }
+          if (producerIsDone) {
+            break;
+          }
         }
-        if (producerWorkIsDone.get()) {
-          break;
-        }
+
       }
 
     } catch (Exception e) {
@@ -71,4 +101,13 @@ public class TransferWorkerConsumer implements Runnable {
     transferListenerStream.stopTimer();
     TransferLog.LOGGER.info("The Consumer " + threadName + " has finished.");
   }
+
+  /**
+   * @return true if the producer hands off {@link TransferBufferHandOff#BATCH batches} of records
+   */
+  private boolean isBatchHandOff(SelectStream selectStream) {
+    return selectStream instanceof MemoryQueueSelectStream
+      && buffer instanceof MemoryQueueDataPath
+      && ((MemoryQueueDataPath) buffer).getBatchSize() > 1;
+  }
 }
@@ -38,7 +38,7 @@ public class TransferWorkerProducer implements Runnable {
     String streamName = "Producer: " + threadName;
     try (
 
-      SelectStream selectStream = sourceDataPath.getSelectStream()
+      SelectStream selectStream = sourceDataPath.getSelectStreamSafe()
         .setName(streamName);
 
       InsertStream insertStream = buffer.getInsertStream(sourceDataPath, transferProperties)
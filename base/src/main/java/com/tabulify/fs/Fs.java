@@ -14,7 +14,10 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
@@ -339,12 +342,91 @@ public class Fs {
 
     public static void overwrite(Path source, Path target) {
         try {
-            Files.write(target, Files.readAllBytes(source), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+            transfer(source, target, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
 
+    /**
+     * The maximum number of bytes asked by {@link FileChannel#transferFrom(ReadableByteChannel, long, long) transferFrom} call
+     */
+    private static final long TRANSFER_CHUNK_SIZE = 8L * 1024 * 1024;
+
+    /**
+     * Write the bytes of a file into another one channel to channel (ie without loading the file in memory)
+     * <p>
+     * When the file system supports it, the copy is done by the kernel
+     * with {@link FileChannel#transferTo(long, long, WritableByteChannel) transferTo} (ie sendfile, copy_file_range on Linux)
+     * <p>
+     * Example:
+     * * append: `transfer(source, target, StandardOpenOption.APPEND)`
+     * * overwrite: `transfer(source, target, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)`
+     *
+     * @param source        - the source file
+     * @param target        - the target file
+     * @param targetOptions - the open options of the target (the write option is always added)
+     * @return the number of bytes transferred
+     */
+    public static long transfer(Path source, Path target, OpenOption... targetOptions) throws IOException {
+        Set<OpenOption> options = new HashSet<>(Arrays.asList(targetOptions));
+        options.add(StandardOpenOption.WRITE);
+        try (
+                SeekableByteChannel sourceChannel = Files.newByteChannel(source, StandardOpenOption.READ);
+                SeekableByteChannel targetChannel = Files.newByteChannel(target, options)
+        ) {
+            return transfer(sourceChannel, targetChannel);
+        }
+    }
+
+    /**
+     * Transfer all bytes of the source channel into the target channel at its position
+     */
+    private static long transfer(SeekableByteChannel source, SeekableByteChannel target) throws IOException {
+
+        if (source instanceof FileChannel) {
+            FileChannel sourceFileChannel = (FileChannel) source;
+            long size = sourceFileChannel.size();
+            long position = 0;
+            while (position < size) {
+                long transferred = sourceFileChannel.transferTo(position, size - position, target);
+                if (transferred <= 0) {
+                    // the file was truncated in the meantime
+                    break;
+                }
+                position += transferred;
+            }
+            return position;
+        }
+
+        if (target instanceof FileChannel) {
+            // a source that is not a file channel (ie zip, http)
+            FileChannel targetFileChannel = (FileChannel) target;
+            long startPosition = targetFileChannel.position();
+            long count = 0;
+            while (true) {
+                long transferred = targetFileChannel.transferFrom(source, startPosition + count, TRANSFER_CHUNK_SIZE);
+                if (transferred <= 0) {
+                    break;
+                }
+                count += transferred;
+            }
+            return count;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+        long count = 0;
+        while (source.read(buffer) != -1) {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                count += target.write(buffer);
+            }
+            buffer.clear();
+        }
+        return count;
+
+    }
+
     /**
      * @param path     - a regular file or a directory
      * @param basePath - a base directory
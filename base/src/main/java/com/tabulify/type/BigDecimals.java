@@ -43,30 +43,34 @@ public class BigDecimals {
 
   /**
    * @param s
-   * @return an integer from the string s or a runtime exception
+   * @return a decimal from the string s (the fraction included) or a runtime exception
    */
   public static BigDecimals createFromString(String s, NumberFormat numberFormat) {
     try {
-      return new BigDecimals(BigDecimal.valueOf(numberFormat.parse(s).longValue()));
+      return new BigDecimals(new BigDecimal(numberFormat.parse(s).toString()));
     } catch (ParseException e) {
       throw new RuntimeException(e);
     }
   }
 
   public static BigDecimals createFromString(String s) {
-    /**
-     * Format for parsing integers. Not thread-safe
-     */
-    NumberFormat integerInstance = NumberFormat.getIntegerInstance(Locale.ROOT);
-    return createFromString(s, integerInstance);
+    try {
+      return new BigDecimals(new BigDecimal(s.trim()));
+    } catch (NumberFormatException e) {
+      /**
+       * Format for parsing numbers with grouping. Not thread-safe
+       */
+      NumberFormat numberInstance = NumberFormat.getNumberInstance(Locale.ROOT);
+      return createFromString(s, numberInstance);
+    }
   }
 
   private static BigDecimals createFromFloat(Float o) {
-    return new BigDecimals(BigDecimal.valueOf(o.longValue()));
+    return new BigDecimals(new BigDecimal(o.toString()));
   }
 
   private static BigDecimals createFromBigInteger(BigInteger o) {
-    return new BigDecimals(BigDecimal.valueOf(o.longValue()));
+    return new BigDecimals(new BigDecimal(o));
   }
 
   private static BigDecimals createFromInteger(Integer o) {
@@ -111,6 +111,34 @@ public class Casts {
     }
 
 
+    /**
+     * A conversion function from a source class to a target class
+     */
+    @FunctionalInterface
+    private interface Converter {
+
+        Object convert(Object sourceObject) throws CastException;
+
+    }
+
+    /**
+     * The converters by target class and source class.
+     * <p>
+     * A converter is resolved once for a (source class, target class) pair
+     * and is then a direct function call (ie the cast of a cell does not go through the chain of class checks)
+     */
+    private static final ClassValue<ClassValue<Converter>> CONVERTERS = new ClassValue<>() {
+        @Override
+        protected ClassValue<Converter> computeValue(Class<?> targetClass) {
+            return new ClassValue<>() {
+                @Override
+                protected Converter computeValue(Class<?> sourceClass) {
+                    return createConverter(sourceClass, targetClass);
+                }
+            };
+        }
+    };
+
     /**
      * @param sourceObject - the object to cast
      * @param targetClass  - the class to cast
@@ -130,102 +158,133 @@ public class Casts {
             return null;
         }
 
+        Converter converter = CONVERTERS.get(targetClass).get(sourceObject.getClass());
+        try {
+            return targetClass.cast(converter.convert(sourceObject));
+        } catch (IllegalCharsetNameException | ClassCastException e) {
+            throw new CastException(e.getMessage(), e);
+        }
+
+    }
+
+    /**
+     * @param sourceClass - the class of the source object
+     * @param targetClass - the class to cast
+     * @return the converter of the pair
+     */
+    private static Converter createConverter(Class<?> sourceClass, Class<?> targetClass) {
 
         if (targetClass == Number.class) {
-            if (sourceObject instanceof Number) {
+            if (Number.class.isAssignableFrom(sourceClass)) {
                 /*
                  * Number is an interface and
                  * can't be instantiated
                  * We just return the object
                  */
-                return targetClass.cast(sourceObject);
+                return sourceObject -> sourceObject;
             }
-            throw new CastException("The source object is not a number. Value: " + sourceObject);
+            return sourceObject -> {
+                throw new CastException("The source object is not a number. Value: " + sourceObject);
+            };
         }
 
-        try {
-
-            Class<?> sourceObjectClass = sourceObject.getClass();
-
-            /*
-             * Same class
-             */
-            if (sourceObjectClass.equals(targetClass)) {
-                return targetClass.cast(sourceObject);
-            }
+        /*
+         * Same class
+         */
+        if (sourceClass.equals(targetClass)) {
+            return sourceObject -> sourceObject;
+        }
 
-            /*
-             * Array
-             */
-            if (sourceObjectClass.isArray()) {
-                if (!targetClass.isArray()) {
-                    if (targetClass.equals(String.class)) {
-                        String[] values = castToArray(sourceObject, String.class);
-                        return targetClass.cast(String.join(", ", values));
-                    }
-                    throw new CastException("The source object is an array and the target class is not");
+        /*
+         * Array
+         */
+        if (sourceClass.isArray()) {
+            if (!targetClass.isArray()) {
+                if (targetClass.equals(String.class)) {
+                    return sourceObject -> String.join(", ", castToArray(sourceObject, String.class));
                 }
-                return targetClass.cast(castToArray(sourceObject, targetClass.getComponentType()));
+                return sourceObject -> {
+                    throw new CastException("The source object is an array and the target class is not");
+                };
             }
+            return sourceObject -> castToArray(sourceObject, targetClass.getComponentType());
+        }
 
-            /*
-             * Nullable string
-             */
-            if (targetClass != String.class && sourceObjectClass == String.class) {
+        Converter converter = createTargetConverter(sourceClass, targetClass);
+
+        /*
+         * Nullable string
+         */
+        if (targetClass != String.class && sourceClass == String.class) {
+            return sourceObject -> {
                 if (nullableStrings.contains(sourceObject)) {
                     return null;
                 }
-            }
+                return converter.convert(sourceObject);
+            };
+        }
 
-            /*
-             * Long
-             */
-            if (targetClass == Long.class) {
-                return targetClass.cast(Longs.createFromObject(sourceObject).toLong());
-            }
+        return converter;
 
+    }
 
-            /*
-             * Key Normalizer
-             */
-            if (targetClass == KeyNormalizer.class) {
-                if (sourceObject.getClass() != String.class) {
-                    throw new CastException("A string source object is mandatory to cast to KeyNormalizer. The source object is not a string but a " + sourceObject.getClass().getSimpleName());
-                }
-                return targetClass.cast(KeyNormalizer.create(sourceObject));
+    private static Converter createTargetConverter(Class<?> sourceClass, Class<?> targetClass) {
+
+        /*
+         * Long
+         */
+        if (targetClass == Long.class) {
+            return sourceObject -> Longs.createFromObject(sourceObject).toLong();
+        }
+
+        /*
+         * Key Normalizer
+         */
+        if (targetClass == KeyNormalizer.class) {
+            if (sourceClass != String.class) {
+                return sourceObject -> {
+                    throw new CastException("A string source object is mandatory to cast to KeyNormalizer. The source object is not a string but a " + sourceClass.getSimpleName());
+                };
             }
+            return KeyNormalizer::create;
+        }
 
-            /*
-             * Duration
-             */
-            if (targetClass == DurationShort.class) {
-                if (sourceObject instanceof String) {
-                    return targetClass.cast(DurationShort.create(sourceObject.toString()));
-                }
-                throw new CastException("A duration short cannot be created because the value is not a string but a " + sourceObject.getClass().getSimpleName());
+        /*
+         * Duration
+         */
+        if (targetClass == DurationShort.class) {
+            if (sourceClass == String.class) {
+                return sourceObject -> DurationShort.create(sourceObject.toString());
             }
-            if (targetClass == Duration.class) {
-                if (sourceObject instanceof String) {
-                    Duration parse;
+            return sourceObject -> {
+                throw new CastException("A duration short cannot be created because the value is not a string but a " + sourceClass.getSimpleName());
+            };
+        }
+        if (targetClass == Duration.class) {
+            if (sourceClass == String.class) {
+                return sourceObject -> {
                     String durationString = sourceObject.toString();
                     try {
-                        parse = Duration.parse(durationString);
+                        return Duration.parse(durationString);
                     } catch (Exception e) {
                         throw new CastException("The iso duration string (" + durationString + ") is not valid. Error: " + e.getMessage(), e);
                     }
-                    return targetClass.cast(parse);
-                }
-                throw new CastException("A duration cannot be created because the value is not a string but a " + sourceObject.getClass().getSimpleName());
+                };
             }
+            return sourceObject -> {
+                throw new CastException("A duration cannot be created because the value is not a string but a " + sourceClass.getSimpleName());
+            };
+        }
 
-            /*
-             * Uri Enhanced
-             */
-            if (targetClass == UriEnhanced.class) {
+        /*
+         * Uri Enhanced
+         */
+        if (targetClass == UriEnhanced.class) {
+            return sourceObject -> {
                 String uri = sourceObject.toString();
                 try {
 
-                    return targetClass.cast(UriEnhanced.createFromString(uri));
+                    return UriEnhanced.createFromString(uri);
 
                 } catch (Exception e) {
                     String message = "The string `" + uri + "` is not a valid uri.";
@@ -235,215 +294,221 @@ public class Casts {
                     message += " Error: " + e.getMessage();
                     throw new CastException(message, e);
                 }
+            };
+        }
 
-            }
-
-            if (targetClass == DnsName.class) {
-
-                String dnsNameAsString = sourceObject.toString();
-                return targetClass.cast(DnsName.create(dnsNameAsString));
-
-            }
+        if (targetClass == DnsName.class) {
+            return sourceObject -> DnsName.create(sourceObject.toString());
+        }
 
-            /*
-             * Boolean
-             */
-            if (targetClass == Boolean.class) {
-                return targetClass.cast(Booleans.createFromObject(sourceObject).toBoolean());
-            }
-            /*
-             * Integer and Smallint
-             */
-            if (targetClass == Integer.class) {
-                return targetClass.cast(Integers.createFromObject(sourceObject).toInteger());
-            }
+        /*
+         * Boolean
+         */
+        if (targetClass == Boolean.class) {
+            return sourceObject -> Booleans.createFromObject(sourceObject).toBoolean();
+        }
+        /*
+         * Integer and Smallint
+         */
+        if (targetClass == Integer.class) {
+            return sourceObject -> Integers.createFromObject(sourceObject).toInteger();
+        }
 
-            /*
-             * Big integer
-             */
-            if (targetClass == BigInteger.class) {
-                return targetClass.cast(BigIntegers.createFromObject(sourceObject).toBigInteger());
-            }
+        /*
+         * Big integer
+         */
+        if (targetClass == BigInteger.class) {
+            return sourceObject -> BigIntegers.createFromObject(sourceObject).toBigInteger();
+        }
 
-            /*
-             * Big Decimal (exact number), Numeric, decimal
-             */
-            if (targetClass == BigDecimal.class) {
-                return targetClass.cast(BigDecimals.createFromObject(sourceObject).toBigDecimal());
-            }
+        /*
+         * Big Decimal (exact number), Numeric, decimal
+         */
+        if (targetClass == BigDecimal.class) {
+            return sourceObject -> BigDecimals.createFromObject(sourceObject).toBigDecimal();
+        }
 
-            /*
-             * Float Double precision
-             */
-            if (targetClass == Double.class) {
-                return targetClass.cast(Doubles.createFromObject(sourceObject).toDouble());
-            }
+        /*
+         * Float Double precision
+         */
+        if (targetClass == Double.class) {
+            return sourceObject -> Doubles.createFromObject(sourceObject).toDouble();
+        }
 
+        /*
+         * Float Single precision
+         */
+        if (targetClass == Float.class) {
             /*
-             * Float Single precision
+             * Not really error proof against precision error but yeah
+             * Float is no more used
              */
-            if (targetClass == Float.class) {
-                /*
-                 * Not really error proof against precision error but yeah
-                 * Float is no more used
-                 */
-                return targetClass.cast(Doubles.createFromObject(sourceObject).toFloat());
-            }
+            return sourceObject -> Doubles.createFromObject(sourceObject).toFloat();
+        }
 
-            /*
-             * Date
-             */
-            if (targetClass == java.sql.Date.class) {
-                return targetClass.cast(Date.createFromObject(sourceObject).toSqlDate());
-            }
-            if (targetClass == LocalDate.class) {
-                return targetClass.cast(Date.createFromObject(sourceObject).toLocalDate());
-            }
+        /*
+         * Date
+         */
+        if (targetClass == java.sql.Date.class) {
+            return sourceObject -> Date.createFromObject(sourceObject).toSqlDate();
+        }
+        if (targetClass == LocalDate.class) {
+            return sourceObject -> Date.createFromObject(sourceObject).toLocalDate();
+        }
 
-            /*
-             * Timestamp
-             */
-            if (targetClass == java.sql.Timestamp.class) {
-                return targetClass.cast(Timestamp.createFromObject(sourceObject).toSqlTimestamp());
-            }
-            if (targetClass == LocalDateTime.class) {
-                return targetClass.cast(Timestamp.createFromObject(sourceObject).toLocalDateTime());
-            }
-            if (targetClass == java.util.Date.class) {
-                return targetClass.cast(Date.createFromObject(sourceObject).toDate());
-            }
+        /*
+         * Timestamp
+         */
+        if (targetClass == java.sql.Timestamp.class) {
+            return sourceObject -> Timestamp.createFromObject(sourceObject).toSqlTimestamp();
+        }
+        if (targetClass == LocalDateTime.class) {
+            return sourceObject -> Timestamp.createFromObject(sourceObject).toLocalDateTime();
+        }
+        if (targetClass == java.util.Date.class) {
+            return sourceObject -> Date.createFromObject(sourceObject).toDate();
+        }
 
 
+        /*
+         * String
+         */
+        if (targetClass == String.class) {
             /*
-             * String
+             * Input Stream
+             * Not sure where the character set fit here
+             * https://stackoverflow.com/questions/309424/how-to-read-convert-an-inputstream-into-a-string-in-java
              */
-            if (targetClass == String.class) {
-                /*
-                 * Input Stream
-                 * Not sure where the character set fit here
-                 * https://stackoverflow.com/questions/309424/how-to-read-convert-an-inputstream-into-a-string-in-java
-                 */
-                if (sourceObject instanceof InputStream) {
-                    InputStream is = (InputStream) sourceObject;
-                    try (Scanner s = new Scanner(is)) {
-                        String value = s.useDelimiter("\\A").hasNext() ? s.next() : "";
-                        return targetClass.cast(value);
+            if (InputStream.class.isAssignableFrom(sourceClass)) {
+                return sourceObject -> {
+                    try (Scanner s = new Scanner((InputStream) sourceObject)) {
+                        return s.useDelimiter("\\A").hasNext() ? s.next() : "";
                     }
-                }
-                return targetClass.cast(sourceObject.toString());
+                };
             }
+            return Object::toString;
+        }
 
-            /*
-             * Character
-             */
-            if (targetClass == Character.class) {
+        /*
+         * Character
+         */
+        if (targetClass == Character.class) {
+            return sourceObject -> {
                 if (sourceObject.toString().length() != 1) {
                     throw new CastException("The source object is not a string of length 1 (" + sourceObject + ")");
                 }
-                return targetClass.cast(sourceObject.toString().charAt(0));
-            }
+                return sourceObject.toString().charAt(0);
+            };
+        }
 
-            /*
-             * Time
-             */
-            if (targetClass == java.sql.Time.class) {
-                return targetClass.cast(Time.createFromObject(sourceObject).toSqlTime());
-            }
+        /*
+         * Time
+         */
+        if (targetClass == java.sql.Time.class) {
+            return sourceObject -> Time.createFromObject(sourceObject).toSqlTime();
+        }
 
-            /*
-             * Xml
-             */
-            if (targetClass == java.sql.SQLXML.class) {
-                boolean isSqlXmlObject = java.sql.SQLXML.class.isAssignableFrom(sourceObject.getClass());
-                if (isSqlXmlObject) {
-                    return targetClass.cast(sourceObject);
-                }
-                if (sourceObject.getClass() == String.class) {
-                    return targetClass.cast(SqlXmlFromString.create(sourceObject.toString()));
-                }
-                throw new CastException("The source value is not a string, nor a java.sql.SQLXML object");
+        /*
+         * Xml
+         */
+        if (targetClass == java.sql.SQLXML.class) {
+            if (java.sql.SQLXML.class.isAssignableFrom(sourceClass)) {
+                return sourceObject -> sourceObject;
             }
-
-            /*
-             * Clob
-             */
-            if (targetClass == java.sql.Clob.class) {
-                return targetClass.cast(SqlClob.createFromObject(sourceObject));
+            if (sourceClass == String.class) {
+                return sourceObject -> SqlXmlFromString.create(sourceObject.toString());
             }
+            return sourceObject -> {
+                throw new CastException("The source value is not a string, nor a java.sql.SQLXML object");
+            };
+        }
 
-            /*
-             * Path from string
-             */
-            if (targetClass == java.nio.file.Path.class) {
-                return targetClass.cast(Paths.get(sourceObject.toString()));
-            }
+        /*
+         * Clob
+         */
+        if (targetClass == java.sql.Clob.class) {
+            return SqlClob::createFromObject;
+        }
+
+        /*
+         * Path from string
+         */
+        if (targetClass == java.nio.file.Path.class) {
+            return sourceObject -> Paths.get(sourceObject.toString());
+        }
 
+        /*
+          Enum
+         */
+        if (targetClass.isEnum()) {
             /*
-              Enum
+              {@link Enums#valueOf(Class, String)} is not used
+              because it needs exact match
+              The constants are normalized once (the first constant wins on the same normalized name)
              */
-            if (targetClass.isEnum()) {
-                /*
-                  {@link Enums#valueOf(Class, String)} is not used
-                  because it needs exact match
-                 */
+            Map<KeyNormalizer, Object> constants = new HashMap<>();
+            for (Object constant : targetClass.getEnumConstants()) {
+                if (constant == null) {
+                    throw new InternalError("The enum class (" + targetClass + ") does not have any constants");
+                }
+                constants.putIfAbsent(KeyNormalizer.createSafe(((Enum<?>) constant).name()), constant);
+            }
+            return sourceObject -> {
                 KeyNormalizer normalizedLookupKey;
                 if (sourceObject instanceof KeyNormalizer) {
                     normalizedLookupKey = (KeyNormalizer) sourceObject;
                 } else {
                     normalizedLookupKey = KeyNormalizer.create(sourceObject.toString());
                 }
-                for (T constant : targetClass.getEnumConstants()) {
-                    if (constant == null) {
-                        throw new InternalError("The enum class (" + targetClass + ") does not have any constants");
-                    }
-                    Enum<?> constantAsEnum = (Enum<?>) constant;
-                    if (KeyNormalizer.create(constantAsEnum.name()).equals(normalizedLookupKey)) {
-                        return constant;
-                    }
+                Object constant = constants.get(normalizedLookupKey);
+                if (constant != null) {
+                    return constant;
                 }
                 // Not uppercase
                 String enumsPossibleValues = Enums.toConstantAsStringOfUriAttributeCommaSeparated(targetClass);
-                throw new CastException("We couldn't cast the value (" + sourceObject + ") with the class (" + sourceObjectClass.getSimpleName() + ") to the enum class (" + targetClass.getSimpleName() + "). Possible values: " + enumsPossibleValues);
-            }
+                throw new CastException("We couldn't cast the value (" + sourceObject + ") with the class (" + sourceClass.getSimpleName() + ") to the enum class (" + targetClass.getSimpleName() + "). Possible values: " + enumsPossibleValues);
+            };
+        }
 
-            /*
-              Charset
-             */
-            if (targetClass == Charset.class) {
+        /*
+          Charset
+         */
+        if (targetClass == Charset.class) {
+            return sourceObject -> {
                 String charsetValue = sourceObject.toString();
                 if (!Charset.isSupported(charsetValue)) {
                     throw new IllegalCharsetNameException("The character set value (" + charsetValue + ") is not supported. You may set the character set to one of this values: " + String.join(", ", Charset.availableCharsets().keySet()));
                 }
-                return targetClass.cast(Charset.forName(charsetValue));
-
-            }
+                return Charset.forName(charsetValue);
+            };
+        }
 
-            /*
-              Media Type
-             */
-            if (targetClass == MediaType.class) {
+        /*
+          Media Type
+         */
+        if (targetClass == MediaType.class) {
+            return sourceObject -> {
                 try {
-                    return targetClass.cast(MediaTypes.parse(sourceObject.toString()));
+                    return MediaTypes.parse(sourceObject.toString());
                 } catch (NullValueException e) {
                     return null;
                 }
-            }
+            };
+        }
 
 
-            /*
-              If we are here, we have not yet a
-              transformation,
-              we try to cast it directly
-             */
+        /*
+          If we are here, we have not yet a
+          transformation,
+          we try to cast it directly
+         */
+        return sourceObject -> {
             try {
                 return targetClass.cast(sourceObject);
             } catch (ClassCastException e) {
-                throw new CastException("We couldn't cast the value (" + sourceObject + ") with the class (" + sourceObjectClass.getSimpleName() + ") to the class (" + targetClass.getSimpleName() + ")");
+                throw new CastException("We couldn't cast the value (" + sourceObject + ") with the class (" + sourceClass.getSimpleName() + ") to the class (" + targetClass.getSimpleName() + ")");
             }
-
-        } catch (IllegalCharsetNameException | ClassCastException e) {
-            throw new CastException(e.getMessage(), e);
-        }
+        };
 
     }
 
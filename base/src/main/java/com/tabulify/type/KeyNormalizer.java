@@ -4,8 +4,10 @@ import com.tabulify.exception.CastException;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -20,6 +22,23 @@ public class KeyNormalizer implements Comparable<KeyNormalizer>, KeyInterface {
   public static final String UNDERSCORE = "_";
   public static final String HYPHEN = "-";
 
+  /**
+   * The separator of the parts in the {@link #normalizedKey}
+   * (a character that is not in a part built from a string)
+   */
+  private static final String NORMALIZED_KEY_SEPARATOR = "\u0000";
+
+  /**
+   * The maximum number of interned keys
+   */
+  private static final int INTERNED_MAX_SIZE = 4096;
+
+  /**
+   * The keys created from a string by string
+   * (ie a by-name cell access in a row loop does not parse and allocate the key on each call)
+   */
+  private static final Map<String, KeyNormalizer> INTERNED = new ConcurrentHashMap<>();
+
   public final String stringOrigin;
 
   /**
@@ -29,6 +48,13 @@ public class KeyNormalizer implements Comparable<KeyNormalizer>, KeyInterface {
   private final List<String> normalizedParts = new ArrayList<>();
   private final List<String> originalParts = new ArrayList<>();
 
+  /**
+   * The normalized parts in one string and its hash
+   * (computed once for the equality and the lookup in a map)
+   */
+  private final String normalizedKey;
+  private final int hash;
+
 
   /**
    * @param builder - the string to normalize
@@ -51,6 +77,11 @@ public class KeyNormalizer implements Comparable<KeyNormalizer>, KeyInterface {
     } else {
       throw new CastException("The original parts are empty. A string or a collection should be provided.");
     }
+    this.normalizedKey = String.join(NORMALIZED_KEY_SEPARATOR, this.normalizedParts);
+    /*
+     * Same value as the hash of the parts list (the iteration order of the maps keyed by a name stays the same)
+     */
+    this.hash = this.normalizedParts.hashCode();
 
 
   }
@@ -121,18 +152,17 @@ public class KeyNormalizer implements Comparable<KeyNormalizer>, KeyInterface {
     if (key instanceof KeyNormalizer) {
       return (KeyNormalizer) key;
     }
-    KeyNormalizerBuilder keyBuilder = KeyNormalizer.builder();
     if (key instanceof String) {
-      return keyBuilder.setString((String) key).build();
+      return createFromString((String) key);
     }
     if (key instanceof StringBuilder) {
-      return keyBuilder.setString(((StringBuilder) key).toString()).build();
+      return createFromString(key.toString());
     }
     if (key instanceof Enum) {
-      return keyBuilder.setEnum((Enum<?>) key).build();
+      return createFromString(((Enum<?>) key).name());
     }
     if (key instanceof Number) {
-      return keyBuilder.setString(key.toString()).build();
+      return createFromString(key.toString());
     }
     if (key instanceof KeyInterface) {
       return ((KeyInterface) key).toKeyNormalizer();
@@ -142,7 +172,7 @@ public class KeyNormalizer implements Comparable<KeyNormalizer>, KeyInterface {
      */
     if (key instanceof Collection) {
       Collection<String> castedKey = Casts.castToCollection(key, String.class);
-      return keyBuilder.setOriginalParts(castedKey).build();
+      return KeyNormalizer.builder().setOriginalParts(castedKey).build();
     }
     /**
      * Note: simpleName does work with inner class
@@ -153,8 +183,28 @@ public class KeyNormalizer implements Comparable<KeyNormalizer>, KeyInterface {
 
   }
 
+  /**
+   * @param key - the string key
+   * @return the interned key if any, otherwise a new key that is interned
+   */
+  private static KeyNormalizer createFromString(String key) throws CastException {
+    KeyNormalizer keyNormalizer = INTERNED.get(key);
+    if (keyNormalizer != null) {
+      return keyNormalizer;
+    }
+    keyNormalizer = KeyNormalizer.builder().setString(key).build();
+    if (INTERNED.size() >= INTERNED_MAX_SIZE) {
+      INTERNED.clear();
+    }
+    INTERNED.put(key, keyNormalizer);
+    return keyNormalizer;
+  }
+
+  /**
+   * @return the parts (not modifiable as a key may be shared)
+   */
   public List<String> getOriginalParts() {
-    return originalParts;
+    return Collections.unmodifiableList(originalParts);
   }
 
   public static KeyNormalizerBuilder builder() {
@@ -369,14 +419,15 @@ public class KeyNormalizer implements Comparable<KeyNormalizer>, KeyInterface {
 
   @Override
   public boolean equals(Object o) {
+    if (this == o) return true;
     if (o == null || getClass() != o.getClass()) return false;
     KeyNormalizer that = (KeyNormalizer) o;
-    return Objects.equals(this.normalizedParts, that.normalizedParts);
+    return this.hash == that.hash && this.normalizedKey.equals(that.normalizedKey);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hashCode(this.normalizedParts);
+    return this.hash;
   }
 
   /**
@@ -443,7 +494,7 @@ public class KeyNormalizer implements Comparable<KeyNormalizer>, KeyInterface {
    * @return the words, parts of the name in lowercase to implement your own case
    */
   public List<String> getNormalizedParts() {
-    return normalizedParts;
+    return Collections.unmodifiableList(normalizedParts);
   }
 
   @Override
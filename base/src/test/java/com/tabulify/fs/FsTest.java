@@ -8,6 +8,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.List;
 
@@ -97,4 +98,19 @@ public class FsTest {
 
     }
 
+    @Test
+    public void transferTest() throws IOException {
+
+        Path source = Fs.createTempFileWithContent("line2\nline3\n");
+        Path target = Fs.createTempFileWithContent("line1\n");
+
+        long transferred = Fs.transfer(source, target, StandardOpenOption.APPEND);
+        Assertions.assertEquals(12, transferred);
+        Assertions.assertEquals("line1\nline2\nline3\n", Fs.readString(target), "The source was appended");
+
+        Fs.overwrite(source, target);
+        Assertions.assertEquals("line2\nline3\n", Fs.readString(target), "The target was overwritten");
+
+    }
+
 }
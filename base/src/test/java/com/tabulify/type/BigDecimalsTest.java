@@ -0,0 +1,19 @@
+package com.tabulify.type;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+public class BigDecimalsTest {
+
+  @Test
+  public void fractionIsKept() {
+    Assert.assertEquals("string", new BigDecimal("12.50"), BigDecimals.createFromObject("12.50").toBigDecimal());
+    Assert.assertEquals("string with grouping", 0, new BigDecimal("1234.5").compareTo(BigDecimals.createFromObject("1,234.5").toBigDecimal()));
+    Assert.assertEquals("float", new BigDecimal("1.01"), BigDecimals.createFromObject(1.01f).toBigDecimal());
+    Assert.assertEquals("big integer", new BigDecimal("123456789012345678901234567890"), BigDecimals.createFromObject(new BigInteger("123456789012345678901234567890")).toBigDecimal());
+  }
+
+}
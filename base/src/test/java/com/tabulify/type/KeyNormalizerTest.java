@@ -5,6 +5,8 @@ import com.tabulify.exception.CastException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 public class KeyNormalizerTest {
 
   @Test
@@ -39,4 +41,18 @@ public class KeyNormalizerTest {
 
   }
 
+  @Test
+  public void testInternedAndHash() throws CastException {
+
+    Assertions.assertSame(KeyNormalizer.create("hallo foo bar"), KeyNormalizer.create("hallo foo bar"));
+
+    KeyNormalizer fromString = KeyNormalizer.create("hallo_foo_bar");
+    KeyNormalizer fromParts = KeyNormalizer.create(List.of("Hallo", "Foo", "Bar"));
+    Assertions.assertEquals(fromString, fromParts);
+    Assertions.assertEquals(fromString.hashCode(), fromParts.hashCode());
+
+    Assertions.assertNotEquals(KeyNormalizer.create(List.of("hallo_foo", "bar")), fromParts, "The parts are not joined with a separator of a part");
+
+  }
+
 }
@@ -0,0 +1,146 @@
+package com.tabulify.benchmark;
+
+import com.tabulify.Tabular;
+import com.tabulify.memory.MemoryDataPathType;
+import com.tabulify.memory.queue.MemoryQueueDataPath;
+import com.tabulify.memory.queue.MemoryQueueSelectStream;
+import com.tabulify.model.SqlDataTypeAnsi;
+import com.tabulify.spi.Tabulars;
+import com.tabulify.stream.InsertStream;
+import com.tabulify.transfer.TransferBufferHandOff;
+import com.tabulify.transfer.TransferPropertiesCross;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Compare the {@link TransferBufferHandOff record and batch hand-off}
+ * between one producer and multiple consumers through the {@link MemoryQueueDataPath buffer}
+ * of a multi-threaded cross transfer.
+ * <p>
+ * The score is the time by record.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BufferHandOffBenchmark {
+
+  static final int ROWS = 1_000_000;
+
+  @Param({"record", "batch"})
+  public String handOff;
+
+  @Param({"4"})
+  public int consumerCount;
+
+  private Tabular tabular;
+  private ExecutorService consumerExecutor;
+  private MemoryQueueDataPath buffer;
+  /**
+   * The same row is sent to measure only the hand-off
+   */
+  private final List<Object> row = List.of(1, "name", 2.0);
+
+  @Setup(Level.Trial)
+  public void setUp() {
+
+    tabular = Tabular.tabularWithoutConfigurationFile();
+    consumerExecutor = Executors.newFixedThreadPool(consumerCount);
+
+    int bufferBatchSize = 1;
+    if (TransferBufferHandOff.valueOf(handOff.toUpperCase()) == TransferBufferHandOff.BATCH) {
+      bufferBatchSize = TransferPropertiesCross.DEFAULT_BATCH_SIZE;
+    }
+    buffer = (MemoryQueueDataPath) ((MemoryQueueDataPath) tabular.getMemoryConnection()
+      .getTypedDataPath(MemoryDataPathType.QUEUE, "buffer"))
+      .setCapacity(2 * TransferPropertiesCross.DEFAULT_FETCH_SIZE)
+      .setBatchSize(bufferBatchSize)
+      .getOrCreateRelationDef()
+      .addColumn("id", SqlDataTypeAnsi.INTEGER)
+      .addColumn("name", SqlDataTypeAnsi.CHARACTER_VARYING)
+      .addColumn("amount", SqlDataTypeAnsi.DOUBLE_PRECISION)
+      .getDataPath();
+
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    consumerExecutor.shutdownNow();
+    tabular.close();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROWS)
+  public long handOff() throws Exception {
+
+    Tabulars.create(buffer);
+    AtomicBoolean producerWorkIsDone = new AtomicBoolean(false);
+
+    List<Future<Long>> consumers = new ArrayList<>();
+    for (int i = 0; i < consumerCount; i++) {
+      consumers.add(consumerExecutor.submit(() -> consume(producerWorkIsDone)));
+    }
+
+    try (InsertStream insertStream = buffer.getInsertStream()) {
+      for (int i = 0; i < ROWS; i++) {
+        insertStream.insert(row);
+      }
+    }
+    producerWorkIsDone.set(true);
+
+    long consumed = 0;
+    for (Future<Long> consumer : consumers) {
+      consumed += consumer.get();
+    }
+    if (consumed != ROWS) {
+      throw new IllegalStateException("The consumers have received (" + consumed + ") rows, not (" + ROWS + ")");
+    }
+    return consumed;
+
+  }
+
+  /**
+   * A consumer as in the transfer consumer worker without the target
+   */
+  private long consume(AtomicBoolean producerWorkIsDone) {
+    long rowCount = 0;
+    int timeOut = 10;
+    try (MemoryQueueSelectStream selectStream = (MemoryQueueSelectStream) buffer.getSelectStream()) {
+      if (buffer.getBatchSize() > 1) {
+        while (true) {
+          boolean producerIsDone = producerWorkIsDone.get();
+          List<List<Object>> batch;
+          while ((batch = selectStream.nextBatch(timeOut, TimeUnit.MILLISECONDS)) != null) {
+            rowCount += batch.size();
+          }
+          if (producerIsDone) {
+            break;
+          }
+        }
+      } else {
+        while (true) {
+          boolean producerIsDone = producerWorkIsDone.get();
+          while (selectStream.next(timeOut, TimeUnit.MILLISECONDS)) {
+            if (selectStream.getObjects() != null) {
+              rowCount++;
+            }
+          }
+          if (producerIsDone) {
+            break;
+          }
+        }
+      }
+    }
+    return rowCount;
+  }
+
+}
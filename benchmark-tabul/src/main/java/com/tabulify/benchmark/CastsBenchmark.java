@@ -0,0 +1,75 @@
+package com.tabulify.benchmark;
+
+import com.tabulify.exception.CastException;
+import com.tabulify.type.Casts;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure the {@link Casts#cast(Object, Class) cast} of a string cell
+ * (ie the conversion done by a select stream of a text file or by a connection for a sql object)
+ * <p>
+ * The score is the time by cell
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+public class CastsBenchmark {
+
+  static final int CELLS = 1024;
+
+  @Param({"integer", "long", "bigdecimal", "date", "timestamp"})
+  public String target;
+
+  private Class<?> targetClass;
+  private final String[] cells = new String[CELLS];
+
+  @Setup(Level.Trial)
+  public void setUp() {
+
+    for (int i = 0; i < CELLS; i++) {
+      switch (target) {
+        case "integer":
+          targetClass = Integer.class;
+          cells[i] = String.valueOf(i * 31);
+          break;
+        case "long":
+          targetClass = Long.class;
+          cells[i] = String.valueOf(i * 7_000_000_031L);
+          break;
+        case "bigdecimal":
+          targetClass = BigDecimal.class;
+          cells[i] = i + "." + (i % 100);
+          break;
+        case "date":
+          targetClass = java.sql.Date.class;
+          cells[i] = String.format("20%02d-%02d-%02d", i % 30, i % 12 + 1, i % 28 + 1);
+          break;
+        case "timestamp":
+          targetClass = java.sql.Timestamp.class;
+          cells[i] = String.format("20%02d-%02d-%02d %02d:%02d:%02d", i % 30, i % 12 + 1, i % 28 + 1, i % 24, i % 60, (i * 7) % 60);
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown target (" + target + ")");
+      }
+    }
+
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(CELLS)
+  public void cast(Blackhole blackhole) throws CastException {
+
+    for (String cell : cells) {
+      blackhole.consume(Casts.cast(cell, targetClass));
+    }
+
+  }
+
+}
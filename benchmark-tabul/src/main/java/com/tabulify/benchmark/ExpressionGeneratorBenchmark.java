@@ -0,0 +1,72 @@
+package com.tabulify.benchmark;
+
+import com.tabulify.Tabular;
+import com.tabulify.gen.GenDataPath;
+import com.tabulify.gen.GenRelationDef;
+import com.tabulify.gen.GeneratorMediaType;
+import com.tabulify.model.SqlDataTypeAnsi;
+import com.tabulify.stream.SelectStream;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure the generation of records with {@link com.tabulify.gen.generator.ExpressionGenerator expression} columns
+ * (a number, a string and a date expression)
+ * <p>
+ * The score is the time by record (ie 1 / rows by second)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+public class ExpressionGeneratorBenchmark {
+
+  static final int ROWS = 1_000_000;
+
+  private Tabular tabular;
+  private GenDataPath genDataPath;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+
+    tabular = Tabular.tabularWithoutConfigurationFile();
+    genDataPath = (GenDataPath) tabular.getMemoryConnection().getDataPath("expression", GeneratorMediaType.FS_GENERATOR_TYPE);
+    genDataPath.setMaxRecordCount((long) ROWS);
+    GenRelationDef relationDef = genDataPath.getOrCreateRelationDef()
+      .addColumn("id", SqlDataTypeAnsi.INTEGER)
+      .addColumn("day", SqlDataTypeAnsi.DATE)
+      .addColumn("amount", SqlDataTypeAnsi.DOUBLE_PRECISION)
+      .addColumn("label", SqlDataTypeAnsi.CHARACTER_VARYING, 50)
+      .addColumn("year", SqlDataTypeAnsi.INTEGER);
+    relationDef.getColumnDef("id").addSequenceGenerator();
+    relationDef.getColumnDef("day", Date.class).addHistogramGenerator(Date.valueOf("2024-01-31"), Date.valueOf("2025-06-15"), Date.valueOf("2026-12-01"));
+    relationDef.getColumnDef("amount").addExpressionGenerator("id * 1.5", "id");
+    relationDef.getColumnDef("label").addExpressionGenerator("'label-' + id", "id");
+    relationDef.getColumnDef("year").addExpressionGenerator("day.getFullYear()", "day");
+
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    tabular.close();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROWS)
+  public long generate() {
+
+    long count = 0;
+    try (SelectStream selectStream = genDataPath.getSelectStream()) {
+      while (selectStream.next()) {
+        count++;
+      }
+    }
+    return count;
+
+  }
+
+}
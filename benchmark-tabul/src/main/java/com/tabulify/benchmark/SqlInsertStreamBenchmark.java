@@ -0,0 +1,95 @@
+package com.tabulify.benchmark;
+
+import com.tabulify.Tabular;
+import com.tabulify.connection.Connection;
+import com.tabulify.model.SqlDataTypeAnsi;
+import com.tabulify.spi.DataPath;
+import com.tabulify.spi.Tabulars;
+import com.tabulify.stream.InsertStream;
+import com.tabulify.transfer.TransferPropertiesSystem;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure the insertion of records with bind variables (ie prepared statement in batch)
+ * into an embedded SQLite table with the {@link com.tabulify.jdbc.SqlInsertStream sql insert stream}
+ * <p>
+ * The score is the time by record.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SqlInsertStreamBenchmark {
+
+  static final int ROWS = 100_000;
+
+  private Tabular tabular;
+  private Path databasePath;
+  private DataPath source;
+  private DataPath target;
+  private final List<List<Object>> rows = new ArrayList<>();
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+
+    tabular = Tabular.tabularWithoutConfigurationFile();
+    databasePath = Files.createTempFile("insert-benchmark", ".db");
+    Connection sqlite = tabular.createRuntimeConnection("jdbc:sqlite:///" + databasePath.toAbsolutePath().toString().replace("\\", "/"));
+
+    source = tabular.getMemoryConnection().getDataPath("source")
+      .getOrCreateRelationDef()
+      .addColumn("id", SqlDataTypeAnsi.INTEGER)
+      .addColumn("name", SqlDataTypeAnsi.CHARACTER_VARYING, 50)
+      .addColumn("amount", SqlDataTypeAnsi.DOUBLE_PRECISION)
+      .addColumn("created", SqlDataTypeAnsi.TIMESTAMP)
+      .getDataPath();
+    target = sqlite.getDataPath("target")
+      .getOrCreateRelationDef()
+      .mergeStruct(source.getRelationDef())
+      .getDataPath();
+
+    Timestamp created = new Timestamp(System.currentTimeMillis());
+    for (int i = 0; i < ROWS; i++) {
+      rows.add(List.of(i, "name" + i, i * 1.5, created));
+    }
+
+  }
+
+  @Setup(Level.Invocation)
+  public void createTarget() {
+    Tabulars.dropIfExists(target);
+    Tabulars.create(target);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    tabular.close();
+    Files.deleteIfExists(databasePath);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROWS)
+  public Long insert() {
+
+    InsertStream insertStream = target.getInsertStream(source, TransferPropertiesSystem.INSERT_WITH_PARAMETERS.build());
+    try {
+      for (List<Object> row : rows) {
+        insertStream.insert(row);
+      }
+    } finally {
+      insertStream.close();
+    }
+    return insertStream.getInsertStreamListener().getRowCount();
+
+  }
+
+}
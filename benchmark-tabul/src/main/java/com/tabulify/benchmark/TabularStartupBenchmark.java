@@ -0,0 +1,75 @@
+package com.tabulify.benchmark;
+
+import com.tabulify.Tabular;
+import com.tabulify.Vault;
+import com.tabulify.crypto.CryptoSymmetricCipher;
+import com.tabulify.crypto.Protector;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure the construction of a {@link Tabular} against the size of its configuration vault
+ * (ie the number of connections with an encrypted password)
+ * <p>
+ * The score is the time by construction.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TabularStartupBenchmark {
+
+  static final String PASSPHRASE = "benchmark";
+
+  @Param({"1", "10", "80"})
+  public int connectionCount;
+
+  private Path homePath;
+  private Path confPath;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+
+    homePath = Files.createTempDirectory("startup-benchmark");
+    confPath = homePath.resolve("tabul.yml");
+
+    Protector protector = Protector.create(PASSPHRASE);
+    StringBuilder conf = new StringBuilder()
+      .append("kind: tabul\n")
+      .append("spec:\n")
+      .append("  connections:\n");
+    for (int i = 0; i < connectionCount; i++) {
+      String password = Vault.VAULT_PREFIX + protector.encrypt(CryptoSymmetricCipher.AES_CBC_PKCS5PADDING, "password" + i);
+      conf.append("    db").append(i).append(":\n")
+        .append("      uri: jdbc:sqlite:///").append(homePath.toAbsolutePath().toString().replace("\\", "/")).append("/db").append(i).append(".db\n")
+        .append("      user: user").append(i).append("\n")
+        .append("      password: ").append(password).append("\n");
+    }
+    Files.writeString(confPath, conf.toString());
+
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    Files.deleteIfExists(confPath);
+    Files.deleteIfExists(homePath);
+  }
+
+  @Benchmark
+  public Tabular startup() {
+
+    Tabular tabular = Tabular.builder()
+      .setPassphrase(PASSPHRASE)
+      .setConf(confPath)
+      .build();
+    tabular.close();
+    return tabular;
+
+  }
+
+}
@@ -13,6 +13,7 @@ import com.tabulify.gen.flow.fill.FillPipelineStep;
 import com.tabulify.spi.DataPath;
 import com.tabulify.spi.Tabulars;
 import com.tabulify.stream.PrinterPrintFormat;
+import com.tabulify.transfer.TransferBufferHandOff;
 import com.tabulify.transfer.TransferOperation;
 import com.tabulify.transfer.TransferPropertiesCross;
 import com.tabulify.transfer.TransferPropertiesSystem;
@@ -258,6 +259,8 @@ public class TabulDataTransferManager {
     Integer fetchSize = cliParser.getInteger(SOURCE_FETCH_SIZE_OPTION);
     Integer commitFrequency = cliParser.getInteger(TARGET_COMMIT_FREQUENCY_OPTION);
     int targetWorkerCount = cliParser.getInteger(TARGET_WORKER_OPTION);
+    int sourceWorkerCount = cliParser.getInteger(SOURCE_WORKER_OPTION);
+    int transferWorkerCount = cliParser.getInteger(TRANSFER_WORKER_OPTION);
     Integer bufferSize = cliParser.getInteger(BUFFER_SIZE_OPTION);
 
     if (bufferSize == null) {
@@ -265,9 +268,20 @@ public class TabulDataTransferManager {
       TabulLog.LOGGER_TABUL.info(BUFFER_SIZE_OPTION + " parameter NOT found. Using default : " + bufferSize);
     }
 
+    TransferBufferHandOff bufferHandOff;
+    String bufferHandOffString = cliParser.getString(BUFFER_HAND_OFF_OPTION);
+    try {
+      bufferHandOff = Casts.cast(bufferHandOffString, TransferBufferHandOff.class);
+    } catch (CastException e) {
+      throw IllegalArgumentExceptions.createForArgumentValue(bufferHandOffString, BUFFER_HAND_OFF_OPTION, TransferBufferHandOff.class, e);
+    }
+
     TransferPropertiesCross transferPropertiesCross = TransferPropertiesCross.create()
       .setBufferSize(bufferSize)
+      .setBufferHandOff(bufferHandOff)
       .setTargetWorkerCount(targetWorkerCount)
+      .setSourceWorkerCount(sourceWorkerCount)
+      .setTransferWorkerCount(transferWorkerCount)
       .setFetchSize(fetchSize)
       .setBatchSize(batchSize)
       .setCommitFrequency(commitFrequency);
@@ -162,7 +162,10 @@ public class TabulWords {
 
   // Cross DataStore Transfer options
   static final String TARGET_WORKER_OPTION = CliParser.PREFIX_LONG_OPTION + KeyNormalizer.createSafe(TransferPipelineStepArgument.TARGET_WORKER_COUNT).toCliLongOptionName();
+  static final String SOURCE_WORKER_OPTION = CliParser.PREFIX_LONG_OPTION + KeyNormalizer.createSafe(TransferPipelineStepArgument.SOURCE_WORKER_COUNT).toCliLongOptionName();
+  static final String TRANSFER_WORKER_OPTION = CliParser.PREFIX_LONG_OPTION + KeyNormalizer.createSafe(TransferPipelineStepArgument.TRANSFER_WORKER_COUNT).toCliLongOptionName();
   static final String BUFFER_SIZE_OPTION = CliParser.PREFIX_LONG_OPTION + KeyNormalizer.createSafe(TransferPipelineStepArgument.BUFFER_SIZE).toCliLongOptionName();
+  static final String BUFFER_HAND_OFF_OPTION = CliParser.PREFIX_LONG_OPTION + KeyNormalizer.createSafe(TransferPipelineStepArgument.BUFFER_HAND_OFF).toCliLongOptionName();
 
   static final String WITH_PARAMETERS = CliParser.PREFIX_LONG_OPTION + KeyNormalizer.createSafe(TransferPipelineStepArgument.WITH_PARAMETERS).toCliLongOptionName();
   static final String TARGET_COMMIT_FREQUENCY_OPTION = CliParser.PREFIX_LONG_OPTION + KeyNormalizer.createSafe(TransferPipelineStepArgument.TARGET_COMMIT_FREQUENCY).toCliLongOptionName();
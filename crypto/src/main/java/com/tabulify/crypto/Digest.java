@@ -4,11 +4,11 @@ package com.tabulify.crypto;
 import com.tabulify.crypto.util.HexaUtil;
 
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
-import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
@@ -39,6 +39,11 @@ public class Digest {
         }
     }
 
+    /**
+     * The size of the read buffer of a file
+     */
+    private static final int PATH_BUFFER_SIZE = 1024 * 1024;
+
     private final byte[] bytes;
 
     public Digest(byte[] bytes) {
@@ -60,21 +65,21 @@ public class Digest {
         return createFromBytes(algorithm, String.join("", s).getBytes());
     }
 
+    /**
+     * The digest is computed on the raw bytes of the file
+     * read through a direct buffer of {@link #PATH_BUFFER_SIZE}
+     */
     public static Digest createFromPath(Algorithm algorithm, Path path) throws NoSuchFileException {
-        try {
+        try (SeekableByteChannel channel = Files.newByteChannel(path)) {
 
             MessageDigest digest = MessageDigest.getInstance(algorithm.name);
 
-            byte[] buffer = new byte[512];
-            InputStream in = Files.newInputStream(path);
-            DigestInputStream din = new DigestInputStream(in, digest);
-            int rc = din.read(buffer);
-            while (rc != -1) {
-                // rc contain the number of bytes read in this operation.
-                // next read
-                rc = din.read(buffer);
+            ByteBuffer buffer = ByteBuffer.allocateDirect(PATH_BUFFER_SIZE);
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
             }
-            din.close();
             return new Digest(digest.digest());
         } catch (NoSuchAlgorithmException | IOException e) {
             if (e instanceof NoSuchFileException) {
@@ -1,17 +1,47 @@
 package com.tabulify.crypto;
 
+import com.tabulify.crypto.util.Base64Util;
+
 import javax.crypto.SecretKey;
 import javax.crypto.SecretKeyFactory;
 import javax.crypto.spec.PBEKeySpec;
 import java.security.NoSuchAlgorithmException;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.KeySpec;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * {@link SecretKeyFactory} wrapper
+ * <p>
+ * The derivation of a key is slow by design (ie {@link CryptoSymmetricCipher#getKeyIterations() thousands of iterations}),
+ * the last derived keys are then cached by cipher, salt and passphrase.
+ * <p>
+ * The salt is random by encrypted value, the cache helps then only
+ * the repeated decryption of the same ciphertext (not of two values encrypted with the same passphrase).
  */
 public class Passphrase {
 
+    /**
+     * The maximum number of derived keys kept in the cache
+     */
+    static final int KEY_CACHE_MAX_SIZE = 64;
+
+    /**
+     * The derived keys by {@link #getKeyCacheKey(byte[]) cache key}
+     * in access order, the least recently used key is evicted (and wiped) when the cache is full
+     */
+    private static final Map<String, byte[]> KEY_CACHE = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+            if (size() > KEY_CACHE_MAX_SIZE) {
+                Arrays.fill(eldest.getValue(), (byte) 0);
+                return true;
+            }
+            return false;
+        }
+    };
 
     private final String passphrase;
     private final CryptoSymmetricCipher cryptoTransformation;
@@ -29,11 +59,49 @@ public class Passphrase {
     }
 
 
+    /**
+     * @param salt - the salt
+     * @return the derived key (a copy of the cached key)
+     */
     public byte[] toKey(byte[] salt) {
-        try {
-            if (salt == null) {
-                throw new RuntimeException("The salt cannot be null");
+        if (salt == null) {
+            throw new RuntimeException("The salt cannot be null");
+        }
+        String keyCacheKey = getKeyCacheKey(salt);
+        synchronized (KEY_CACHE) {
+            byte[] key = KEY_CACHE.get(keyCacheKey);
+            if (key != null) {
+                return key.clone();
             }
+        }
+        // Derived outside the lock, a derivation should not block the other passphrases
+        byte[] key = deriveKey(salt);
+        synchronized (KEY_CACHE) {
+            KEY_CACHE.put(keyCacheKey, key);
+        }
+        return key.clone();
+    }
+
+    /**
+     * @return the number of cached keys
+     */
+    static int getKeyCacheSize() {
+        synchronized (KEY_CACHE) {
+            return KEY_CACHE.size();
+        }
+    }
+
+    /**
+     * The passphrase is in the key as a digest and not in clear
+     */
+    private String getKeyCacheKey(byte[] salt) {
+        return this.cryptoTransformation.getTransformationId() + ">" +
+                Base64Util.toBase64(salt) + ">" +
+                Base64Util.toBase64(Digest.createFromString(Digest.Algorithm.SHA256, passphrase).getHashBytes());
+    }
+
+    private byte[] deriveKey(byte[] salt) {
+        try {
 
             SecretKeyFactory secretKeyFactory = SecretKeyFactory.getInstance(this.cryptoTransformation.getKeyAlgorithm());
 
@@ -0,0 +1,59 @@
+package com.tabulify.crypto;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Random;
+
+public class DigestTest {
+
+
+  /**
+   * The digest of a file read by buffer is the digest of its bytes
+   */
+  @Test
+  public void createFromPath() throws IOException {
+
+    // more than 2 read buffers
+    byte[] bytes = new byte[2 * 1024 * 1024 + 123];
+    new Random(42).nextBytes(bytes);
+    Path path = Files.createTempFile("digest", ".bin");
+    try {
+      Files.write(path, bytes);
+      for (Digest.Algorithm algorithm : Digest.Algorithm.values()) {
+        Assert.assertEquals("The digest (" + algorithm + ") should be the digest of the bytes",
+          Digest.createFromBytes(algorithm, bytes).getHashHex(),
+          Digest.createFromPath(algorithm, path).getHashHex());
+      }
+    } finally {
+      Files.deleteIfExists(path);
+    }
+
+  }
+
+  @Test
+  public void createFromEmptyPath() throws IOException {
+
+    Path path = Files.createTempFile("digest", ".bin");
+    try {
+      Assert.assertEquals("The md5 of nothing", "d41d8cd98f00b204e9800998ecf8427e", Digest.createFromPath(Digest.Algorithm.MD5, path).getHashHex());
+    } finally {
+      Files.deleteIfExists(path);
+    }
+
+  }
+
+  @Test(expected = NoSuchFileException.class)
+  public void createFromNonExistingPath() throws IOException {
+
+    Path path = Files.createTempFile("digest", ".bin");
+    Files.delete(path);
+    Digest.createFromPath(Digest.Algorithm.MD5, path);
+
+  }
+
+}
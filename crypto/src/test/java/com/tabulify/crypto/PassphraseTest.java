@@ -3,6 +3,8 @@ package com.tabulify.crypto;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.Arrays;
+
 public class PassphraseTest {
 
 
@@ -16,4 +18,35 @@ public class PassphraseTest {
 
   }
 
+  @Test
+  public void passphraseKeyCache() {
+
+    CryptoSymmetricCipher aesCbcPkcs5padding = CryptoSymmetricCipher.AES_CBC_PKCS5PADDING;
+
+    byte[] key = Passphrase.create(aesCbcPkcs5padding, "cache").toKey("salt".getBytes());
+    // the cached key is a copy
+    byte[] keyCopy = key.clone();
+    key[0] = (byte) (key[0] + 1);
+    byte[] cachedKey = Passphrase.create(aesCbcPkcs5padding, "cache").toKey("salt".getBytes());
+    Assert.assertArrayEquals("The cached key should be the same", keyCopy, cachedKey);
+
+    byte[] otherPassphraseKey = Passphrase.create(aesCbcPkcs5padding, "cache2").toKey("salt".getBytes());
+    Assert.assertFalse("The key of another passphrase should not be the same", Arrays.equals(cachedKey, otherPassphraseKey));
+    byte[] otherSaltKey = Passphrase.create(aesCbcPkcs5padding, "cache").toKey("salt2".getBytes());
+    Assert.assertFalse("The key of another salt should not be the same", Arrays.equals(cachedKey, otherSaltKey));
+
+  }
+
+  @Test
+  public void passphraseKeyCacheBounded() {
+
+    CryptoSymmetricCipher aesCbcPkcs5padding = CryptoSymmetricCipher.AES_CBC_PKCS5PADDING;
+
+    for (int i = 0; i <= Passphrase.KEY_CACHE_MAX_SIZE; i++) {
+      Passphrase.create(aesCbcPkcs5padding, "bounded").toKey(("salt" + i).getBytes());
+    }
+    Assert.assertEquals("The cache should be bounded", Passphrase.KEY_CACHE_MAX_SIZE, Passphrase.getKeyCacheSize());
+
+  }
+
 }
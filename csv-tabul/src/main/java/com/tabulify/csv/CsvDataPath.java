@@ -6,26 +6,38 @@ import com.tabulify.fs.FsConnection;
 import com.tabulify.fs.FsDataPath;
 import com.tabulify.fs.FsLog;
 import com.tabulify.fs.textfile.FsTextDataPath;
+import com.tabulify.fs.textfile.FsTextRecordCounter;
+import com.tabulify.fs.textfile.FsTextTailSeeker;
 import com.tabulify.model.RelationDef;
 import com.tabulify.model.RelationDefDefault;
 import com.tabulify.spi.DataPath;
 import com.tabulify.stream.InsertStream;
 import com.tabulify.stream.SelectStream;
+import com.tabulify.transfer.TransferCsvCopyTarget;
 import com.tabulify.transfer.TransferPropertiesSystem;
 import com.tabulify.exception.InternalException;
 import com.tabulify.exception.NoVariableException;
 import com.tabulify.type.Casts;
 import com.tabulify.type.KeyNormalizer;
 import com.tabulify.type.MediaTypes;
+import com.tabulify.type.TailQueue;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 
 /**
  * Implementation of the CSV format
@@ -37,7 +49,7 @@ import java.util.Iterator;
  * - <a href="https://www.w3.org/TR/2015/REC-tabular-data-model-20151217/#parsing">W3c Parsing</a><br>
  * - <a href="https://cloud.google.com/bigquery/docs/loading-data-cloud-storage-csv">BigQuery</a><br>
  */
-public class CsvDataPath extends FsTextDataPath {
+public class CsvDataPath extends FsTextDataPath implements TransferCsvCopyTarget {
 
 
     public CsvDataPath(FsConnection fsConnection, Path path) {
@@ -503,8 +515,100 @@ public class CsvDataPath extends FsTextDataPath {
         return CsvInsertStream.of(this);
     }
 
+    /**
+     * The records are counted at the byte level by the {@link CsvRecordCounter}
+     * if the character set and the format characters permit it, otherwise with a select stream
+     */
+    @Override
+    public Long getCount() {
+        Path path = this.getAbsoluteNioPath();
+        if (FsTextRecordCounter.isMappable(path)
+                && FsTextRecordCounter.isByteCountable(this.getCharset())
+                && CsvRecordCounter.isByteCountable(this)) {
+            return this.getConnection().getCountCache().getOrCount(path, CsvRecordCounter.getVariant(this), p -> CsvRecordCounter.count(this, p));
+        }
+        return super.getCount();
+    }
+
+    /**
+     * The start of the last lines is {@link FsTextTailSeeker#seekCsvLines(Path, long, int) seeked} from the end of the file
+     * if the character set and the format characters permit it
+     * and if the quote is escaped by doubling (an escape character is not seen backwards).
+     * <p>
+     * Because a comment or an empty line may not be a record,
+     * the seek is done again with more lines until there is enough records or the header is reached.
+     */
+    @Override
+    public List<List<?>> getTailRecords(int limit) {
+
+        Path path = this.getAbsoluteNioPath();
+        Character quoteCharacter = this.getQuoteCharacter();
+        Character escapeCharacter = this.getEscapeCharacter();
+        if (!FsTextRecordCounter.isMappable(path)
+                || !FsTextRecordCounter.isByteCountable(this.getCharset())
+                || !CsvRecordCounter.isByteCountable(this)
+                || !(escapeCharacter == null || escapeCharacter.equals(quoteCharacter))) {
+            return super.getTailRecords(limit);
+        }
+
+        int quote = quoteCharacter == null ? FsTextTailSeeker.NONE : quoteCharacter;
+        long headerEnd = CsvRecordCounter.seekHeaderEnd(this, path);
+        CSVFormat csvFormat = this.getCsvFormat();
+        for (long lineCount = limit; ; lineCount *= 2) {
+
+            long startPosition = Math.max(FsTextTailSeeker.seekCsvLines(path, lineCount, quote), headerEnd);
+            TailQueue<List<?>> records = new TailQueue<>(limit);
+            try (
+                    FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+                    CSVParser csvParser = new CSVParser(
+                            new BufferedReader(new InputStreamReader(Channels.newInputStream(channel.position(startPosition)), this.getCharset())),
+                            csvFormat)
+            ) {
+                for (CSVRecord csvRecord : csvParser) {
+                    // Empty line
+                    if (csvRecord.size() == 1 && csvRecord.get(0).isEmpty() && this.isIgnoreEmptyLine()) {
+                        continue;
+                    }
+                    List<String> values = new ArrayList<>();
+                    csvRecord.forEach(values::add);
+                    records.add(values);
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("Error while reading the end of the file (" + path + "). Error: " + e.getMessage(), e);
+            }
+            if (records.size() == limit || startPosition == headerEnd) {
+                return new ArrayList<>(records);
+            }
+
+        }
+
+    }
+
     @Override
     public boolean hasHeaderInContent() {
         return this.getHeaderRowId() != 0;
     }
+
+    /**
+     * The record separator is the one of the {@link CsvInsertStream}
+     * (ie the system line separator if not set)
+     */
+    @Override
+    public boolean isCsvCopyFormat(char delimiter, char quote, String recordSeparator, Charset charset) {
+        Character escapeCharacter = this.getEscapeCharacter();
+        String endOfRecord = System.lineSeparator();
+        if (getEndOfRecords() != null) {
+            endOfRecord = getFirstEndOfRecords();
+        }
+        return this.getDelimiterCharacter().equals(delimiter)
+                && Character.valueOf(quote).equals(this.getQuoteCharacter())
+                && (escapeCharacter == null || escapeCharacter.equals(quote))
+                && endOfRecord.equals(recordSeparator)
+                && this.getCharset().equals(charset);
+    }
+
+    @Override
+    public OutputStream newCsvCopyOutputStream() throws IOException {
+        return Files.newOutputStream(this.getAbsoluteNioPath(), StandardOpenOption.APPEND);
+    }
 }
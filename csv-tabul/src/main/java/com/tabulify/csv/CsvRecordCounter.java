@@ -0,0 +1,281 @@
+package com.tabulify.csv;
+
+import com.tabulify.fs.textfile.FsTextRecordCounter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Count the records of a CSV file at the byte level
+ * with the same rules as the {@link CsvSelectStream}
+ * <p>
+ * * An end of line in a quoted cell is not an end of record
+ * * A comment line is not a record
+ * * An empty line is not a record if {@link CsvDataPath#isIgnoreEmptyLine() ignored}
+ * * The header rows are not records
+ * <p>
+ * Because the state of a byte (quoted or not) depends on all the previous bytes,
+ * the chunks are scanned sequentially.
+ */
+class CsvRecordCounter {
+
+  /**
+   * The size of a block read to pass the header
+   */
+  private static final int HEADER_BLOCK_SIZE = 64 * 1024;
+
+  private static final byte LF = '\n';
+  private static final byte CR = '\r';
+
+  /**
+   * A value that is not a byte (no character)
+   */
+  private static final int NONE = Integer.MIN_VALUE;
+
+  private final int delimiter;
+  private final int quote;
+  private final int escape;
+  private final int comment;
+  private final boolean ignoreEmptyLine;
+  private final int headerRowId;
+
+  /**
+   * The lexer state
+   */
+  private boolean lineStart = true;
+  private boolean cellStart = true;
+  private boolean quoted = false;
+  private boolean quoteInQuoted = false;
+  private boolean escaped = false;
+  private boolean commentLine = false;
+  private boolean carriageReturn = false;
+
+  /**
+   * The current record state
+   */
+  private boolean recordStarted = false;
+  private boolean recordEmpty = true;
+
+  /**
+   * The header and record counters
+   */
+  private long lineNumber = 0;
+  private boolean headerPassed;
+  private long count = 0;
+
+  /**
+   * The position of the scanned chunk in the file
+   */
+  private long chunkPosition = 0;
+  /**
+   * The position of the first byte after the header rows (-1 if not yet passed)
+   */
+  private long headerEnd = -1;
+
+  private CsvRecordCounter(CsvDataPath csvDataPath) {
+    this.delimiter = csvDataPath.getDelimiterCharacter();
+    Character quoteCharacter = csvDataPath.getQuoteCharacter();
+    this.quote = quoteCharacter == null ? NONE : quoteCharacter;
+    Character escapeCharacter = csvDataPath.getEscapeCharacter();
+    // as in the csv format, an escape equals to the quote is not set
+    this.escape = escapeCharacter == null || escapeCharacter.equals(quoteCharacter) ? NONE : escapeCharacter;
+    this.comment = csvDataPath.getCommentCharacter();
+    this.ignoreEmptyLine = csvDataPath.isIgnoreEmptyLine();
+    this.headerRowId = csvDataPath.getHeaderRowId();
+    this.headerPassed = this.headerRowId <= 0;
+  }
+
+  /**
+   * @return true if the format characters are on one byte
+   */
+  static boolean isByteCountable(CsvDataPath csvDataPath) {
+    Character quoteCharacter = csvDataPath.getQuoteCharacter();
+    Character escapeCharacter = csvDataPath.getEscapeCharacter();
+    return csvDataPath.getDelimiterCharacter() < 128
+      && csvDataPath.getCommentCharacter() < 128
+      && (quoteCharacter == null || quoteCharacter < 128)
+      && (escapeCharacter == null || escapeCharacter < 128);
+  }
+
+  /**
+   * @return the variant of the count in the {@link com.tabulify.fs.FsCountCache#getOrCount(Path, String, java.util.function.ToLongFunction) cache}
+   */
+  static String getVariant(CsvDataPath csvDataPath) {
+    return "csv:" + csvDataPath.getDelimiterCharacter()
+      + "|" + csvDataPath.getQuoteCharacter()
+      + "|" + csvDataPath.getEscapeCharacter()
+      + "|" + csvDataPath.getCommentCharacter()
+      + "|" + csvDataPath.isIgnoreEmptyLine()
+      + "|" + csvDataPath.getHeaderRowId();
+  }
+
+  static long count(CsvDataPath csvDataPath, Path path) {
+    CsvRecordCounter counter = new CsvRecordCounter(csvDataPath);
+    FsTextRecordCounter.forEachChunk(path, counter::scan);
+    return counter.end();
+  }
+
+  /**
+   * @return the position of the first byte after the header rows, 0 if there is no header, the size of the file if there is only a header
+   */
+  static long seekHeaderEnd(CsvDataPath csvDataPath, Path path) {
+
+    CsvRecordCounter counter = new CsvRecordCounter(csvDataPath);
+    if (counter.headerPassed) {
+      return 0;
+    }
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      ByteBuffer buffer = ByteBuffer.allocate(HEADER_BLOCK_SIZE);
+      // a pending `\r` may be followed by a `\n` in the next block
+      while (counter.headerEnd < 0 || counter.carriageReturn) {
+        buffer.clear();
+        if (channel.read(buffer) == -1) {
+          return counter.headerEnd < 0 ? channel.size() : counter.headerEnd;
+        }
+        buffer.flip();
+        counter.scan(buffer);
+      }
+      return counter.headerEnd;
+    } catch (IOException e) {
+      throw new RuntimeException("Error while reading the header of the file (" + path + "). Error: " + e.getMessage(), e);
+    }
+
+  }
+
+  private void scan(ByteBuffer buffer) {
+
+    int limit = buffer.limit();
+    for (int i = 0; i < limit; i++) {
+
+      byte b = buffer.get(i);
+
+      /**
+       * `\r\n` is one end of line
+       */
+      if (carriageReturn) {
+        carriageReturn = false;
+        if (b == LF) {
+          if (headerEnd == chunkPosition + i) {
+            headerEnd++;
+          }
+          continue;
+        }
+      }
+
+      if (commentLine) {
+        if (b == LF || b == CR) {
+          commentLine = false;
+          lineStart = true;
+          carriageReturn = b == CR;
+        }
+        continue;
+      }
+
+      if (escaped) {
+        escaped = false;
+        recordEmpty = false;
+        continue;
+      }
+
+      if (quoted) {
+        if (quoteInQuoted) {
+          quoteInQuoted = false;
+          if (b == quote) {
+            // a double quote is a quote in the cell
+            recordEmpty = false;
+            continue;
+          }
+          // end of the quoted cell
+          quoted = false;
+        } else {
+          if (b == escape) {
+            escaped = true;
+          } else if (b == quote) {
+            quoteInQuoted = true;
+          } else {
+            recordEmpty = false;
+          }
+          continue;
+        }
+      }
+
+      if (b == LF || b == CR) {
+        endRecord();
+        if (headerPassed && headerEnd < 0) {
+          headerEnd = chunkPosition + i + 1;
+        }
+        carriageReturn = b == CR;
+        continue;
+      }
+
+      if (lineStart && b == comment) {
+        commentLine = true;
+        lineStart = false;
+        continue;
+      }
+      lineStart = false;
+      recordStarted = true;
+
+      if (b == delimiter) {
+        recordEmpty = false;
+        cellStart = true;
+        continue;
+      }
+      if (cellStart && b == quote) {
+        quoted = true;
+      } else if (b == escape) {
+        escaped = true;
+      } else {
+        recordEmpty = false;
+      }
+      cellStart = false;
+
+    }
+    chunkPosition += limit;
+
+  }
+
+  private void endRecord() {
+
+    lineStart = true;
+    cellStart = true;
+    boolean empty = recordEmpty;
+    recordStarted = false;
+    recordEmpty = true;
+
+    /**
+     * As in {@link CsvSelectStream#beforeFirst()},
+     * an ignored empty line increments the line number but does not end the header,
+     * the header ends with the first non-empty line whose line number reaches the header row id
+     */
+    if (!headerPassed) {
+      lineNumber++;
+      if (empty && ignoreEmptyLine) {
+        return;
+      }
+      if (lineNumber >= headerRowId) {
+        headerPassed = true;
+      }
+      return;
+    }
+    if (empty && ignoreEmptyLine) {
+      return;
+    }
+    count++;
+
+  }
+
+  /**
+   * @return the count, the last record may have no end of line
+   */
+  private long end() {
+    if (recordStarted) {
+      endRecord();
+    }
+    return count;
+  }
+
+}
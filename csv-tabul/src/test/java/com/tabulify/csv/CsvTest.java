@@ -23,6 +23,8 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.sql.Types;
@@ -642,5 +644,106 @@ public class CsvTest extends CsvBase {
     Assertions.assertEquals(3, csvDataPath.getOrCreateRelationDef().getColumnsSize());
   }
 
+  /**
+   * The bytes of a native CSV export are appended after the header
+   */
+  @Test
+  public void csvCopyTargetTest() throws Exception {
+
+    FsDataPath path = tabular.getTempFile("CsvCopyTargetTest", ".csv");
+    CsvDataPath csvDataPath = (CsvDataPath) new CsvDataPath(path)
+      .setHeaderRowId(1)
+      .setEndOfRecords("\n")
+      .getOrCreateRelationDef()
+      .addColumn("first")
+      .addColumn("second")
+      .getDataPath();
+    Tabulars.create(csvDataPath);
+
+    Assertions.assertTrue(csvDataPath.isCsvCopyFormat(',', '"', "\n", StandardCharsets.UTF_8), "Same format");
+    Assertions.assertFalse(csvDataPath.isCsvCopyFormat(';', '"', "\n", StandardCharsets.UTF_8), "Not the same delimiter");
+    Assertions.assertFalse(csvDataPath.isCsvCopyFormat(',', '"', "\r\n", StandardCharsets.UTF_8), "Not the same record separator");
+
+    try (OutputStream outputStream = csvDataPath.newCsvCopyOutputStream()) {
+      outputStream.write("1,foo\n2,\"b,ar\"\n".getBytes(StandardCharsets.UTF_8));
+    }
+    Assertions.assertEquals(2L, (long) csvDataPath.getCount(), "The csv file has 2 rows");
+    try (SelectStream selectStream = csvDataPath.getSelectStream()) {
+      selectStream.next();
+      selectStream.next();
+      Assertions.assertEquals("b,ar", selectStream.getString(2));
+    }
+
+  }
 
+  /**
+   * The byte level count should be the same as the count of a select stream
+   * with quoted end of lines, comments, empty lines and without final end of line
+   */
+  @Test
+  public void csvByteCountTest() throws Exception {
+
+    String content = "# comment with a \"quote\n"
+      + "first,second\r\n"
+      + "1,\"multi\nline\"\r\n"
+      + "\n"
+      + "2,\"a \"\"quote\"\"\"\r"
+      + "# another comment\n"
+      + ",\n"
+      + "3,\"\u00e9t\u00e9\"";
+
+    for (boolean ignoreEmptyLine : new boolean[]{true, false}) {
+      FsDataPath path = tabular.getTempFile("CsvByteCountTest", ".csv");
+      java.nio.file.Files.write(path.getAbsoluteNioPath(), content.getBytes(StandardCharsets.UTF_8));
+      CsvDataPath csvDataPath = new CsvDataPath(path)
+        .setHeaderRowId(1)
+        .setIgnoreEmptyLine(ignoreEmptyLine);
+
+      long selectCount = 0;
+      try (SelectStream selectStream = csvDataPath.getSelectStream()) {
+        while (selectStream.next()) {
+          selectCount++;
+        }
+      }
+      Assertions.assertEquals(ignoreEmptyLine ? 4L : 5L, selectCount, "Select count");
+      Assertions.assertEquals(selectCount, (long) csvDataPath.getCount(), "Byte count (ignore empty line: " + ignoreEmptyLine + ")");
+
+      // the cache is invalidated when the file changes
+      java.nio.file.Files.write(path.getAbsoluteNioPath(), "\n4,foo\n".getBytes(StandardCharsets.UTF_8), java.nio.file.StandardOpenOption.APPEND);
+      Assertions.assertEquals(selectCount + 1, (long) csvDataPath.getCount(), "Byte count after append");
+    }
+
+  }
+
+  /**
+   * The tail seeked from the end of the file should be the last records of a select stream
+   * with quoted end of lines, comments, empty lines and without final end of line
+   */
+  @Test
+  public void csvTailTest() throws Exception {
+
+    String content = "# comment with a \"quote\"\n"
+      + "first,second\r\n"
+      + "1,\"multi\nline\"\r\n"
+      + "\n"
+      + "2,\"a \"\"quote\"\"\"\r"
+      + "# another comment\n"
+      + ",\n"
+      + "3,\"\u00e9t\u00e9\"";
+
+    for (boolean ignoreEmptyLine : new boolean[]{true, false}) {
+      FsDataPath path = tabular.getTempFile("CsvTailTest", ".csv");
+      java.nio.file.Files.write(path.getAbsoluteNioPath(), content.getBytes(StandardCharsets.UTF_8));
+      CsvDataPath csvDataPath = new CsvDataPath(path)
+        .setHeaderRowId(1)
+        .setIgnoreEmptyLine(ignoreEmptyLine);
+
+      List<List<?>> records = csvDataPath.getRecords();
+      for (int limit : new int[]{1, 2, 10}) {
+        List<List<?>> expected = records.subList(Math.max(0, records.size() - limit), records.size());
+        Assertions.assertEquals(expected, csvDataPath.getTailRecords(limit), "Tail of " + limit + " (ignore empty line: " + ignoreEmptyLine + ")");
+      }
+    }
+
+  }
 }
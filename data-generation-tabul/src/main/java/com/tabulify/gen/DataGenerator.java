@@ -4,6 +4,7 @@ package com.tabulify.gen;
 import com.tabulify.Tabular;
 import com.tabulify.engine.ForeignKeyDag;
 import com.tabulify.fs.FsDataPath;
+import com.tabulify.gen.generator.AliasSampler;
 import com.tabulify.gen.generator.ExpressionGenerator;
 import com.tabulify.gen.generator.ForeignColumnGenerator;
 import com.tabulify.memory.MemoryConnection;
@@ -343,7 +344,7 @@ public class DataGenerator {
      * ie:
      * * add the dependent table if the option {@link #loadDependencies(Boolean)} is true
      * * add the missing generators and take into account the target constraints (foreign key generator)
-     * * verify that the size to insert is not abyssal (ie bigger than {@link #MAX_INSERT})
+     * * verify that the size to insert is not abyssal (ie bigger than {@link #MAX_INSERT} without max record count)
      * <p>
      * You can get the modified data generator path by calling the {@link #getGenDataPaths()}
      */
@@ -445,7 +446,11 @@ public class DataGenerator {
       /**
        * Source Foreign data generator building
        * from the target definition
+       * <p>
+       * The values of a primary column without data generation definition
+       * are fetched only once by primary column (the sampler is shared)
        */
+      Map<ColumnDef<?>, AliasSampler<?>> externalPrimaryColumnSamplers = new HashMap<>();
       for (DataPath targetDataPath : targetDataPaths) {
 
         // Add the foreign collection generator to the foreign columns
@@ -490,10 +495,11 @@ public class DataGenerator {
               if (!targetClazz.equals(sourceClazz)) {
                 throw new IllegalArgumentException("The class (" + sourceClazz + ") of the source foreign column (" + sourceForeignColumn + ") is not the same value (" + targetClazz + ") of the target primary column (" + targetPrimaryColumn + ")");
               }
+              AliasSampler<?> sampler = externalPrimaryColumnSamplers.computeIfAbsent(targetPrimaryColumn, c -> ForeignColumnGenerator.fetchValuesAndCreateSampler(targetClazz, c));
               // Already checked above
               //noinspection rawtypes,unchecked
               sourceForeignColumn.setGenerator(
-                (new ForeignColumnGenerator(sourceClazz, targetPrimaryColumn))
+                (new ForeignColumnGenerator(sourceClazz, sampler))
                   .setColumnDef(sourceForeignColumn)
               );
 
@@ -542,7 +548,7 @@ public class DataGenerator {
       targetSources.values().forEach(dp -> {
         Tabulars.createIfNotExist(dp);
         long numberOfRowToInsert = dp.getCount();
-        if (numberOfRowToInsert > MAX_INSERT) {
+        if (dp.getMaxRecordCount() == null && numberOfRowToInsert > MAX_INSERT) {
           throw new RuntimeException(
             Strings.createMultiLineFromStrings("The generator (" + dp + ") may generate (" + numberOfRowToInsert + ") records which is bigger than the upper limit of (" + MAX_INSERT + ").",
               "Set a MaxSize property in your data generation file or at the command line to resolve this issue.").toString());
@@ -3,6 +3,8 @@ package com.tabulify.gen;
 import com.tabulify.conf.Attribute;
 import com.tabulify.conf.ManifestDocument;
 import com.tabulify.conf.Origin;
+import com.tabulify.gen.generator.AliasSampler;
+import com.tabulify.gen.generator.CollectionGenerator;
 import com.tabulify.memory.MemoryConnection;
 import com.tabulify.memory.MemoryDataPath;
 import com.tabulify.memory.MemoryDataPathAbs;
@@ -15,11 +17,42 @@ import com.tabulify.exception.CastException;
 import com.tabulify.type.Casts;
 import com.tabulify.type.KeyNormalizer;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
 /**
  * The generator path
  */
 public class GenDataPath extends MemoryDataPathAbs implements DataPath, MemoryDataPath {
 
+  /**
+   * The random values are seeded by block of rows
+   * (ie the {@link #getSelectPartitions(int) partitions} are aligned on the blocks)
+   * so that the data generated is the same whatever the number of partitions
+   */
+  public static final int SEED_BLOCK_SIZE = 8192;
+
+  /**
+   * @param seed  - the seed of the data path or of a generator
+   * @param key   - the key of the random sequence (ie the column)
+   * @param block - the index of the block of rows
+   * @return a seed by key and block of rows
+   * (mixed with the finalizer of the murmur3 hash function so that near values give unrelated seeds)
+   */
+  public static long createBlockSeed(long seed, long key, long block) {
+    long hash = seed ^ (key * 0x9E3779B97F4A7C15L) ^ (block * 0xC2B2AE3D27D4EB4FL);
+    hash ^= hash >>> 33;
+    hash *= 0xFF51AFD7ED558CCDL;
+    hash ^= hash >>> 33;
+    hash *= 0xC4CEB9FE1A85EC53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+
 
   private final GenDataPathUtility genDataPathUtility;
   /**
@@ -27,6 +60,25 @@ public class GenDataPath extends MemoryDataPathAbs implements DataPath, MemoryDa
    */
   private ManifestDocument manifest;
 
+  /**
+   * The seed used if the {@link GenDataPathAttribute#SEED} is not set
+   * (created once so that the partitions share it)
+   */
+  private Long runtimeSeed;
+
+  /**
+   * The row range of this data path if this is a partition
+   * (start included, end excluded, null if this is not a partition)
+   */
+  private long partitionStart = 0;
+  private Long partitionEnd;
+
+  /**
+   * The samplers of the values fetched from a foreign column by column name
+   * (shared with the partitions so that the values are fetched only once)
+   */
+  private Map<String, AliasSampler<?>> foreignSamplers = new ConcurrentHashMap<>();
+
   /**
    * !!!!
    * Create a genMemDataPath with {@link com.tabulify.gen.DataGenerator.DataGeneratorBuilder#createGenDataPath(String)}
@@ -69,9 +121,97 @@ public class GenDataPath extends MemoryDataPathAbs implements DataPath, MemoryDa
 
   @Override
   public Long getSize() {
+    if (this.partitionEnd != null) {
+      // as for the count, the missing generators are built
+      this.genDataPathUtility.buildMissingGenerators();
+      return this.partitionEnd - this.partitionStart;
+    }
     return this.genDataPathUtility.getCount();
   }
 
+  /**
+   * @param seed - the seed of the random values (if set, the data is the same between runs)
+   */
+  public GenDataPath setSeed(Long seed) {
+    this.genDataPathUtility.setSeed(seed);
+    return this;
+  }
+
+  /**
+   * @return the {@link #setSeed(Long) seed} or a seed created for this data path
+   */
+  public long getSeedOrCreate() {
+    Long seed = this.genDataPathUtility.getSeed();
+    if (seed != null) {
+      return seed;
+    }
+    if (this.runtimeSeed == null) {
+      this.runtimeSeed = new SplittableRandom().nextLong();
+    }
+    return this.runtimeSeed;
+  }
+
+  /**
+   * @return the index of the first row generated (0 if this is not a partition)
+   */
+  public long getPartitionStart() {
+    return this.partitionStart;
+  }
+
+  /**
+   * Split the generation in row ranges aligned on {@link #SEED_BLOCK_SIZE}.
+   * <p>
+   * Each partition has its own relation and generators (created again from the data supplier attributes),
+   * the {@link CollectionGenerator#seek(long, long) generators jump} to the start of the range
+   * and the random values of a row does not depend on the number of partitions.
+   * <p>
+   * A data path with a generator created by code is not partitioned
+   * (See {@link GenDataPathUtility#isPartitionable()})
+   */
+  @Override
+  public List<DataPath> getSelectPartitions(int partitionCount) {
+
+    if (partitionCount <= 1 || this.partitionEnd != null) {
+      return super.getSelectPartitions(partitionCount);
+    }
+    long count = this.getCount();
+    long blockCount = (count + SEED_BLOCK_SIZE - 1) / SEED_BLOCK_SIZE;
+    int actualPartitionCount = (int) Math.min(partitionCount, blockCount);
+    if (actualPartitionCount <= 1) {
+      return super.getSelectPartitions(partitionCount);
+    }
+    if (!this.genDataPathUtility.isPartitionable()) {
+      GenLog.LOGGER.info("The generator (" + this + ") has generators created by code and cannot be partitioned");
+      return super.getSelectPartitions(partitionCount);
+    }
+
+    long seed = this.getSeedOrCreate();
+    List<DataPath> partitions = new ArrayList<>();
+    for (int i = 0; i < actualPartitionCount; i++) {
+      long start = blockCount * i / actualPartitionCount * SEED_BLOCK_SIZE;
+      long end = Math.min(count, blockCount * (i + 1) / actualPartitionCount * SEED_BLOCK_SIZE);
+      GenDataPath partition = new GenDataPath(this.getConnection(), this.getCompactPath());
+      partition.setMaxRecordCount(this.getMaxRecordCount());
+      partition.setSeed(seed);
+      partition.getOrCreateRelationDef().copyGenDataDef(this.getOrCreateRelationDef());
+      partition.partitionStart = start;
+      partition.partitionEnd = end;
+      partition.foreignSamplers = this.foreignSamplers;
+      partitions.add(partition);
+    }
+    return partitions;
+
+  }
+
+  /**
+   * @param columnName      - the name of the generated column
+   * @param samplerSupplier - the function that fetches the foreign values and creates the sampler
+   * @return the sampler of the foreign values of the column, created once for this data path and its partitions
+   */
+  public <T> AliasSampler<T> getOrCreateForeignSampler(String columnName, Supplier<AliasSampler<T>> samplerSupplier) {
+    //noinspection unchecked
+    return (AliasSampler<T>) this.foreignSamplers.computeIfAbsent(columnName, c -> samplerSupplier.get());
+  }
 
   public GenDataPathUtility getGenDataPathUtility() {
     return this.genDataPathUtility;
@@ -147,6 +287,8 @@ public class GenDataPath extends MemoryDataPathAbs implements DataPath, MemoryDa
         return (GenDataPath) this.setMaxRecordCount((Long) attribute.getValueOrDefault());
       case STREAM_RECORD_COUNT:
         return this.setStreamRecordCount((Long) attribute.getValueOrDefault());
+      case SEED:
+        return this.setSeed((Long) attribute.getValueOrDefault());
       default:
         // Not an updatable attribute, super handle the error
         return (GenDataPath) super.addAttribute(key, value);
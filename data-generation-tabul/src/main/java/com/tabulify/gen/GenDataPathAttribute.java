@@ -19,6 +19,7 @@ public enum GenDataPathAttribute implements AttributeEnum {
    */
   MAX_RECORD_COUNT("The maximum of records generated", Long.class, 100L, true),
   STREAM_RECORD_COUNT("The records generated in a stream", Long.class, null, true),
+  SEED("The seed of the random values (if set, the data is the same between runs and whatever the number of partitions)", Long.class, null, true),
   SIZE_NOT_CAPPED("The number of records without max", Long.class, null, false),
   SIZE("The size", Long.class, null, false);
 
@@ -13,7 +13,9 @@ import com.tabulify.exception.MissingSwitchBranch;
 import com.tabulify.exception.NoVariableException;
 import com.tabulify.type.Casts;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -25,6 +27,12 @@ public class GenDataPathUtility {
   private final GenDataPath genDataPath;
   private Long sizeNotCapped = null;
 
+  /**
+   * The columns that got their generator from {@link #buildMissingGenerators()}
+   * (ie they can be built again on a copy, see {@link #isPartitionable()})
+   */
+  private final Set<GenColumnDef<?>> missingGeneratorColumns = new HashSet<>();
+
 
   public GenDataPathUtility(GenDataPath genDataPath) {
     this.genDataPath = genDataPath;
@@ -76,7 +84,20 @@ public class GenDataPathUtility {
       .getColumnDefs()
       .stream()
       .filter(c -> c.getOrCreateGenerator() == null)
-      .forEach(this::buildMissingGeneratorForColumn);
+      .forEach(c -> {
+        // A generator may be created for multiple columns (ie unique key)
+        List<GenColumnDef<?>> columnsWithoutGenerator = genDataPath
+          .getOrCreateRelationDef()
+          .getColumnDefs()
+          .stream()
+          .filter(columnDef -> columnDef.getGenerator() == null)
+          .collect(Collectors.toList());
+        buildMissingGeneratorForColumn(c);
+        columnsWithoutGenerator
+          .stream()
+          .filter(columnDef -> columnDef.getGenerator() != null)
+          .forEach(missingGeneratorColumns::add);
+      });
 
   }
 
@@ -235,6 +256,7 @@ public class GenDataPathUtility {
           break;
         case STREAM_RECORD_COUNT:
         case MAX_RECORD_COUNT:
+        case SEED:
           genDataPath.addAttribute(
             Attribute.create(dataGenAttribute, Origin.DEFAULT)
               .setPlainValue(dataGenAttribute.getDefaultValue())
@@ -247,6 +269,43 @@ public class GenDataPathUtility {
 
   }
 
+  /**
+   * @return the seed or null if not set
+   */
+  public Long getSeed() {
+    try {
+      return Casts.castSafe(genDataPath.getAttribute(GenDataPathAttribute.SEED).getValueOrDefault(), Long.class);
+    } catch (NoVariableException e) {
+      return null;
+    }
+  }
+
+  public GenDataPathUtility setSeed(Long seed) {
+    genDataPath.getAttributeSafe(GenDataPathAttribute.SEED)
+      .setPlainValue(seed);
+    return this;
+  }
+
+  /**
+   * A data path is partitionable if all generators can be created again on a copy of the relation,
+   * ie they are defined by a {@link GenColumnAttribute#DATA_SUPPLIER data supplier} (manifest)
+   * or are built from the constraints (ie {@link #buildMissingGenerators()}).
+   * <p>
+   * A generator added by code (ie {@link GenColumnDef#setGenerator(CollectionGenerator)}) cannot be copied.
+   */
+  public boolean isPartitionable() {
+    for (GenColumnDef<?> columnDef : genDataPath.getOrCreateRelationDef().getAllColumnDefs()) {
+      if (columnDef.getGenerator() == null || missingGeneratorColumns.contains(columnDef)) {
+        continue;
+      }
+      Object dataSupplier = columnDef.getVariable(GenColumnAttribute.DATA_SUPPLIER).getValueOrNull();
+      if (dataSupplier == null) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   public Long getStreamRecordCount() {
     try {
       return Casts.castSafe(genDataPath.getAttribute(GenDataPathAttribute.STREAM_RECORD_COUNT).getValueOrDefault(), Long.class);
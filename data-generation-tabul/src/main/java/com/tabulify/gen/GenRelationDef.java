@@ -186,6 +186,47 @@ public class GenRelationDef extends RelationDefDefault {
 
   }
 
+  /**
+   * Copy the columns (hidden included) with their generator definition and the local constraints
+   * (used to create the {@link GenDataPath#getSelectPartitions(int) partitions} that have their own generators)
+   * <p>
+   * The generators are not copied, they are created again from the column attributes.
+   *
+   * @param fromRelationDef - the relation to copy
+   * @return the object for chaining
+   */
+  public GenRelationDef copyGenDataDef(GenRelationDef fromRelationDef) {
+
+    // The hidden columns at the end as they have no position
+    List<GenColumnDef<?>> hiddenColumns = fromRelationDef.getAllColumnDefs()
+      .stream()
+      .filter(c -> !c.isNotHidden())
+      .collect(Collectors.toList());
+    for (GenColumnDef<?> fromColumn : fromRelationDef.getColumnDefs()) {
+      copyGenColumn(fromColumn);
+    }
+    for (GenColumnDef<?> fromColumn : hiddenColumns) {
+      copyGenColumn(fromColumn)
+        .setColumnPosition(-1);
+    }
+
+    copyPrimaryKeyFrom(fromRelationDef);
+    copyUniqueKeysFrom(fromRelationDef);
+    return this;
+
+  }
+
+  private GenColumnDef<?> copyGenColumn(GenColumnDef<?> fromColumn) {
+    GenColumnDef<?> columnDef = createColumn(fromColumn.getColumnName(), fromColumn.getDataType());
+    columnDef
+      .setPrecision(fromColumn.getPrecision())
+      .setScale(fromColumn.getScale())
+      .setNullable(fromColumn.isNullable())
+      .setComment(fromColumn.getComment())
+      .setAllVariablesFrom(fromColumn);
+    return columnDef;
+  }
+
   @Override
   public GenRelationDef copyDataDef(DataPath fromDataPath) {
     return (GenRelationDef) super.copyDataDef(fromDataPath);
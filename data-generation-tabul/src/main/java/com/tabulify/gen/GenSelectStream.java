@@ -4,26 +4,77 @@ import com.tabulify.gen.generator.CollectionGenerator;
 import com.tabulify.model.ColumnDef;
 import com.tabulify.stream.SelectStreamAbs;
 
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 
 public class GenSelectStream extends SelectStreamAbs {
 
   private final GenDataPath genDataPath;
   private final List<CollectionGenerator<?>> generators;
 
+  /**
+   * The number of rows and the index of the first row
+   * (not 0 if the data path is a {@link GenDataPath#getSelectPartitions(int) partition})
+   */
+  private final long rowCount;
+  private final long rowStart;
+  private final long seed;
+
   long actualRowId = 0;
 
-  // For each column def, it's value (ie a row)
-  private Map<ColumnDef<?>, Object> row;
+  /**
+   * The row buffer, reused between rows
+   * The visible columns come first by position, then the hidden columns
+   */
+  private final Object[] row;
+
+  /**
+   * The visible columns by index in the row
+   */
+  private final ColumnDef<?>[] columns;
+
+  /**
+   * The index in the row of the value of each generator (same order as {@link #generators})
+   */
+  private final int[] generatorRowIndexes;
+
+  /**
+   * The index in the row by column (visible and hidden)
+   */
+  private final Map<ColumnDef<?>, Integer> rowIndexes = new HashMap<>();
 
   public GenSelectStream(GenDataPath dataPath) {
 
     super(dataPath);
     this.genDataPath = dataPath;
+    // the count builds also the missing generators
+    rowCount = this.genDataPath.getCount();
     generators = this.genDataPath.getOrCreateRelationDef().buildGeneratorInCreateOrder();
+    rowStart = this.genDataPath.getPartitionStart();
+    seed = this.genDataPath.getSeedOrCreate();
+
+    GenRelationDef relationDef = this.genDataPath.getOrCreateRelationDef();
+    columns = relationDef.getColumnDefs().toArray(new ColumnDef<?>[0]);
+    for (int i = 0; i < columns.length; i++) {
+      rowIndexes.put(columns[i], i);
+    }
+    for (GenColumnDef<?> columnDef : relationDef.getAllColumnDefs()) {
+      rowIndexes.putIfAbsent(columnDef, rowIndexes.size());
+    }
+    generatorRowIndexes = new int[generators.size()];
+    for (int i = 0; i < generators.size(); i++) {
+      GenColumnDef<?> columnDef = generators.get(i).getColumnDef();
+      Integer rowIndex = rowIndexes.get(columnDef);
+      if (rowIndex == null) {
+        rowIndex = rowIndexes.size();
+        rowIndexes.put(columnDef, rowIndex);
+      }
+      generatorRowIndexes[i] = rowIndex;
+    }
+    row = new Object[rowIndexes.size()];
 
   }
 
@@ -31,15 +82,45 @@ public class GenSelectStream extends SelectStreamAbs {
   @Override
   public boolean next() {
 
-    if (actualRowId >= genDataPath.getCount()) {
+    if (actualRowId >= rowCount) {
       return false;
     }
+    long rowIndex = rowStart + actualRowId;
+    if (actualRowId == 0 || rowIndex % GenDataPath.SEED_BLOCK_SIZE == 0) {
+      seek(rowIndex);
+    }
     actualRowId++;
-    row = this.genDataPath.getOrCreateRelationDef().buildRowFromGenerators(generators);
+    // in create order, a generator may use the value of its parents
+    for (int i = 0; i < generatorRowIndexes.length; i++) {
+      row[generatorRowIndexes[i]] = generators.get(i).getNewValue();
+    }
     return true;
 
   }
 
+  /**
+   * Position the generators at the start of a block of rows
+   */
+  private void seek(long rowIndex) {
+    long block = rowIndex / GenDataPath.SEED_BLOCK_SIZE;
+    for (int i = 0; i < generators.size(); i++) {
+      CollectionGenerator<?> generator = generators.get(i);
+      generator.seek(rowIndex, GenDataPath.createBlockSeed(seed, getSeedKey(generator, i), block));
+    }
+  }
+
+  /**
+   * @return the key of the random sequence of a generator
+   * (the column name, the index in create order for a generator without column)
+   */
+  private long getSeedKey(CollectionGenerator<?> generator, int index) {
+    GenColumnDef<?> columnDef = generator.getColumnDef();
+    if (columnDef == null || columnDef.getColumnName() == null) {
+      return index;
+    }
+    return columnDef.getColumnName().hashCode();
+  }
+
 
   @Override
   public void close() {
@@ -77,11 +158,19 @@ public class GenSelectStream extends SelectStreamAbs {
       throw new RuntimeException("You are on the row 0, you need to use the next function before retrieving a value");
     }
 
+    int position = columnDef.getColumnPosition();
+    if (position >= 1 && position <= columns.length && columns[position - 1] == columnDef) {
+      return row[position - 1];
+    }
     /**
      * Because the value generated may be null
      * we don't get the value in the stream
      */
-    return row.get(columnDef);
+    Integer rowIndex = rowIndexes.get(columnDef);
+    if (rowIndex == null) {
+      return null;
+    }
+    return row[rowIndex];
 
   }
 
@@ -93,11 +182,11 @@ public class GenSelectStream extends SelectStreamAbs {
 
   @Override
   public List<?> getObjects() {
-    return genDataPath
-      .getOrCreateRelationDef().getColumnDefs()
-      .stream()
-      .map(c -> row.get(c))
-      .collect(Collectors.toList());
+    /**
+     * A copy and not a view on the row buffer
+     * because the consumers may keep the list (ie memory list, transfer queue)
+     */
+    return Arrays.asList(Arrays.copyOf(row, columns.length));
   }
 
 
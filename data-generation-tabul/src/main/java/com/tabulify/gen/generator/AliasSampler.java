@@ -0,0 +1,159 @@
+package com.tabulify.gen.generator;
+
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+
+/**
+ * A sampler of a discrete distribution with the
+ * <a href="https://www.keithschwarz.com/darts-dice-coins/">alias method of Vose</a>
+ * <p>
+ * * The tables are build once in O(n) (n = the number of buckets)
+ * * A sample costs one random number, one table lookup and one comparison (ie O(1))
+ * * The probabilities are exact (a weight of 0.3 is 0.3 and not 1)
+ * <p>
+ * The sampler is immutable and can then be shared between generators and threads.
+ * The random number is taken from a {@link SplittableRandom} by thread.
+ */
+public class AliasSampler<T> {
+
+  private static final ThreadLocal<SplittableRandom> RANDOM = ThreadLocal.withInitial(SplittableRandom::new);
+
+  private final Object[] values;
+
+  /**
+   * The probability to keep the value of the column (otherwise, this is the alias)
+   */
+  private final double[] probabilities;
+
+  private final int[] aliases;
+
+  /**
+   * @param buckets - the value and its weight (the weights does not need to sum to one)
+   */
+  private AliasSampler(Map<T, Double> buckets) {
+
+    int n = buckets.size();
+    if (n == 0) {
+      throw new RuntimeException("An histogram should have at minimum one bucket");
+    }
+    values = new Object[n];
+    probabilities = new double[n];
+    aliases = new int[n];
+
+    double sum = 0;
+    int i = 0;
+    for (Map.Entry<T, Double> entry : buckets.entrySet()) {
+      Object key = entry.getKey();
+      if (key == null) {
+        throw new RuntimeException("An histogram bucket cannot contain a null key");
+      }
+      Double weight = entry.getValue();
+      if (weight == null) {
+        throw new RuntimeException("An histogram bucket cannot contain a null value for the key (" + key + ")");
+      }
+      if (weight < 0 || weight.isNaN() || weight.isInfinite()) {
+        throw new RuntimeException("An histogram bucket should have a finite and non-negative value. The value of the key (" + key + ") is " + weight);
+      }
+      values[i] = key;
+      probabilities[i] = weight;
+      sum += weight;
+      i++;
+    }
+    if (sum == 0) {
+      throw new RuntimeException("The sum of the histogram bucket values should not be zero");
+    }
+
+    // Scale the probabilities so that the average is 1
+    // and split them in the small (< 1) and large (>= 1) work lists
+    Deque<Integer> small = new ArrayDeque<>();
+    Deque<Integer> large = new ArrayDeque<>();
+    for (i = 0; i < n; i++) {
+      probabilities[i] = probabilities[i] * n / sum;
+      if (probabilities[i] < 1) {
+        small.push(i);
+      } else {
+        large.push(i);
+      }
+    }
+
+    // Fill each small column with the excess of a large one
+    while (!small.isEmpty() && !large.isEmpty()) {
+      int less = small.pop();
+      int more = large.pop();
+      aliases[less] = more;
+      probabilities[more] = (probabilities[more] + probabilities[less]) - 1;
+      if (probabilities[more] < 1) {
+        small.push(more);
+      } else {
+        large.push(more);
+      }
+    }
+
+    // What is left is 1 (the difference is a rounding error)
+    while (!large.isEmpty()) {
+      probabilities[large.pop()] = 1;
+    }
+    while (!small.isEmpty()) {
+      probabilities[small.pop()] = 1;
+    }
+
+  }
+
+  /**
+   * @param buckets - the value and its weight
+   */
+  public static <T> AliasSampler<T> create(Map<T, Double> buckets) {
+    return new AliasSampler<>(buckets);
+  }
+
+  /**
+   * @param values - the values that have all the same probability
+   */
+  public static <T> AliasSampler<T> createUniform(Collection<T> values) {
+    Map<T, Double> buckets = new LinkedHashMap<>();
+    for (T value : values) {
+      buckets.put(value, 1.0);
+    }
+    return new AliasSampler<>(buckets);
+  }
+
+  /**
+   * @return a value with the random of the thread
+   */
+  public T sample() {
+    return sample(RANDOM.get());
+  }
+
+  /**
+   * @param random - the random number generator
+   * @return a value
+   */
+  public T sample(SplittableRandom random) {
+    // the integer part is the column, the fraction is the coin
+    double dice = random.nextDouble() * values.length;
+    int column = Math.min((int) dice, values.length - 1);
+    if (dice - column < probabilities[column]) {
+      return getValue(column);
+    }
+    return getValue(aliases[column]);
+  }
+
+  @SuppressWarnings("unchecked")
+  private T getValue(int i) {
+    return (T) values[i];
+  }
+
+  /**
+   * @return the number of buckets
+   */
+  public int size() {
+    return values.length;
+  }
+
+}
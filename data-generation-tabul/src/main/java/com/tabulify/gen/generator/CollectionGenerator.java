@@ -58,6 +58,24 @@ public interface CollectionGenerator<T> extends Dependency, Supplier<T> {
 
 
 
+  /**
+   * Position the generator before a row
+   * <p>
+   * This is called by the {@link com.tabulify.gen.GenSelectStream select stream}
+   * at the first row and every {@link com.tabulify.gen.GenDataPath#SEED_BLOCK_SIZE block of rows}
+   * so that a {@link com.tabulify.gen.GenDataPath#getSelectPartitions(int) partition}
+   * generates the same values as the whole data path for the same rows.
+   * <p>
+   * A generator with a state (ie a counter) jumps to the row,
+   * a random generator starts a new random sequence with the seed.
+   *
+   * @param rowIndex - the index of the next row (0 based)
+   * @param seed     - the seed of the random values of the block of rows (derived from the data path seed)
+   */
+  default void seek(long rowIndex, long seed) {
+    // stateless by default
+  }
+
   /**
    * @return a new generated data object every time it's called for a single column generator
    * If the generator is multi-columns, it will throw an error
@@ -82,6 +82,12 @@ public class DataSetGenerator<T> extends CollectionGeneratorAbs<T> implements Co
    */
   private T actualValue;
 
+  /**
+   * The random of the histograms if {@link #seek(long, long) seeded}
+   * (one for all histograms)
+   */
+  private SplittableRandom random;
+
   /**
    * The actual row
    * It can be passed to a {@link DataSetMetaColumnGenerator}
@@ -317,7 +323,11 @@ public class DataSetGenerator<T> extends CollectionGeneratorAbs<T> implements Co
     if (generator == null) {
       throw new RuntimeException("The dependent generator (" + dependencyGenerator + ") has generated the value (" + dependentValue + ") but this value is unknown in the column (" + dependencyColumn.getColumnName() + ") of the entity file (" + this.dataSetPath + ")");
     }
-    this.rowNumber = Casts.castSafe(generator.getNewValue(), Long.class);
+    if (random == null) {
+      this.rowNumber = Casts.castSafe(generator.getNewValue(), Long.class);
+    } else {
+      this.rowNumber = Casts.castSafe(generator.getSampler().sample(random), Long.class);
+    }
 
 
     /**
@@ -343,6 +353,11 @@ public class DataSetGenerator<T> extends CollectionGeneratorAbs<T> implements Co
     // nothing to do
   }
 
+  @Override
+  public void seek(long rowIndex, long seed) {
+    random = new SplittableRandom(seed);
+  }
+
 
   /**
    * Shortcut utility function to add a dependency on a column when the name
@@ -10,13 +10,19 @@ import com.tabulify.type.Strings;
 import com.tabulify.type.time.Timestamp;
 import org.mozilla.javascript.Context;
 import org.mozilla.javascript.EvaluatorException;
+import org.mozilla.javascript.Script;
+import org.mozilla.javascript.Scriptable;
 import org.mozilla.javascript.ScriptableObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.*;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static com.tabulify.gen.generator.ExpressionArgument.*;
 
@@ -42,6 +48,14 @@ public class ExpressionGenerator<T> extends CollectionGeneratorAbs<T> implements
   private final String expression;
   private Object actualValue;
 
+  /**
+   * The compiled expression and its variables scope
+   * (Lazy, created at the first value)
+   */
+  private Script script;
+  private Scriptable variableScope;
+  private String[] variableNames;
+
 
   /**
    * @param clazz                          - the return type
@@ -123,58 +137,109 @@ public class ExpressionGenerator<T> extends CollectionGeneratorAbs<T> implements
 
 
   /**
-   * @return a new generated data object every time it's called
+   * Compile the expression and create the scope of the parent variables
+   * <p>
+   * This is done once, the rows execute then the same {@link Script}
+   * with only the variables values changed (no parsing by row)
    */
-  @Override
-  public T getNewValue() {
+  private void compile(Context cx) {
 
-    StringBuilder evalScript = new StringBuilder();
-    for (CollectionGenerator<?> parentCollectionGenerator : parentCollectionGenerators) {
-      Object parentValue = parentCollectionGenerator.getActualValue();
-      String value = parentValue.toString();
-
-      if (parentValue.getClass().equals(java.sql.Date.class)) {
-        LocalDate actualDate = ((java.sql.Date) parentValue).toLocalDate();
-        value = "new Date(\"" + actualDate.format(DateTimeFormatter.ISO_DATE) + "\")";
-      } else if (parentValue.getClass().equals(String.class)) {
-        value = "'" + value + "'";
-      } else if (Arrays.asList(java.util.Date.class, java.sql.Timestamp.class).contains(parentValue.getClass())) {
-        java.sql.Timestamp actualTimestamp = Timestamp.createFromObjectSafeCast(parentValue).toSqlTimestamp();
-        String formatted = actualTimestamp.toLocalDateTime()
-          .format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-        value = "new Date(\"" + formatted + "\")";
-      }
+    try {
+      this.script = cx.compileString(expression, "<cmd>", 1, null);
+    } catch (Exception e) {
+      throw new IllegalArgumentException("Error while compiling the expression for the column " + this.getColumnDef() + ". \nError: " + e.getMessage() + ". \nExpression:\n" + expression, e);
+    }
 
-      /**
-       * To lowercase in order to have a naming consistent
-       * (ie ORACLE will return UPPER case column name if the column name in the `create` statement are not quoted)
-       * because key should be idempotent, we put them in lower case
-       */
-      String variableName = parentCollectionGenerator.getColumnDef().getColumnName().toLowerCase();
-      evalScript
-        .append("var ")
-        .append(variableName)
-        .append(" = ")
-        .append(value)
-        .append(";\n");
+    /**
+     * A scope by generator that inherits the standard objects of the shared scope
+     * https://rhino.github.io/docs/scopes_and_contexts/#sharing-scopes
+     */
+    this.variableScope = cx.newObject(scope);
+    this.variableScope.setPrototype(scope);
+    this.variableScope.setParentScope(null);
+
+    /**
+     * To lowercase in order to have a naming consistent
+     * (ie ORACLE will return UPPER case column name if the column name in the `create` statement are not quoted)
+     * because key should be idempotent, we put them in lower case
+     */
+    this.variableNames = new String[parentCollectionGenerators.size()];
+    for (int i = 0; i < variableNames.length; i++) {
+      variableNames[i] = parentCollectionGenerators.get(i).getColumnDef().getColumnName().toLowerCase();
+    }
+
+  }
+
+  /**
+   * @return the parent value as javascript value
+   */
+  private static Object toJsValue(Context cx, Object parentValue) {
+
+    if (parentValue == null) {
+      return null;
+    }
+    if (parentValue.getClass().equals(java.sql.Date.class)) {
+      LocalDate actualDate = ((java.sql.Date) parentValue).toLocalDate();
+      // same as the `new Date("yyyy-mm-dd")` javascript literal
+      return cx.newObject(scope, "Date", new Object[]{actualDate.format(DateTimeFormatter.ISO_DATE)});
     }
+    if (parentValue.getClass().equals(java.util.Date.class) || parentValue.getClass().equals(java.sql.Timestamp.class)) {
+      java.sql.Timestamp actualTimestamp = Timestamp.createFromObjectSafeCast(parentValue).toSqlTimestamp();
+      String formatted = actualTimestamp.toLocalDateTime()
+        .format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+      return cx.newObject(scope, "Date", new Object[]{formatted});
+    }
+    if (parentValue instanceof String || parentValue instanceof Boolean || parentValue instanceof Integer || parentValue instanceof Double) {
+      return parentValue;
+    }
+    if (parentValue instanceof Number) {
+      // a javascript number (and not a BigInt for a BigInteger)
+      return ((Number) parentValue).doubleValue();
+    }
+    return Context.javaToJS(parentValue, scope);
 
-    // engine.eval load the script
-    // on eval can load a function
-    // and another can start the function
-    evalScript.append(expression);
+  }
 
+  /**
+   * @return the variables of the actual row (for the error messages)
+   */
+  private String toVariablesString() {
+    StringBuilder variables = new StringBuilder();
+    for (int i = 0; i < variableNames.length; i++) {
+      variables
+        .append(variableNames[i])
+        .append(" = ")
+        .append(parentCollectionGenerators.get(i).getActualValue())
+        .append("\n");
+    }
+    return variables.toString();
+  }
+
+  /**
+   * @return a new generated data object every time it's called
+   */
+  @Override
+  public T getNewValue() {
 
     try (Context cx = Context.enter()) {
 
+      if (script == null) {
+        compile(cx);
+      }
+
+      for (int i = 0; i < variableNames.length; i++) {
+        Object parentValue = parentCollectionGenerators.get(i).getActualValue();
+        variableScope.put(variableNames[i], variableScope, toJsValue(cx, parentValue));
+      }
+
       Object evalValue;
       try {
-        evalValue = cx.evaluateString(scope, evalScript.toString(), "<cmd>", 1, null);
+        evalValue = script.exec(cx, variableScope);
       } catch (Exception e) {
-        throw new IllegalArgumentException("Error while evaluating the expression for the column " + this.getColumnDef() + ". \nError: " + e.getMessage() + ". \nExpression:\n" + evalScript, e);
+        throw new IllegalArgumentException("Error while evaluating the expression for the column " + this.getColumnDef() + ". \nError: " + e.getMessage() + ". \nExpression:\n" + expression + "\nVariables:\n" + toVariablesString(), e);
       }
       if (evalValue == null) {
-        final String msg = "The expression generator for the column (" + this.getColumnDef() + ") has returned a NULL value and it's not expected.\nThe expression was: " + evalScript;
+        final String msg = "The expression generator for the column (" + this.getColumnDef() + ") has returned a NULL value and it's not expected.\nThe expression was: " + expression + "\nVariables:\n" + toVariablesString();
         LOGGER.error(msg);
         throw new IllegalArgumentException(msg);
       }
@@ -185,7 +250,7 @@ public class ExpressionGenerator<T> extends CollectionGeneratorAbs<T> implements
        */
       if (evalValue instanceof Double) {
         if (Double.isNaN((Double) evalValue)) {
-          throw new IllegalArgumentException("NAN returned. Not a Number value found. Error while evaluating the expression for the column " + this.getColumnDef() + ". Expression:\n" + evalScript);
+          throw new IllegalArgumentException("NAN returned. Not a Number value found. Error while evaluating the expression for the column " + this.getColumnDef() + ". Expression:\n" + expression + "\nVariables:\n" + toVariablesString());
         }
       }
 
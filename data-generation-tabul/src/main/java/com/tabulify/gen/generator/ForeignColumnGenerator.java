@@ -3,14 +3,17 @@ package com.tabulify.gen.generator;
 
 import com.tabulify.gen.DataGenType;
 import com.tabulify.gen.GenColumnDef;
+import com.tabulify.gen.GenDataPath;
 import com.tabulify.model.ColumnDef;
 import com.tabulify.spi.DataPath;
 import com.tabulify.spi.SelectException;
 import com.tabulify.stream.SelectStream;
 import com.tabulify.type.Casts;
 
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -26,6 +29,17 @@ public class ForeignColumnGenerator<T> extends CollectionGeneratorAbs<T> impleme
   private Object value;
   private final CollectionGenerator<T> generator;
 
+  /**
+   * A generator that returns the values of an external column
+   * with a sampler already built (ie shared between the foreign columns of the same external column)
+   *
+   * @param sampler - the sampler of {@link #fetchValuesAndCreateSampler(Class, ColumnDef)}
+   */
+  public ForeignColumnGenerator(Class<T> clazz, AliasSampler<T> sampler) {
+    super(clazz);
+    this.generator = new HistogramGenerator<>(clazz, sampler);
+  }
+
   /**
    * A generator that generates values that are present in another columns.
    *
@@ -42,7 +56,7 @@ public class ForeignColumnGenerator<T> extends CollectionGeneratorAbs<T> impleme
        * without data definition,
        * we fetch the data and create a uniform histogram
        */
-      this.generator = fetchValuesAndCreateHistogram(clazz, foreignColumnDef);
+      this.generator = new HistogramGenerator<>(clazz, fetchValuesAndCreateSampler(clazz, foreignColumnDef));
 
     } else {
 
@@ -108,30 +122,52 @@ public class ForeignColumnGenerator<T> extends CollectionGeneratorAbs<T> impleme
     if (foreignColumnDef == null) {
       throw new IllegalStateException("The column (" + column + ") was not found on the data resource (" + dataResource + "). We can't create a foreign column generator for the column (" + genColumnDef + ").");
     }
+    DataPath genDataPath = genColumnDef.getRelationDef().getDataPath();
+    if (!(foreignColumnDef instanceof GenColumnDef) && genDataPath instanceof GenDataPath) {
+      /**
+       * The values are fetched once and shared with the partitions
+       */
+      AliasSampler<T> sampler = ((GenDataPath) genDataPath).getOrCreateForeignSampler(
+        genColumnDef.getColumnName(),
+        () -> fetchValuesAndCreateSampler(clazz, foreignColumnDef)
+      );
+      return (ForeignColumnGenerator<T>) (new ForeignColumnGenerator<>(clazz, sampler))
+        .setColumnDef(genColumnDef);
+    }
     return (ForeignColumnGenerator<T>) (new ForeignColumnGenerator<>(clazz, foreignColumnDef))
       .setColumnDef(genColumnDef);
   }
 
   /**
-   * Fetch the values
+   * Fetch the distinct values
+   * <p>
+   * The values are sorted if they are comparable
+   * so that the sampler does not depend on the order of the select
+   * (ie the same seed gives the same values)
    *
    * @param aClass           the class of value to generate
    * @param foreignColumnDef the target foreign column
-   * @return the generator
+   * @return an uniform sampler of the values
    */
-  private HistogramGenerator<T> fetchValuesAndCreateHistogram(Class<T> aClass, ColumnDef<?> foreignColumnDef) {
-    // Building the map of value
+  public static <T> AliasSampler<T> fetchValuesAndCreateSampler(Class<T> aClass, ColumnDef<?> foreignColumnDef) {
     try (
       SelectStream selectStream = foreignColumnDef.getRelationDef().getDataPath().getSelectStream()
     ) {
-      Map<T, Double> histogram = new HashMap<>();
+      Set<T> values = new LinkedHashSet<>();
       while (selectStream.next()) {
-        histogram.put(selectStream.getObject(foreignColumnDef.getColumnName(), aClass), 1.0);
+        T value = selectStream.getObject(foreignColumnDef.getColumnName(), aClass);
+        if (value != null) {
+          values.add(value);
+        }
       }
-      if (histogram.isEmpty()) {
+      if (values.isEmpty()) {
         throw new RuntimeException("The foreign table (" + foreignColumnDef.getRelationDef().getDataPath().toString() + ") has no data for the column (" + foreignColumnDef + ")");
       }
-      return HistogramGenerator.create(aClass, histogram);
+      List<T> sortedValues = new ArrayList<>(values);
+      if (sortedValues.get(0) instanceof Comparable) {
+        sortedValues.sort(null);
+      }
+      return AliasSampler.createUniform(sortedValues);
     } catch (SelectException e) {
       throw new RuntimeException(e);
     }
@@ -176,6 +212,11 @@ public class ForeignColumnGenerator<T> extends CollectionGeneratorAbs<T> impleme
     generator.reset();
   }
 
+  @Override
+  public void seek(long rowIndex, long seed) {
+    generator.seek(rowIndex, seed);
+  }
+
 
   /**
    * @return the parent generator of this foreign column generator
@@ -5,7 +5,12 @@ import com.tabulify.gen.GenColumnDef;
 import com.tabulify.exception.CastException;
 import com.tabulify.type.Casts;
 
-import java.util.*;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
 import java.util.stream.Collectors;
 
 
@@ -31,7 +36,12 @@ public class HistogramGenerator<T> extends CollectionGeneratorAbs<T> implements
 
   private T actualValue;
 
-  private final List<Object> values;
+  private final AliasSampler<T> sampler;
+
+  /**
+   * The random if {@link #seek(long, long) seeded}, otherwise the random of the thread is used
+   */
+  private SplittableRandom random;
 
   /**
    * @param buckets - the buckets where the data needs to be generated
@@ -47,9 +57,8 @@ public class HistogramGenerator<T> extends CollectionGeneratorAbs<T> implements
       throw new RuntimeException("You can't create a custom probability distribution without bucket definition");
     }
 
-    // Create the values list and add the element according to their ratio
-    // A ratio of 3 = 3 elements in the list
-    values = new ArrayList<>();
+    // The values are cast once, not at each sample
+    Map<T, Double> castBuckets = new LinkedHashMap<>();
     for (Map.Entry<T, Double> entry : buckets.entrySet()) {
       Object key = entry.getKey();
       if (key == null) {
@@ -59,12 +68,18 @@ public class HistogramGenerator<T> extends CollectionGeneratorAbs<T> implements
       if (value == null) {
         throw new RuntimeException("An histogram bucket cannot contain a null value for the key (" + key + ")");
       }
-      for (int i = 0; i < value; i++) {
-        values.add(key);
-      }
+      castBuckets.merge(Casts.castSafe(key, clazz), value, Double::sum);
     }
+    this.sampler = AliasSampler.create(castBuckets);
 
+  }
 
+  /**
+   * @param sampler - a sampler (shared with other generators)
+   */
+  public HistogramGenerator(Class<T> clazz, AliasSampler<T> sampler) {
+    super(clazz);
+    this.sampler = sampler;
   }
 
   /**
@@ -130,8 +145,11 @@ public class HistogramGenerator<T> extends CollectionGeneratorAbs<T> implements
   @Override
   public T getNewValue() {
 
-    int i = (int) (Math.random() * values.size());
-    actualValue = Casts.castSafe(values.get(i), clazz);
+    if (random == null) {
+      actualValue = sampler.sample();
+    } else {
+      actualValue = sampler.sample(random);
+    }
 
     return actualValue;
 
@@ -152,12 +170,15 @@ public class HistogramGenerator<T> extends CollectionGeneratorAbs<T> implements
 
   @Override
   public Boolean isNullable() {
-    return values
-      .stream()
-      .filter(Objects::isNull)
-      .map(v -> true)
-      .findFirst()
-      .orElse(false);
+    // a bucket cannot have a null key
+    return false;
+  }
+
+  /**
+   * @return the sampler of the buckets
+   */
+  public AliasSampler<T> getSampler() {
+    return sampler;
   }
 
 
@@ -171,5 +192,10 @@ public class HistogramGenerator<T> extends CollectionGeneratorAbs<T> implements
     // Nothing to do
   }
 
+  @Override
+  public void seek(long rowIndex, long seed) {
+    random = new SplittableRandom(seed);
+  }
+
 
 }
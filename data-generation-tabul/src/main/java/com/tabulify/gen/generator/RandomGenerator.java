@@ -20,7 +20,7 @@ import java.time.LocalTime;
 import java.time.temporal.ChronoUnit;
 import java.util.HashSet;
 import java.util.Map;
-import java.util.Random;
+import java.util.SplittableRandom;
 import java.util.Set;
 
 import static java.time.temporal.ChronoUnit.DAYS;
@@ -33,7 +33,10 @@ import static java.time.temporal.ChronoUnit.DAYS;
  */
 public class RandomGenerator<T> extends CollectionGeneratorAbs<T> implements CollectionGeneratorScale<T>, CollectionGenerator<T>, java.util.function.Supplier<T> {
 
-  private static final Random random = new Random();
+  /**
+   * The random (by generator and not shared, a generator is not used by multiple threads)
+   */
+  private SplittableRandom random = new SplittableRandom();
 
   public static final ChronoUnit TIMESTAMP_UNIT = ChronoUnit.MILLIS;
   public static final ChronoUnit TIME_UNIT = ChronoUnit.MILLIS;
@@ -327,6 +330,11 @@ public class RandomGenerator<T> extends CollectionGeneratorAbs<T> implements Col
     // nothing to do
   }
 
+  @Override
+  public void seek(long rowIndex, long seed) {
+    random = new SplittableRandom(seed);
+  }
+
   @Override
   public T getDomainMax(long size) {
     return getDomainMax();
@@ -3,6 +3,7 @@ package com.tabulify.gen.generator;
 import com.github.curiousoddman.rgxgen.RgxGen;
 import com.tabulify.gen.DataGenType;
 import com.tabulify.gen.GenColumnDef;
+import com.tabulify.gen.GenDataPath;
 import com.tabulify.exception.CastException;
 import com.tabulify.type.BigIntegers;
 import com.tabulify.type.Casts;
@@ -18,6 +19,7 @@ public class RegexpGenerator<T> extends CollectionGeneratorAbs<T> {
   private final RgxGen rgxGen;
   private final String expression;
   private final Random random;
+  private final Long seed;
   private String actualValue;
 
   /**
@@ -29,6 +31,7 @@ public class RegexpGenerator<T> extends CollectionGeneratorAbs<T> {
     super(clazz);
     expression = regexp;
     rgxGen = new RgxGen(regexp);
+    this.seed = seed;
     if (seed == null) {
       random = new Random();
     } else {
@@ -70,6 +73,20 @@ public class RegexpGenerator<T> extends CollectionGeneratorAbs<T> {
     // Nothing to do here
   }
 
+  /**
+   * The first rows keep the seed of the generator if any (the documentation output stays the same)
+   * and the next blocks of rows are seeded from it, not from the data path seed that may be random.
+   */
+  @Override
+  public void seek(long rowIndex, long seed) {
+    if (this.seed == null) {
+      random.setSeed(seed);
+      return;
+    }
+    long block = rowIndex / GenDataPath.SEED_BLOCK_SIZE;
+    random.setSeed(block == 0 ? this.seed : GenDataPath.createBlockSeed(this.seed, 0, block));
+  }
+
   @Override
   public T getActualValue() {
     return Casts.castSafe(this.actualValue, this.clazz);
@@ -636,6 +636,33 @@ public class SequenceGenerator<T> extends CollectionGeneratorAbs<T> implements C
     tickCounter = 0;
   }
 
+  /**
+   * Jump to the row: the counter is the number of ticks received after `rowIndex` rows
+   * (ie with the reset of an odometer)
+   */
+  @Override
+  public void seek(long rowIndex, long seed) {
+    long ticks = getTickCount(rowIndex);
+    if (reset) {
+      ticks = ticks % maxTickCount;
+    }
+    try {
+      tickCounter = Math.toIntExact(ticks);
+    } catch (ArithmeticException e) {
+      throw new IllegalStateException("The sequence generator (" + this + ") can't jump to the row (" + rowIndex + ") because the counter is too high", e);
+    }
+  }
+
+  /**
+   * @return the total number of ticks received by this generator after `rowIndex` rows
+   */
+  private long getTickCount(long rowIndex) {
+    if (tickedBy == null) {
+      return rowIndex;
+    }
+    return tickedBy.getTickCount(rowIndex) / tickedBy.maxTickCount;
+  }
+
   @Override
   public T getDomainMax(long maxSteps) {
     if (start instanceof Number) {
@@ -0,0 +1,78 @@
+package com.tabulify;
+
+import com.tabulify.conf.Attribute;
+import com.tabulify.conf.Origin;
+import com.tabulify.crypto.Protector;
+import com.tabulify.exception.NoValueException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * A vault value is decrypted when it's used
+ */
+public class VaultTest {
+
+  /**
+   * The value is not decrypted when the attribute is built
+   * but once at the first {@link Attribute#getValue()}
+   */
+  @Test
+  public void lazyDecryptionTest() throws Exception, NoValueException {
+
+    Vault vault = Vault.create(Protector.create("passphrase"));
+    String encrypted = vault.encrypt("secret");
+    Attribute attribute = vault.createAttribute("password", encrypted, Origin.COMMAND_LINE);
+    Assertions.assertEquals(encrypted, attribute.getRawValue(), "The raw value should stay the vault value");
+
+    Object value = attribute.getValue();
+    Assertions.assertEquals("secret", value);
+    Assertions.assertSame(value, attribute.getValue(), "The value should be decrypted only once");
+
+  }
+
+  /**
+   * A wrong passphrase does not fail the build of the attribute
+   * but its first {@link Attribute#getValue()}
+   */
+  @Test
+  public void wrongPassphraseTest() throws Exception {
+
+    String encrypted = Vault.create(Protector.create("passphrase")).encrypt("secret");
+    Attribute attribute = Vault.create(Protector.create("wrong")).createAttribute("password", encrypted, Origin.COMMAND_LINE);
+
+    RuntimeException exception = Assertions.assertThrows(RuntimeException.class, attribute::getValue);
+    Assertions.assertTrue(exception.getMessage().startsWith("We were unable to decrypt the value with the given passphrase"), exception.getMessage());
+
+  }
+
+  /**
+   * The concurrent first reads get the same decrypted value
+   */
+  @Test
+  public void concurrentDecryptionTest() throws Exception {
+
+    Vault vault = Vault.create(Protector.create("passphrase"));
+    Attribute attribute = vault.createAttribute("password", vault.encrypt("secret"), Origin.COMMAND_LINE);
+    Object[] values = new Object[4];
+    Thread[] threads = new Thread[values.length];
+    for (int i = 0; i < threads.length; i++) {
+      int index = i;
+      threads[i] = new Thread(() -> {
+        try {
+          values[index] = attribute.getValue();
+        } catch (NoValueException e) {
+          throw new RuntimeException(e);
+        }
+      });
+      threads[i].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    for (Object value : values) {
+      Assertions.assertSame(values[0], value);
+    }
+
+  }
+
+}
@@ -0,0 +1,96 @@
+package com.tabulify.fs;
+
+import com.tabulify.crypto.Digest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.stream.Stream;
+
+public class FsDigestCacheTest {
+
+  private Path directory;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("digest");
+  }
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    try (Stream<Path> paths = Files.list(directory)) {
+      for (Path path : (Iterable<Path>) paths::iterator) {
+        Files.delete(path);
+      }
+    }
+    Files.delete(directory);
+  }
+
+  @Test
+  public void cacheTest() throws IOException {
+
+    FsDigestCache cache = new FsDigestCache();
+    Path path = write("file.txt", "hello");
+    FileTime lastModifiedTime = Files.getLastModifiedTime(path);
+    byte[] digest = cache.getOrCreate(path, Digest.Algorithm.MD5);
+    Assertions.assertArrayEquals(md5("hello"), digest);
+
+    // The cache returns a copy
+    digest[0]++;
+    Assertions.assertArrayEquals(md5("hello"), cache.getOrCreate(path, Digest.Algorithm.MD5));
+
+    // Same size and time: the cached digest is returned
+    Files.write(path, "world".getBytes(StandardCharsets.UTF_8));
+    Files.setLastModifiedTime(path, lastModifiedTime);
+    Assertions.assertArrayEquals(md5("hello"), cache.getOrCreate(path, Digest.Algorithm.MD5), "The cached digest (same file, size and time)");
+
+    // Another algorithm is not cached
+    Assertions.assertArrayEquals(Digest.createFromString(Digest.Algorithm.SHA384, "world").getHashBytes(), cache.getOrCreate(path, Digest.Algorithm.SHA384));
+
+    // Another size
+    write("file.txt", "hello world");
+    Assertions.assertArrayEquals(md5("hello world"), cache.getOrCreate(path, Digest.Algorithm.MD5), "The size has changed");
+
+  }
+
+  /**
+   * A file replaced by another one with the same size and time is digested again
+   */
+  @Test
+  public void replacedFileTest() throws IOException {
+
+    FsDigestCache cache = new FsDigestCache();
+    Path path = write("file.txt", "hello");
+    Assertions.assertArrayEquals(md5("hello"), cache.getOrCreate(path, Digest.Algorithm.MD5));
+
+    Path replacement = write("replacement.txt", "world");
+    Files.setLastModifiedTime(replacement, Files.getLastModifiedTime(path));
+    Files.move(replacement, path, StandardCopyOption.REPLACE_EXISTING);
+    Assertions.assertArrayEquals(md5("world"), cache.getOrCreate(path, Digest.Algorithm.MD5), "The file key has changed");
+
+  }
+
+  @Test
+  public void noSuchFileTest() {
+
+    Assertions.assertThrows(NoSuchFileException.class, () -> new FsDigestCache().getOrCreate(directory.resolve("not-found.txt"), Digest.Algorithm.MD5));
+
+  }
+
+  private Path write(String name, String content) throws IOException {
+    return Files.write(directory.resolve(name), content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static byte[] md5(String content) {
+    return Digest.createFromString(Digest.Algorithm.MD5, content).getHashBytes();
+  }
+
+}
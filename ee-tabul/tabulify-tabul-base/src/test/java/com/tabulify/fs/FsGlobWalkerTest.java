@@ -0,0 +1,111 @@
+package com.tabulify.fs;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+public class FsGlobWalkerTest {
+
+  @TempDir
+  Path root;
+
+  /**
+   * The tree:
+   * <pre>
+   * a.csv
+   * b.txt
+   * dir1/c.csv
+   * dir1/sub/d.csv
+   * dir1/sub/e.txt
+   * dir2/f.csv
+   * </pre>
+   */
+  @BeforeEach
+  public void setUp() throws IOException {
+    for (String file : List.of("a.csv", "b.txt", "dir1/c.csv", "dir1/sub/d.csv", "dir1/sub/e.txt", "dir2/f.csv")) {
+      Path path = root.resolve(file);
+      Files.createDirectories(path.getParent());
+      Files.createFile(path);
+    }
+  }
+
+  /**
+   * A name without wildcard is resolved
+   */
+  @Test
+  public void literalNameTest() {
+    Assertions.assertEquals(paths("a.csv"), FsDataSystem.getFilesByGlob(root, "a.csv"));
+    Assertions.assertEquals(paths("dir1/c.csv"), FsDataSystem.getFilesByGlob(root, "dir1/c.csv"));
+    Assertions.assertEquals(paths("dir1/sub"), FsDataSystem.getFilesByGlob(root, "dir1/sub"));
+    Assertions.assertEquals(paths(), FsDataSystem.getFilesByGlob(root, "missing.csv"));
+    Assertions.assertEquals(paths(), FsDataSystem.getFilesByGlob(root, "missing/c.csv"));
+  }
+
+  /**
+   * A name with a wildcard is matched against the children of the directory
+   */
+  @Test
+  public void wildcardNameTest() {
+    Assertions.assertEquals(paths("a.csv"), FsDataSystem.getFilesByGlob(root, "*.csv"));
+    Assertions.assertEquals(paths("a.csv", "b.txt"), FsDataSystem.getFilesByGlob(root, "?.*"));
+    Assertions.assertEquals(paths("dir1/c.csv", "dir2/f.csv"), FsDataSystem.getFilesByGlob(root, "dir*/*.csv"));
+    Assertions.assertEquals(paths("dir1/c.csv"), FsDataSystem.getFilesByGlob(root, "*/c.csv"));
+    Assertions.assertEquals(paths(), FsDataSystem.getFilesByGlob(root, "*.json"));
+  }
+
+  /**
+   * The name after the recursive wildcard is matched against the files of the whole tree
+   */
+  @Test
+  public void recursiveNameTest() {
+    Assertions.assertEquals(paths("a.csv", "dir1/c.csv", "dir1/sub/d.csv", "dir2/f.csv"), FsDataSystem.getFilesByGlob(root, "**/*.csv"));
+    Assertions.assertEquals(paths("dir1/sub/e.txt"), FsDataSystem.getFilesByGlob(root, "dir1/**/*.txt"));
+    Assertions.assertEquals(paths("dir1/c.csv", "dir1/sub/d.csv", "dir2/f.csv"), FsDataSystem.getFilesByGlob(root, "dir*/**/*.csv"));
+    Assertions.assertEquals(paths("dir1/sub/d.csv"), FsDataSystem.getFilesByGlob(root, "**/d.csv"));
+    Assertions.assertEquals(paths(), FsDataSystem.getFilesByGlob(root, "**/sub"), "Only the files are matched after the recursive wildcard");
+  }
+
+  /**
+   * A trailing recursive wildcard returns the directories matched before it
+   */
+  @Test
+  public void trailingRecursiveWildcardTest() {
+    Assertions.assertEquals(paths("dir1"), FsDataSystem.getFilesByGlob(root, "dir1/**"));
+    Assertions.assertEquals(paths("dir1", "dir2"), FsDataSystem.getFilesByGlob(root, "dir*/**"));
+  }
+
+  /**
+   * A start path that is not a directory is matched itself
+   */
+  @Test
+  public void fileStartPathTest() {
+    Path file = root.resolve("a.csv");
+    Assertions.assertEquals(paths("a.csv"), walk(file, "*.csv"));
+    Assertions.assertEquals(paths(), walk(file, "*.txt"));
+  }
+
+  private List<Path> walk(Path startPath, String... names) {
+    Queue<Path> matches = new ConcurrentLinkedQueue<>();
+    FsGlobWalker.create(startPath, List.of(names)).walk(matches::add);
+    return matches.stream().sorted().collect(Collectors.toList());
+  }
+
+  private List<Path> paths(String... files) {
+    List<Path> paths = new ArrayList<>();
+    for (String file : files) {
+      paths.add(root.resolve(file).toAbsolutePath().normalize());
+    }
+    return paths;
+  }
+
+}
@@ -0,0 +1,123 @@
+package com.tabulify.fs.textfile;
+
+import com.tabulify.Tabular;
+import com.tabulify.fs.FsDataPath;
+import com.tabulify.stream.SelectStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+
+public class FsTextRecordCounterTest {
+
+  private Tabular tabular;
+
+  @BeforeEach
+  public void setUp() {
+    tabular = Tabular.tabularWithoutConfigurationFile();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    tabular.close();
+  }
+
+  /**
+   * The byte count should be the count of the select stream
+   * (ie consecutive end of records are merged)
+   */
+  @Test
+  public void sameCountAsSelectStreamTest() throws IOException {
+
+    List<String> contents = Arrays.asList(
+      "",
+      "a",
+      "a\n",
+      "a\nb",
+      "a\nb\n",
+      "a\n\nb",
+      "a\n\n\nb\n\n",
+      "\n",
+      "\n\nb",
+      "a\r\nb\r\n",
+      "a\r\n\r\nb",
+      "a\rb\r",
+      "a\r\rb\n\nc",
+      "a\n\rb\r\n\nc"
+    );
+    List<String[]> endOfRecordsList = Arrays.asList(
+      new String[]{"\n"},
+      new String[]{"\r"},
+      new String[]{"\r\n", "\n"},
+      new String[]{"\r\n", "\r"},
+      new String[]{"\r\n", "\r", "\n"}
+    );
+    for (String[] endOfRecords : endOfRecordsList) {
+      Assertions.assertTrue(FsTextRecordCounter.isLineCountable(endOfRecords));
+      for (String content : contents) {
+        FsTextDataPath textDataPath = createTextFile(content);
+        textDataPath.setEndOfRecords(endOfRecords);
+        long streamCount = 0;
+        try (SelectStream selectStream = textDataPath.getSelectStream()) {
+          while (selectStream.next()) {
+            streamCount++;
+          }
+        }
+        String message = "The count of (" + content.replace("\n", "\\n").replace("\r", "\\r") + ") with the end of records (" + String.join(",", endOfRecords).replace("\n", "\\n").replace("\r", "\\r") + ")";
+        Assertions.assertEquals(streamCount, (long) textDataPath.getCount(), message);
+      }
+    }
+
+  }
+
+  /**
+   * `\r\n` alone is not counted at the byte level
+   */
+  @Test
+  public void notLineCountableTest() {
+    Assertions.assertFalse(FsTextRecordCounter.isLineCountable(new String[]{"\r\n"}));
+    Assertions.assertFalse(FsTextRecordCounter.isLineCountable(new String[]{"\n", ";"}));
+    Assertions.assertFalse(FsTextRecordCounter.isLineCountable(new String[]{}));
+  }
+
+  /**
+   * A file replaced by another one with the same size and last modified time
+   * is not the same file (ie the file key is not the same)
+   */
+  @Test
+  public void cacheFileKeyTest() throws IOException {
+
+    FsTextDataPath textDataPath = createTextFile("a\nb\n");
+    textDataPath.setEndOfRecords("\n");
+    Path path = textDataPath.getAbsoluteNioPath();
+    Assertions.assertEquals(2, (long) textDataPath.getCount());
+
+    FileTime lastModifiedTime = Files.getLastModifiedTime(path);
+    Path replacement = Files.createTempFile(path.getParent(), "replacement", ".txt");
+    Files.write(replacement, "abc\n".getBytes(StandardCharsets.UTF_8));
+    Files.setLastModifiedTime(replacement, lastModifiedTime);
+    Files.move(replacement, path, StandardCopyOption.REPLACE_EXISTING);
+    Assertions.assertEquals(4, Files.size(path));
+    Assertions.assertEquals(lastModifiedTime, Files.getLastModifiedTime(path));
+    Assertions.assertEquals(1, (long) textDataPath.getCount(), "The replaced file should be counted again");
+
+  }
+
+  private FsTextDataPath createTextFile(String content) throws IOException {
+    FsDataPath tempFile = tabular.getTempFile("count", ".txt");
+    Path path = tempFile.getAbsoluteNioPath();
+    Files.createDirectories(path.getParent());
+    Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+    return FsTextDataPath.create(tabular.getTmpConnection(), path);
+  }
+
+}
@@ -0,0 +1,128 @@
+package com.tabulify.fs.textfile;
+
+import com.tabulify.Tabular;
+import com.tabulify.fs.FsDataPath;
+import com.tabulify.stream.SelectStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class FsTextTailSeekerTest {
+
+  private Tabular tabular;
+
+  @BeforeEach
+  public void setUp() {
+    tabular = Tabular.tabularWithoutConfigurationFile();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    tabular.close();
+  }
+
+  /**
+   * The tail should be the last records of the select stream
+   * (ie consecutive end of records are merged, the last line may have no end of record)
+   */
+  @Test
+  public void sameTailAsSelectStreamTest() throws IOException {
+
+    List<String> contents = Arrays.asList(
+      "",
+      "a",
+      "a\n",
+      "a\nb\nc",
+      "a\nb\nc\n",
+      "a\n\nb\n\n\nc\n\n",
+      "\n\na\nb",
+      "a\r\nb\r\nc\r\n",
+      "a\r\nb\r\nc",
+      "a\r\n\r\nb\r\nc",
+      "a\rb\rc\r",
+      "a\n\rb\r\n\nc"
+    );
+    List<String[]> endOfRecordsList = Arrays.asList(
+      new String[]{"\n"},
+      new String[]{"\r"},
+      new String[]{"\r\n", "\n"},
+      new String[]{"\r\n", "\r"},
+      new String[]{"\r\n", "\r", "\n"}
+    );
+    for (String[] endOfRecords : endOfRecordsList) {
+      for (String content : contents) {
+        FsTextDataPath textDataPath = createTextFile(content);
+        textDataPath.setEndOfRecords(endOfRecords);
+        List<List<?>> records = new ArrayList<>();
+        try (SelectStream selectStream = textDataPath.getSelectStream()) {
+          while (selectStream.next()) {
+            records.add(new ArrayList<>(selectStream.getObjects()));
+          }
+        }
+        for (int limit = 1; limit <= 4; limit++) {
+          String message = "The tail " + limit + " of (" + content.replace("\n", "\\n").replace("\r", "\\r") + ") with the end of records (" + String.join(",", endOfRecords).replace("\n", "\\n").replace("\r", "\\r") + ")";
+          List<List<?>> expected = records.subList(Math.max(0, records.size() - limit), records.size());
+          Assertions.assertEquals(expected, textDataPath.getTailRecords(limit), message);
+        }
+      }
+    }
+
+  }
+
+  /**
+   * The last line without end of line is a record
+   */
+  @Test
+  public void lastLineWithoutEndOfLineTest() throws IOException {
+
+    FsTextDataPath textDataPath = createTextFile("a\nb\nc");
+    textDataPath.setEndOfRecords("\n");
+    Assertions.assertEquals(4, FsTextTailSeeker.seekLines(textDataPath.getAbsoluteNioPath(), 1, textDataPath.getEndOfRecords()));
+    Assertions.assertEquals(List.of(List.of("b"), List.of("c")), textDataPath.getTailRecords(2));
+
+  }
+
+  /**
+   * A `\r\n` end of line is one end of line
+   */
+  @Test
+  public void carriageReturnLineFeedTest() throws IOException {
+
+    FsTextDataPath textDataPath = createTextFile("a\r\nb\r\nc\r\n");
+    textDataPath.setEndOfRecords("\r\n", "\n");
+    Assertions.assertEquals(6, FsTextTailSeeker.seekLines(textDataPath.getAbsoluteNioPath(), 1, textDataPath.getEndOfRecords()));
+    Assertions.assertEquals(List.of(List.of("b"), List.of("c")), textDataPath.getTailRecords(2));
+
+  }
+
+  /**
+   * A file with fewer lines than asked is read from the start
+   */
+  @Test
+  public void fewerLinesTest() throws IOException {
+
+    FsTextDataPath textDataPath = createTextFile("a\nb\n");
+    textDataPath.setEndOfRecords("\n");
+    Assertions.assertEquals(0, FsTextTailSeeker.seekLines(textDataPath.getAbsoluteNioPath(), 5, textDataPath.getEndOfRecords()));
+    Assertions.assertEquals(List.of(List.of("a"), List.of("b")), textDataPath.getTailRecords(5));
+
+  }
+
+  private FsTextDataPath createTextFile(String content) throws IOException {
+    FsDataPath tempFile = tabular.getTempFile("tail", ".txt");
+    Path path = tempFile.getAbsoluteNioPath();
+    Files.createDirectories(path.getParent());
+    Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+    return FsTextDataPath.create(tabular.getTmpConnection(), path);
+  }
+
+}
@@ -0,0 +1,81 @@
+package com.tabulify.spi;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class UnorderedRowDigestTest {
+
+  private static final List<List<?>> ROWS = Arrays.asList(
+    Arrays.asList(1, "a", null),
+    Arrays.asList(2, "b", 2.5),
+    Arrays.asList(3, "c", "null"),
+    Arrays.asList(4, "", 0)
+  );
+
+  @Test
+  public void orderTest() {
+
+    List<List<?>> reversedRows = new ArrayList<>(ROWS);
+    Collections.reverse(reversedRows);
+    Assertions.assertArrayEquals(digest(ROWS), digest(reversedRows), "The digest should not depend on the order of the rows");
+
+  }
+
+  @Test
+  public void mergeTest() {
+
+    UnorderedRowDigest first = UnorderedRowDigest.create("MD5");
+    first.update(ROWS.get(0)).update(ROWS.get(1));
+    UnorderedRowDigest second = UnorderedRowDigest.create("MD5");
+    second.update(ROWS.get(2)).update(ROWS.get(3));
+    Assertions.assertArrayEquals(digest(ROWS), first.merge(second).digest(), "The merged digest should be the digest of all rows");
+
+  }
+
+  @Test
+  public void notSameRowsTest() {
+
+    Assertions.assertFalse(
+      Arrays.equals(digest(Collections.singletonList(Arrays.asList("ab", "c"))), digest(Collections.singletonList(Arrays.asList("a", "bc")))),
+      "The values are delimited by their length"
+    );
+    Assertions.assertFalse(
+      Arrays.equals(digest(Collections.singletonList(Collections.singletonList(null))), digest(Collections.singletonList(Collections.singletonList("null")))),
+      "A null is not the string null"
+    );
+    Assertions.assertFalse(
+      Arrays.equals(digest(ROWS), digest(ROWS.subList(0, 3))),
+      "A row less"
+    );
+    Assertions.assertFalse(
+      Arrays.equals(digest(Collections.emptyList()), digest(Arrays.asList(ROWS.get(0), ROWS.get(0), ROWS.get(0), ROWS.get(0)))),
+      "The row count is in the digest"
+    );
+    Assertions.assertEquals(48, UnorderedRowDigest.create("SHA-384").update(ROWS.get(0)).digest().length, "The length of the algorithm");
+
+  }
+
+  @Test
+  public void mergeOtherAlgorithmTest() {
+
+    Assertions.assertThrows(
+      IllegalArgumentException.class,
+      () -> UnorderedRowDigest.create("MD5").merge(UnorderedRowDigest.create("SHA-384"))
+    );
+
+  }
+
+  private byte[] digest(List<List<?>> rows) {
+    UnorderedRowDigest digest = UnorderedRowDigest.create("MD5");
+    for (List<?> row : rows) {
+      digest.update(row);
+    }
+    return digest.digest();
+  }
+
+}
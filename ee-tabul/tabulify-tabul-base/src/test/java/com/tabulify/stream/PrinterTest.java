@@ -0,0 +1,78 @@
+package com.tabulify.stream;
+
+import com.tabulify.Tabular;
+import com.tabulify.spi.DataPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+public class PrinterTest {
+
+  private Tabular tabular;
+
+  @BeforeEach
+  public void setUp() {
+    tabular = Tabular.tabularWithoutConfigurationFile();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    tabular.close();
+  }
+
+  /**
+   * The records after the sample are streamed and printed
+   * (the column lengths are calculated only on the sample)
+   */
+  @Test
+  public void moreRecordsThanSampleTest() {
+
+    DataPath dataPath = tabular.getMemoryConnection().getDataPath("print");
+    dataPath.getOrCreateRelationDef()
+      .addColumn("id", Integer.class)
+      .addColumn("name", String.class);
+    try (InsertStream insertStream = dataPath.getInsertStream()) {
+      insertStream.insert(Arrays.asList(1, "a"));
+      insertStream.insert(Arrays.asList(2, "b"));
+      insertStream.insert(Arrays.asList(3, "c"));
+      insertStream.insert(Arrays.asList(4, "longer"));
+    }
+
+    Printer printer = Printer.builder()
+      .setMaxSampleSize(2)
+      .setPrintTableHeader(false)
+      .setFooterSeparationLineCount(0)
+      .build();
+    List<String> lines = print(printer, dataPath);
+
+    Assertions.assertEquals(Arrays.asList(
+      "id   name",
+      "--   ----",
+      " 1   a",
+      " 2   b",
+      " 3   c",
+      " 4   longer"
+    ), lines);
+
+  }
+
+  private List<String> print(Printer printer, DataPath dataPath) {
+    PrintStream systemOut = System.out;
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    System.setOut(new PrintStream(output, true, StandardCharsets.UTF_8));
+    try {
+      printer.print(dataPath);
+    } finally {
+      System.setOut(systemOut);
+    }
+    return Arrays.asList(output.toString(StandardCharsets.UTF_8).split("\\R"));
+  }
+
+}
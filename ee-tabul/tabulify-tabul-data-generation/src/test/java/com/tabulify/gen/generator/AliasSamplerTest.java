@@ -0,0 +1,85 @@
+package com.tabulify.gen.generator;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+public class AliasSamplerTest {
+
+  /**
+   * The frequencies of a seeded sample are the weights
+   */
+  @Test
+  public void frequenciesTest() {
+
+    Map<String, Double> buckets = new LinkedHashMap<>();
+    buckets.put("a", 1.0);
+    buckets.put("b", 2.0);
+    buckets.put("c", 0.3);
+    buckets.put("d", 0.0);
+    buckets.put("e", 6.7);
+    AliasSampler<String> sampler = AliasSampler.create(buckets);
+    Assertions.assertEquals(5, sampler.size());
+
+    int sampleCount = 1_000_000;
+    SplittableRandom random = new SplittableRandom(42);
+    Map<String, Integer> counts = new HashMap<>();
+    for (int i = 0; i < sampleCount; i++) {
+      counts.merge(sampler.sample(random), 1, Integer::sum);
+    }
+
+    // a zero weight is never sampled
+    Assertions.assertNull(counts.get("d"));
+    double sum = 10.0;
+    for (Map.Entry<String, Double> bucket : buckets.entrySet()) {
+      double expected = bucket.getValue() / sum;
+      double actual = counts.getOrDefault(bucket.getKey(), 0) / (double) sampleCount;
+      Assertions.assertEquals(expected, actual, 0.003, "The frequency of the bucket " + bucket.getKey());
+    }
+
+  }
+
+  /**
+   * The same seed gives the same values
+   */
+  @Test
+  public void seedTest() {
+
+    AliasSampler<Integer> sampler = AliasSampler.createUniform(List.of(1, 2, 3, 4, 5, 6));
+    SplittableRandom random = new SplittableRandom(7);
+    SplittableRandom sameRandom = new SplittableRandom(7);
+    for (int i = 0; i < 1000; i++) {
+      Assertions.assertEquals(sampler.sample(random), sampler.sample(sameRandom));
+    }
+
+  }
+
+  @Test
+  public void singleValueTest() {
+
+    AliasSampler<String> sampler = AliasSampler.create(Map.of("only", 0.5));
+    SplittableRandom random = new SplittableRandom(1);
+    for (int i = 0; i < 1000; i++) {
+      Assertions.assertEquals("only", sampler.sample(random));
+    }
+    Assertions.assertEquals("only", sampler.sample());
+
+  }
+
+  @Test
+  public void badWeightsTest() {
+
+    Assertions.assertThrows(RuntimeException.class, () -> AliasSampler.create(new HashMap<String, Double>()));
+    Assertions.assertThrows(RuntimeException.class, () -> AliasSampler.create(Map.of("a", 0.0, "b", 0.0)));
+    Assertions.assertThrows(RuntimeException.class, () -> AliasSampler.create(Map.of("a", -1.0, "b", 2.0)));
+    Assertions.assertThrows(RuntimeException.class, () -> AliasSampler.create(Map.of("a", Double.NaN)));
+    Assertions.assertThrows(RuntimeException.class, () -> AliasSampler.create(Map.of("a", Double.POSITIVE_INFINITY)));
+
+  }
+
+}
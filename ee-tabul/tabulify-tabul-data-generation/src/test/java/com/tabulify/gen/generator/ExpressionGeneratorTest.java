@@ -0,0 +1,114 @@
+package com.tabulify.gen.generator;
+
+import com.tabulify.Tabular;
+import com.tabulify.exception.NoColumnException;
+import com.tabulify.gen.GenDataPath;
+import com.tabulify.gen.GenRelationDef;
+import com.tabulify.gen.GeneratorMediaType;
+import com.tabulify.model.SqlDataTypeAnsi;
+import com.tabulify.stream.SelectStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.ScriptableObject;
+
+import java.sql.Date;
+import java.util.List;
+
+public class ExpressionGeneratorTest {
+
+  private Tabular tabular;
+
+  @BeforeEach
+  void setUp() {
+    tabular = Tabular.tabularWithoutConfigurationFile();
+  }
+
+  @AfterEach
+  void tearDown() {
+    tabular.close();
+    tabular = null;
+  }
+
+  /**
+   * A string value with a quote, a double quote or a backslash
+   * is a value and not a part of the script
+   */
+  @Test
+  public void quoteInStringTest() throws NoColumnException {
+
+    List<String> names = List.of("O'Brien", "say \"hi\"", "back\\slash", "plain");
+    GenDataPath genDataPath = (GenDataPath) tabular.getMemoryConnection().getDataPath("quote", GeneratorMediaType.FS_GENERATOR_TYPE);
+    genDataPath.setMaxRecordCount((long) names.size());
+    GenRelationDef relationDef = genDataPath.getOrCreateRelationDef()
+      .addColumn("name", SqlDataTypeAnsi.CHARACTER_VARYING, 50)
+      .addColumn("label", SqlDataTypeAnsi.CHARACTER_VARYING, 50);
+    relationDef.getColumnDef("name", String.class).addSequenceGenerator(names);
+    relationDef.getColumnDef("label").addExpressionGenerator("name + '!'", "name");
+
+    int i = 0;
+    try (SelectStream selectStream = genDataPath.getSelectStream()) {
+      while (selectStream.next()) {
+        Assertions.assertEquals(names.get(i), selectStream.getString(1));
+        Assertions.assertEquals(names.get(i) + "!", selectStream.getString(2));
+        i++;
+      }
+    }
+    Assertions.assertEquals(names.size(), i);
+
+  }
+
+  /**
+   * The compiled expression returns the values of the previous implementation
+   * (ie a script evaluated by row where the parent values were declared as literal variables)
+   */
+  @Test
+  public void sameValuesAsScriptTest() throws NoColumnException {
+
+    int rowCount = 100;
+    GenDataPath genDataPath = (GenDataPath) tabular.getMemoryConnection().getDataPath("expression", GeneratorMediaType.FS_GENERATOR_TYPE);
+    genDataPath.setMaxRecordCount((long) rowCount);
+    GenRelationDef relationDef = genDataPath.getOrCreateRelationDef()
+      .addColumn("id", SqlDataTypeAnsi.INTEGER)
+      .addColumn("day", SqlDataTypeAnsi.DATE)
+      .addColumn("amount", SqlDataTypeAnsi.DOUBLE_PRECISION)
+      .addColumn("label", SqlDataTypeAnsi.CHARACTER_VARYING, 50)
+      .addColumn("year", SqlDataTypeAnsi.INTEGER)
+      .addColumn("next_day", SqlDataTypeAnsi.DATE);
+    relationDef.getColumnDef("id").addSequenceGenerator();
+    relationDef.getColumnDef("day", Date.class).addHistogramGenerator(Date.valueOf("2024-01-31"), Date.valueOf("2024-02-29"), Date.valueOf("2026-12-31"));
+    relationDef.getColumnDef("amount").addExpressionGenerator("id * 1.5", "id");
+    relationDef.getColumnDef("label").addExpressionGenerator("'label-' + id", "id");
+    relationDef.getColumnDef("year").addExpressionGenerator("day.getFullYear()", "day");
+    relationDef.getColumnDef("next_day").addExpressionGenerator("new Date(day.getTime() + 24 * 60 * 60 * 1000)", "day");
+
+    try (
+      Context cx = Context.enter();
+      SelectStream selectStream = genDataPath.getSelectStream()
+    ) {
+      ScriptableObject scope = cx.initStandardObjects();
+      int count = 0;
+      while (selectStream.next()) {
+        count++;
+        Object id = selectStream.getObject("id");
+        Date day = selectStream.getObject("day", Date.class);
+        String variables = "var id = " + id + ";\nvar day = new Date(\"" + day.toLocalDate() + "\");\n";
+
+        Object amount = cx.evaluateString(scope, variables + "id * 1.5", "<cmd>", 1, null);
+        Assertions.assertEquals(((Number) amount).doubleValue(), selectStream.getObject("amount", Double.class));
+        Object label = cx.evaluateString(scope, variables + "'label-' + id", "<cmd>", 1, null);
+        Assertions.assertEquals(label.toString(), selectStream.getString(4));
+        Object year = cx.evaluateString(scope, variables + "day.getFullYear()", "<cmd>", 1, null);
+        Assertions.assertEquals(((Number) year).intValue(), selectStream.getObject("year", Integer.class));
+        Object nextDay = cx.evaluateString(scope, variables + "new Date(day.getTime() + 24 * 60 * 60 * 1000)", "<cmd>", 1, null);
+        Date expectedNextDay = new Date(((java.util.Date) Context.jsToJava(nextDay, java.util.Date.class)).getTime());
+        Assertions.assertEquals(expectedNextDay.toLocalDate(), selectStream.getObject("next_day", Date.class).toLocalDate());
+      }
+      Assertions.assertEquals(rowCount, count);
+    }
+
+  }
+
+}
@@ -0,0 +1,131 @@
+package com.tabulify.gen.generator;
+
+import com.tabulify.Tabular;
+import com.tabulify.fs.FsDataPath;
+import com.tabulify.gen.DataGenType;
+import com.tabulify.gen.DataSupplierAttribute;
+import com.tabulify.gen.GenColumnAttribute;
+import com.tabulify.gen.GenDataPath;
+import com.tabulify.gen.GeneratorMediaType;
+import com.tabulify.spi.DataPath;
+import com.tabulify.spi.SelectException;
+import com.tabulify.stream.SelectStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ForeignColumnGeneratorTest {
+
+  private static final int PARENT_SIZE = 20;
+  private static final long ROW_COUNT = 3L * GenDataPath.SEED_BLOCK_SIZE + 100;
+
+  private Tabular tabular;
+
+  @BeforeEach
+  public void setUp() {
+    tabular = Tabular.tabularWithoutConfigurationFile();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    tabular.close();
+  }
+
+  /**
+   * The values generated do not depend on the number of partitions
+   * and the foreign values are fetched once for all partitions
+   */
+  @Test
+  public void partitionTest() throws SelectException, IOException {
+
+    DataPath parent = createParent("parent", false);
+    GenDataPath child = createChild("child", parent);
+
+    List<Object> singleValues = read(child);
+    Assertions.assertEquals(ROW_COUNT, singleValues.size());
+    for (Object value : singleValues) {
+      int id = Integer.parseInt((String) value);
+      Assertions.assertTrue(id >= 1 && id <= PARENT_SIZE, "The value " + value + " should be a parent value");
+    }
+
+    List<DataPath> partitions = child.getSelectPartitions(3);
+    Assertions.assertEquals(3, partitions.size(), "The number of partitions");
+    List<Object> partitionValues = new ArrayList<>();
+    for (DataPath partition : partitions) {
+      partitionValues.addAll(read(partition));
+    }
+    Assertions.assertEquals(singleValues, partitionValues, "The values with 1 or 3 partitions should be the same");
+
+  }
+
+  /**
+   * The values generated do not depend on the order of the parent values
+   */
+  @Test
+  public void parentOrderTest() throws SelectException, IOException {
+
+    List<Object> values = read(createChild("child", createParent("parent", false)));
+    List<Object> reversedParentValues = read(createChild("child_reversed", createParent("parent_reversed", true)));
+    Assertions.assertEquals(values, reversedParentValues, "The values should not depend on the order of the parent values");
+
+  }
+
+  /**
+   * @return a csv file (the foreign column is fetched from its data uri and should then be stored)
+   */
+  private DataPath createParent(String name, boolean reversed) throws IOException {
+
+    FsDataPath parent = tabular.getTempFile(name, ".csv");
+    List<String> lines = new ArrayList<>();
+    lines.add("id");
+    for (int i = 1; i <= PARENT_SIZE; i++) {
+      lines.add(String.valueOf(reversed ? PARENT_SIZE + 1 - i : i));
+    }
+    Files.write(parent.getAbsoluteNioPath(), lines);
+    return parent;
+
+  }
+
+  /**
+   * @return a generator with a foreign column defined by attributes (ie the data path can be partitioned)
+   */
+  private GenDataPath createChild(String name, DataPath parent) {
+
+    GenDataPath child = (GenDataPath) tabular.getMemoryConnection().getDataPath(name, GeneratorMediaType.FS_GENERATOR_TYPE);
+    child.setMaxRecordCount(ROW_COUNT);
+    child.setSeed(42L);
+    Map<String, Object> arguments = new HashMap<>();
+    arguments.put(ForeignKeyColumnArgument.DATA_URI.toString(), parent.toDataUri().toString());
+    arguments.put(ForeignKeyColumnArgument.COLUMN.toString(), "id");
+    Map<String, Object> dataSupplier = new HashMap<>();
+    dataSupplier.put(DataSupplierAttribute.TYPE.toString(), DataGenType.FOREIGN_COLUMN.toString());
+    dataSupplier.put(DataSupplierAttribute.ARGUMENTS.toString(), arguments);
+    child.getOrCreateRelationDef()
+      .addColumn("parent_id", String.class)
+      .getColumnDef("parent_id", String.class)
+      .setVariable(GenColumnAttribute.DATA_SUPPLIER.toString(), dataSupplier);
+    return child;
+
+  }
+
+  private List<Object> read(DataPath dataPath) throws SelectException {
+
+    List<Object> values = new ArrayList<>();
+    try (SelectStream selectStream = dataPath.getSelectStream()) {
+      while (selectStream.next()) {
+        values.add(selectStream.getObject(1));
+      }
+    }
+    return values;
+
+  }
+
+}
@@ -0,0 +1,96 @@
+package com.tabulify.gen.generator;
+
+import com.tabulify.Tabular;
+import com.tabulify.gen.DataGenType;
+import com.tabulify.gen.DataSupplierAttribute;
+import com.tabulify.gen.GenColumnAttribute;
+import com.tabulify.gen.GenDataPath;
+import com.tabulify.gen.GeneratorMediaType;
+import com.tabulify.spi.DataPath;
+import com.tabulify.spi.SelectException;
+import com.tabulify.stream.SelectStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class RegexpGeneratorTest {
+
+  private static final long ROW_COUNT = 2L * GenDataPath.SEED_BLOCK_SIZE + 100;
+
+  private Tabular tabular;
+
+  @BeforeEach
+  public void setUp() {
+    tabular = Tabular.tabularWithoutConfigurationFile();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    tabular.close();
+  }
+
+  /**
+   * A regexp generator with a seed generates the same values over several blocks of rows
+   * even if the data path has no seed (ie a random one)
+   */
+  @Test
+  public void seedTest() throws SelectException {
+
+    List<Object> values = read(createGenerator("first"));
+    Assertions.assertEquals(ROW_COUNT, values.size());
+    Assertions.assertEquals(values, read(createGenerator("second")), "The values of two runs should be the same");
+
+    List<Object> partitionValues = new ArrayList<>();
+    for (DataPath partition : createGenerator("partitioned").getSelectPartitions(3)) {
+      partitionValues.addAll(read(partition));
+    }
+    Assertions.assertEquals(values, partitionValues, "The values with 1 or 3 partitions should be the same");
+
+    Assertions.assertNotEquals(
+      values.subList(0, 100),
+      values.subList(GenDataPath.SEED_BLOCK_SIZE, GenDataPath.SEED_BLOCK_SIZE + 100),
+      "The blocks of rows should not repeat the same values"
+    );
+
+  }
+
+  /**
+   * @return a regexp generator with a seed defined by attributes (ie the data path can be partitioned)
+   */
+  private GenDataPath createGenerator(String name) {
+
+    GenDataPath genDataPath = (GenDataPath) tabular.getMemoryConnection().getDataPath(name, GeneratorMediaType.FS_GENERATOR_TYPE);
+    genDataPath.setMaxRecordCount(ROW_COUNT);
+    Map<String, Object> arguments = new HashMap<>();
+    arguments.put(RegexpArgument.EXPRESSION.toString(), "[a-z]{8}");
+    arguments.put(RegexpArgument.SEED.toString(), 42L);
+    Map<String, Object> dataSupplier = new HashMap<>();
+    dataSupplier.put(DataSupplierAttribute.TYPE.toString(), DataGenType.REGEXP.toString());
+    dataSupplier.put(DataSupplierAttribute.ARGUMENTS.toString(), arguments);
+    genDataPath.getOrCreateRelationDef()
+      .addColumn("code", String.class)
+      .getColumnDef("code", String.class)
+      .setVariable(GenColumnAttribute.DATA_SUPPLIER.toString(), dataSupplier);
+    return genDataPath;
+
+  }
+
+  private List<Object> read(DataPath dataPath) throws SelectException {
+
+    List<Object> values = new ArrayList<>();
+    try (SelectStream selectStream = dataPath.getSelectStream()) {
+      while (selectStream.next()) {
+        values.add(selectStream.getObject(1));
+      }
+    }
+    return values;
+
+  }
+
+}
@@ -0,0 +1,206 @@
+package com.tabulify.flow.operation;
+
+import com.tabulify.Tabular;
+import com.tabulify.flow.engine.Pipeline;
+import com.tabulify.spi.DataPath;
+import com.tabulify.spi.SelectException;
+import com.tabulify.stream.InsertStream;
+import com.tabulify.stream.SelectStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class SplitPipelineStepTest {
+
+  private Tabular tabular;
+
+  @BeforeEach
+  public void setUp() {
+    tabular = Tabular.tabularWithoutConfigurationFile();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    tabular.close();
+  }
+
+  /**
+   * The last chunk gets the remaining records
+   */
+  @Test
+  public void chunkSizeTest() throws SelectException {
+
+    DataPath source = createSource("a", "b", "c", "d", "e", "f", "g");
+    List<List<List<?>>> targets = split(source, SplitPipelineStep.builder().setChunkSize(3));
+    Assertions.assertEquals(List.of(
+      records(1, "a", 2, "b", 3, "c"),
+      records(4, "d", 5, "e", 6, "f"),
+      records(7, "g")
+    ), targets);
+
+  }
+
+  /**
+   * One record by target by default
+   */
+  @Test
+  public void defaultChunkTest() throws SelectException {
+
+    DataPath source = createSource("a", "b");
+    List<List<List<?>>> targets = split(source, SplitPipelineStep.builder());
+    Assertions.assertEquals(List.of(records(1, "a"), records(2, "b")), targets);
+
+  }
+
+  /**
+   * The record that exceeds the chunk byte size is the first record of the next chunk
+   * (a record bigger than the chunk byte size has its own chunk)
+   */
+  @Test
+  public void chunkByteSizeTest() throws SelectException {
+
+    // The byte size of a record: 2 separators + 1 digit + the characters of the value
+    // ie 7 for `aaaa`, 33 for the long value
+    String longValue = "b".repeat(30);
+    DataPath source = createSource("aaaa", "aaaa", "aaaa", longValue, "aaaa");
+    List<List<List<?>>> targets = split(source, SplitPipelineStep.builder().setChunkByteSize(15L));
+    Assertions.assertEquals(List.of(
+      records(1, "aaaa", 2, "aaaa"),
+      records(3, "aaaa"),
+      records(4, longValue),
+      records(5, "aaaa")
+    ), targets);
+
+    // The record bound is reached first
+    targets = split(source, SplitPipelineStep.builder().setChunkByteSize(1000L).setChunkSize(2));
+    Assertions.assertEquals(List.of(
+      records(1, "aaaa", 2, "aaaa"),
+      records(3, "aaaa", 4, longValue),
+      records(5, "aaaa")
+    ), targets);
+
+  }
+
+  /**
+   * One target by value (null included) in the order of their first record
+   */
+  @Test
+  public void partitionTest() throws SelectException {
+
+    DataPath source = createSource("a", "b", null, "a", null, "c");
+    List<List<List<?>>> targets = split(source, SplitPipelineStep.builder().setPartitionColumn("value"));
+    Assertions.assertEquals(List.of(
+      records(1, "a", 4, "a"),
+      records(2, "b"),
+      records(3, null, 5, null),
+      records(6, "c")
+    ), targets);
+
+  }
+
+  /**
+   * The least recently written partition is returned when the bound is reached
+   */
+  @Test
+  public void partitionMaxOpenTest() throws SelectException {
+
+    // Ordered by the partition column: one target by value
+    DataPath source = createSource("a", "a", "b", "b", "c");
+    List<List<List<?>>> targets = split(source, SplitPipelineStep.builder().setPartitionColumn("value").setPartitionMaxOpen(1));
+    Assertions.assertEquals(List.of(
+      records(1, "a", 2, "a"),
+      records(3, "b", 4, "b"),
+      records(5, "c")
+    ), targets);
+
+    // A value seen again after its partition was returned starts a new target
+    source = createSource("a", "b", "a", "c", "a");
+    targets = split(source, SplitPipelineStep.builder().setPartitionColumn("value").setPartitionMaxOpen(2));
+    Assertions.assertEquals(List.of(
+      records(2, "b"),
+      records(1, "a", 3, "a", 5, "a"),
+      records(4, "c")
+    ), targets);
+
+  }
+
+  /**
+   * A split is by chunk or by partition, not both
+   */
+  @Test
+  public void chunkAndPartitionTest() {
+
+    DataPath source = createSource("a");
+    RuntimeException exception = Assertions.assertThrows(
+      RuntimeException.class,
+      () -> split(source, SplitPipelineStep.builder().setPartitionColumn("value").setChunkSize(2))
+    );
+    Throwable cause = exception;
+    while (!(cause instanceof IllegalArgumentException) && cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+    Assertions.assertInstanceOf(IllegalArgumentException.class, cause);
+    Assertions.assertTrue(cause.getMessage().contains("can't split by chunk and by partition"), cause.getMessage());
+
+  }
+
+  /**
+   * @return a source with an `id` (the position from 1) and a `value` column
+   */
+  private DataPath createSource(String... values) {
+
+    DataPath source = tabular.getMemoryConnection().getDataPath("source");
+    source.getOrCreateRelationDef()
+      .addColumn("id", Integer.class)
+      .addColumn("value", String.class);
+    try (InsertStream insertStream = source.getInsertStream()) {
+      for (int i = 0; i < values.length; i++) {
+        insertStream.insert(Arrays.asList(i + 1, values[i]));
+      }
+    }
+    return source;
+
+  }
+
+  /**
+   * @return the records of the targets
+   */
+  private List<List<List<?>>> split(DataPath source, SplitPipelineStep.SplitPipelineStepBuilder splitBuilder) throws SelectException {
+
+    List<DataPath> targets = Pipeline.builder(tabular)
+      .addStep(DefinePipelineStep.builder().addDataPath(source))
+      .addStep(splitBuilder)
+      .build()
+      .execute()
+      .getDownStreamDataPaths();
+    List<List<List<?>>> targetRecords = new ArrayList<>();
+    for (DataPath target : targets) {
+      List<List<?>> records = new ArrayList<>();
+      try (SelectStream selectStream = target.getSelectStream()) {
+        while (selectStream.next()) {
+          records.add(selectStream.getObjects());
+        }
+      }
+      targetRecords.add(records);
+    }
+    return targetRecords;
+
+  }
+
+  /**
+   * @param idValues - the id and value of each record
+   */
+  private List<List<?>> records(Object... idValues) {
+    List<List<?>> records = new ArrayList<>();
+    for (int i = 0; i < idValues.length; i += 2) {
+      records.add(Arrays.asList(idValues[i], idValues[i + 1]));
+    }
+    return records;
+  }
+
+}
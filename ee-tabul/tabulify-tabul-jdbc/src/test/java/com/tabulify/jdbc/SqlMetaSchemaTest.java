@@ -0,0 +1,96 @@
+package com.tabulify.jdbc;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class SqlMetaSchemaTest {
+
+  /**
+   * A snapshot with the tables `customer` and `sale` (sale references customer)
+   */
+  private SqlMetaSchema createMetaSchema() {
+
+    Map<String, List<SqlMetaColumn>> columns = new HashMap<>();
+    columns.put("customer", List.of(SqlMetaColumn.createOf("id").setPosition(1)));
+    columns.put("sale", List.of(SqlMetaColumn.createOf("id").setPosition(1), SqlMetaColumn.createOf("customer_id").setPosition(2)));
+
+    Map<String, List<SqlMetaUniqueKey>> uniqueKeys = new HashMap<>();
+    uniqueKeys.put("customer", new ArrayList<>(List.of(SqlMetaUniqueKey.createOf("customer_pk", true).addColumn(1, "id"))));
+
+    Map<String, List<SqlMetaForeignKey>> foreignKeys = new HashMap<>();
+    foreignKeys.put("sale", new ArrayList<>(List.of(
+      new SqlMetaForeignKey("cat", "sch", "customer", "cat", "sch", "sale", "sale_customer_fk")
+        .addColumnMapping((short) 1, "id", "customer_id")
+    )));
+
+    return SqlMetaSchema.create("cat", "sch", columns)
+      .setUniqueKeys(uniqueKeys)
+      .setForeignKeys(foreignKeys);
+
+  }
+
+  /**
+   * The metadata of a table is returned only once
+   */
+  @Test
+  public void pollTest() {
+
+    SqlMetaSchema metaSchema = createMetaSchema();
+    Assertions.assertEquals(2, metaSchema.size());
+
+    Assertions.assertEquals(2, metaSchema.pollColumns("sale").size());
+    Assertions.assertNull(metaSchema.pollColumns("sale"), "The columns are taken once");
+    Assertions.assertEquals(1, metaSchema.size());
+    Assertions.assertNull(metaSchema.pollColumns("unknown"), "A table not in the snapshot");
+
+    Assertions.assertEquals("customer_pk", metaSchema.pollPrimaryKey("customer").get(0).getName());
+    Assertions.assertNull(metaSchema.pollPrimaryKey("customer"), "The primary key is taken once");
+    Assertions.assertTrue(metaSchema.pollPrimaryKey("sale").isEmpty(), "A table of the snapshot without primary key");
+    Assertions.assertEquals(1, metaSchema.pollUniqueKeys("customer").size());
+    Assertions.assertTrue(metaSchema.pollUniqueKeys("sale").isEmpty(), "A table of the snapshot without unique key");
+
+    Assertions.assertEquals(1, metaSchema.pollForeignKeys("sale").size());
+    Assertions.assertTrue(metaSchema.pollForeignKeys("customer").isEmpty(), "A table of the snapshot without foreign key");
+
+  }
+
+  /**
+   * Without bulk keys, the keys are not in the snapshot (null) and are read by table
+   */
+  @Test
+  public void noKeysTest() {
+
+    SqlMetaSchema metaSchema = SqlMetaSchema.create("cat", "sch", Map.of("customer", List.of(SqlMetaColumn.createOf("id"))));
+    Assertions.assertNull(metaSchema.pollPrimaryKey("customer"));
+    Assertions.assertNull(metaSchema.pollUniqueKeys("customer"));
+    Assertions.assertNull(metaSchema.pollForeignKeys("customer"));
+    Assertions.assertNotNull(metaSchema.pollColumns("customer"));
+
+  }
+
+  /**
+   * A dropped table is removed with the foreign keys that reference it
+   */
+  @Test
+  public void invalidateTest() {
+
+    SqlMetaSchema metaSchema = createMetaSchema();
+    metaSchema.invalidate("cat", "sch", "customer");
+    Assertions.assertNull(metaSchema.pollColumns("customer"));
+    Assertions.assertNull(metaSchema.pollPrimaryKey("customer"));
+    Assertions.assertNull(metaSchema.pollForeignKeys("sale"), "The foreign keys of sale reference customer and are read again");
+    Assertions.assertNotNull(metaSchema.pollColumns("sale"), "The columns of sale have not changed");
+
+    // Another schema
+    metaSchema = createMetaSchema();
+    metaSchema.invalidate("cat", "other", "sale");
+    Assertions.assertNotNull(metaSchema.pollColumns("sale"), "The table of another schema is not removed");
+
+  }
+
+}
@@ -0,0 +1,120 @@
+package com.tabulify.postgres;
+
+import com.tabulify.Tabular;
+import com.tabulify.conf.Origin;
+import com.tabulify.jdbc.SqlConnection;
+import com.tabulify.jdbc.SqlConnectionAttributeEnum;
+import com.tabulify.jdbc.SqlDataPath;
+import com.tabulify.model.SqlDataTypeAnsi;
+import com.tabulify.spi.DataPath;
+import com.tabulify.spi.SelectException;
+import com.tabulify.spi.Tabulars;
+import com.tabulify.stream.InsertStream;
+import com.tabulify.stream.SelectStream;
+import com.tabulify.test.SingletonTestContainer;
+import com.tabulify.transfer.TransferListener;
+import com.tabulify.transfer.TransferMethod;
+import com.tabulify.type.KeyNormalizer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The CSV framing of the COPY round-trips the values
+ * (needs docker to start a Postgres container)
+ */
+@Tag("slow")
+public class PostgresCopyInsertStreamTest {
+
+  private static final int HOST_PORT = 5434;
+  private static final String PASSWORD = "welcome";
+
+  private Tabular tabular;
+  private SqlConnection connection;
+
+  @BeforeEach
+  public void setUp() {
+    GenericContainer<?> postgres = new GenericContainer<>("postgres:17-alpine")
+      .waitingFor(Wait.forLogMessage(".*database system is ready to accept connections.*", 2));
+    new SingletonTestContainer("postgres", postgres)
+      .withEnv("POSTGRES_PASSWORD", PASSWORD)
+      .withPort(HOST_PORT, 5432)
+      .startContainer();
+    tabular = Tabular.tabularWithoutConfigurationFile();
+    connection = (SqlConnection) tabular.createRuntimeConnection("jdbc:postgresql://localhost:" + HOST_PORT + "/postgres?user=postgres&password=" + PASSWORD);
+    connection.addAttribute(KeyNormalizer.createSafe(SqlConnectionAttributeEnum.BULK_LOAD_ENABLED.toString()), true, Origin.COMMAND_LINE);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    connection.close();
+    tabular.close();
+  }
+
+  /**
+   * The target is created on the current connection and loaded on the copy connection
+   */
+  @Test
+  public void roundTripTest() throws SelectException {
+
+    Timestamp timestamp = Timestamp.valueOf("2024-02-29 13:14:15.123");
+    DataPath source = tabular.getMemoryConnection().getDataPath("source");
+    source.getOrCreateRelationDef()
+      .addColumn("id", Integer.class)
+      .addColumn("amount", SqlDataTypeAnsi.DECIMAL, 10, 2)
+      .addColumn("label", String.class)
+      .addColumn("at", Timestamp.class);
+    List<List<?>> records = List.of(
+      Arrays.asList(1, new BigDecimal("12.50"), "it's, \"quoted\"", timestamp),
+      Arrays.asList(2, new BigDecimal("-0.01"), "a line\nand a \\ backslash", timestamp),
+      Arrays.asList(3, null, null, null),
+      Arrays.asList(4, BigDecimal.ZERO, "", timestamp)
+    );
+    try (InsertStream insertStream = source.getInsertStream()) {
+      records.forEach(insertStream::insert);
+    }
+
+    SqlDataPath target = connection.getDataPath("copy_round_trip");
+    Tabulars.dropIfExists(target);
+    TransferListener transferListener = Tabulars.copy(source, target);
+    Assertions.assertEquals(TransferMethod.BULK_LOAD, transferListener.getMethod());
+
+    List<List<?>> targetRecords = new ArrayList<>();
+    try (SelectStream selectStream = connection.getDataPath("copy_round_trip").getSelectStream()) {
+      while (selectStream.next()) {
+        targetRecords.add(Arrays.asList(
+          selectStream.getObject(1, Integer.class),
+          selectStream.getObject(2, BigDecimal.class),
+          selectStream.getObject(3, String.class),
+          selectStream.getObject(4, Timestamp.class)
+        ));
+      }
+    }
+    targetRecords.sort((a, b) -> ((Integer) a.get(0)).compareTo((Integer) b.get(0)));
+    Assertions.assertEquals(records.size(), targetRecords.size());
+    for (int i = 0; i < records.size(); i++) {
+      List<?> expected = records.get(i);
+      List<?> actual = targetRecords.get(i);
+      Assertions.assertEquals(expected.get(0), actual.get(0));
+      if (expected.get(1) == null) {
+        Assertions.assertNull(actual.get(1));
+      } else {
+        Assertions.assertEquals(0, ((BigDecimal) expected.get(1)).compareTo((BigDecimal) actual.get(1)), "The amount of the row " + expected.get(0));
+      }
+      Assertions.assertEquals(expected.get(2), actual.get(2), "An empty string and a null are not the same in a CSV copy");
+      Assertions.assertEquals(expected.get(3), actual.get(3));
+    }
+
+  }
+
+}
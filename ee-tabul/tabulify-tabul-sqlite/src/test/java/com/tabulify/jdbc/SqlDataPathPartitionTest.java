@@ -0,0 +1,117 @@
+package com.tabulify.jdbc;
+
+import com.tabulify.Tabular;
+import com.tabulify.spi.DataPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The partitions are created without the connection bound
+ * (ie Sqlite accepts only one writer connection)
+ */
+public class SqlDataPathPartitionTest {
+
+  private Tabular tabular;
+  private SqlConnection connection;
+
+  @BeforeEach
+  public void setUp() {
+    tabular = Tabular.tabularWithoutConfigurationFile();
+    Path dbPath = tabular.getTempFile("partition", ".db").getAbsoluteNioPath();
+    connection = (SqlConnection) tabular.createRuntimeConnection("jdbc:sqlite:" + dbPath.toAbsolutePath().toString().replace("\\", "/"));
+  }
+
+  @AfterEach
+  public void tearDown() {
+    connection.close();
+    tabular.close();
+  }
+
+  /**
+   * The union of the range partitions is the table (the null keys included)
+   */
+  @Test
+  public void rangePartitionTest() {
+
+    // a primary key that is not an `integer primary key` may be null in Sqlite
+    connection.getDataSystem().execute("create table t(id int primary key, v text)");
+    StringBuilder insert = new StringBuilder("insert into t values (null, 'n1'), (null, 'n2')");
+    for (int i = 1; i <= 100; i++) {
+      int id = i * i % 997;
+      insert.append(", (").append(id).append(", 'v").append(i).append("')");
+    }
+    connection.getDataSystem().execute(insert.toString());
+
+    SqlDataPath table = connection.getDataPath("t");
+    for (int count : List.of(2, 3, 7)) {
+      List<DataPath> partitions = table.createSelectPartitions(count);
+      Assertions.assertEquals(count, partitions.size(), "The number of partitions");
+      assertUnion(table, partitions);
+    }
+
+  }
+
+  /**
+   * A table that can't be split is only one partition
+   */
+  @Test
+  public void singlePartitionTest() {
+
+    connection.getDataSystem().execute("create table single(id int primary key, v text)");
+    connection.getDataSystem().execute("insert into single values (1, 'a')");
+    SqlDataPath single = connection.getDataPath("single");
+    List<DataPath> partitions = single.createSelectPartitions(4);
+    Assertions.assertEquals(1, partitions.size(), "A single row table has only one partition");
+    assertUnion(single, partitions);
+
+    connection.getDataSystem().execute("create table only_null(id int primary key, v text)");
+    connection.getDataSystem().execute("insert into only_null values (null, 'a'), (null, 'b')");
+    SqlDataPath onlyNull = connection.getDataPath("only_null");
+    partitions = onlyNull.createSelectPartitions(4);
+    Assertions.assertEquals(1, partitions.size(), "A table with only null keys has only one partition");
+    assertUnion(onlyNull, partitions);
+
+    connection.getDataSystem().execute("create table empty(id int primary key, v text)");
+    SqlDataPath empty = connection.getDataPath("empty");
+    Assertions.assertEquals(1, empty.createSelectPartitions(4).size(), "An empty table has only one partition");
+
+    connection.getDataSystem().execute("create table no_key(id int, v text)");
+    SqlDataPath noKey = connection.getDataPath("no_key");
+    Assertions.assertEquals(1, noKey.createSelectPartitions(4).size(), "A table without primary key has only one partition");
+
+  }
+
+  /**
+   * Sqlite accepts only one writer connection, the table is not split
+   */
+  @Test
+  public void connectionBoundTest() {
+
+    connection.getDataSystem().execute("create table t(id int primary key)");
+    connection.getDataSystem().execute("insert into t values (1), (2), (3)");
+    Assertions.assertEquals(1, connection.getDataPath("t").getSelectPartitions(4).size());
+
+  }
+
+  private void assertUnion(DataPath table, List<DataPath> partitions) {
+
+    List<List<?>> union = new ArrayList<>();
+    for (DataPath partition : partitions) {
+      union.addAll(partition.getRecords());
+    }
+    List<List<?>> expected = table.getRecords();
+    Comparator<List<?>> byString = Comparator.comparing(Object::toString);
+    expected.sort(byString);
+    union.sort(byString);
+    Assertions.assertEquals(expected, union, "The partitions should have all records once");
+
+  }
+
+}
@@ -0,0 +1,151 @@
+package com.tabulify.sqlite;
+
+import com.tabulify.Tabular;
+import com.tabulify.jdbc.SqlConnection;
+import com.tabulify.jdbc.SqlDataPath;
+import com.tabulify.jdbc.SqlObjectConverter;
+import com.tabulify.model.SqlDataType;
+import com.tabulify.model.SqlDataTypeAnsi;
+import com.tabulify.spi.DataPath;
+import com.tabulify.spi.SelectException;
+import com.tabulify.spi.Tabulars;
+import com.tabulify.stream.InsertStream;
+import com.tabulify.stream.SelectStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The binding of the values to the parameters of an insert statement
+ * (ie the {@link com.tabulify.jdbc.SqlBindingPlan binding plan} and its {@link SqlObjectConverter converters})
+ */
+public class SqliteBindingTest {
+
+  private Tabular tabular;
+  private SqlConnection connection;
+
+  @BeforeEach
+  public void setUp() {
+    tabular = Tabular.tabularWithoutConfigurationFile();
+    Path dbPath = tabular.getTempFile("binding", ".db").getAbsoluteNioPath();
+    connection = (SqlConnection) tabular.createRuntimeConnection("jdbc:sqlite:" + dbPath.toAbsolutePath().toString().replace("\\", "/"));
+  }
+
+  @AfterEach
+  public void tearDown() {
+    connection.close();
+    tabular.close();
+  }
+
+  /**
+   * The values (null included) are read back as they were inserted
+   */
+  @Test
+  public void roundTripTest() throws SelectException {
+
+    Date date = Date.valueOf("2024-02-29");
+    Timestamp timestamp = Timestamp.valueOf("2024-02-29 13:14:15.123");
+    DataPath source = tabular.getMemoryConnection().getDataPath("source");
+    source.getOrCreateRelationDef()
+      .addColumn("id", Integer.class)
+      .addColumn("amount", SqlDataTypeAnsi.DECIMAL, 10, 2)
+      .addColumn("ratio", Double.class)
+      .addColumn("label", String.class)
+      .addColumn("day", Date.class)
+      .addColumn("at", Timestamp.class);
+    List<List<?>> records = List.of(
+      Arrays.asList(1, new BigDecimal("12.50"), 0.25, "it's, \"quoted\"", date, timestamp),
+      Arrays.asList(2, null, null, null, null, null)
+    );
+    try (InsertStream insertStream = source.getInsertStream()) {
+      records.forEach(insertStream::insert);
+    }
+
+    SqlDataPath target = connection.getDataPath("binding");
+    Tabulars.copy(source, target);
+
+    List<List<?>> targetRecords = new ArrayList<>();
+    try (SelectStream selectStream = target.getSelectStream()) {
+      while (selectStream.next()) {
+        // Sqlite has no time type, the date and timestamp are stored as SQL literal
+        targetRecords.add(new ArrayList<>(selectStream.getObjects()));
+      }
+    }
+    Assertions.assertEquals(2, targetRecords.size());
+    List<?> first = targetRecords.get(0);
+    Assertions.assertEquals(1, first.get(0));
+    Assertions.assertEquals(0, new BigDecimal("12.50").compareTo(new BigDecimal(first.get(1).toString())));
+    Assertions.assertEquals(0.25, ((Number) first.get(2)).doubleValue());
+    Assertions.assertEquals("it's, \"quoted\"", first.get(3));
+    Assertions.assertEquals("2024-02-29", first.get(4));
+    Assertions.assertEquals("2024-02-29 13:14:15.123", first.get(5));
+    Assertions.assertEquals(Arrays.asList(2, null, null, null, null, null), targetRecords.get(1));
+
+  }
+
+  /**
+   * A string source value is converted to the numeric type of the target
+   */
+  @Test
+  public void stringToNumericTest() throws SelectException {
+
+    connection.getDataSystem().execute("create table num(i integer, d decimal(10,2), r double)");
+    DataPath source = tabular.getMemoryConnection().getDataPath("source");
+    source.getOrCreateRelationDef()
+      .addColumn("i", String.class)
+      .addColumn("d", String.class)
+      .addColumn("r", String.class);
+    try (InsertStream insertStream = source.getInsertStream()) {
+      insertStream.insert(Arrays.asList("42", "12.50", "0.25"));
+    }
+    SqlDataPath target = connection.getDataPath("num");
+    Tabulars.insert(source, target);
+
+    try (SelectStream selectStream = target.getSelectStream()) {
+      Assertions.assertTrue(selectStream.next());
+      Assertions.assertEquals(42, selectStream.getObject(1, Integer.class));
+      Assertions.assertEquals(0, new BigDecimal("12.50").compareTo(selectStream.getObject(2, BigDecimal.class)));
+      Assertions.assertEquals(0.25, selectStream.getObject(3, Double.class));
+    }
+
+  }
+
+  /**
+   * The converters follow the time and boolean storage of the connection
+   * (ie Sqlite has no time or boolean type)
+   */
+  @Test
+  public void converterTest() throws Exception {
+
+    connection.getDataSystem().execute("create table conv(d date, t timestamp, b boolean, i integer)");
+    SqlDataPath table = connection.getDataPath("conv");
+
+    SqlDataType<?> dateType = table.getOrCreateRelationDef().getColumnDef("d").getDataType();
+    SqlObjectConverter dateConverter = connection.createSqlObjectConverter(dateType);
+    Assertions.assertEquals("2024-02-29", dateConverter.toSqlObject(Date.valueOf("2024-02-29")));
+    Assertions.assertEquals("2024-02-29", dateConverter.toSqlObject("2024-02-29"));
+
+    SqlDataType<?> timestampType = table.getOrCreateRelationDef().getColumnDef("t").getDataType();
+    Assertions.assertEquals("2024-02-29 13:14:15.123", connection.createSqlObjectConverter(timestampType).toSqlObject(Timestamp.valueOf("2024-02-29 13:14:15.123")));
+
+    SqlDataType<?> booleanType = table.getOrCreateRelationDef().getColumnDef("b").getDataType();
+    SqlObjectConverter booleanConverter = connection.createSqlObjectConverter(booleanType);
+    Assertions.assertEquals(1, booleanConverter.toSqlObject(true));
+    Assertions.assertEquals(0, booleanConverter.toSqlObject("false"));
+
+    SqlDataType<?> integerType = table.getOrCreateRelationDef().getColumnDef("i").getDataType();
+    Assertions.assertEquals(42, connection.createSqlObjectConverter(integerType).toSqlObject("42"));
+    Assertions.assertNull(connection.toSqlObject(null, integerType), "A null is not converted");
+
+  }
+
+}
@@ -0,0 +1,185 @@
+package com.tabulify.sqlite;
+
+import com.tabulify.Tabular;
+import com.tabulify.conf.Origin;
+import com.tabulify.jdbc.*;
+import com.tabulify.spi.Tabulars;
+import com.tabulify.type.KeyNormalizer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class SqliteCacheTest {
+
+  private Tabular tabular;
+  private SqlConnection connection;
+
+  @BeforeEach
+  public void setUp() {
+    tabular = Tabular.tabularWithoutConfigurationFile();
+    Path dbPath = tabular.getTempFile("cache", ".db").getAbsoluteNioPath();
+    connection = (SqlConnection) tabular.createRuntimeConnection("jdbc:sqlite:" + dbPath.toAbsolutePath().toString().replace("\\", "/"));
+  }
+
+  @AfterEach
+  public void tearDown() {
+    connection.close();
+    tabular.close();
+  }
+
+  /**
+   * A statement of a user may create, drop or alter any table
+   * and invalidates then all metadata snapshots
+   */
+  @Test
+  public void executeInvalidatesMetaSchemasTest() {
+
+    SqlCache cache = connection.getCache();
+    cache.putMetaSchema(SqlMetaSchema.create("cat", "sch", Map.of("t", List.of(SqlMetaColumn.createOf("id")))));
+    Assertions.assertNotNull(cache.getMetaSchema("cat", "sch"));
+
+    connection.getDataSystem().execute("create table t(id int)");
+    Assertions.assertNull(cache.getMetaSchema("cat", "sch"), "The snapshot should have been invalidated");
+
+  }
+
+  /**
+   * The cache is full: the least recently used data paths are evicted down to 90% of the maximum size
+   */
+  @Test
+  public void maxSizeTest() {
+
+    connection.addAttribute(KeyNormalizer.createSafe(SqlConnectionAttributeEnum.BUILDER_CACHE_MAX_SIZE.toString()), 10, Origin.COMMAND_LINE);
+    SqlCache cache = connection.getCache();
+    List<SqlDataPath> dataPaths = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      dataPaths.add(connection.getDataPath("t" + i));
+    }
+    Assertions.assertEquals(10, cache.size());
+    Assertions.assertEquals(0, cache.getEvictionCount());
+
+    // t0 is used again, t1 is then the least recently used
+    Assertions.assertSame(dataPaths.get(0), connection.getDataPath("t0"));
+    connection.getDataPath("t10");
+    Assertions.assertEquals(9, cache.size(), "The cache should be evicted down to 90%");
+    Assertions.assertEquals(2, cache.getEvictionCount());
+    Assertions.assertTrue(cache.inCache(dataPaths.get(0)), "The recently used data path should be kept");
+    Assertions.assertFalse(cache.inCache(dataPaths.get(1)), "The least recently used data path should be evicted");
+    Assertions.assertFalse(cache.inCache(dataPaths.get(2)), "The least recently used data path should be evicted");
+    Assertions.assertNotSame(dataPaths.get(1), connection.getDataPath("t1"), "An evicted data path is built again");
+
+  }
+
+  /**
+   * A full cache does not evict a data path that holds a relation def
+   * (ie the columns defined by the user would be lost)
+   */
+  @Test
+  public void statefulDataPathTest() {
+
+    connection.addAttribute(KeyNormalizer.createSafe(SqlConnectionAttributeEnum.BUILDER_CACHE_MAX_SIZE.toString()), 10, Origin.COMMAND_LINE);
+    SqlCache cache = connection.getCache();
+    List<SqlDataPath> dataPaths = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      dataPaths.add(connection.getDataPath("t" + i));
+    }
+    // t0 is the least recently used but is stateful
+    SqlDataPath stateful = dataPaths.get(0);
+    stateful.getOrCreateRelationDef().addColumn("id", Integer.class);
+    connection.getDataPath("t10");
+    Assertions.assertEquals(9, cache.size(), "The cache should be evicted down to 90%");
+    Assertions.assertTrue(cache.inCache(stateful), "The stateful data path should be kept");
+    Assertions.assertSame(stateful, connection.getDataPath("t0"));
+    Assertions.assertFalse(cache.inCache(dataPaths.get(1)), "The least recently used stateless data path should be evicted");
+    Assertions.assertFalse(cache.inCache(dataPaths.get(2)), "The least recently used stateless data path should be evicted");
+
+  }
+
+  /**
+   * An expired data path is built again
+   */
+  @Test
+  public void timeToLiveTest() throws InterruptedException {
+
+    connection.addAttribute(KeyNormalizer.createSafe(SqlConnectionAttributeEnum.BUILDER_CACHE_TTL_SECONDS.toString()), 1, Origin.COMMAND_LINE);
+    SqlCache cache = connection.getCache();
+    SqlDataPath dataPath = connection.getDataPath("t");
+    Assertions.assertSame(dataPath, connection.getDataPath("t"));
+    Thread.sleep(1100);
+    Assertions.assertNotSame(dataPath, connection.getDataPath("t"), "The expired data path should be built again");
+    Assertions.assertEquals(1, cache.getEvictionCount());
+
+  }
+
+  /**
+   * The counters are published as connection attributes
+   */
+  @Test
+  public void countersTest() {
+
+    connection.getDataPath("t");
+    connection.getDataPath("t");
+    connection.getDataPath("t");
+    Assertions.assertEquals(2L, connection.getAttribute(SqlConnectionAttributeEnum.BUILDER_CACHE_HIT_COUNT).getValueOrDefault());
+    Assertions.assertEquals(1L, connection.getAttribute(SqlConnectionAttributeEnum.BUILDER_CACHE_MISS_COUNT).getValueOrDefault());
+    Assertions.assertEquals(0L, connection.getAttribute(SqlConnectionAttributeEnum.BUILDER_CACHE_EVICTION_COUNT).getValueOrDefault());
+
+  }
+
+  /**
+   * A table created or dropped after its data path was evicted
+   */
+  @Test
+  public void evictedDataPathTest() {
+
+    SqlCache cache = connection.getCache();
+    SqlDataPath dataPath = connection.getDataPath("t");
+    dataPath.getOrCreateRelationDef().addColumn("id", Integer.class);
+    cache.empty();
+
+    // The created data path is put back in the cache under the key of its creation
+    Tabulars.create(dataPath);
+    Assertions.assertTrue(cache.inCache(dataPath));
+    Assertions.assertSame(dataPath, connection.getDataPath("t"));
+
+    // A drop (without if exists) of a data path that is no more in the cache is not an error
+    cache.empty();
+    Tabulars.drop(dataPath);
+    Assertions.assertFalse(Tabulars.exists(dataPath));
+
+  }
+
+  /**
+   * With the builder cache, the existence is answered from a snapshot of the object names of the schema
+   * that is invalidated by a create and a drop
+   */
+  @Test
+  public void objectNamesSnapshotTest() {
+
+    SqlCache cache = connection.getCache();
+    Assertions.assertTrue(cache.isBuilderCacheEnabled());
+
+    SqlDataPath dataPath = connection.getDataPath("t");
+    dataPath.getOrCreateRelationDef().addColumn("id", Integer.class);
+    Assertions.assertFalse(Tabulars.exists(dataPath), "The snapshot is taken without the table");
+
+    Tabulars.create(dataPath);
+    Assertions.assertTrue(Tabulars.exists(dataPath), "The snapshot should have been invalidated by the create");
+
+    Tabulars.drop(dataPath);
+    Assertions.assertFalse(Tabulars.exists(dataPath), "The snapshot should have been invalidated by the drop");
+
+    SqlDataPath statementDataPath = connection.getDataPath("u");
+    Assertions.assertFalse(Tabulars.exists(statementDataPath));
+    connection.getDataSystem().execute("create table u(id int)");
+    Assertions.assertTrue(Tabulars.exists(statementDataPath), "The snapshot should have been invalidated by the statement");
+
+  }
+
+}
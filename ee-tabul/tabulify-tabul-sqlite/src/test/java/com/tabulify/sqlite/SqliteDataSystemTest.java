@@ -0,0 +1,51 @@
+package com.tabulify.sqlite;
+
+import com.tabulify.Tabular;
+import com.tabulify.jdbc.SqlConnection;
+import com.tabulify.jdbc.SqlDataPath;
+import com.tabulify.spi.Tabulars;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+
+public class SqliteDataSystemTest {
+
+  private Tabular tabular;
+  private SqlConnection connection;
+
+  @BeforeEach
+  public void setUp() {
+    tabular = Tabular.tabularWithoutConfigurationFile();
+    Path dbPath = tabular.getTempFile("data-system", ".db").getAbsoluteNioPath();
+    connection = (SqlConnection) tabular.createRuntimeConnection("jdbc:sqlite:" + dbPath.toAbsolutePath().toString().replace("\\", "/"));
+  }
+
+  @AfterEach
+  public void tearDown() {
+    connection.close();
+    tabular.close();
+  }
+
+  /**
+   * The emptiness of a table and of a view is probed with the first record
+   */
+  @Test
+  public void isEmptyTest() {
+
+    connection.getDataSystem().execute("create table t(id int)");
+    connection.getDataSystem().execute("create view v as select id from t");
+    SqlDataPath table = connection.getDataPath("t");
+    SqlDataPath view = connection.getDataPath("v");
+    Assertions.assertTrue(Tabulars.isEmpty(table));
+    Assertions.assertTrue(Tabulars.isEmpty(view));
+
+    connection.getDataSystem().execute("insert into t(id) values (1), (2)");
+    Assertions.assertFalse(Tabulars.isEmpty(table));
+    Assertions.assertFalse(Tabulars.isEmpty(view));
+
+  }
+
+}
@@ -0,0 +1,158 @@
+package com.tabulify.sqlite;
+
+import com.tabulify.Tabular;
+import com.tabulify.connection.Connection;
+import com.tabulify.jdbc.SqlConnection;
+import com.tabulify.memory.list.MemoryListDataPath;
+import com.tabulify.spi.DataPath;
+import com.tabulify.spi.SelectException;
+import com.tabulify.stream.SelectStream;
+import com.tabulify.transfer.TransferManager;
+import com.tabulify.transfer.TransferOperation;
+import com.tabulify.transfer.TransferPropertiesCross;
+import com.tabulify.transfer.TransferPropertiesSystem;
+import com.tabulify.transfer.TransferSourceTarget;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A child source that is generated with its parent (ie stream dependent as the tpcds returns with their sales)
+ * is transferred together with it:
+ * * one thread by stream in memory
+ * * in turn in Sqlite (one writer connection)
+ */
+public class SqliteStreamDependentTransferTest {
+
+  private static final int PARENT_SIZE = 2500;
+  private static final int BATCH_SIZE = 100;
+
+  private Tabular tabular;
+  private SqlConnection connection;
+
+  @BeforeEach
+  public void setUp() {
+    tabular = Tabular.tabularWithoutConfigurationFile();
+    Path dbPath = tabular.getTempFile("stream", ".db").getAbsoluteNioPath();
+    connection = (SqlConnection) tabular.createRuntimeConnection("jdbc:sqlite:" + dbPath.toAbsolutePath().toString().replace("\\", "/"));
+  }
+
+  @AfterEach
+  public void tearDown() {
+    connection.close();
+    tabular.close();
+  }
+
+  @Test
+  public void memoryTargetTest() throws SelectException {
+    transferAndCompare(tabular.getMemoryConnection());
+  }
+
+  @Test
+  public void sqlTargetTest() throws SelectException {
+    transferAndCompare(connection);
+  }
+
+  /**
+   * Every row of the targets should be the row of its source
+   * (ie a row is not lost, doubled or overwritten by the next one)
+   */
+  private void transferAndCompare(Connection targetConnection) throws SelectException {
+
+    List<TransferSourceTarget> transfers = new ArrayList<>();
+    for (DataPath source : createSources()) {
+      DataPath target = targetConnection.getDataPath("target_" + source.getName());
+      if (target instanceof MemoryListDataPath) {
+        // a memory data path always exists, its structure is not created by the transfer
+        target.getOrCreateRelationDef().copyDataDef(source);
+      }
+      transfers.add(TransferSourceTarget.create(source, target));
+    }
+    TransferManager.builder()
+      .setTransferPropertiesSystem(TransferPropertiesSystem.builder().setOperation(TransferOperation.COPY))
+      .setTransferCrossProperties(TransferPropertiesCross.create().setBatchSize(BATCH_SIZE))
+      .build()
+      .createOrder(transfers)
+      .execute();
+
+    for (TransferSourceTarget transfer : transfers) {
+      List<List<String>> sourceRows = read(transfer.getSourceDataPath());
+      List<List<String>> targetRows = read(transfer.getTargetDataPath());
+      Assertions.assertFalse(sourceRows.isEmpty(), "The source " + transfer.getSourceDataPath() + " should have rows");
+      Assertions.assertEquals(sourceRows.size(), targetRows.size(), "The number of rows of " + transfer.getTargetDataPath());
+      for (int i = 0; i < sourceRows.size(); i++) {
+        Assertions.assertEquals(sourceRows.get(i), targetRows.get(i), "The row " + (i + 1) + " of " + transfer.getTargetDataPath());
+      }
+    }
+
+  }
+
+  /**
+   * @return a parent and a child with a stream dependency on it (a child row by even parent row)
+   */
+  private List<DataPath> createSources() {
+
+    MemoryListDataPath parent = MemoryListDataPath.of(tabular.getMemoryConnection(), "parent");
+    parent.getOrCreateRelationDef()
+      .addColumn("id", Integer.class)
+      .addColumn("label", String.class);
+    MemoryListDataPath child = new MemoryListDataPath(tabular.getMemoryConnection(), "child") {
+      @Override
+      public DataPath getSelectStreamDependency() {
+        return parent;
+      }
+    };
+    child.getOrCreateRelationDef()
+      .addColumn("id", Integer.class)
+      .addColumn("parent_id", Integer.class)
+      .addColumn("amount", Double.class);
+    for (int i = 1; i <= PARENT_SIZE; i++) {
+      parent.getValues().add(Arrays.asList(i, i % 7 == 0 ? null : "label " + i));
+      if (i % 2 == 0) {
+        child.getValues().add(Arrays.asList(i / 2, i, i % 5 == 0 ? null : i / 4.0));
+      }
+    }
+    return List.of(parent, child);
+
+  }
+
+  /**
+   * @return the rows with the values as string
+   * (the numbers are normalized as the Sqlite storage class of a number may differ from its source class)
+   */
+  private List<List<String>> read(DataPath dataPath) throws SelectException {
+
+    List<List<String>> rows = new ArrayList<>();
+    try (SelectStream selectStream = dataPath.getSelectStream()) {
+      while (selectStream.next()) {
+        List<String> row = new ArrayList<>();
+        for (Object value : selectStream.getObjects()) {
+          row.add(normalize(value));
+        }
+        rows.add(row);
+      }
+    }
+    return rows;
+
+  }
+
+  private String normalize(Object value) {
+    if (value == null) {
+      return null;
+    }
+    String string = value.toString();
+    try {
+      return new BigDecimal(string).stripTrailingZeros().toPlainString();
+    } catch (NumberFormatException e) {
+      return string;
+    }
+  }
+
+}
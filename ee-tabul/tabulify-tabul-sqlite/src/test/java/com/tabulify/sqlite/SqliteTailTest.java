@@ -0,0 +1,67 @@
+package com.tabulify.sqlite;
+
+import com.tabulify.Tabular;
+import com.tabulify.jdbc.SqlConnection;
+import com.tabulify.jdbc.SqlDataPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * The last records of a table
+ */
+public class SqliteTailTest {
+
+  private Tabular tabular;
+  private SqlConnection connection;
+
+  @BeforeEach
+  public void setUp() {
+    tabular = Tabular.tabularWithoutConfigurationFile();
+    Path dbPath = tabular.getTempFile("tail", ".db").getAbsoluteNioPath();
+    connection = (SqlConnection) tabular.createRuntimeConnection("jdbc:sqlite:" + dbPath.toAbsolutePath().toString().replace("\\", "/"));
+  }
+
+  @AfterEach
+  public void tearDown() {
+    connection.close();
+    tabular.close();
+  }
+
+  /**
+   * With a primary key, the last records are the records with the greatest keys in the key order
+   */
+  @Test
+  public void primaryKeyTest() {
+
+    connection.getDataSystem().execute("create table pk(id integer primary key, name varchar(10))");
+    connection.getDataSystem().execute("insert into pk(id, name) values (3, 'c'), (1, 'a'), (5, 'e'), (2, 'b'), (4, 'd')");
+    SqlDataPath table = connection.getDataPath("pk");
+    Assertions.assertNotNull(table.getOrCreateRelationDef().getPrimaryKey());
+
+    Assertions.assertEquals(List.of(List.of(4, "d"), List.of(5, "e")), table.getTailRecords(2));
+    Assertions.assertEquals(List.of(List.of(1, "a"), List.of(2, "b"), List.of(3, "c"), List.of(4, "d"), List.of(5, "e")), table.getTailRecords(10), "A table with fewer records returns all of them");
+
+  }
+
+  /**
+   * Without primary key, the last records are the last records of the select stream
+   */
+  @Test
+  public void noPrimaryKeyTest() {
+
+    connection.getDataSystem().execute("create table nopk(id integer, name varchar(10))");
+    connection.getDataSystem().execute("insert into nopk(id, name) values (3, 'c'), (1, 'a'), (5, 'e'), (2, 'b'), (4, 'd')");
+    SqlDataPath table = connection.getDataPath("nopk");
+    Assertions.assertNull(table.getOrCreateRelationDef().getPrimaryKey());
+
+    Assertions.assertEquals(List.of(List.of(2, "b"), List.of(4, "d")), table.getTailRecords(2));
+    Assertions.assertEquals(5, table.getTailRecords(10).size(), "A table with fewer records returns all of them");
+
+  }
+
+}
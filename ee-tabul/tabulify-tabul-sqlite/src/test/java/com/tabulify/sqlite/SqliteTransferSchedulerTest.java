@@ -0,0 +1,185 @@
+package com.tabulify.sqlite;
+
+import com.tabulify.Tabular;
+import com.tabulify.jdbc.SqlConnection;
+import com.tabulify.jdbc.SqlDataPath;
+import com.tabulify.memory.list.MemoryListDataPath;
+import com.tabulify.spi.DataPath;
+import com.tabulify.spi.Tabulars;
+import com.tabulify.stream.InsertStream;
+import com.tabulify.transfer.TransferListener;
+import com.tabulify.transfer.TransferManager;
+import com.tabulify.transfer.TransferOperation;
+import com.tabulify.transfer.TransferPropertiesCross;
+import com.tabulify.transfer.TransferPropertiesSystem;
+import com.tabulify.transfer.TransferSourceTarget;
+import com.tabulify.type.time.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The scheduling of the transfers executed concurrently
+ * (Sqlite has one writer and one reader connection)
+ */
+public class SqliteTransferSchedulerTest {
+
+  private static final int TRANSFER_COUNT = 4;
+  private static final int ROW_COUNT = 500;
+
+  private Tabular tabular;
+  private SqlConnection source;
+  private SqlConnection firstTarget;
+  private SqlConnection secondTarget;
+
+  @BeforeEach
+  public void setUp() {
+    tabular = Tabular.tabularWithoutConfigurationFile();
+    source = createConnection("source");
+    firstTarget = createConnection("first");
+    secondTarget = createConnection("second");
+  }
+
+  @AfterEach
+  public void tearDown() {
+    source.close();
+    firstTarget.close();
+    secondTarget.close();
+    tabular.close();
+  }
+
+  /**
+   * The transfers into the same Sqlite target do not overlap
+   */
+  @Test
+  public void writerLimitTest() {
+
+    List<TransferSourceTarget> transfers = new ArrayList<>();
+    for (int i = 0; i < TRANSFER_COUNT; i++) {
+      MemoryListDataPath memorySource = createMemorySource("source_" + i);
+      SqlConnection target = i % 2 == 0 ? firstTarget : secondTarget;
+      transfers.add(TransferSourceTarget.create(memorySource, target.getDataPath("target_" + i)));
+    }
+    List<TransferListener> listeners = execute(transfers);
+
+    assertNoOverlap(listeners, listener -> listener.getTransferSourceTarget().getTargetDataPath().getConnection().getName().toString());
+    assertRowCount(transfers);
+
+  }
+
+  /**
+   * The transfers from the same Sqlite source do not overlap
+   */
+  @Test
+  public void readerLimitTest() {
+
+    List<TransferSourceTarget> transfers = new ArrayList<>();
+    for (int i = 0; i < TRANSFER_COUNT; i++) {
+      SqlDataPath sqlSource = source.getDataPath("source_" + i);
+      Tabulars.copy(createMemorySource("memory_" + i), sqlSource);
+      SqlConnection target = i % 2 == 0 ? firstTarget : secondTarget;
+      transfers.add(TransferSourceTarget.create(sqlSource, target.getDataPath("target_" + i)));
+    }
+    List<TransferListener> listeners = execute(transfers);
+
+    assertNoOverlap(listeners, listener -> listener.getTransferSourceTarget().getSourceDataPath().getConnection().getName().toString());
+    assertRowCount(transfers);
+
+  }
+
+  /**
+   * A child is transferred when its foreign key parent is done
+   * even if they are written into two different connections
+   */
+  @Test
+  public void parentBeforeChildTest() {
+
+    MemoryListDataPath parent = createMemorySource("parent");
+    parent.getOrCreateRelationDef().setPrimaryKey("id");
+    MemoryListDataPath child = createMemorySource("child");
+    child.getOrCreateRelationDef().addForeignKey(parent, "id");
+    // the child is first in the list
+    List<TransferSourceTarget> transfers = List.of(
+      TransferSourceTarget.create(child, firstTarget.getDataPath("child")),
+      TransferSourceTarget.create(parent, secondTarget.getDataPath("parent"))
+    );
+    List<TransferListener> listeners = execute(transfers);
+
+    Map<String, Timer> timers = new HashMap<>();
+    for (TransferListener listener : listeners) {
+      timers.put(listener.getTransferSourceTarget().getSourceDataPath().getName(), listener.getTimer());
+    }
+    Assertions.assertFalse(
+      timers.get("child").getStartTime().isBefore(timers.get("parent").getEndTime()),
+      "The child should start after the end of its parent"
+    );
+    assertRowCount(transfers);
+
+  }
+
+  private SqlConnection createConnection(String name) {
+    Path dbPath = tabular.getTempFile(name, ".db").getAbsoluteNioPath();
+    return (SqlConnection) tabular.createRuntimeConnection("jdbc:sqlite:" + dbPath.toAbsolutePath().toString().replace("\\", "/"));
+  }
+
+  private MemoryListDataPath createMemorySource(String name) {
+
+    MemoryListDataPath memorySource = (MemoryListDataPath) tabular.getMemoryConnection().getDataPath(name);
+    memorySource.getOrCreateRelationDef()
+      .addColumn("id", Integer.class)
+      .addColumn("label", String.class);
+    try (InsertStream insertStream = memorySource.getInsertStream()) {
+      for (int i = 1; i <= ROW_COUNT; i++) {
+        insertStream.insert(Arrays.asList(i, "label " + i));
+      }
+    }
+    return memorySource;
+
+  }
+
+  private List<TransferListener> execute(List<TransferSourceTarget> transfers) {
+    return TransferManager.builder()
+      .setTransferPropertiesSystem(TransferPropertiesSystem.builder().setOperation(TransferOperation.COPY))
+      .setTransferCrossProperties(TransferPropertiesCross.create().setTransferWorkerCount(TRANSFER_COUNT))
+      .build()
+      .createOrder(transfers)
+      .execute()
+      .getTransferListeners();
+  }
+
+  /**
+   * The transfers that share a connection should run one after the other
+   */
+  private void assertNoOverlap(List<TransferListener> listeners, Function<TransferListener, String> sharedConnection) {
+    Assertions.assertEquals(TRANSFER_COUNT, listeners.size());
+    for (TransferListener first : listeners) {
+      for (TransferListener second : listeners) {
+        if (first == second || !sharedConnection.apply(first).equals(sharedConnection.apply(second))) {
+          continue;
+        }
+        Timer firstTimer = first.getTimer();
+        Timer secondTimer = second.getTimer();
+        boolean overlap = firstTimer.getStartTime().isBefore(secondTimer.getEndTime())
+          && secondTimer.getStartTime().isBefore(firstTimer.getEndTime());
+        Assertions.assertFalse(overlap, "The transfers " + first.getTransferSourceTarget() + " and " + second.getTransferSourceTarget() + " should not overlap");
+      }
+    }
+  }
+
+  private void assertRowCount(List<TransferSourceTarget> transfers) {
+    for (TransferSourceTarget transfer : transfers) {
+      DataPath target = transfer.getTargetDataPath();
+      Assertions.assertEquals(ROW_COUNT, target.getCount(), "The number of rows of " + target);
+    }
+  }
+
+}
@@ -2,6 +2,7 @@ package com.tabulify.excel;
 
 import com.tabulify.conf.Attribute;
 import com.tabulify.fs.FsConnection;
+import com.tabulify.fs.Fs;
 import com.tabulify.fs.FsDataPath;
 import com.tabulify.fs.binary.FsBinaryDataPath;
 import com.tabulify.model.RelationDef;
@@ -19,6 +20,7 @@ import org.apache.poi.ss.usermodel.Cell;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
 
 public class ExcelDataPath extends FsBinaryDataPath {
@@ -46,6 +48,10 @@ public class ExcelDataPath extends FsBinaryDataPath {
       if (!Files.exists(this.getAbsoluteNioPath())) {
         return this.relationDef;
       }
+      if (this.isStreamingRead()) {
+        buildRelationDefFromStream();
+        return this.relationDef;
+      }
       this.excelSheet = this.getExcelSheet(PackageAccess.READ);
 
 
@@ -67,6 +73,114 @@ public class ExcelDataPath extends FsBinaryDataPath {
   }
 
 
+  /**
+   * Build the columns with the {@link ExcelStreamingSheetReader}
+   * (the names from the header row, the data types from the first row of data)
+   */
+  private void buildRelationDefFromStream() {
+    int headerRowId = this.getHeaderRowId();
+    List<Object> headerRow = null;
+    List<Object> firstRowWithData = null;
+    try (ExcelStreamingSheetReader reader = ExcelStreamingSheetReader.create(this.getAbsoluteNioPath(), this.getSheetName())) {
+      List<Object> row;
+      while ((row = reader.nextRow()) != null) {
+        if (reader.getRowNum() == headerRowId) {
+          headerRow = row;
+          continue;
+        }
+        if (reader.getRowNum() > headerRowId) {
+          firstRowWithData = row;
+          break;
+        }
+      }
+    }
+    if (firstRowWithData == null) {
+      // empty sheet, data type may be given manually
+      return;
+    }
+    for (int i = 0; i < firstRowWithData.size(); i++) {
+      int columnId = i + 1;
+      String columnName = "col" + columnId;
+      if (headerRow != null && i < headerRow.size() && headerRow.get(i) != null) {
+        Object headerValue = headerRow.get(i);
+        if (!(headerValue instanceof String)) {
+          throw new IllegalArgumentException("The cell (" + headerRowId + "," + columnId + ") with the value (" + headerValue + ") can be an header as it is not of STRING type");
+        }
+        columnName = (String) headerValue;
+      }
+      this.relationDef.addColumn(columnName, ExcelStreamingSheetReader.toSqlType(firstRowWithData.get(i)));
+    }
+  }
+
+  /**
+   * @return true if the file is read with the {@link ExcelStreamingSheetReader}
+   * (See {@link ExcelDataPathAttribute#STREAMING_READ})
+   */
+  public boolean isStreamingRead() {
+    if (!Fs.getExtension(this.getAbsoluteNioPath()).equals(ExcelManagerProvider.XLSX)) {
+      return false;
+    }
+    try {
+      return (boolean) this.getAttribute(ExcelDataPathAttribute.STREAMING_READ).getValueOrDefault();
+    } catch (NoVariableException e) {
+      throw new InternalException("The STREAMING_READ has already a default, this should not happen", e);
+    }
+  }
+
+  public ExcelDataPath setStreamingRead(boolean streamingRead) {
+    try {
+      this.getAttribute(ExcelDataPathAttribute.STREAMING_READ).setPlainValue(streamingRead);
+      return this;
+    } catch (NoVariableException e) {
+      throw new InternalException("The STREAMING_READ has already been added in the constructor, it should not happen");
+    }
+  }
+
+  /**
+   * @return the number of rows kept in memory when writing a xlsx file (0, no streaming)
+   */
+  public int getWriteRowWindow() {
+    if (!Fs.getExtension(this.getAbsoluteNioPath()).equals(ExcelManagerProvider.XLSX)) {
+      return 0;
+    }
+    try {
+      return (int) this.getAttribute(ExcelDataPathAttribute.WRITE_ROW_WINDOW).getValueOrDefault();
+    } catch (NoVariableException e) {
+      throw new InternalException("The WRITE_ROW_WINDOW has already a default, this should not happen", e);
+    }
+  }
+
+  public ExcelDataPath setWriteRowWindow(int writeRowWindow) {
+    try {
+      this.getAttribute(ExcelDataPathAttribute.WRITE_ROW_WINDOW).setPlainValue(writeRowWindow);
+      return this;
+    } catch (NoVariableException e) {
+      throw new InternalException("The WRITE_ROW_WINDOW has already been added in the constructor, it should not happen");
+    }
+  }
+
+  /**
+   * An Excel sheet that is not cached and where the rows are written
+   * with a {@link ExcelDataPathAttribute#WRITE_ROW_WINDOW window} of rows in memory
+   */
+  protected ExcelSheet getStreamingWriteExcelSheet() {
+    // The cached sheet is not up to date anymore after the write
+    this.excelSheet = null;
+    return createExcelSheetConfig(PackageAccess.READ_WRITE)
+      .setRowAccessWindowSize(getWriteRowWindow())
+      .build();
+  }
+
+  private ExcelSheet.ExcelSheetConfig createExcelSheetConfig(PackageAccess packageAccess) {
+    return ExcelSheet
+      .config(this.getAbsoluteNioPath(), packageAccess)
+      .setHeaderId(getHeaderRowId())
+      .setTimestampFormat(getTimestampFormat())
+      .setDateFormat(getDateFormat())
+      .setSheetName(getSheetName())
+      .setDataPath(this);
+  }
+
   /**
    * An internal function to build the  Excel result set only once lazily
    *
@@ -75,14 +189,7 @@ public class ExcelDataPath extends FsBinaryDataPath {
    */
   protected ExcelSheet getExcelSheet(PackageAccess packageAccess) {
     if (excelSheet == null) {
-      this.excelSheet = ExcelSheet
-        .config(this.getAbsoluteNioPath(), packageAccess)
-        .setHeaderId(getHeaderRowId())
-        .setTimestampFormat(getTimestampFormat())
-        .setDateFormat(getDateFormat())
-        .setSheetName(getSheetName())
-        .setDataPath(this)
-        .build();
+      this.excelSheet = createExcelSheetConfig(packageAccess).build();
     }
     return excelSheet;
   }
@@ -135,6 +242,9 @@ public class ExcelDataPath extends FsBinaryDataPath {
 
   @Override
   public SelectStream getSelectStream() {
+    if (this.isStreamingRead()) {
+      return new ExcelStreamingSelectStream(this);
+    }
     return new ExcelSelectStream(this);
   }
 
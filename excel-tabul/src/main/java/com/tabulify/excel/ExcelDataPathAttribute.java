@@ -13,7 +13,11 @@ public enum ExcelDataPathAttribute implements AttributeEnum {
   // Default format String
   // See Format Cells > Number > Custom
   TIMESTAMP_FORMAT("The default timestamp format string (Format Cells > Number > Custom)", String.class, Constants.DEFAULT_TIMESTAMP_FORMAT),
-  DATE_FORMAT("The default date format string (Format Cells > Number > Custom)", String.class, Constants.DEFAULT_DATE_FORMAT);
+  DATE_FORMAT("The default date format string (Format Cells > Number > Custom)", String.class, Constants.DEFAULT_DATE_FORMAT),
+
+  // Streaming
+  STREAMING_READ("Read a xlsx file as a stream of events to keep the memory constant in the row count (false loads the whole workbook)", Boolean.class, true),
+  WRITE_ROW_WINDOW("The number of rows kept in memory when writing a xlsx file (0 keeps the whole workbook in memory)", Integer.class, Constants.DEFAULT_WRITE_ROW_WINDOW);
 
 
   private final String desc;
@@ -47,6 +51,7 @@ public enum ExcelDataPathAttribute implements AttributeEnum {
   public static class Constants {
     public static final String DEFAULT_DATE_FORMAT = "yyyy-MM-dd";
     public static final String DEFAULT_TIMESTAMP_FORMAT = "yyyy-MM-dd HH:mm:ss";
+    public static final int DEFAULT_WRITE_ROW_WINDOW = 100;
   }
 
 }
@@ -15,12 +15,21 @@ public class ExcelInsertStream extends InsertStreamAbs implements InsertStream {
 
 
   private final ExcelSheet excelSheet;
+  /**
+   * The next row num (0 based)
+   * (A streaming sheet knows only the rows of its window)
+   */
+  private int nextRowNum;
 
   public ExcelInsertStream(ExcelDataPath fsDataPath, TransferPropertiesSystem transferPropertiesSystem) {
 
     super(fsDataPath);
-    this.excelSheet = fsDataPath.getExcelSheet(PackageAccess.READ_WRITE);
-
+    if (fsDataPath.getWriteRowWindow() > 0) {
+      this.excelSheet = fsDataPath.getStreamingWriteExcelSheet();
+    } else {
+      this.excelSheet = fsDataPath.getExcelSheet(PackageAccess.READ_WRITE);
+    }
+    this.nextRowNum = this.excelSheet.getLastRowNum() + 1;
 
   }
 
@@ -34,8 +43,7 @@ public class ExcelInsertStream extends InsertStreamAbs implements InsertStream {
 
     // https://poi.apache.org/components/spreadsheet/quick-guide.html#CreateCells
     this.insertStreamListener.addRows(1);
-    int lastRowNum = excelSheet.getSheet().getLastRowNum();
-    Row row = this.excelSheet.getSheet().createRow(lastRowNum + 1);
+    Row row = this.excelSheet.getSheet().createRow(nextRowNum++);
     for (int i = 0; i < values.size(); i++) {
       // Create a cell and put a value in it.
       Cell cell = row.createCell(i);
@@ -11,6 +11,7 @@ import org.apache.poi.openxml4j.opc.OPCPackage;
 import org.apache.poi.openxml4j.opc.PackageAccess;
 import org.apache.poi.poifs.filesystem.POIFSFileSystem;
 import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
 import java.io.FileOutputStream;
@@ -18,6 +19,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.sql.Types;
 import java.util.Date;
 
@@ -40,6 +42,7 @@ public class ExcelSheet {
   private final CreationHelper createHelper;
   private final CellStyle timestampCellStyle;
   private final CellStyle dateCellStyle;
+  private final int lastRowNumAtOpen;
 
 
   public ExcelSheet(ExcelSheetConfig excelSheetConfig) {
@@ -68,17 +71,17 @@ public class ExcelSheet {
             // doesn't need to hold the whole zip file in memory, and can take advantage of native methods
             if (existingFile) {
               this.pkg = OPCPackage.open(path.toString(), excelSheetConfig.access);
-              this.wb = new XSSFWorkbook(pkg);
+              this.wb = toStreamingWorkbookIfNeeded(new XSSFWorkbook(pkg));
             } else {
-              this.wb = new XSSFWorkbook();
+              this.wb = toStreamingWorkbookIfNeeded(new XSSFWorkbook());
               this.pkg = null;
             }
           } else {
             // need to hold the whole zip sourceResultSet in memory, and can not take advantage of native methods
             if (Files.exists(path)) {
-              this.wb = new XSSFWorkbook(Files.newInputStream(path));
+              this.wb = toStreamingWorkbookIfNeeded(new XSSFWorkbook(Files.newInputStream(path)));
             } else {
-              this.wb = new XSSFWorkbook();
+              this.wb = toStreamingWorkbookIfNeeded(new XSSFWorkbook());
             }
             this.pkg = null;
           }
@@ -141,6 +144,39 @@ public class ExcelSheet {
         this.sheet = wb.createSheet(sheetName);
       }
     }
+
+    /**
+     * A streaming sheet knows only the rows of its window,
+     * the last row is asked to the underlying sheet
+     */
+    if (this.wb instanceof SXSSFWorkbook) {
+      this.lastRowNumAtOpen = ((SXSSFWorkbook) this.wb).getXSSFWorkbook().getSheetAt(this.wb.getSheetIndex(this.sheet)).getLastRowNum();
+    } else {
+      this.lastRowNumAtOpen = this.sheet.getLastRowNum();
+    }
+  }
+
+  /**
+   * Wrap the workbook in a {@link SXSSFWorkbook} if a row window is set
+   * (ie only the last rows of the window are kept in memory, the others are flushed to disk)
+   * The existing rows are kept, the new rows can only be appended
+   */
+  private Workbook toStreamingWorkbookIfNeeded(XSSFWorkbook xssfWorkbook) {
+    if (this.excelSheetConfig.rowAccessWindowSize <= 0) {
+      return xssfWorkbook;
+    }
+    return new SXSSFWorkbook(xssfWorkbook, this.excelSheetConfig.rowAccessWindowSize);
+  }
+
+  /**
+   * @return the last row num (0 based)
+   * (for a streaming sheet, the last row num when the sheet was opened)
+   */
+  public int getLastRowNum() {
+    if (this.wb instanceof SXSSFWorkbook) {
+      return this.lastRowNumAtOpen;
+    }
+    return this.sheet.getLastRowNum();
   }
 
 
@@ -259,6 +295,7 @@ public class ExcelSheet {
     private String timestampFormat = ExcelDataPathAttribute.Constants.DEFAULT_TIMESTAMP_FORMAT;
     private ExcelDataPath excelDataPath;
     private String dateFormat = ExcelDataPathAttribute.Constants.DEFAULT_DATE_FORMAT;
+    private int rowAccessWindowSize = 0;
 
     public ExcelSheetConfig(Path pathObj, PackageAccess packageAccess) {
       this.path = pathObj;
@@ -275,6 +312,14 @@ public class ExcelSheet {
       return this;
     }
 
+    /**
+     * @param rowAccessWindowSize - the number of rows kept in memory when writing a xlsx file (0, all)
+     */
+    public ExcelSheetConfig setRowAccessWindowSize(int rowAccessWindowSize) {
+      this.rowAccessWindowSize = rowAccessWindowSize;
+      return this;
+    }
+
     public ExcelSheetConfig setHeaderId(int i) {
       this.headerId = i;
       return this;
@@ -312,6 +357,10 @@ public class ExcelSheet {
   }
 
   void close() {
+    if (this.wb instanceof SXSSFWorkbook) {
+      closeStreamingWorkbook();
+      return;
+    }
     // https://poi.apache.org/components/spreadsheet/quick-guide.html#ReadWriteWorkbook
     try {
       if (this.poifsFileSystem != null) {
@@ -334,4 +383,29 @@ public class ExcelSheet {
 
     }
   }
+
+  /**
+   * The streaming workbook reads the existing rows from the package while writing,
+   * it's then written in a temporary file that replaces the file after the package is closed
+   */
+  private void closeStreamingWorkbook() {
+    SXSSFWorkbook streamingWorkbook = (SXSSFWorkbook) this.wb;
+    Path path = this.excelSheetConfig.path;
+    try {
+      Path tempPath = Files.createTempFile(path.toAbsolutePath().getParent(), "tabulify-", ".xlsx");
+      try (OutputStream fileOut = Files.newOutputStream(tempPath)) {
+        streamingWorkbook.write(fileOut);
+      } finally {
+        // the package is reverted first so that the close does not save it
+        if (this.pkg != null) {
+          this.pkg.revert();
+        }
+        // delete the temporary files of the flushed rows
+        streamingWorkbook.close();
+      }
+      Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      throw new RuntimeException("Error while writing the Excel file (" + path.toAbsolutePath() + "). Error: " + e.getMessage(), e);
+    }
+  }
 }
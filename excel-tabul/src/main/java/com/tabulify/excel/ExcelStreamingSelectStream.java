@@ -0,0 +1,118 @@
+package com.tabulify.excel;
+
+import com.tabulify.model.ColumnDef;
+import com.tabulify.model.RelationDef;
+import com.tabulify.stream.SelectStreamAbs;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * A select stream on a xlsx file that reads the sheet with the {@link ExcelStreamingSheetReader}
+ * and keeps then the memory constant in the row count
+ * <p>
+ * See {@link ExcelDataPathAttribute#STREAMING_READ}
+ */
+public class ExcelStreamingSelectStream extends SelectStreamAbs {
+
+  private final ExcelDataPath excelDataPath;
+  private ExcelStreamingSheetReader reader;
+  private List<Object> row;
+  private long recordId = 0;
+  private boolean closed = false;
+
+  public ExcelStreamingSelectStream(ExcelDataPath excelDataPath) {
+    super(excelDataPath);
+    this.excelDataPath = excelDataPath;
+    this.reader = ExcelStreamingSheetReader.create(excelDataPath.getAbsoluteNioPath(), excelDataPath.getSheetName());
+  }
+
+  @Override
+  public boolean next() {
+    int headerRowId = excelDataPath.getHeaderRowId();
+    do {
+      row = reader.nextRow();
+      if (row == null) {
+        return false;
+      }
+    } while (reader.getRowNum() <= headerRowId);
+    recordId++;
+    return true;
+  }
+
+  @Override
+  public void close() {
+    reader.close();
+    closed = true;
+  }
+
+  @Override
+  public boolean isClosed() {
+    return closed;
+  }
+
+  @Override
+  public String getString(int columnIndex) {
+    return String.valueOf(getObject(columnIndex));
+  }
+
+  @Override
+  public long getRecordId() {
+    return recordId;
+  }
+
+  @Override
+  public Object getObject(ColumnDef<?> columnDef) {
+    return getValue(columnDef.getColumnPosition(), columnDef.getDataType().getValueClass());
+  }
+
+  private <T> T getValue(int columnIndex, Class<T> clazz) {
+    if (row == null) {
+      throw new RuntimeException("There is no current row");
+    }
+    if (columnIndex < 1) {
+      throw new RuntimeException("The column index (" + columnIndex + ") must not be negative or null");
+    }
+    Object value = null;
+    if (columnIndex <= row.size()) {
+      value = row.get(columnIndex - 1);
+    }
+    try {
+      return ExcelStreamingSheetReader.cast(value, clazz);
+    } catch (SQLException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public RelationDef getRuntimeRelationDef() {
+    return this.excelDataPath.getOrCreateRelationDef();
+  }
+
+  @Override
+  public Double getDouble(int columnIndex) {
+    return getValue(columnIndex, Double.class);
+  }
+
+  @Override
+  public Integer getInteger(int columnIndex) {
+    return getValue(columnIndex, Integer.class);
+  }
+
+  @Override
+  public Object getObject(String columnName) {
+    return getObject(getRuntimeRelationDef().getColumnDefSafe(columnName));
+  }
+
+  /**
+   * The stream is forward only, the sheet is read again
+   */
+  @Override
+  public void beforeFirst() {
+    reader.close();
+    reader = ExcelStreamingSheetReader.create(excelDataPath.getAbsoluteNioPath(), excelDataPath.getSheetName());
+    row = null;
+    recordId = 0;
+  }
+
+}
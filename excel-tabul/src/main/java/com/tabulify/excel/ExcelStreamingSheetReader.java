@@ -0,0 +1,343 @@
+package com.tabulify.excel;
+
+import com.tabulify.exception.CastException;
+import com.tabulify.model.SqlDataTypeAnsi;
+import com.tabulify.type.Casts;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A forward-only reader of a xlsx sheet
+ * <p>
+ * The sheet XML is parsed as a stream of events with the {@link XSSFReader}
+ * (shared-strings table for the text, styles table for the date detection)
+ * and only the actual row is kept in memory.
+ * <p>
+ * This is the streaming counterpart of the {@link ExcelSheet} DOM loading.
+ * The values are the same as {@link ExcelSheets#getCellValue(org.apache.poi.ss.usermodel.Cell, Class)}
+ */
+public class ExcelStreamingSheetReader implements AutoCloseable {
+
+  /**
+   * A cell that exists without value
+   * (The data type is the one of its style)
+   */
+  enum BlankCell {
+    CHARACTER_VARYING(SqlDataTypeAnsi.CHARACTER_VARYING),
+    DATE(SqlDataTypeAnsi.DATE),
+    TIMESTAMP(SqlDataTypeAnsi.TIMESTAMP);
+
+    private final SqlDataTypeAnsi dataType;
+
+    BlankCell(SqlDataTypeAnsi dataType) {
+      this.dataType = dataType;
+    }
+  }
+
+  private final OPCPackage pkg;
+  private final ReadOnlySharedStringsTable sharedStrings;
+  private final StylesTable styles;
+  private final InputStream sheetInputStream;
+  private final XMLStreamReader xml;
+  private final boolean date1904;
+
+  /**
+   * The Excel row number (1 based) of the actual row
+   */
+  private int rowNum = 0;
+
+  private ExcelStreamingSheetReader(Path path, String sheetName) {
+
+    try {
+      boolean localFile = path.getFileSystem().provider().getScheme().equals("file");
+      if (localFile) {
+        this.pkg = OPCPackage.open(path.toString(), PackageAccess.READ);
+      } else {
+        this.pkg = OPCPackage.open(Files.newInputStream(path));
+      }
+      XSSFReader xssfReader = new XSSFReader(pkg);
+      this.sharedStrings = new ReadOnlySharedStringsTable(pkg);
+      this.styles = xssfReader.getStylesTable();
+      try (InputStream workbookInputStream = xssfReader.getWorkbookData()) {
+        this.date1904 = isDate1904(workbookInputStream);
+      }
+      XSSFReader.SheetIterator sheetIterator = xssfReader.getSheetIterator();
+      InputStream sheetStream = null;
+      while (sheetIterator.hasNext()) {
+        InputStream inputStream = sheetIterator.next();
+        if (sheetName == null || sheetName.equals(sheetIterator.getSheetName())) {
+          sheetStream = inputStream;
+          break;
+        }
+        inputStream.close();
+      }
+      if (sheetStream == null) {
+        throw new RuntimeException("The sheet (" + sheetName + ") was not found in the Excel file (" + path.toAbsolutePath() + ")");
+      }
+      this.sheetInputStream = sheetStream;
+      this.xml = XMLHelper.newXMLInputFactory().createXMLStreamReader(sheetInputStream);
+    } catch (Exception e) {
+      throw new RuntimeException("Error while opening the Excel file (" + path.toAbsolutePath() + ") in streaming mode. Error: " + e.getMessage(), e);
+    }
+
+  }
+
+  public static ExcelStreamingSheetReader create(Path path, String sheetName) {
+    return new ExcelStreamingSheetReader(path, sheetName);
+  }
+
+  private static boolean isDate1904(InputStream workbookInputStream) throws XMLStreamException {
+    XMLStreamReader workbookXml = XMLHelper.newXMLInputFactory().createXMLStreamReader(workbookInputStream);
+    try {
+      while (workbookXml.hasNext()) {
+        if (workbookXml.next() == XMLStreamConstants.START_ELEMENT && workbookXml.getLocalName().equals("workbookPr")) {
+          String date1904 = workbookXml.getAttributeValue(null, "date1904");
+          return "1".equals(date1904) || "true".equals(date1904);
+        }
+      }
+      return false;
+    } finally {
+      workbookXml.close();
+    }
+  }
+
+  /**
+   * @return the Excel row number (1 based) of the actual row
+   */
+  public int getRowNum() {
+    return rowNum;
+  }
+
+  /**
+   * Read the next row
+   *
+   * @return the values by column index (0 based) or null if there is no row anymore.
+   * A value is a {@link String}, a {@link Double}, a {@link Boolean}, a {@link java.sql.Date}, a {@link Timestamp}, a {@link BlankCell} or null
+   */
+  public List<Object> nextRow() {
+
+    try {
+      while (xml.hasNext()) {
+        int event = xml.next();
+        if (event == XMLStreamConstants.START_ELEMENT && xml.getLocalName().equals("row")) {
+          String r = xml.getAttributeValue(null, "r");
+          if (r != null) {
+            rowNum = Integer.parseInt(r);
+          } else {
+            rowNum++;
+          }
+          return readRow();
+        }
+      }
+      return null;
+    } catch (XMLStreamException e) {
+      throw new RuntimeException("Error while reading the row after the row (" + rowNum + "). Error: " + e.getMessage(), e);
+    }
+
+  }
+
+  private List<Object> readRow() throws XMLStreamException {
+    List<Object> values = new ArrayList<>();
+    int columnIndex = -1;
+    while (xml.hasNext()) {
+      int event = xml.next();
+      if (event == XMLStreamConstants.END_ELEMENT && xml.getLocalName().equals("row")) {
+        return values;
+      }
+      if (event == XMLStreamConstants.START_ELEMENT && xml.getLocalName().equals("c")) {
+        String ref = xml.getAttributeValue(null, "r");
+        if (ref != null) {
+          columnIndex = new CellReference(ref).getCol();
+        } else {
+          columnIndex++;
+        }
+        Object value = readCell();
+        while (values.size() <= columnIndex) {
+          values.add(null);
+        }
+        values.set(columnIndex, value);
+      }
+    }
+    return values;
+  }
+
+  /**
+   * Read a cell (the cursor is on the start element `c`)
+   */
+  private Object readCell() throws XMLStreamException {
+
+    String cellRef = xml.getAttributeValue(null, "r");
+    String type = xml.getAttributeValue(null, "t");
+    String styleIndex = xml.getAttributeValue(null, "s");
+    String formula = null;
+    String value = null;
+    StringBuilder inlineString = null;
+    while (xml.hasNext()) {
+      int event = xml.next();
+      if (event == XMLStreamConstants.END_ELEMENT && xml.getLocalName().equals("c")) {
+        break;
+      }
+      if (event != XMLStreamConstants.START_ELEMENT) {
+        continue;
+      }
+      switch (xml.getLocalName()) {
+        case "v":
+          value = xml.getElementText();
+          break;
+        case "f":
+          formula = xml.getElementText();
+          break;
+        case "is":
+          inlineString = new StringBuilder();
+          break;
+        case "t":
+          if (inlineString != null) {
+            inlineString.append(xml.getElementText());
+          }
+          break;
+      }
+    }
+
+    /**
+     * As for the DOM, a formula returns the formula
+     */
+    if (formula != null && !formula.isEmpty()) {
+      return formula;
+    }
+    if (type == null) {
+      type = "n";
+    }
+    switch (type) {
+      case "s":
+        if (value == null) {
+          return BlankCell.CHARACTER_VARYING;
+        }
+        return sharedStrings.getItemAt(Integer.parseInt(value)).getString();
+      case "inlineStr":
+        if (inlineString == null) {
+          return BlankCell.CHARACTER_VARYING;
+        }
+        return inlineString.toString();
+      case "str":
+        return value;
+      case "b":
+        if (value == null) {
+          return BlankCell.CHARACTER_VARYING;
+        }
+        return value.equals("1") || value.equalsIgnoreCase("true");
+      case "e":
+        throw new RuntimeException("Error type have no value. The cell with the Excel coordinates (" + cellRef + ") is of type error");
+      case "n":
+      default:
+        XSSFCellStyle style = null;
+        if (styleIndex != null) {
+          style = styles.getStyleAt(Integer.parseInt(styleIndex));
+        }
+        boolean dateFormatted = style != null && DateUtil.isADateFormat(style.getDataFormat(), style.getDataFormatString());
+        boolean dateFormat = dateFormatted && style.getDataFormatString().length() <= 10;
+        if (value == null || value.isEmpty()) {
+          if (!dateFormatted) {
+            return BlankCell.CHARACTER_VARYING;
+          }
+          return dateFormat ? BlankCell.DATE : BlankCell.TIMESTAMP;
+        }
+        double numericValue = Double.parseDouble(value);
+        if (dateFormatted && DateUtil.isValidExcelDate(numericValue)) {
+          long time = DateUtil.getJavaDate(numericValue, date1904).getTime();
+          if (dateFormat) {
+            return new java.sql.Date(time);
+          }
+          return new Timestamp(time);
+        }
+        return numericValue;
+    }
+
+  }
+
+  /**
+   * @param value - a value of {@link #nextRow()}
+   * @return the data type of the value (used to build the columns from the first row)
+   */
+  static SqlDataTypeAnsi toSqlType(Object value) {
+    if (value instanceof BlankCell) {
+      return ((BlankCell) value).dataType;
+    }
+    if (value instanceof Boolean) {
+      return SqlDataTypeAnsi.BOOLEAN;
+    }
+    if (value instanceof java.sql.Date) {
+      return SqlDataTypeAnsi.DATE;
+    }
+    if (value instanceof Timestamp) {
+      return SqlDataTypeAnsi.TIMESTAMP;
+    }
+    if (value instanceof Double) {
+      return SqlDataTypeAnsi.DOUBLE_PRECISION;
+    }
+    return SqlDataTypeAnsi.CHARACTER_VARYING;
+  }
+
+  /**
+   * @param value - a value of {@link #nextRow()}
+   * @param clazz - the class to cast to
+   * @return the value cast as {@link ExcelSheets#getCellValue(org.apache.poi.ss.usermodel.Cell, Class)}
+   */
+  static <T> T cast(Object value, Class<T> clazz) throws SQLException {
+    if (value instanceof BlankCell) {
+      if (clazz.equals(String.class)) {
+        return clazz.cast("");
+      }
+      return null;
+    }
+    if (value instanceof java.util.Date) {
+      long time = ((java.util.Date) value).getTime();
+      if (clazz.equals(java.sql.Date.class)) {
+        return clazz.cast(new java.sql.Date(time));
+      }
+      if (clazz.equals(Timestamp.class)) {
+        return clazz.cast(new Timestamp(time));
+      }
+      if (clazz.equals(String.class) || clazz.equals(Object.class)) {
+        return clazz.cast(clazz.equals(String.class) ? value.toString() : value);
+      }
+    }
+    try {
+      return Casts.cast(value, clazz);
+    } catch (CastException e) {
+      throw new SQLException(e);
+    }
+  }
+
+  @Override
+  public void close() {
+    try {
+      xml.close();
+      sheetInputStream.close();
+    } catch (XMLStreamException | IOException e) {
+      throw new RuntimeException(e);
+    } finally {
+      // read only, the package is not saved
+      pkg.revert();
+    }
+  }
+
+}
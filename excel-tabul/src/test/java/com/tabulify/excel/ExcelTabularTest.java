@@ -21,6 +21,7 @@ import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.stream.Collectors;
 
 public class ExcelTabularTest {
 
@@ -224,4 +225,56 @@ public class ExcelTabularTest {
 
   }
 
+  /**
+   * The rows written with a small row window are read back
+   * the same with the streaming reader and the whole workbook
+   */
+  @Test
+  public void streamingWriteAndReadTest() {
+
+    int rowCount = 1000;
+    DataPath dataPath = tabular.getAndCreateRandomMemoryDataPath()
+      .getOrCreateRelationDef()
+      .addColumn("id", SqlDataTypeAnsi.INTEGER)
+      .addColumn("name", SqlDataTypeAnsi.CHARACTER_VARYING)
+      .addColumn("date", SqlDataTypeAnsi.DATE)
+      .getDataPath();
+    try (InsertStream insertStream = dataPath.getInsertStream()) {
+      for (int i = 0; i < rowCount; i++) {
+        insertStream.insert(i, "name" + i, new java.sql.Date(0));
+      }
+    }
+
+    FsDataPath tempExcelFsPath = tabular.getTempFile("StreamingTest", ".xlsx");
+    ExcelDataPath excelDataPath = new ExcelDataPath(tempExcelFsPath)
+      .setWriteRowWindow(10);
+    Tabulars.insert(dataPath, excelDataPath);
+
+    ExcelDataPath streamingDataPath = new ExcelDataPath(tempExcelFsPath)
+      .setStreamingRead(true);
+    ExcelDataPath workbookDataPath = new ExcelDataPath(tempExcelFsPath)
+      .setStreamingRead(false);
+    Assertions.assertEquals(rowCount, (long) streamingDataPath.getCount());
+    Assertions.assertEquals(rowCount, (long) workbookDataPath.getCount());
+    Assertions.assertEquals(
+      workbookDataPath.getOrCreateRelationDef().getColumnDefs().stream().map(c -> c.getColumnName() + c.getDataType().getVendorTypeNumber()).collect(Collectors.toList()),
+      streamingDataPath.getOrCreateRelationDef().getColumnDefs().stream().map(c -> c.getColumnName() + c.getDataType().getVendorTypeNumber()).collect(Collectors.toList())
+    );
+    try (
+      SelectStream streamingSelectStream = streamingDataPath.getSelectStream();
+      SelectStream workbookSelectStream = workbookDataPath.getSelectStream()
+    ) {
+      while (workbookSelectStream.next()) {
+        Assertions.assertTrue(streamingSelectStream.next());
+        Assertions.assertEquals(workbookSelectStream.getObjects(), streamingSelectStream.getObjects());
+      }
+      Assertions.assertFalse(streamingSelectStream.next());
+    }
+
+    // A second streaming write into the existing file
+    Tabulars.insert(dataPath, new ExcelDataPath(tempExcelFsPath).setWriteRowWindow(10));
+    Assertions.assertEquals(2 * rowCount, (long) new ExcelDataPath(tempExcelFsPath).setStreamingRead(true).getCount());
+
+  }
+
 }
@@ -31,6 +31,9 @@ public class SplitPipelineStep extends PipelineStepIntermediateOneToManyAbs {
     if (splitBuilder.granularity != Granularity.RECORD) {
       throw new UnsupportedOperationException("Split by " + splitBuilder.granularity + " for the resource " + dataPath + " is not yet supported");
     }
+    if (splitBuilder.partitionColumn != null && (splitBuilder.chunkSize != null || splitBuilder.chunkByteSize != null)) {
+      throw new IllegalArgumentException("The split step (" + this + ") can't split by chunk and by partition at the same time. Set the " + SplitPipelineStepArgument.PARTITION_COLUMN + " argument or the chunk arguments, not both.");
+    }
 
     return (SplitPipelineStepSupplier) SplitPipelineStepSupplier
       .builder()
@@ -62,6 +65,19 @@ public class SplitPipelineStep extends PipelineStepIntermediateOneToManyAbs {
     // * html file with 2 tables
     // * xml/json file split by nodes
     private Granularity granularity = (Granularity) SplitPipelineStepArgument.GRANULARITY.getDefaultValue();
+    /**
+     * The chunk bounds (a target gets the records until one of them is reached)
+     */
+    private Integer chunkSize = (Integer) SplitPipelineStepArgument.CHUNK_SIZE.getDefaultValue();
+    private Long chunkByteSize = (Long) SplitPipelineStepArgument.CHUNK_BYTE_SIZE.getDefaultValue();
+    /**
+     * The column that partitions the records
+     */
+    private String partitionColumn = (String) SplitPipelineStepArgument.PARTITION_COLUMN.getDefaultValue();
+    /**
+     * The bound on the partitions held in memory
+     */
+    private Integer partitionMaxOpen = (Integer) SplitPipelineStepArgument.PARTITION_MAX_OPEN.getDefaultValue();
 
 
     @Override
@@ -95,6 +111,18 @@ public class SplitPipelineStep extends PipelineStepIntermediateOneToManyAbs {
         case GRANULARITY:
           this.setGranularity(attribute.getValueOrDefaultCastAsSafe(Granularity.class));
           break;
+        case CHUNK_SIZE:
+          this.setChunkSize(attribute.getValueOrDefaultCastAsSafe(Integer.class));
+          break;
+        case CHUNK_BYTE_SIZE:
+          this.setChunkByteSize(attribute.getValueOrDefaultCastAsSafe(Long.class));
+          break;
+        case PARTITION_COLUMN:
+          this.setPartitionColumn(attribute.getValueOrDefaultCastAsSafe(String.class));
+          break;
+        case PARTITION_MAX_OPEN:
+          this.setPartitionMaxOpen(attribute.getValueOrDefaultCastAsSafe(Integer.class));
+          break;
         default:
           throw new InternalException("The argument `" + key + "` should be processed for the step (" + this + ")");
       }
@@ -107,6 +135,51 @@ public class SplitPipelineStep extends PipelineStepIntermediateOneToManyAbs {
       return this;
     }
 
+    public SplitPipelineStepBuilder setChunkSize(Integer chunkSize) {
+      if (chunkSize != null && chunkSize < 1) {
+        throw new IllegalArgumentException("The " + SplitPipelineStepArgument.CHUNK_SIZE + " value (" + chunkSize + ") of the step (" + this + ") should be a positive integer");
+      }
+      this.chunkSize = chunkSize;
+      return this;
+    }
+
+    public SplitPipelineStepBuilder setChunkByteSize(Long chunkByteSize) {
+      if (chunkByteSize != null && chunkByteSize < 1) {
+        throw new IllegalArgumentException("The " + SplitPipelineStepArgument.CHUNK_BYTE_SIZE + " value (" + chunkByteSize + ") of the step (" + this + ") should be a positive integer");
+      }
+      this.chunkByteSize = chunkByteSize;
+      return this;
+    }
+
+    public SplitPipelineStepBuilder setPartitionColumn(String partitionColumn) {
+      this.partitionColumn = partitionColumn;
+      return this;
+    }
+
+    public SplitPipelineStepBuilder setPartitionMaxOpen(Integer partitionMaxOpen) {
+      if (partitionMaxOpen == null || partitionMaxOpen < 1) {
+        throw new IllegalArgumentException("The " + SplitPipelineStepArgument.PARTITION_MAX_OPEN + " value (" + partitionMaxOpen + ") of the step (" + this + ") should be a positive integer");
+      }
+      this.partitionMaxOpen = partitionMaxOpen;
+      return this;
+    }
+
+    public Integer getChunkSize() {
+      return this.chunkSize;
+    }
+
+    public Long getChunkByteSize() {
+      return this.chunkByteSize;
+    }
+
+    public String getPartitionColumn() {
+      return this.partitionColumn;
+    }
+
+    public Integer getPartitionMaxOpen() {
+      return this.partitionMaxOpen;
+    }
+
     @Override
     public SplitPipelineStep build() {
       return new SplitPipelineStep(this);
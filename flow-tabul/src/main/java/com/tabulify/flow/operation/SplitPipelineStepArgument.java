@@ -8,7 +8,11 @@ public enum SplitPipelineStepArgument implements ArgumentEnum {
 
 
   TARGET_TEMPLATE("A target template for the name definition (random by default)", null, String.class),
-  GRANULARITY("The granularity of the operation", Granularity.RECORD, Granularity.class)
+  GRANULARITY("The granularity of the operation", Granularity.RECORD, Granularity.class),
+  CHUNK_SIZE("The maximum number of records by target (one record if there is no chunk byte size)", null, Integer.class),
+  CHUNK_BYTE_SIZE("The maximum number of bytes by target (estimated from the characters of the values)", null, Long.class),
+  PARTITION_COLUMN("The name of the column that partitions the records (one target by value)", null, String.class),
+  PARTITION_MAX_OPEN("The maximum number of partitions kept open, the records are written one at a time (when reached, the least recently written partition is returned and its value starts a new target if it's seen again)", 16, Integer.class)
   ;
 
 
@@ -1,21 +1,94 @@
 package com.tabulify.flow.operation;
 
+import com.tabulify.exception.NoColumnException;
 import com.tabulify.flow.engine.PipelineStepConsumerSupplierBuilderAbs;
 import com.tabulify.flow.engine.PipelineStepIntermediateSupplier;
 import com.tabulify.flow.engine.PipelineStepSupplierDataPathAbs;
 import com.tabulify.spi.DataPath;
 import com.tabulify.spi.SelectException;
+import com.tabulify.stream.InsertStream;
 import com.tabulify.stream.SelectStream;
 import com.tabulify.template.TemplateMetas;
 import com.tabulify.template.TemplateString;
 import com.tabulify.type.KeyNormalizer;
 
+import java.util.*;
+
+/**
+ * Split the records of a data path:
+ * * by chunk: a target gets the next records until the {@link SplitPipelineStepArgument#CHUNK_SIZE chunk size}
+ * or the {@link SplitPipelineStepArgument#CHUNK_BYTE_SIZE chunk byte size} is reached (one record by default)
+ * * by partition: a target gets the records that have the same value in the {@link SplitPipelineStepArgument#PARTITION_COLUMN partition column}
+ * <p>
+ * A target is written with only one insert stream.
+ * The writes are sequential: the records are read from one select stream and inserted one at a time
+ * (the open partitions are not written in parallel).
+ * A chunk is returned as soon as it's full.
+ * A partition is returned when the {@link SplitPipelineStepArgument#PARTITION_MAX_OPEN maximum number of open partitions}
+ * is reached (the least recently written first) or when all records have been read.
+ * A source ordered by the partition column has then only one partition in memory at a time
+ * and gets one target by value.
+ */
 public class SplitPipelineStepSupplier extends PipelineStepSupplierDataPathAbs {
   private final SplitPipelineStepSupplierBuilder splitBuilder;
   private SelectStream stream;
   private TemplateString templateString;
   private DataPath nextDataPath;
 
+  /**
+   * The chunk bounds
+   */
+  private long chunkSize;
+  private Long chunkByteSize;
+  /**
+   * The stream is on a record that was not yet inserted
+   * (ie the record that has exceeded the chunk byte size)
+   */
+  private boolean pendingRecord = false;
+  private boolean streamEnded = false;
+
+  /**
+   * The partition column and its bound
+   */
+  private String partitionColumn;
+  private int partitionMaxOpen;
+  /**
+   * The partitions that are written by value (in the order of their first record)
+   */
+  private final Map<Object, Partition> openPartitions = new LinkedHashMap<>();
+  /**
+   * The number of records read (the write clock of the partitions)
+   */
+  private long recordCount = 0;
+  /**
+   * The partitions written that are not yet returned
+   */
+  private final Deque<DataPath> closedPartitions = new ArrayDeque<>();
+
+  /**
+   * A target and its insert stream
+   */
+  private static class Partition {
+
+    private final DataPath dataPath;
+    private final InsertStream insertStream;
+    /**
+     * The record count at the last insertion
+     */
+    private long lastWrite;
+
+    private Partition(DataPath dataPath) {
+      this.dataPath = dataPath;
+      this.insertStream = dataPath.getInsertStream();
+    }
+
+    private DataPath close() {
+      insertStream.close();
+      return dataPath;
+    }
+
+  }
+
   public SplitPipelineStepSupplier(SplitPipelineStepSupplierBuilder splitSupplierBuilder) {
 
     super(splitSupplierBuilder);
@@ -25,18 +98,131 @@ public class SplitPipelineStepSupplier extends PipelineStepSupplierDataPathAbs {
   @Override
   public boolean hasNext() {
 
-    if (!stream.next()) {
+    if (partitionColumn != null) {
+      if (closedPartitions.isEmpty()) {
+        writePartitions();
+      }
+      nextDataPath = closedPartitions.poll();
+      return nextDataPath != null;
+    }
+
+    if (!pendingRecord && !nextRecord()) {
       return false;
     }
-    buildNextDataPath();
+    buildNextChunk();
     return true;
 
   }
 
+  private boolean nextRecord() {
+    if (streamEnded) {
+      return false;
+    }
+    streamEnded = !stream.next();
+    return !streamEnded;
+  }
+
+  /**
+   * Insert the records of the chunk from the current one
+   */
+  private void buildNextChunk() {
+
+    nextDataPath = createTarget();
+    pendingRecord = false;
+    try (InsertStream insertStream = nextDataPath.getInsertStream()) {
+
+      List<?> record = stream.getObjects();
+      insertStream.insert(record);
+      int count = 1;
+      long byteSize = getByteSize(record);
+      while (count < chunkSize && nextRecord()) {
+        record = stream.getObjects();
+        long recordByteSize = getByteSize(record);
+        if (chunkByteSize != null && byteSize + recordByteSize > chunkByteSize) {
+          // in the next chunk
+          pendingRecord = true;
+          break;
+        }
+        insertStream.insert(record);
+        count++;
+        byteSize += recordByteSize;
+      }
+
+    }
+
+  }
+
+  /**
+   * @return the number of characters of the values and of their separators (an estimation of the bytes written)
+   */
+  private long getByteSize(List<?> record) {
+    long byteSize = record.size();
+    for (Object value : record) {
+      if (value != null) {
+        byteSize += value.toString().length();
+      }
+    }
+    return byteSize;
+  }
+
+  /**
+   * Insert the records into their partition
+   * until a partition is closed or all records have been read
+   */
+  private void writePartitions() {
+
+    while (closedPartitions.isEmpty()) {
+      if (!nextRecord()) {
+        closePartitions();
+        return;
+      }
+      Object value = stream.getObject(partitionColumn);
+      Partition partition = openPartitions.get(value);
+      if (partition == null) {
+        if (openPartitions.size() >= partitionMaxOpen) {
+          closeLeastRecentlyWrittenPartition();
+        }
+        partition = new Partition(createTarget());
+        openPartitions.put(value, partition);
+      }
+      partition.insertStream.insert(stream.getObjects());
+      partition.lastWrite = ++recordCount;
+    }
+
+  }
+
+  /**
+   * The scan is done only when the bound is reached (ie the bound is small)
+   */
+  private void closeLeastRecentlyWrittenPartition() {
+    Map.Entry<Object, Partition> leastRecentlyWritten = null;
+    for (Map.Entry<Object, Partition> entry : openPartitions.entrySet()) {
+      if (leastRecentlyWritten == null || entry.getValue().lastWrite < leastRecentlyWritten.getValue().lastWrite) {
+        leastRecentlyWritten = entry;
+      }
+    }
+    assert leastRecentlyWritten != null : "The partitions should not be empty";
+    closedPartitions.add(leastRecentlyWritten.getValue().close());
+    openPartitions.remove(leastRecentlyWritten.getKey());
+  }
+
+  /**
+   * Close the open partitions (in the order of their first record)
+   */
+  private void closePartitions() {
+    for (Partition partition : openPartitions.values()) {
+      closedPartitions.add(partition.close());
+    }
+    openPartitions.clear();
+  }
 
-  private void buildNextDataPath() {
+  /**
+   * @return a target with the name of the template applied on the current record
+   */
+  private DataPath createTarget() {
 
     DataPath inputDatapath = splitBuilder.datapath;
+    DataPath target;
 
     // Target name
     if (templateString != null) {
@@ -46,7 +232,7 @@ public class SplitPipelineStepSupplier extends PipelineStepSupplierDataPathAbs {
           .addInputDataPath(inputDatapath)
           .addSelectStream(stream)
       );
-      nextDataPath = this.getTabular()
+      target = this.getTabular()
         .getMemoryConnection()
         .getDataPath(name);
     } else {
@@ -54,21 +240,18 @@ public class SplitPipelineStepSupplier extends PipelineStepSupplierDataPathAbs {
        * They stay the same name so that if there is any error
        * they are parked in the same file
        */
-      nextDataPath = this.getTabular()
+      target = this.getTabular()
         .getMemoryConnection()
         .getDataPath(splitBuilder.datapath.getName());
     }
 
     // Merge Data Def
-    nextDataPath
+    target
       .createEmptyRelationDef()
       .getDataPath()
       .mergeDataDefinitionFrom(inputDatapath);
 
-    // Insert data
-    nextDataPath.getInsertStream()
-      .insert(stream.getObjects())
-      .close();
+    return target;
   }
 
 
@@ -84,18 +267,39 @@ public class SplitPipelineStepSupplier extends PipelineStepSupplierDataPathAbs {
     } catch (SelectException e) {
       throw new RuntimeException("Unable to get the record stream of  " + datapath, e);
     }
-    String targetTemplate = splitBuilder.splitStep.getSplitBuilder().getTargetTemplate();
+    SplitPipelineStep.SplitPipelineStepBuilder splitStepBuilder = splitBuilder.splitStep.getSplitBuilder();
+    String targetTemplate = splitStepBuilder.getTargetTemplate();
     if (targetTemplate != null) {
       this.templateString = TemplateString
         .builder(targetTemplate)
         .isStrict(this.getPipeline().isStrict())
         .build();
     }
+    this.chunkByteSize = splitStepBuilder.getChunkByteSize();
+    Integer chunkSize = splitStepBuilder.getChunkSize();
+    if (chunkSize != null) {
+      this.chunkSize = chunkSize;
+    } else {
+      // one record by target or only the byte bound
+      this.chunkSize = this.chunkByteSize == null ? 1 : Long.MAX_VALUE;
+    }
+    this.partitionColumn = splitStepBuilder.getPartitionColumn();
+    this.partitionMaxOpen = splitStepBuilder.getPartitionMaxOpen();
+    if (this.partitionColumn != null) {
+      try {
+        stream.getRuntimeRelationDef().getColumnDef(this.partitionColumn);
+      } catch (NoColumnException e) {
+        throw new IllegalArgumentException("The partition column (" + this.partitionColumn + ") was not found in the resource (" + datapath + ")", e);
+      }
+    }
 
   }
 
   @Override
   public void onComplete() {
+    // the partitions still open if the pipeline has stopped early
+    openPartitions.values().forEach(partition -> partition.insertStream.close());
+    openPartitions.clear();
     stream.close();
   }
 
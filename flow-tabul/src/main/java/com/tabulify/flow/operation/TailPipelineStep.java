@@ -6,11 +6,8 @@ import com.tabulify.flow.engine.ArgumentEnum;
 import com.tabulify.flow.engine.PipelineStep;
 import com.tabulify.flow.engine.PipelineStepBuilder;
 import com.tabulify.flow.engine.PipelineStepIntermediateMapAbs;
-import com.tabulify.model.RelationDef;
 import com.tabulify.spi.DataPath;
-import com.tabulify.spi.SelectException;
 import com.tabulify.stream.InsertStream;
-import com.tabulify.stream.SelectStream;
 import com.tabulify.exception.CastException;
 import com.tabulify.exception.InternalException;
 import com.tabulify.type.*;
@@ -47,36 +44,14 @@ public class TailPipelineStep extends PipelineStepIntermediateMapAbs {
 
     target.getOrCreateRelationDef().copyStruct(source);
 
-    // Tail
-    TailQueue<List<?>> queue = new TailQueue<>(tailBuilder.limit);
-
-    // Collect it
-    try (
-      SelectStream selectStream = source.getSelectStream()
-    ) {
-      RelationDef dataDef = selectStream.getRuntimeRelationDef();
-      if (dataDef.getColumnsSize() == 0) {
-        // No row structure even at runtime
-        throw new RuntimeException(Strings.createMultiLineFromStrings(
-            "The data path (" + source + ") has no row structure. ",
-            "To extract a tail, a row structure is needed.",
-            "Tip for intern developer: if it's a text file, create a line structure (one row, one cell with one line)")
-          .toString());
-      }
-
-      // Collect the tail
-      while (selectStream.next()) {
-        queue.add(selectStream.getObjects());
-      }
-    } catch (SelectException e) {
-      throw new RuntimeException(e);
-    }
+    // Tail (the data path may seek its end)
+    List<List<?>> records = source.getTailRecords(tailBuilder.limit);
 
     // Then insert in the target
     try (
       InsertStream insertStream = target.getInsertStream()
     ) {
-      queue.forEach(insertStream::insert);
+      records.forEach(insertStream::insert);
     }
 
 
@@ -284,6 +284,9 @@ public class TransferPipelineStep extends PipelineStepBuilderTarget {
           throw new IllegalArgumentException("The value (" + value + ") is not a valid integer for the argument " + BUFFER_SIZE + " on the step (" + this + ").");
         }
         break;
+      case BUFFER_HAND_OFF:
+        transferPropertiesCross.setBufferHandOff((TransferBufferHandOff) attribute.getValueOrDefault());
+        break;
       case TARGET_BATCH_SIZE:
         try {
           transferPropertiesCross.setBatchSize(Casts.cast(value, Integer.class));
@@ -305,6 +308,20 @@ public class TransferPipelineStep extends PipelineStepBuilderTarget {
           throw new IllegalArgumentException("The value (" + value + ") is not a valid integer for the argument " + TARGET_WORKER_COUNT + " on the step (" + this + ").");
         }
         break;
+      case SOURCE_WORKER_COUNT:
+        try {
+          transferPropertiesCross.setSourceWorkerCount(Casts.cast(value, Integer.class));
+        } catch (CastException e) {
+          throw new IllegalArgumentException("The value (" + value + ") is not a valid integer for the argument " + SOURCE_WORKER_COUNT + " on the step (" + this + ").");
+        }
+        break;
+      case TRANSFER_WORKER_COUNT:
+        try {
+          transferPropertiesCross.setTransferWorkerCount(Casts.cast(value, Integer.class));
+        } catch (CastException e) {
+          throw new IllegalArgumentException("The value (" + value + ") is not a valid integer for the argument " + TRANSFER_WORKER_COUNT + " on the step (" + this + ").");
+        }
+        break;
       case WITH_PARAMETERS:
         try {
           transferPropertiesSystemBuilder.setWithParameters(Casts.cast(value, Boolean.class));
@@ -1,6 +1,7 @@
 package com.tabulify.flow.operation;
 
 import com.tabulify.flow.engine.ArgumentEnum;
+import com.tabulify.transfer.TransferBufferHandOff;
 import com.tabulify.transfer.TransferMappingMethod;
 import com.tabulify.transfer.TransferOperation;
 import com.tabulify.transfer.TransferPropertiesCross;
@@ -28,7 +29,10 @@ public enum TransferPipelineStepArgument implements ArgumentEnum {
   SOURCE_FETCH_SIZE("defines the size of the network message from the source to fetch the data", TransferPropertiesCross.DEFAULT_FETCH_SIZE, Integer.class),
   // No default because the buffer size is dependent on the fetch size,
   BUFFER_SIZE("defines the size of the memory buffer between the source and target threads", null, Integer.class),
+  BUFFER_HAND_OFF("defines the unit of work (" + Arrays.stream(TransferBufferHandOff.values()).map(TransferBufferHandOff::toString).collect(Collectors.joining(", ")) + ") handed from the source thread to the target threads", TransferPropertiesCross.DEFAULT_BUFFER_HAND_OFF, TransferBufferHandOff.class),
   TARGET_WORKER_COUNT("defines the target number of thread against the target connection", TransferPropertiesCross.DEFAULT_TARGET_WORKER_COUNT, Integer.class),
+  SOURCE_WORKER_COUNT("defines the maximum number of thread that read a partition of the source (used with multiple target threads)", TransferPropertiesCross.DEFAULT_SOURCE_WORKER_COUNT, Integer.class),
+  TRANSFER_WORKER_COUNT("defines the maximum number of transfers executed at the same time (a transfer starts when its foreign key parents are loaded)", TransferPropertiesCross.DEFAULT_TRANSFER_WORKER_COUNT, Integer.class),
   PROCESSING_TYPE("how to process the inputs (one by one or in batch)", PipelineStepProcessingType.BATCH, PipelineStepProcessingType.class);
 
 
@@ -31,4 +31,21 @@ public class HiveDataSystem extends SqlDataSystem {
     }
     return truncateStatements;
   }
+
+  /**
+   * The `fetch first` clause is not supported, `limit` is
+   */
+  @Override
+  protected String createFirstRecordStatement(SqlDataPath dataPath) {
+    return "select 1 from " + createFromClause(dataPath) + " limit 1";
+  }
+
+  /**
+   * The `fetch first` clause is not supported, `limit` is
+   */
+  @Override
+  public String createSortedLimitStatement(SqlDataPath dataPath, String orderBy, int limit) {
+    return createSelectStatement(dataPath) + " order by " + orderBy + " limit " + limit;
+  }
+
 }
@@ -0,0 +1,153 @@
+package com.tabulify.jdbc;
+
+import com.tabulify.exception.CastException;
+import com.tabulify.exception.NoColumnException;
+import com.tabulify.model.ColumnDef;
+import com.tabulify.model.RelationDef;
+import com.tabulify.transfer.SqlStatementType;
+import com.tabulify.transfer.TransferSourceTargetOrder;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLXML;
+import java.util.List;
+
+/**
+ * A binding plan resolves once by transfer and by statement
+ * how the source values are bound to the parameters of a prepared statement
+ * (ie source position, target jdbc type and {@link SqlObjectConverter converter} by parameter)
+ * <p>
+ * The binding of a record is then only a loop over arrays.
+ */
+public class SqlBindingPlan {
+
+  /**
+   * The index of the source value (starting at 0) by parameter index (starting at 0)
+   */
+  private final int[] sourceIndexes;
+  /**
+   * The target jdbc type by parameter index
+   */
+  private final int[] targetTypes;
+  private final SqlObjectConverter[] converters;
+  /**
+   * The columns are kept only for the error message
+   */
+  private final ColumnDef<?>[] sourceColumns;
+  private final ColumnDef<?>[] targetColumns;
+
+  private SqlBindingPlan(TransferSourceTargetOrder transferSourceTarget, RelationDef sourceMetaDef, SqlStatementType sqlStatementType) {
+
+    SqlConnection targetConnection = (SqlConnection) transferSourceTarget.getTargetDataPath().getConnection();
+    List<Integer> sourceColumnPositionInStatementOrder = transferSourceTarget.getSourceColumnPositionInStatementOrder(sqlStatementType);
+    int size = sourceColumnPositionInStatementOrder.size();
+    this.sourceIndexes = new int[size];
+    this.targetTypes = new int[size];
+    this.converters = new SqlObjectConverter[size];
+    this.sourceColumns = new ColumnDef<?>[size];
+    this.targetColumns = new ColumnDef<?>[size];
+    for (int i = 0; i < size; i++) {
+      Integer columnPosition = sourceColumnPositionInStatementOrder.get(i);
+      final ColumnDef<?> sourceColumn = sourceMetaDef.getColumnDef(columnPosition);
+      final ColumnDef<?> targetColumn;
+      try {
+        targetColumn = transferSourceTarget.getTargetColumnFromSourceColumn(sourceColumn);
+      } catch (NoColumnException e) {
+        throw new IllegalStateException("A target column could not be found for the source (" + sourceColumn + ")");
+      }
+      this.sourceIndexes[i] = columnPosition - 1;
+      this.targetTypes[i] = targetColumn.getDataType().getVendorTypeNumber();
+      this.converters[i] = targetConnection.createSqlObjectConverter(targetColumn.getDataType());
+      this.sourceColumns[i] = sourceColumn;
+      this.targetColumns[i] = targetColumn;
+    }
+
+  }
+
+  /**
+   * @param transferSourceTarget - the transfer
+   * @param sourceMetaDef        - the source structure
+   * @param sqlStatementType     - the type of the statement (the parameters are not in the same order for an insert or an update)
+   */
+  public static SqlBindingPlan create(TransferSourceTargetOrder transferSourceTarget, RelationDef sourceMetaDef, SqlStatementType sqlStatementType) {
+    return new SqlBindingPlan(transferSourceTarget, sourceMetaDef, sqlStatementType);
+  }
+
+  /**
+   * Bind the values of a record to the parameters of the prepared statement
+   *
+   * @param preparedStatement - the prepared statement
+   * @param sourceValues      - the source record
+   * @param sqlXmlObjects     - the list where the created {@link SQLXML} are added to be freed
+   */
+  public void bind(PreparedStatement preparedStatement, List<Object> sourceValues, List<SQLXML> sqlXmlObjects) {
+
+    for (int i = 0; i < sourceIndexes.length; i++) {
+      Object sourceObject = sourceValues.get(sourceIndexes[i]);
+      try {
+        if (sourceObject != null) {
+
+          Object loadObject = toSqlObject(sourceValues, i);
+          if (loadObject instanceof SQLXML) {
+            sqlXmlObjects.add((SQLXML) loadObject);
+          }
+          preparedStatement.setObject(i + 1, loadObject, targetTypes[i]);
+
+        } else {
+
+          preparedStatement.setNull(i + 1, targetTypes[i]);
+
+        }
+      } catch (Exception e) {
+        throw new RuntimeException(createErrorMessage(e, sourceObject, i), e);
+      }
+    }
+
+  }
+
+  /**
+   * @return the number of parameters
+   */
+  public int size() {
+    return this.sourceIndexes.length;
+  }
+
+  /**
+   * @param index - the parameter index (starting at 0)
+   * @return the target column of the parameter
+   */
+  public ColumnDef<?> getTargetColumn(int index) {
+    return this.targetColumns[index];
+  }
+
+  /**
+   * @param sourceValues - the source record
+   * @param index        - the parameter index (starting at 0)
+   * @return the Java SQL object of the parameter or null
+   */
+  public Object toSqlObject(List<Object> sourceValues, int index) throws CastException {
+    Object sourceObject = sourceValues.get(sourceIndexes[index]);
+    if (sourceObject == null) {
+      return null;
+    }
+    return converters[index].toSqlObject(sourceObject);
+  }
+
+  /**
+   * @return the source value (for an error message)
+   */
+  public Object getSourceObject(List<Object> sourceValues, int index) {
+    return sourceValues.get(sourceIndexes[index]);
+  }
+
+  /**
+   * @return an error message with the source and target column of the parameter
+   */
+  public String createErrorMessage(Exception e, Object sourceObject, int index) {
+    String sourceObjectClass = "null";
+    if (sourceObject != null) {
+      sourceObjectClass = sourceObject.getClass().toString();
+    }
+    return e + ", Source Column: " + sourceColumns[index].getFullyQualifiedName() + " (Class: " + sourceObjectClass + ", Value:" + sourceObject + "),  TargetColumn: " + targetColumns[index].getFullyQualifiedName() + " (Type: " + targetColumns[index].getDataType() + ")";
+  }
+
+}
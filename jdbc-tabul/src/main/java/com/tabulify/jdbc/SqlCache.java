@@ -3,10 +3,12 @@ package com.tabulify.jdbc;
 import com.tabulify.DbLoggers;
 import com.tabulify.exception.InternalException;
 
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * A cache for perf
@@ -24,22 +26,89 @@ import java.util.function.Supplier;
  * * If a property of an object such as a constraint, column is deleted, the cache will not see it,
  * you need to delete it on the in-memory object as wel as on the sql system
  * for consistency.
+ * <p></p>
+ * The object names of a schema are also cached in one snapshot by schema
+ * to answer the existence of an object without a metadata call by object.
+ * The snapshots are invalidated on creation, deletion and on the execution of a statement
+ * (ie an object created by another process is not seen).
+ * <p></p>
+ * The metadata (columns, keys) of the tables of a schema are also cached
+ * in one {@link SqlMetaSchema snapshot} by schema when more than one table is selected.
+ * A table is removed from the snapshot when it's read, created or dropped.
+ * <p></p>
+ * Bound:
+ * * The reads do not lock
+ * * The data paths are evicted when they are older than the time to live
+ * or when the cache is full (the least recently used first, down to 90% of the maximum size to not scan the cache at each insertion)
+ * * A data path that holds a {@link SqlDataPath#getRelationDef() relation def} (ie columns, keys read or defined by the user)
+ * is stateful and is not evicted when the cache is full, only when it expires,
+ * otherwise the next build would return another object without this state
+ * * The hits, misses and evictions are counted (See the connection attributes {@link SqlConnectionAttributeEnum#BUILDER_CACHE_HIT_COUNT})
  */
 public class SqlCache {
 
 
+  /**
+   * The default maximum number of data paths
+   */
+  public static final int DEFAULT_MAX_SIZE = 10000;
+
   private final Boolean builderCacheEnabled;
+  private volatile int maxSize;
+  /**
+   * The time to live in nanoseconds (0: no expiration)
+   */
+  private volatile long timeToLiveNanos;
+
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+  private final LongAdder evictionCount = new LongAdder();
 
   public SqlCache(Boolean builderCacheEnabled) {
+    this(builderCacheEnabled, DEFAULT_MAX_SIZE, 0);
+  }
+
+  /**
+   * @param builderCacheEnabled - if the objects are cached (the schemas are always cached)
+   * @param maxSize             - the maximum number of data paths
+   * @param timeToLiveSeconds   - the time to live of a data path in seconds (0: no expiration)
+   */
+  public SqlCache(Boolean builderCacheEnabled, int maxSize, int timeToLiveSeconds) {
     this.builderCacheEnabled = builderCacheEnabled;
+    this.setMaxSize(maxSize);
+    this.setTimeToLiveSeconds(timeToLiveSeconds);
+  }
+
+  private static class CachedDataPath {
+
+    private final SqlDataPath dataPath;
+    private final long creationTime;
+    private volatile long accessTime;
+
+    private CachedDataPath(SqlDataPath dataPath, long now) {
+      this.dataPath = dataPath;
+      this.creationTime = now;
+      this.accessTime = now;
+    }
+
   }
 
   /**
    * Relative Path is the string identifier
    */
-  private Map<String, SqlDataPath> sqlDataPathCache = new HashMap<>();
+  private final Map<String, CachedDataPath> sqlDataPathCache = new ConcurrentHashMap<>();
 
-  public synchronized SqlDataPath createDataPath(String relativePath, SqlMediaType sqlMediaType, Supplier<SqlDataPath> mappingFunction) {
+  /**
+   * The object names by schema (the key is the catalog and the schema)
+   */
+  private final Map<String, Set<String>> objectNamesBySchema = new ConcurrentHashMap<>();
+
+  /**
+   * The metadata snapshots by schema (the key is the catalog and the schema)
+   */
+  private final Map<String, SqlMetaSchema> metaSchemas = new ConcurrentHashMap<>();
+
+  public SqlDataPath createDataPath(String relativePath, SqlMediaType sqlMediaType, Supplier<SqlDataPath> mappingFunction) {
 
 
     /**
@@ -58,57 +127,179 @@ public class SqlCache {
       throw new InternalException("This should not be a runtime resource as this is the signature for an non-script data resource");
     }
 
-    SqlDataPath sqlDataPath = sqlDataPathCache.get(relativePath);
-    if (sqlDataPath != null) {
-      // schema may have an empty path, and we hit schema pretty often
-      if (!relativePath.isEmpty()) {
-        DbLoggers.LOGGER_DB_ENGINE.finest("Cache Hit " + relativePath);
+    long now = System.nanoTime();
+    CachedDataPath cachedDataPath = sqlDataPathCache.get(relativePath);
+    if (cachedDataPath != null) {
+      if (!isExpired(cachedDataPath, now)) {
+        hitCount.increment();
+        cachedDataPath.accessTime = now;
+        // schema may have an empty path, and we hit schema pretty often
+        if (!relativePath.isEmpty()) {
+          DbLoggers.LOGGER_DB_ENGINE.finest("Cache Hit " + relativePath);
+        }
+        return cachedDataPath.dataPath;
+      }
+      if (sqlDataPathCache.remove(relativePath, cachedDataPath)) {
+        evictionCount.increment();
+        DbLoggers.LOGGER_DB_ENGINE.finest("Cache Expired " + relativePath);
       }
-      return sqlDataPath;
     }
 
+    missCount.increment();
     if (!relativePath.isEmpty()) {
       DbLoggers.LOGGER_DB_ENGINE.finest("Cache Added " + relativePath);
     }
+    /**
+     * The building is done outside any lock
+     * because the building of a data path may build other data paths (ie the schema)
+     */
     SqlDataPath value = mappingFunction.get();
-    sqlDataPathCache.put(relativePath, value);
+    CachedDataPath concurrentDataPath = sqlDataPathCache.putIfAbsent(relativePath, new CachedDataPath(value, now));
+    if (concurrentDataPath != null) {
+      // build concurrently, we return the first one
+      return concurrentDataPath.dataPath;
+    }
+    if (sqlDataPathCache.size() > maxSize) {
+      evict();
+    }
     return value;
 
   }
 
-  private SqlCache drop(SqlDataPath sqlDataPath, Boolean strict) {
+  private boolean isExpired(CachedDataPath cachedDataPath, long now) {
+    return timeToLiveNanos > 0 && now - cachedDataPath.creationTime > timeToLiveNanos;
+  }
 
+  /**
+   * @return true if the data path holds a state that a new build would not have (ie a relation def)
+   */
+  private static boolean isStateful(CachedDataPath cachedDataPath) {
+    return cachedDataPath.dataPath.getRelationDef() != null;
+  }
 
-    String nameToDelete = null;
-    for (Map.Entry<String, SqlDataPath> entry : sqlDataPathCache.entrySet()) {
-      if (sqlDataPath.equals(entry.getValue())) {
-        nameToDelete = entry.getKey();
-        break;
-      }
+  /**
+   * Evict the expired data paths
+   * and the least recently used stateless data paths down to 90% of the maximum size
+   */
+  private synchronized void evict() {
+
+    if (sqlDataPathCache.size() <= maxSize) {
+      return;
     }
-    if (nameToDelete == null) {
-      if (sqlDataPath.isRuntime()) {
-        // not cached
-        return this;
+    long now = System.nanoTime();
+    for (Map.Entry<String, CachedDataPath> entry : sqlDataPathCache.entrySet()) {
+      if (isExpired(entry.getValue(), now) && sqlDataPathCache.remove(entry.getKey(), entry.getValue())) {
+        evictionCount.increment();
       }
-      if (!this.builderCacheEnabled || !strict) {
-        DbLoggers.LOGGER_DB_ENGINE.finest("Cache Delete Miss " + sqlDataPath);
-        return this;
+    }
+    int toEvict = sqlDataPathCache.size() - (maxSize - maxSize / 10);
+    if (toEvict <= 0) {
+      return;
+    }
+    List<Map.Entry<String, CachedDataPath>> leastRecentlyUsed = sqlDataPathCache.entrySet()
+      .stream()
+      .filter(e -> !isStateful(e.getValue()))
+      .sorted(Comparator.comparingLong(e -> e.getValue().accessTime))
+      .limit(toEvict)
+      .collect(Collectors.toList());
+    for (Map.Entry<String, CachedDataPath> entry : leastRecentlyUsed) {
+      if (sqlDataPathCache.remove(entry.getKey(), entry.getValue())) {
+        evictionCount.increment();
       }
-      throw new RuntimeException("SqlCache: SqlDataPath " + sqlDataPath + " not found in the cache, but it should have been build first");
     }
-    DbLoggers.LOGGER_DB_ENGINE.finest("Cache Delete " + nameToDelete);
-    sqlDataPathCache.remove(nameToDelete);
-    return this;
+    DbLoggers.LOGGER_DB_ENGINE.fine("Cache Eviction of " + leastRecentlyUsed.size() + " data paths");
+
   }
 
+  /**
+   * A data path not found is not an error
+   * because it may have been evicted (full cache or time to live)
+   */
   public SqlCache drop(SqlDataPath sqlDataPath) {
-    drop(sqlDataPath, true);
+
+    String relativePath = sqlDataPath.getCompactPath();
+    if (relativePath == null) {
+      // runtime, not cached
+      return this;
+    }
+    if (sqlDataPathCache.remove(relativePath) == null) {
+      DbLoggers.LOGGER_DB_ENGINE.finest("Cache Delete Miss " + relativePath);
+      return this;
+    }
+    DbLoggers.LOGGER_DB_ENGINE.finest("Cache Delete " + relativePath);
     return this;
   }
 
   public void empty() {
-    sqlDataPathCache = new HashMap<>();
+    sqlDataPathCache.clear();
+    objectNamesBySchema.clear();
+    metaSchemas.clear();
+  }
+
+  /**
+   * @return true if the builder cache is enabled
+   */
+  public Boolean isBuilderCacheEnabled() {
+    return builderCacheEnabled;
+  }
+
+  /**
+   * @param catalog - the catalog (may be null)
+   * @param schema  - the schema (may be null)
+   * @param loader  - the loader of the object names of the schema
+   * @return the object names of the schema
+   */
+  public Set<String> getOrLoadObjectNames(String catalog, String schema, Supplier<Set<String>> loader) {
+    String key = catalog + "." + schema;
+    Set<String> objectNames = objectNamesBySchema.get(key);
+    if (objectNames != null) {
+      return objectNames;
+    }
+    objectNames = loader.get();
+    DbLoggers.LOGGER_DB_ENGINE.finest("Cache Schema Snapshot " + key + " (" + objectNames.size() + " objects)");
+    objectNamesBySchema.put(key, objectNames);
+    return objectNames;
+  }
+
+  /**
+   * Invalidate the object names snapshots
+   * (called when an object may have been created or dropped)
+   */
+  public void invalidateObjectNames() {
+    objectNamesBySchema.clear();
+  }
+
+  /**
+   * @param metaSchema - the metadata snapshot of a schema
+   */
+  public void putMetaSchema(SqlMetaSchema metaSchema) {
+    String key = metaSchema.getCatalog() + "." + metaSchema.getSchema();
+    DbLoggers.LOGGER_DB_ENGINE.finest("Cache Meta Schema Snapshot " + key + " (" + metaSchema.size() + " tables)");
+    metaSchemas.put(key, metaSchema);
+  }
+
+  /**
+   * @return the metadata snapshot of a schema or null
+   */
+  public SqlMetaSchema getMetaSchema(String catalog, String schema) {
+    return metaSchemas.get(catalog + "." + schema);
+  }
+
+  /**
+   * Remove a table that was created or dropped from the metadata snapshots
+   */
+  public void invalidateMetaSchema(String catalog, String schema, String tableName) {
+    for (SqlMetaSchema metaSchema : metaSchemas.values()) {
+      metaSchema.invalidate(catalog, schema, tableName);
+    }
+  }
+
+  /**
+   * Invalidate all metadata snapshots
+   * (called when a statement of a user may have changed any table)
+   */
+  public void invalidateMetaSchemas() {
+    metaSchemas.clear();
   }
 
   public Boolean inCache(SqlDataPath sqlDataPath) {
@@ -116,7 +307,7 @@ public class SqlCache {
   }
 
   public void dropIfExist(SqlDataPath dataPath) {
-    drop(dataPath, false);
+    drop(dataPath);
   }
 
   public int size() {
@@ -124,7 +315,10 @@ public class SqlCache {
   }
 
   public Collection<SqlDataPath> getDataPaths() {
-    return sqlDataPathCache.values();
+    return sqlDataPathCache.values()
+      .stream()
+      .map(cachedDataPath -> cachedDataPath.dataPath)
+      .collect(Collectors.toList());
   }
 
   /**
@@ -133,10 +327,63 @@ public class SqlCache {
    * to put back in the data path
    */
   public void addIfNotPresent(SqlDataPath sqlDataPath) {
-    sqlDataPathCache.put(sqlDataPath.getName(), sqlDataPath);
+    if (!builderCacheEnabled) {
+      return;
+    }
+    String relativePath = sqlDataPath.getCompactPath();
+    if (relativePath == null) {
+      // runtime, not cached
+      return;
+    }
+    // same key as in the creation (ie the normalized relative path)
+    sqlDataPathCache.putIfAbsent(relativePath, new CachedDataPath(sqlDataPath, System.nanoTime()));
   }
 
   public boolean isEmpty() {
     return sqlDataPathCache.isEmpty();
   }
+
+  /**
+   * @param maxSize - the maximum number of data paths
+   */
+  public SqlCache setMaxSize(int maxSize) {
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException("The maximum size of the cache should be positive, not " + maxSize);
+    }
+    this.maxSize = maxSize;
+    return this;
+  }
+
+  /**
+   * @param timeToLiveSeconds - the time to live of a data path in seconds (0: no expiration)
+   */
+  public SqlCache setTimeToLiveSeconds(int timeToLiveSeconds) {
+    if (timeToLiveSeconds < 0) {
+      throw new IllegalArgumentException("The time to live of the cache should not be negative, not " + timeToLiveSeconds);
+    }
+    this.timeToLiveNanos = TimeUnit.SECONDS.toNanos(timeToLiveSeconds);
+    return this;
+  }
+
+  /**
+   * @return the number of data path requests served by the cache
+   */
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  /**
+   * @return the number of data path requests that have built a data path
+   */
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  /**
+   * @return the number of data paths evicted because they were expired or because the cache was full
+   */
+  public long getEvictionCount() {
+    return evictionCount.sum();
+  }
+
 }
@@ -63,7 +63,7 @@ public class SqlConnection extends NoOpConnection {
       super.addAttribute(name, value, origin);
       return this;
     }
-    if (connectionAttribute.needsConnection()) {
+    if (connectionAttribute.needsConnection() || !connectionAttribute.isParameter()) {
       throw new RuntimeException("The connection attribute (" + connectionAttribute + ") cannot be overwritten as it's a derived attribute");
     }
     Attribute attribute;
@@ -73,6 +73,22 @@ public class SqlConnection extends NoOpConnection {
       throw new RuntimeException("An error has occurred while creating the connection variable (" + connectionAttribute + ") with the value (" + value + ") for the connection (" + this + "). Error: " + e.getMessage(), e);
     }
     super.addAttribute(attribute);
+
+    /**
+     * The cache bound may be set after the construction
+     */
+    if (this.sqlCache != null) {
+      switch (connectionAttribute) {
+        case BUILDER_CACHE_MAX_SIZE:
+          this.sqlCache.setMaxSize(attribute.getValueOrDefaultCastAsSafe(Integer.class));
+          break;
+        case BUILDER_CACHE_TTL_SECONDS:
+          this.sqlCache.setTimeToLiveSeconds(attribute.getValueOrDefaultCastAsSafe(Integer.class));
+          break;
+        default:
+          // not a cache attribute
+      }
+    }
     return this;
 
 
@@ -116,8 +132,19 @@ public class SqlConnection extends NoOpConnection {
 
     // Should be after attribute initialization
     Boolean builderCacheEnabled = (Boolean) this.getAttribute(SqlConnectionAttributeEnum.BUILDER_CACHE_ENABLED).getValueOrDefault();
-    this.sqlCache = new SqlCache(builderCacheEnabled);
+    this.sqlCache = createCache(builderCacheEnabled);
+    this.getAttribute(SqlConnectionAttributeEnum.BUILDER_CACHE_HIT_COUNT).setValueProvider(() -> this.sqlCache.getHitCount());
+    this.getAttribute(SqlConnectionAttributeEnum.BUILDER_CACHE_MISS_COUNT).setValueProvider(() -> this.sqlCache.getMissCount());
+    this.getAttribute(SqlConnectionAttributeEnum.BUILDER_CACHE_EVICTION_COUNT).setValueProvider(() -> this.sqlCache.getEvictionCount());
+
+  }
 
+  private SqlCache createCache(Boolean builderCacheEnabled) {
+    return new SqlCache(
+      builderCacheEnabled,
+      this.getAttribute(SqlConnectionAttributeEnum.BUILDER_CACHE_MAX_SIZE).getValueOrDefaultCastAsSafe(Integer.class),
+      this.getAttribute(SqlConnectionAttributeEnum.BUILDER_CACHE_TTL_SECONDS).getValueOrDefaultCastAsSafe(Integer.class)
+    );
   }
 
   @Override
@@ -401,6 +428,25 @@ public class SqlConnection extends NoOpConnection {
 
   }
 
+  /**
+   * Commit the statements of the {@link #getCurrentJdbcConnection() current connection}
+   * (if not in auto-commit) so that they are visible to a {@link #getNewJdbcConnection() new connection}
+   * <p>
+   * Example: a native load on its own connection after the creation or truncation of its target
+   */
+  public void commitCurrentJdbcConnection() {
+    if (this.driverConnection == null) {
+      return;
+    }
+    try {
+      if (!this.driverConnection.isClosed() && !this.driverConnection.getAutoCommit()) {
+        this.driverConnection.commit();
+      }
+    } catch (SQLException e) {
+      throw new RuntimeException("Error while committing the current connection of " + this + ". Error: " + e.getMessage(), e);
+    }
+  }
+
   public synchronized java.sql.Connection getNewJdbcConnection() {
     return getNewJdbcConnection(WAIT_TIME_BEFORE_NEXT_CONNECTION_ATTEMPT_SECOND);
   }
@@ -586,6 +632,8 @@ public class SqlConnection extends NoOpConnection {
    * Example:
    * * if you want to load a double in an Oracle BINARY_DOUBLE, you need to cast it first as an oracle.sql.BINARY_DOUBLE
    * * if you want to load a string into a bigint, you need to transform it
+   * <p>
+   * To convert a lot of values of the same type, use a {@link #createSqlObjectConverter(SqlDataType) converter}
    *
    * @param targetColumnType the target column type
    * @return an Java SQL object to be loaded in a prepared statement
@@ -597,26 +645,44 @@ public class SqlConnection extends NoOpConnection {
     if (sourceObject == null) {
       return null;
     }
+    return createSqlObjectConverter(targetColumnType).toSqlObject(sourceObject);
+
+  }
+
+  /**
+   * A converter resolves once the conversion of a target type
+   * (ie the target class, the connection time and boolean data type storage, ...)
+   * so that it can be applied on each value of a column (ie in an {@link SqlInsertStream insert})
+   * <p>
+   * A database that needs a special sql object should override this function
+   *
+   * @param targetColumnType the target column type
+   * @return the converter of a not null source value to a Java SQL object for the target type
+   * @see #toSqlObject(Object, SqlDataType)
+   */
+  public SqlObjectConverter createSqlObjectConverter(SqlDataType<?> targetColumnType) {
 
     Class<?> sqlClass = targetColumnType.getValueClass();
     if (sqlClass.equals(java.sql.SQLXML.class)) {
-      try {
-        SQLXML xmlVal = this.driverConnection.createSQLXML();
-        String xmlStringValue;
-        if (sourceObject instanceof SQLXML) {
-          /**
-           * Case of our own SqlXmlFromString in common type
-           * When the data is XML from file, we wrap it into it
-           */
-          xmlStringValue = ((SQLXML) sourceObject).getString();
-        } else {
-          xmlStringValue = sourceObject.toString();
+      return sourceObject -> {
+        try {
+          SQLXML xmlVal = this.driverConnection.createSQLXML();
+          String xmlStringValue;
+          if (sourceObject instanceof SQLXML) {
+            /**
+             * Case of our own SqlXmlFromString in common type
+             * When the data is XML from file, we wrap it into it
+             */
+            xmlStringValue = ((SQLXML) sourceObject).getString();
+          } else {
+            xmlStringValue = sourceObject.toString();
+          }
+          xmlVal.setString(xmlStringValue);
+          return xmlVal;
+        } catch (SQLException e) {
+          throw new RuntimeException("We cannot create a SQLXML for the connection (" + this + ")", e);
         }
-        xmlVal.setString(xmlStringValue);
-        return xmlVal;
-      } catch (SQLException e) {
-        throw new RuntimeException("We cannot create a SQLXML for the connection (" + this + ")", e);
-      }
+      };
     }
 
     /**
@@ -636,24 +702,30 @@ public class SqlConnection extends NoOpConnection {
         ConnectionAttValueTimeDataType dateDataType = this.getMetadata().getDateDataTypeOrDefault();
         switch (dateDataType) {
           case NATIVE:
-            return Date.createFromObject(sourceObject).toSqlDate();
+            return sourceObject -> Date.createFromObject(sourceObject).toSqlDate();
           case SQL_LITERAL:
-            return Date.createFromObject(sourceObject).toSqlDate().toString();
+            return sourceObject -> Date.createFromObject(sourceObject).toSqlDate().toString();
           case EPOCH_MS:
-            if (sourceObject instanceof Integer || sourceObject instanceof Long) {
-              return sourceObject;
-            }
-            return Date.createFromObject(sourceObject).toEpochMillis();
+            return sourceObject -> {
+              if (sourceObject instanceof Integer || sourceObject instanceof Long) {
+                return sourceObject;
+              }
+              return Date.createFromObject(sourceObject).toEpochMillis();
+            };
           case EPOCH_SEC:
-            if (sourceObject instanceof Integer || sourceObject instanceof Long) {
-              return sourceObject;
-            }
-            return Date.createFromObject(sourceObject).toEpochSec();
+            return sourceObject -> {
+              if (sourceObject instanceof Integer || sourceObject instanceof Long) {
+                return sourceObject;
+              }
+              return Date.createFromObject(sourceObject).toEpochSec();
+            };
           case EPOCH_DAY:
-            if (sourceObject instanceof Integer || sourceObject instanceof Long) {
-              return sourceObject;
-            }
-            return Date.createFromObject(sourceObject).toEpochDay();
+            return sourceObject -> {
+              if (sourceObject instanceof Integer || sourceObject instanceof Long) {
+                return sourceObject;
+              }
+              return Date.createFromObject(sourceObject).toEpochDay();
+            };
           default:
             throw new MissingSwitchBranch("dateDataType", dateDataType);
         }
@@ -661,24 +733,30 @@ public class SqlConnection extends NoOpConnection {
         ConnectionAttValueTimeDataType timestampDataType = this.getMetadata().getTimestampDataType();
         switch (timestampDataType) {
           case NATIVE:
-            return Timestamp.createFromObject(sourceObject).toSqlTimestamp();
+            return sourceObject -> Timestamp.createFromObject(sourceObject).toSqlTimestamp();
           case SQL_LITERAL:
-            return Timestamp.createFromObject(sourceObject).toSqlTimestamp().toString();
+            return sourceObject -> Timestamp.createFromObject(sourceObject).toSqlTimestamp().toString();
           case EPOCH_MS:
-            if (sourceObject instanceof Integer || sourceObject instanceof Long) {
-              return sourceObject;
-            }
-            return Timestamp.createFromObject(sourceObject).toEpochMilli();
+            return sourceObject -> {
+              if (sourceObject instanceof Integer || sourceObject instanceof Long) {
+                return sourceObject;
+              }
+              return Timestamp.createFromObject(sourceObject).toEpochMilli();
+            };
           case EPOCH_SEC:
-            if (sourceObject instanceof Integer || sourceObject instanceof Long) {
-              return sourceObject;
-            }
-            return Timestamp.createFromObject(sourceObject).toEpochSec();
+            return sourceObject -> {
+              if (sourceObject instanceof Integer || sourceObject instanceof Long) {
+                return sourceObject;
+              }
+              return Timestamp.createFromObject(sourceObject).toEpochSec();
+            };
           case EPOCH_DAY:
-            if (sourceObject instanceof Integer || sourceObject instanceof Long) {
-              return sourceObject;
-            }
-            return Date.createFromObject(sourceObject).toEpochDay();
+            return sourceObject -> {
+              if (sourceObject instanceof Integer || sourceObject instanceof Long) {
+                return sourceObject;
+              }
+              return Date.createFromObject(sourceObject).toEpochDay();
+            };
           default:
             throw new MissingSwitchBranch("timestampDataType", timestampDataType);
         }
@@ -686,19 +764,23 @@ public class SqlConnection extends NoOpConnection {
         ConnectionAttValueTimeDataType timeDataType = this.getMetadata().getTimeDataType();
         switch (timeDataType) {
           case NATIVE:
-            return Time.createFromObject(sourceObject).toSqlTime();
+            return sourceObject -> Time.createFromObject(sourceObject).toSqlTime();
           case SQL_LITERAL:
-            return Time.createFromObject(sourceObject).toSqlTime().toString();
+            return sourceObject -> Time.createFromObject(sourceObject).toSqlTime().toString();
           case EPOCH_MS:
-            if (sourceObject instanceof Integer || sourceObject instanceof Long) {
-              return sourceObject;
-            }
-            return Time.createFromObject(sourceObject).toEpochMilli();
+            return sourceObject -> {
+              if (sourceObject instanceof Integer || sourceObject instanceof Long) {
+                return sourceObject;
+              }
+              return Time.createFromObject(sourceObject).toEpochMilli();
+            };
           case EPOCH_SEC:
-            if (sourceObject instanceof Integer || sourceObject instanceof Long) {
-              return sourceObject;
-            }
-            return Time.createFromObject(sourceObject).toEpochSec();
+            return sourceObject -> {
+              if (sourceObject instanceof Integer || sourceObject instanceof Long) {
+                return sourceObject;
+              }
+              return Time.createFromObject(sourceObject).toEpochSec();
+            };
           case EPOCH_DAY:
             throw new IllegalArgumentException("You can't choose " + EPOCH_DAY + " time storage for the time type.");
           default:
@@ -708,22 +790,24 @@ public class SqlConnection extends NoOpConnection {
         ConnectionAttValueBooleanDataType boolDataType = this.getMetadata().getBooleanDataType();
         switch (boolDataType) {
           case Native:
-            return Booleans.createFromObject(sourceObject).toBoolean();
+            return sourceObject -> Booleans.createFromObject(sourceObject).toBoolean();
           case Binary:
-            try {
-              return Booleans.createFromObject(sourceObject).toInteger();
-            } catch (NullValueException e) {
-              return null;
-            }
+            return sourceObject -> {
+              try {
+                return Booleans.createFromObject(sourceObject).toInteger();
+              } catch (NullValueException e) {
+                return null;
+              }
+            };
           default:
             throw new MissingSwitchBranch("boolDataType", boolDataType);
         }
       case Types.BIT:
         // boolean (We don't support bit array)
-        return Booleans.createFromObject(sourceObject).toBoolean();
+        return sourceObject -> Booleans.createFromObject(sourceObject).toBoolean();
     }
 
-    return Casts.cast(sourceObject, sqlClass);
+    return sourceObject -> Casts.cast(sourceObject, sqlClass);
 
 
   }
@@ -883,6 +967,14 @@ public class SqlConnection extends NoOpConnection {
 
 
       }
+
+      /**
+       * A selection of tables is mostly followed by the building of their structure
+       * (ie a dag). Their metadata are loaded in bulk by schema
+       */
+      if (jdbcDataPaths.size() > 1) {
+        this.getDataSystem().loadMetaSchemas(jdbcDataPaths);
+      }
       return jdbcDataPaths;
 
     } catch (
@@ -1187,7 +1279,7 @@ public class SqlConnection extends NoOpConnection {
       return this;
     }
     attribute.setPlainValue(bool);
-    sqlCache = new SqlCache(bool);
+    sqlCache = createCache(bool);
     return this;
   }
 
@@ -31,8 +31,14 @@ public enum SqlConnectionAttributeEnum implements ConnectionAttributeEnum {
   SUPPORT_NAMED_PARAMETERS("If the system supports named parameters in the SQL statement", true, false, null, String.class),
   SUPPORT_BATCH_UPDATES("If the system supports batch SQL updates", true, false, null, String.class),
   BUILDER_CACHE_ENABLED("Enable or disable the builder cache", false, true, true, Boolean.class),
+  BUILDER_CACHE_MAX_SIZE("The maximum number of data paths in the builder cache", false, true, SqlCache.DEFAULT_MAX_SIZE, Integer.class),
+  BUILDER_CACHE_TTL_SECONDS("The time to live of a data path in the builder cache in seconds (0 means no expiration)", false, true, 0, Integer.class),
+  BUILDER_CACHE_HIT_COUNT("The number of data paths served by the builder cache", false, false, null, Long.class),
+  BUILDER_CACHE_MISS_COUNT("The number of data paths built because they were not in the builder cache", false, false, null, Long.class),
+  BUILDER_CACHE_EVICTION_COUNT("The number of data paths evicted from the builder cache (expired or cache full)", false, false, null, Long.class),
   NAME_QUOTING_ENABLED("Enable quoting of names", false, true, true, Boolean.class),
-  NAME_QUOTING_DISABLED_CASE("The case to apply when quoting is disabled", false, true, SqlNameCaseNormalization.UPPERCASE, SqlNameCaseNormalization.class);
+  NAME_QUOTING_DISABLED_CASE("The case to apply when quoting is disabled", false, true, SqlNameCaseNormalization.UPPERCASE, SqlNameCaseNormalization.class),
+  BULK_LOAD_ENABLED("Enable the native bulk load of the database for an insert (ie Postgres COPY, SQL Server bulk copy)", false, true, false, Boolean.class);
 
 
   private final String description;
@@ -145,6 +145,15 @@ public class SqlConnectionMetadata extends ConnectionMetadata {
     }
   }
 
+  /**
+   * @return 1 as the select and the meta moves (ie same store transfers)
+   * are executed on the {@link SqlConnection#getCurrentJdbcConnection() current jdbc connection}
+   */
+  @Override
+  public Integer getMaxReaderConnection() {
+    return 1;
+  }
+
   /**
    * An utility function to return a {@link DatabaseMetaData}
    * without the exception
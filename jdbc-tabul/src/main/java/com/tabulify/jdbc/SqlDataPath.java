@@ -1,5 +1,7 @@
 package com.tabulify.jdbc;
 
+import com.tabulify.model.ColumnDef;
+import com.tabulify.model.PrimaryKeyDef;
 import com.tabulify.spi.*;
 import com.tabulify.stream.InsertStream;
 import com.tabulify.stream.SelectStream;
@@ -10,9 +12,23 @@ import com.tabulify.exception.*;
 import com.tabulify.type.Casts;
 import com.tabulify.type.MediaType;
 
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.file.NoSuchFileException;
 import java.sql.DatabaseMetaData;
+import java.sql.Timestamp;
+import java.time.LocalTime;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 import static com.tabulify.jdbc.SqlMediaType.*;
 
@@ -158,6 +174,7 @@ public class SqlDataPath extends DataPathAbs {
     });
     this.getOrCreateVariable(SqlDataPathAttribute.SCHEMA).setValueProvider(this.sqlConnectionResourcePath::getSchemaPartOrDefault);
     this.getOrCreateVariable(SqlDataPathAttribute.NAME).setValueProvider(this::getName);
+    this.getOrCreateVariable(SqlDataPathAttribute.APPROXIMATE_COUNT).setValueProvider(this::getApproximateCount);
 
   }
 
@@ -340,10 +357,25 @@ public class SqlDataPath extends DataPathAbs {
 
   }
 
+  /**
+   * @return the number of records estimated from the statistics of the database (no scan)
+   * or null if this is not a table, if the database does not support it or if there is no statistics
+   */
+  public Long getApproximateCount() {
+    if (this.getMediaType() != TABLE) {
+      return null;
+    }
+    try {
+      return this.getConnection().getDataSystem().getApproximateCount(this);
+    } catch (NotSupportedException e) {
+      return null;
+    }
+  }
+
   @Override
   public InsertStream getInsertStream(DataPath source, TransferPropertiesSystem transferProperties) {
     TransferSourceTargetOrder transferSourceTarget = TransferSourceTarget.create(source, this).buildOrder(transferProperties);
-    return SqlInsertStream.create(transferSourceTarget);
+    return this.getConnection().getDataSystem().getInsertStream(transferSourceTarget);
   }
 
   @Override
@@ -374,6 +406,241 @@ public class SqlDataPath extends DataPathAbs {
     return null;
   }
 
+  /**
+   * A table is split by its primary key when it has only one column:
+   * * by range if the column is a number or a date/timestamp (between the min and max value)
+   * * by hash otherwise if the database {@link SqlDataSystem#createPartitionHashExpression(String, int) supports it}
+   * <p>
+   * Each partition is a request executed on its own jdbc connection,
+   * the number of partitions is then bounded by {@link SqlConnectionMetadata#getMaxWriterConnection()}
+   * <p>
+   * The records with a null key are in the first partition.
+   */
+  @Override
+  public List<DataPath> getSelectPartitions(int partitionCount) {
+
+    int maxConnection = this.getConnection().getMetadata().getMaxWriterConnection();
+    return createSelectPartitions(Math.min(partitionCount, maxConnection));
+
+  }
+
+  /**
+   * @param count - the number of partitions (already bounded by the connections)
+   */
+  List<DataPath> createSelectPartitions(int count) {
+
+    if (count <= 1 || this.mediaType != TABLE) {
+      return super.getSelectPartitions(count);
+    }
+
+    PrimaryKeyDef primaryKey = this.getOrCreateRelationDef().getPrimaryKey();
+    if (primaryKey == null || primaryKey.getColumns().size() != 1) {
+      SqlLog.LOGGER_DB_JDBC.fine("The table (" + this + ") has no primary key with one column. It can't be partitioned.");
+      return super.getSelectPartitions(count);
+    }
+    ColumnDef<?> partitionColumn = primaryKey.getColumns().get(0);
+    Class<?> clazz = partitionColumn.getClazz();
+    String quotedColumnName = this.getConnection().getDataSystem().createQuotedName(partitionColumn.getColumnName());
+
+    if (Number.class.isAssignableFrom(clazz) || isDateTime(clazz)) {
+      return getSelectRangePartitions(quotedColumnName, count, Number.class.isAssignableFrom(clazz));
+    }
+
+    String hashExpression;
+    try {
+      hashExpression = this.getConnection().getDataSystem().createPartitionHashExpression(quotedColumnName, count);
+    } catch (NotSupportedException e) {
+      SqlLog.LOGGER_DB_JDBC.fine("The table (" + this + ") can't be partitioned. " + e.getMessage());
+      return super.getSelectPartitions(count);
+    }
+    List<DataPath> partitions = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      String predicate = hashExpression + " = " + i;
+      if (i == 0) {
+        predicate = "(" + predicate + " or " + quotedColumnName + " is null)";
+      }
+      partitions.add(createSelectPartition(predicate, Collections.emptyList()));
+    }
+    return partitions;
+
+  }
+
+  /**
+   * A table with a primary key returns its last records with a query
+   * sorted in the descending order of the primary key
+   * (See {@link SqlDataSystem#createSortedLimitStatement(SqlDataPath, String, int)}).
+   * The records are then reversed.
+   * <p>
+   * Without primary key, the table has no order and all records are read.
+   */
+  @Override
+  public List<List<?>> getTailRecords(int limit) {
+
+    if (this.mediaType != TABLE) {
+      return super.getTailRecords(limit);
+    }
+    PrimaryKeyDef primaryKey = this.getOrCreateRelationDef().getPrimaryKey();
+    if (primaryKey == null || primaryKey.getColumns().isEmpty()) {
+      return super.getTailRecords(limit);
+    }
+    SqlDataSystem dataSystem = this.getConnection().getDataSystem();
+    String orderBy = primaryKey.getColumns()
+      .stream()
+      .map(columnDef -> dataSystem.createQuotedName(columnDef.getColumnName()) + " desc")
+      .collect(Collectors.joining(", "));
+    SqlRequest tailRequest = this.getConnection().getRuntimeDataPath(dataSystem.createSortedLimitStatement(this, orderBy, limit));
+    // same structure, no need to detect it
+    tailRequest.createEmptyRelationDef().mergeStruct(this.getOrCreateRelationDef());
+    List<List<?>> records = tailRequest.getRecords();
+    Collections.reverse(records);
+    return records;
+
+  }
+
+  /**
+   * The rows of a table or a view have no order.
+   * The digest is then {@link UnorderedRowDigest order independent}
+   * (ie this is not the digest of the bytes of an export, the {@link com.tabulify.spi.DataPathAttribute#MD5 MD5} and SHA attributes of a table
+   * change only when its rows change)
+   * and is computed in parallel over the {@link #getSelectPartitions(int) partitions}
+   * (one by processor, bounded by the {@link SqlConnectionMetadata#getMaxWriterConnection() connections} that the database accepts
+   * minus the one in use)
+   */
+  @Override
+  public byte[] getByteDigest(String algorithm) throws NoSuchFileException {
+
+    if (this.mediaType != TABLE && this.mediaType != VIEW) {
+      return super.getByteDigest(algorithm);
+    }
+
+    int maxPartitionConnection = Math.max(1, this.getConnection().getMetadata().getMaxWriterConnection() - 1);
+    int partitionCount = Math.min(Runtime.getRuntime().availableProcessors(), maxPartitionConnection);
+    List<DataPath> partitions = this.getSelectPartitions(partitionCount);
+    if (partitions.size() == 1) {
+      return getUnorderedRowDigest(partitions.get(0), algorithm).digest();
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(partitions.size());
+    try {
+      List<Future<UnorderedRowDigest>> futures = new ArrayList<>();
+      for (DataPath partition : partitions) {
+        futures.add(executor.submit(() -> getUnorderedRowDigest(partition, algorithm)));
+      }
+      UnorderedRowDigest digest = UnorderedRowDigest.create(algorithm);
+      for (Future<UnorderedRowDigest> future : futures) {
+        digest.merge(future.get());
+      }
+      return digest.digest();
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      throw new RuntimeException("Error while computing the digest of the data resource (" + this + "). Error: " + cause.getMessage(), cause);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    } finally {
+      executor.shutdownNow();
+    }
+
+  }
+
+  private static UnorderedRowDigest getUnorderedRowDigest(DataPath dataPath, String algorithm) {
+    UnorderedRowDigest digest = UnorderedRowDigest.create(algorithm);
+    try (SelectStream selectStream = dataPath.getSelectStreamSafe()) {
+      while (selectStream.next()) {
+        digest.update(selectStream.getObjects());
+      }
+    }
+    return digest;
+  }
+
+  private static boolean isDateTime(Class<?> clazz) {
+    if (java.sql.Time.class.isAssignableFrom(clazz) || LocalTime.class.isAssignableFrom(clazz)) {
+      return false;
+    }
+    return java.util.Date.class.isAssignableFrom(clazz) || Temporal.class.isAssignableFrom(clazz);
+  }
+
+  /**
+   * Split the table in ranges of the same width between the min and max value of the column
+   * The first and last ranges are open so that no record is lost
+   */
+  private List<DataPath> getSelectRangePartitions(String quotedColumnName, int count, boolean isNumber) {
+
+    Object min;
+    Object max;
+    SqlRequest minMaxRequest = this.getConnection().getRuntimeDataPath("select min(" + quotedColumnName + "), max(" + quotedColumnName + ") from " + this.toSqlStringPath());
+    try (SelectStream selectStream = minMaxRequest.execute().getSelectStream()) {
+      if (!selectStream.next()) {
+        return Collections.singletonList(this);
+      }
+      if (isNumber) {
+        min = selectStream.getObject(1);
+        max = selectStream.getObject(2);
+      } else {
+        min = selectStream.getTimestamp(1);
+        max = selectStream.getTimestamp(2);
+      }
+    } catch (SelectException e) {
+      throw new RuntimeException("Error while getting the min and max value of the column (" + quotedColumnName + ") of the table (" + this + "). Error: " + e.getMessage(), e);
+    }
+    if (min == null || max == null) {
+      // empty
+      return Collections.singletonList(this);
+    }
+
+    /**
+     * The bounds between two partitions
+     */
+    List<Object> bounds = new ArrayList<>();
+    if (isNumber) {
+      BigDecimal minNumber = new BigDecimal(min.toString());
+      BigDecimal width = new BigDecimal(max.toString()).subtract(minNumber);
+      boolean isInteger = minNumber.stripTrailingZeros().scale() <= 0 && width.stripTrailingZeros().scale() <= 0;
+      for (int i = 1; i < count; i++) {
+        BigDecimal bound = minNumber.add(width.multiply(BigDecimal.valueOf(i)).divide(BigDecimal.valueOf(count), MathContext.DECIMAL64));
+        if (isInteger) {
+          bound = bound.setScale(0, RoundingMode.FLOOR);
+        }
+        if (!bounds.contains(bound) && bound.compareTo(minNumber) > 0) {
+          bounds.add(bound);
+        }
+      }
+    } else {
+      long minTime = ((Timestamp) min).getTime();
+      long width = ((Timestamp) max).getTime() - minTime;
+      for (int i = 1; i < count; i++) {
+        Timestamp bound = new Timestamp(minTime + width / count * i);
+        if (!bounds.contains(bound) && bound.getTime() > minTime) {
+          bounds.add(bound);
+        }
+      }
+    }
+    if (bounds.isEmpty()) {
+      return Collections.singletonList(this);
+    }
+
+    List<DataPath> partitions = new ArrayList<>();
+    partitions.add(createSelectPartition("(" + quotedColumnName + " < ? or " + quotedColumnName + " is null)", List.of(bounds.get(0))));
+    for (int i = 1; i < bounds.size(); i++) {
+      partitions.add(createSelectPartition(quotedColumnName + " >= ? and " + quotedColumnName + " < ?", List.of(bounds.get(i - 1), bounds.get(i))));
+    }
+    partitions.add(createSelectPartition(quotedColumnName + " >= ?", List.of(bounds.get(bounds.size() - 1))));
+    return partitions;
+
+  }
+
+  private SqlRequest createSelectPartition(String predicate, List<Object> parameters) {
+    String statement = this.getConnection().getDataSystem().createSelectPartitionStatement(this, predicate);
+    SqlRequest partition = this.getConnection().getRuntimeDataPath(statement)
+      .setDedicatedJdbcConnection(true);
+    for (Object parameter : parameters) {
+      partition.addParameter(SqlParameter.builder().setValue(parameter));
+    }
+    // same structure, no need to detect it
+    partition.createEmptyRelationDef().mergeStruct(this.getOrCreateRelationDef());
+    return partition;
+  }
+
   /**
    * The qualified SQL name with its {@link SqlConnectionMetadata#getIdentifierQuote()}
    * that can be used in SQL Statement
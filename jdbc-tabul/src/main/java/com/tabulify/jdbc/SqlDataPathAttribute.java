@@ -7,7 +7,8 @@ public enum SqlDataPathAttribute implements AttributeEnum {
 
   CATALOG("The catalog of the sql resource", String.class, null),
   SCHEMA("The schema of the sql resource", String.class, null),
-  NAME("The name of the sql resource", String.class, null);
+  NAME("The name of the sql resource", String.class, null),
+  APPROXIMATE_COUNT("The number of records estimated from the database statistics (may be stale)", Long.class, null);
 
   private final String desc;
   private final Class<?> valueClazz;
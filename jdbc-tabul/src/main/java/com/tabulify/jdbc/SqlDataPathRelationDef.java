@@ -7,12 +7,9 @@ import com.tabulify.spi.Tabulars;
 import com.tabulify.exception.CastException;
 import com.tabulify.exception.NoCatalogException;
 import com.tabulify.exception.NoColumnException;
-import com.tabulify.exception.NoSchemaException;
 import com.tabulify.type.KeyNormalizer;
 
 import java.sql.DatabaseMetaData;
-import java.sql.ResultSet;
-import java.sql.SQLException;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -216,71 +213,21 @@ public class SqlDataPathRelationDef extends RelationDefDefault {
   /**
    * Add the primary key that are in the data store metadata
    * <p>
-   * A wrapper around {@link DatabaseMetaData}
-   * Note: there is also {@link DatabaseMetaData#getBestRowIdentifier(String, String, String, int, boolean)}
-   * What's the difference, I still don't know.
+   * See {@link SqlDataSystem#getMetaPrimaryKey(SqlDataPath)}
    */
   protected void addPrimaryKeyFromMetaData() {
 
-    try {
-
-      final SqlDataPath dataPath = this.getDataPath();
-      final String column_name = "COLUMN_NAME";
-      final String pk_name = "PK_NAME";
-      final String key_seq = "KEY_SEQ";
-      List<String> pkProp = new ArrayList<>();
-      pkProp.add(column_name);
-      pkProp.add(pk_name);
-      pkProp.add(key_seq);
-
-      // Primary Key building
-      String schemaName;
-      try {
-        schemaName = dataPath.getSchema().getName();
-      } catch (NoSchemaException e) {
-        schemaName = null;
-      }
-
-      String catalogName;
-      try {
-        catalogName = dataPath.getCatalogDataPath().getName();
-      } catch (NoCatalogException e) {
-        catalogName = null;
-      }
-
-      ResultSet pkResultSet = dataPath.getConnection().getCurrentJdbcConnection().getMetaData().getPrimaryKeys(catalogName, schemaName, dataPath.getName());
-      // Collect all the data because we don't know if they will be in order
-      // and because in a recursive call, the result set may be closed
-      List<Map<String, String>> pkColumns = new ArrayList<>();
-      String pkName = "";
-      while (pkResultSet.next()) {
-        Map<String, String> pkProps = new HashMap<>();
-        pkColumns.add(pkProps);
-        for (String prop : pkProp) {
-          pkProps.put(prop, pkResultSet.getString(prop));
-        }
-        pkName = pkResultSet.getString(pk_name);
-      }
-      pkResultSet.close();
-
-      /**
-       * Processing
-       */
-      List<String> columns = pkColumns
-        .stream()
-        .sorted(Comparator.comparing(o -> Integer.valueOf(o.get(key_seq))))
-        .map(s -> s.get(column_name))
-        // Pfff
-        // MySQL returns 2 column with the same name
-        .distinct()
-        .collect(Collectors.toList());
-
-      if (!columns.isEmpty()) {
-        this.primaryKeyOf(columns.toArray(new String[0]))
-          .setName(pkName);
-      }
-    } catch (SQLException e) {
-      throw new RuntimeException(e);
+    SqlMetaUniqueKey metaPrimaryKey = this.getDataPath()
+      .getConnection()
+      .getDataSystem()
+      .getMetaPrimaryKey(this.getDataPath());
+    if (metaPrimaryKey == null) {
+      return;
+    }
+    List<String> columns = metaPrimaryKey.getColumns();
+    if (!columns.isEmpty()) {
+      this.primaryKeyOf(columns.toArray(new String[0]))
+        .setName(metaPrimaryKey.getName());
     }
 
   }
@@ -293,59 +240,22 @@ public class SqlDataPathRelationDef extends RelationDefDefault {
    * This function must be called after the function {@link #addPrimaryKeyFromMetaData()}
    * because the getIndex function of JDBC returns also the unique index of the primary
    * key. We need then the primary key information in order to exclude it from the building
-   * !!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!
+   * !!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!
+   * <p>
+   * See {@link SqlDataSystem#getMetaUniqueKeys(SqlDataPath)}
    */
   protected void addUniqueKeysFromMetaData() {
 
-    // Collect all data first because we need all columns that make a unique key before
-    // building the object
-    Map<String, Map<Integer, String>> indexData = new HashMap<>();
-    final String ordinal_position_alias = "ORDINAL_POSITION";
-    final String column_name_alias = "COLUMN_NAME";
-    final SqlDataPath dataPath = this.getDataPath();
-    String schema;
-    try {
-      schema = dataPath.getSchema().getName();
-    } catch (NoSchemaException e) {
-      schema = null;
-    }
-    String catalog;
-    try {
-      catalog = dataPath.getCatalogDataPath().getName();
-    } catch (NoCatalogException e) {
-      catalog = null;
-    }
-    DatabaseMetaData metaData = dataPath.getConnection().getMetadata().getDatabaseMetaData();
-    try (
-      ResultSet indexResultSet = metaData.getIndexInfo(catalog, schema, dataPath.getName(), true, true)
-    ) {
-      while (indexResultSet.next()) {
-
-        String index_name = indexResultSet.getString("INDEX_NAME");
-
-        if (index_name == null) {
-          continue;
-        }
-
-        Map<Integer, String> indexProperties = indexData.get(index_name);
-        //noinspection Java8MapApi
-        if (indexProperties == null) {
-          indexProperties = new HashMap<>();
-          indexData.put(index_name, indexProperties);
-        }
-        indexProperties.put(indexResultSet.getInt(ordinal_position_alias), indexResultSet.getString(column_name_alias));
-
-      }
-
-    } catch (SQLException e) {
-      String s = "Error when getting the unique key (via Jdbc IndexInfo function) for the table (" + dataPath + "): ";
-      throw new RuntimeException(s + e.getMessage(), e);
-    }
+    List<SqlMetaUniqueKey> metaUniqueKeys = this.getDataPath()
+      .getConnection()
+      .getDataSystem()
+      .getMetaUniqueKeys(this.getDataPath());
 
     // Process the data
-    for (String indexName : indexData.keySet()) {
+    for (SqlMetaUniqueKey metaUniqueKey : metaUniqueKeys) {
+      String indexName = metaUniqueKey.getName();
       try {
-        Map<Integer, String> indexProperties = indexData.get(indexName);
+        Map<Integer, String> indexProperties = metaUniqueKey.getColumnsByPosition();
 
         // Sort the column by order
         List<Integer> positions = new ArrayList<>(indexProperties.keySet());
@@ -5,6 +5,8 @@ import com.tabulify.exception.DataResourceNotEmptyException;
 import com.tabulify.glob.Glob;
 import com.tabulify.model.*;
 import com.tabulify.spi.*;
+import com.tabulify.stream.InsertStream;
+import com.tabulify.stream.SelectStream;
 import com.tabulify.transfer.*;
 import com.tabulify.crypto.Digest;
 import com.tabulify.exception.*;
@@ -55,6 +57,55 @@ public class SqlDataSystem extends DataSystemAbs {
       dataPath.toSqlStringPath();
   }
 
+  /**
+   * @param transferSourceTarget - the transfer with a sql target
+   * @return the insert stream into the target
+   * A database with a native bulk load may override it (See {@link SqlConnectionAttributeEnum#BULK_LOAD_ENABLED})
+   */
+  public InsertStream getInsertStream(TransferSourceTargetOrder transferSourceTarget) {
+    return SqlInsertStream.create(transferSourceTarget);
+  }
+
+  /**
+   * @return true if a bulk load insert stream can be used for this transfer
+   * (ie the bulk load is {@link SqlConnectionAttributeEnum#BULK_LOAD_ENABLED enabled} and this is an insert)
+   */
+  protected boolean isBulkLoad(TransferSourceTargetOrder transferSourceTarget) {
+    Boolean bulkLoadEnabled = this.sqlConnection.getAttribute(SqlConnectionAttributeEnum.BULK_LOAD_ENABLED).getValueOrDefaultCastAsSafe(Boolean.class);
+    if (!bulkLoadEnabled) {
+      return false;
+    }
+    TransferOperation transferOperation = transferSourceTarget.getTransferProperties().getOperation();
+    if (transferOperation == null) {
+      transferOperation = this.getDefaultTransferOperation();
+    }
+    return transferOperation == TransferOperation.INSERT || transferOperation == COPY;
+  }
+
+  /**
+   * @param dataPath - the data path to select
+   * @param predicate - the where predicate that selects a partition of the records
+   * @return the select statement of a partition
+   */
+  public String createSelectPartitionStatement(SqlDataPath dataPath, String predicate) {
+    return createSelectStatement(dataPath) + " where " + predicate;
+  }
+
+  /**
+   * A hash partition expression is used to split a table
+   * that has no numeric or time primary key into {@link SqlDataPath#getSelectPartitions(int) partitions}
+   * <p>
+   * There is no hash function in the SQL standard, the database should override it
+   *
+   * @param quotedColumnName - the quoted column name
+   * @param partitionCount   - the number of partitions
+   * @return an expression that returns the partition number (from 0 to partitionCount - 1) of a record
+   * @throws NotSupportedException if the database does not support it
+   */
+  public String createPartitionHashExpression(String quotedColumnName, int partitionCount) throws NotSupportedException {
+    throw new NotSupportedException("The hash partition is not supported by the connection (" + this.sqlConnection + ")");
+  }
+
   /**
    * @return an insert into statement
    * between source and target
@@ -222,6 +273,18 @@ public class SqlDataSystem extends DataSystemAbs {
             schema = null;
           }
 
+          /**
+           * One metadata call by schema, the object names are cached
+           */
+          SqlCache cache = this.getConnection().getCache();
+          if (cache.isBuilderCacheEnabled()) {
+            String finalCatalog = catalog;
+            String finalSchema = schema;
+            return cache
+              .getOrLoadObjectNames(catalog, schema, () -> getObjectNames(finalCatalog, finalSchema))
+              .contains(name);
+          }
+
           String[] allTypes = null; // null  means all types
           try (ResultSet tableResultSet = this.sqlConnection.getCurrentJdbcConnection().getMetaData().getTables(catalog, schema, name, allTypes)) {
             return tableResultSet.next(); // For TYPE_FORWARD_ONLY
@@ -235,6 +298,22 @@ public class SqlDataSystem extends DataSystemAbs {
 
   }
 
+  /**
+   * @return the names of all objects of a schema (one metadata call)
+   */
+  private Set<String> getObjectNames(String catalog, String schema) {
+    Set<String> objectNames = new HashSet<>();
+    String[] allTypes = null; // null  means all types
+    try (ResultSet tableResultSet = this.sqlConnection.getCurrentJdbcConnection().getMetaData().getTables(catalog, schema, null, allTypes)) {
+      while (tableResultSet.next()) {
+        objectNames.add(tableResultSet.getString("TABLE_NAME"));
+      }
+    } catch (SQLException e) {
+      throw new RuntimeException(e);
+    }
+    return objectNames;
+  }
+
   /**
    * When names are not quoted, Oracle stores them as UPPERCASE
    * to make them case-insensitive
@@ -264,13 +343,100 @@ public class SqlDataSystem extends DataSystemAbs {
   }
 
 
+  /**
+   * A table or a view is empty if the {@link #createFirstRecordStatement(SqlDataPath) first record query}
+   * does not return any record (ie no full scan)
+   */
   @Override
   public Boolean isEmpty(DataPath dataPath) {
 
-    return dataPath.getCount() == 0;
+    if (!(dataPath instanceof SqlDataPath)) {
+      return dataPath.getCount() == 0;
+    }
+    SqlDataPath sqlDataPath = (SqlDataPath) dataPath;
+    SqlMediaType mediaType = sqlDataPath.getMediaType();
+    if (mediaType != TABLE && mediaType != SqlMediaType.VIEW) {
+      return dataPath.getCount() == 0;
+    }
+
+    SqlRequest queryDataPath = this.getConnection().getRuntimeDataPath(createFirstRecordStatement(sqlDataPath));
+    try (
+      SelectStream selectStream = queryDataPath.execute().getSelectStream()
+    ) {
+      return !selectStream.next();
+    } catch (SelectException e) {
+      String message = "Error while trying to see if the data resource (" + dataPath + ") is empty";
+      if (this.getConnection().getTabular().isStrictExecution()) {
+        throw new RuntimeException(message, e);
+      }
+      SqlLog.LOGGER_DB_JDBC.warning(message + "\n" + e.getMessage());
+      return true;
+    }
 
   }
 
+  /**
+   * The SQL standard `fetch first` clause is used by default,
+   * the database should override it if not supported (ie `limit`, `top`)
+   *
+   * @param dataPath - a table or a view
+   * @return a query that returns at most one record
+   */
+  protected String createFirstRecordStatement(SqlDataPath dataPath) {
+    return "select 1 from " + createFromClause(dataPath) + " fetch first 1 rows only";
+  }
+
+  /**
+   * The SQL standard `fetch first` clause is used by default,
+   * the database should override it if not supported (ie `limit`, `top`)
+   *
+   * @param dataPath - a table
+   * @param orderBy  - the order by expression (ie the primary key columns in the descending order)
+   * @param limit    - the maximum number of records
+   * @return a query that returns the first records in the order
+   */
+  public String createSortedLimitStatement(SqlDataPath dataPath, String orderBy, int limit) {
+    return createSelectStatement(dataPath) + " order by " + orderBy + " fetch first " + limit + " rows only";
+  }
+
+  /**
+   * The approximate count is read from the statistics of the database (no scan of the records)
+   * <p>
+   * It may be stale, it's not a {@link DataPath#getCount() count}
+   *
+   * @param dataPath - a table
+   * @return the estimated number of records or null if the table has no statistics
+   * @throws NotSupportedException if the database does not support it
+   */
+  public Long getApproximateCount(SqlDataPath dataPath) throws NotSupportedException {
+    throw new NotSupportedException("The approximate count is not supported by the connection (" + this.sqlConnection + ")");
+  }
+
+  /**
+   * @param query      - a query that returns one number
+   * @param parameters - the bind parameters
+   * @return the number of the first record or null
+   */
+  protected Long getLongFromQuery(String query, Object... parameters) {
+    try (PreparedStatement statement = this.getConnection().getCurrentJdbcConnection().prepareStatement(query)) {
+      for (int i = 0; i < parameters.length; i++) {
+        statement.setObject(i + 1, parameters[i]);
+      }
+      try (ResultSet resultSet = statement.executeQuery()) {
+        if (!resultSet.next()) {
+          return null;
+        }
+        long value = resultSet.getLong(1);
+        if (resultSet.wasNull()) {
+          return null;
+        }
+        return value;
+      }
+    } catch (SQLException e) {
+      throw new RuntimeException("Error while executing the query (" + query + "). Error: " + e.getMessage(), e);
+    }
+  }
+
 
   /**
    * When selecting a data path, you need to pass:
@@ -910,6 +1076,7 @@ public class SqlDataSystem extends DataSystemAbs {
       throw new InternalException("The data path (" + dataPath + ") is not a sql data resource but a " + dataPath.getClass().getSimpleName());
     }
     SqlDataPath sqlTargetDataPath = (SqlDataPath) dataPath;
+    invalidateMetaSchema(sqlTargetDataPath);
 
     SqlMediaType targetMediaType = sqlTargetDataPath.getMediaType();
     if (targetMediaType == SqlMediaType.OBJECT) {
@@ -1018,6 +1185,11 @@ public class SqlDataSystem extends DataSystemAbs {
 
         SqlLog.LOGGER_DB_JDBC.info("Table (" + dataPath + ") created");
 
+        /**
+         * A data path held in memory may have been dropped (ie evicted from the cache)
+         */
+        this.getConnection().getCache().addIfNotPresent(sqlTargetDataPath);
+
         return;
       }
 
@@ -1606,12 +1778,11 @@ public class SqlDataSystem extends DataSystemAbs {
          */
         SqlCache cache = this.getConnection().getCache();
         for (SqlDataPath sqlDataPath : sqlDataPaths) {
-          if (dropAttributes.contains(DropTruncateAttribute.IF_EXISTS)) {
-            cache.dropIfExist(sqlDataPath);
-          } else {
-            cache.drop(sqlDataPath);
-          }
+          // a miss is not an error (the data path may have been evicted)
+          cache.drop(sqlDataPath);
+          invalidateMetaSchema(sqlDataPath);
         }
+        cache.invalidateObjectNames();
       }
     }
 
@@ -1750,6 +1921,9 @@ public class SqlDataSystem extends DataSystemAbs {
   public void execute(String statement) {
     try (Statement sqlStatement = this.getConnection().getCurrentJdbcConnection().createStatement()) {
       boolean resultAsResultSet = sqlStatement.execute(statement);
+      // the statement may have created, dropped or altered an object
+      this.getConnection().getCache().invalidateObjectNames();
+      this.getConnection().getCache().invalidateMetaSchemas();
       if (resultAsResultSet) {
         throw new IllegalArgumentException("The statement is not an executable script but a query as it returns a result set");
       }
@@ -1940,6 +2114,7 @@ public class SqlDataSystem extends DataSystemAbs {
 
   /**
    * The metadata read from columns
+   * (from the {@link SqlMetaSchema metadata snapshot} of the schema if any)
    *
    * @param dataPath - the data path
    * @return the list of meta columns ordered by position (asc)
@@ -1948,7 +2123,99 @@ public class SqlDataSystem extends DataSystemAbs {
    */
   public List<SqlMetaColumn> getMetaColumns(SqlDataPath dataPath) {
 
+    SqlMetaSchema metaSchema = getMetaSchema(dataPath);
+    if (metaSchema != null) {
+      List<SqlMetaColumn> metaColumns = metaSchema.pollColumns(dataPath.getName());
+      if (metaColumns != null) {
+        return metaColumns;
+      }
+    }
+    return getTableMetaColumns(dataPath);
+
+  }
+
+  /**
+   * The metadata read from columns for one table
+   * (when the table is not in a {@link SqlMetaSchema metadata snapshot})
+   *
+   * @param dataPath - the data path
+   * @return the list of meta columns ordered by position (asc)
+   */
+  protected List<SqlMetaColumn> getTableMetaColumns(SqlDataPath dataPath) {
+
     List<SqlMetaColumn> sqlMetaColumns = new ArrayList<>();
+    String[] catalogAndSchema = getJdbcCatalogAndSchema(dataPath);
+    try (
+      ResultSet columnResultSet = dataPath.getConnection().getCurrentJdbcConnection().getMetaData().getColumns(catalogAndSchema[0], catalogAndSchema[1], dataPath.getName(), null)
+    ) {
+      while (columnResultSet.next()) {
+        sqlMetaColumns.add(createMetaColumn(columnResultSet));
+      }
+    } catch (
+      SQLException e) {
+      throw new RuntimeException(e);
+    }
+    return sqlMetaColumns;
+  }
+
+  /**
+   * @param columnResultSet - a result set of the <a href="https://docs.oracle.com/javase/8/docs/api/java/sql/DatabaseMetaData.html#getColumns-java.lang.String-java.lang.String-java.lang.String-java.lang.String-">getColumns meta function</a>
+   * @return the meta column of the current row
+   */
+  private SqlMetaColumn createMetaColumn(ResultSet columnResultSet) throws SQLException {
+
+    String columnName = columnResultSet.getString("COLUMN_NAME");
+    SqlMetaColumn meta = SqlMetaColumn.createOf(columnName);
+
+    // Not implemented on all driver (example: sqliteDriver)
+    try {
+      meta.setIsGeneratedColumn(jdbcBooleanCast(columnResultSet.getString("IS_GENERATEDCOLUMN")));
+    } catch (SQLException e) {
+      SqlLog.LOGGER_DB_JDBC.fine("The IS_GENERATEDCOLUMN column seems not to be implemented. Message: " + e.getMessage());
+    }
+
+    // Not implemented on all driver (example: sqliteDriver)
+    try {
+
+      String isAutoincrement = columnResultSet.getString("IS_AUTOINCREMENT").toLowerCase();
+      meta.setIsAutoIncrement(jdbcBooleanCast(isAutoincrement));
+
+
+    } catch (SQLException e) {
+      SqlLog.LOGGER_DB_JDBC.fine("The IS_AUTOINCREMENT column seems not to be implemented. Message: " + e.getMessage());
+    }
+
+    int typeCode = columnResultSet.getInt("DATA_TYPE");
+
+    // The display size of the column on the terminal
+    // (COLUMN_SIZE definition)
+    // As specified in the doc https://docs.oracle.com/javase/8/docs/api/java/sql/DatabaseMetaData.html#getColumns-java.lang.String-java.lang.String-java.lang.String-java.lang.String-
+    // * For numeric data, this is the maximum precision.
+    // * For character data, this is the length in characters.
+    // * For datetime datatypes, this is the length in characters
+    int columnSize = columnResultSet.getInt("COLUMN_SIZE");
+    // BUFFER_LENGTH not used
+    int decimalDigits = columnResultSet.getInt("DECIMAL_DIGITS");
+
+
+    String typeName = columnResultSet.getString("TYPE_NAME");
+    String comment = columnResultSet.getString("REMARKS");
+    int isNullable = columnResultSet.getInt("NULLABLE");
+    return meta
+      .setColumnSize(columnSize)
+      .setTypeCode(typeCode)
+      .setTypeName(typeName)
+      .setDecimalDigits(decimalDigits)
+      .setIsNullable(isNullable)
+      .setComment(comment);
+
+  }
+
+  /**
+   * @return the catalog and the schema of the data path
+   */
+  private String[] getCatalogAndSchema(SqlDataPath dataPath) {
+
     String schemaName;
     try {
       schemaName = dataPath.getSchema().getName();
@@ -1956,75 +2223,284 @@ public class SqlDataSystem extends DataSystemAbs {
       schemaName = null;
     }
 
-    String catalog;
+    String catalogName;
     try {
-      catalog = dataPath.getCatalogDataPath().getName();
+      catalogName = dataPath.getCatalogDataPath().getName();
     } catch (NoCatalogException e) {
-      catalog = null;
+      catalogName = null;
     }
+    return new String[]{catalogName, schemaName};
 
+  }
+
+  /**
+   * @return the catalog and the schema of the data path as seen by the JDBC metadata functions
+   * (ie for MySQL, the schema is the catalog)
+   */
+  private String[] getJdbcCatalogAndSchema(SqlDataPath dataPath) {
+
+    String[] catalogAndSchema = getCatalogAndSchema(dataPath);
     if (this.getConnection().getMetadata().isSchemaSeenAsCatalog()) {
-      catalog = schemaName;
-      schemaName = null;
+      return new String[]{catalogAndSchema[1], null};
     }
+    return catalogAndSchema;
+
+  }
+
+  /**
+   * @return the metadata snapshot of the schema of the data path or null
+   */
+  private SqlMetaSchema getMetaSchema(SqlDataPath dataPath) {
+    String[] catalogAndSchema = getJdbcCatalogAndSchema(dataPath);
+    return this.getConnection().getCache().getMetaSchema(catalogAndSchema[0], catalogAndSchema[1]);
+  }
+
+  /**
+   * Remove a created or dropped data path from the metadata snapshots
+   */
+  private void invalidateMetaSchema(SqlDataPath dataPath) {
+    String[] catalogAndSchema = getJdbcCatalogAndSchema(dataPath);
+    this.getConnection().getCache().invalidateMetaSchema(catalogAndSchema[0], catalogAndSchema[1], dataPath.getName());
+  }
+
+  /**
+   * Load in bulk the metadata of the tables of the schemas of the data paths
+   * (ie a few catalog queries by schema in place of a few by table when a dag is build)
+   * <p>
+   * The snapshots are stored in the {@link SqlCache} and are used only if the builder cache is enabled
+   *
+   * @param dataPaths - the selected data paths
+   */
+  public void loadMetaSchemas(List<SqlDataPath> dataPaths) {
 
+    SqlCache cache = this.getConnection().getCache();
+    if (!cache.isBuilderCacheEnabled()) {
+      return;
+    }
+    Map<String, String[]> schemas = new HashMap<>();
+    for (SqlDataPath dataPath : dataPaths) {
+      if (!(dataPath.getMediaType() == TABLE || dataPath.getMediaType() == SqlMediaType.VIEW)) {
+        continue;
+      }
+      String[] catalogAndSchema = getJdbcCatalogAndSchema(dataPath);
+      schemas.putIfAbsent(catalogAndSchema[0] + "." + catalogAndSchema[1], catalogAndSchema);
+    }
+    for (String[] catalogAndSchema : schemas.values()) {
+      if (cache.getMetaSchema(catalogAndSchema[0], catalogAndSchema[1]) != null) {
+        continue;
+      }
+      SqlMetaSchema metaSchema = createMetaSchema(catalogAndSchema[0], catalogAndSchema[1]);
+      if (metaSchema != null) {
+        cache.putMetaSchema(metaSchema);
+      }
+    }
+
+  }
+
+  /**
+   * @param catalog - the jdbc catalog
+   * @param schema  - the jdbc schema
+   * @return the metadata snapshot of the schema or null if the columns cannot be loaded in bulk
+   */
+  private SqlMetaSchema createMetaSchema(String catalog, String schema) {
+
+    SqlMetaSchema metaSchema;
+    try {
+      metaSchema = SqlMetaSchema.create(catalog, schema, getSchemaMetaColumns(catalog, schema));
+    } catch (NotSupportedException e) {
+      return null;
+    } catch (SQLException e) {
+      SqlLog.LOGGER_DB_JDBC.warning("The columns of the schema (" + catalog + "." + schema + ") could not be loaded in bulk. Error: " + e.getMessage());
+      return null;
+    }
+    try {
+      metaSchema.setUniqueKeys(getSchemaMetaUniqueKeys(catalog, schema));
+    } catch (NotSupportedException e) {
+      // by table
+    } catch (SQLException e) {
+      SqlLog.LOGGER_DB_JDBC.warning("The unique keys of the schema (" + catalog + "." + schema + ") could not be loaded in bulk. Error: " + e.getMessage());
+    }
+    try {
+      metaSchema.setForeignKeys(getSchemaMetaForeignKeys(catalog, schema));
+    } catch (NotSupportedException e) {
+      // by table
+    } catch (SQLException e) {
+      SqlLog.LOGGER_DB_JDBC.warning("The foreign keys of the schema (" + catalog + "." + schema + ") could not be loaded in bulk. Error: " + e.getMessage());
+    }
+    return metaSchema;
+
+  }
+
+  /**
+   * The columns of all tables of a schema with one
+   * <a href="https://docs.oracle.com/javase/8/docs/api/java/sql/DatabaseMetaData.html#getColumns-java.lang.String-java.lang.String-java.lang.String-java.lang.String-">getColumns</a> call
+   *
+   * @param catalog - the jdbc catalog
+   * @param schema  - the jdbc schema
+   * @return the meta columns by table name (the tables of the snapshot)
+   * @throws NotSupportedException if the columns are not read with {@link #getMetaColumns(SqlDataPath)}
+   */
+  protected Map<String, List<SqlMetaColumn>> getSchemaMetaColumns(String catalog, String schema) throws SQLException, NotSupportedException {
+
+    Map<String, List<SqlMetaColumn>> columns = new HashMap<>();
     try (
-      ResultSet columnResultSet = dataPath.getConnection().getCurrentJdbcConnection().getMetaData().getColumns(catalog, schemaName, dataPath.getName(), null)
+      ResultSet columnResultSet = this.getConnection().getCurrentJdbcConnection().getMetaData().getColumns(catalog, schema, null, null)
     ) {
       while (columnResultSet.next()) {
+        // the schema is a pattern
+        if (schema != null && !schema.equals(columnResultSet.getString("TABLE_SCHEM"))) {
+          continue;
+        }
+        columns
+          .computeIfAbsent(columnResultSet.getString("TABLE_NAME"), k -> new ArrayList<>())
+          .add(createMetaColumn(columnResultSet));
+      }
+    }
+    return columns;
 
-        String columnName = columnResultSet.getString("COLUMN_NAME");
-        SqlMetaColumn meta = SqlMetaColumn.createOf(columnName);
-        sqlMetaColumns.add(meta);
+  }
 
-        // Not implemented on all driver (example: sqliteDriver)
-        try {
-          meta.setIsGeneratedColumn(jdbcBooleanCast(columnResultSet.getString("IS_GENERATEDCOLUMN")));
-        } catch (SQLException e) {
-          SqlLog.LOGGER_DB_JDBC.fine("The IS_GENERATEDCOLUMN column seems not to be implemented. Message: " + e.getMessage());
+  /**
+   * The primary keys and unique indexes of all tables of a schema.
+   * There is no JDBC function for a schema, the databases implement it with a query on the catalog
+   * (See {@link #getSchemaMetaUniqueKeysFromQuery(String, Object...)})
+   *
+   * @param catalog - the jdbc catalog
+   * @param schema  - the jdbc schema
+   * @return the unique keys by table name
+   * @throws NotSupportedException if the database does not support it (the keys are read by table)
+   */
+  protected Map<String, List<SqlMetaUniqueKey>> getSchemaMetaUniqueKeys(String catalog, String schema) throws SQLException, NotSupportedException {
+    throw new NotSupportedException("The bulk unique keys are not supported by the connection (" + this.sqlConnection + ")");
+  }
+
+  /**
+   * The foreign keys of all tables of a schema.
+   * There is no JDBC function for a schema, the databases implement it with a query on the catalog
+   * (See {@link #getSchemaMetaForeignKeysFromQuery(String, Object...)})
+   *
+   * @param catalog - the jdbc catalog
+   * @param schema  - the jdbc schema
+   * @return the foreign keys by (foreign) table name
+   * @throws NotSupportedException if the database does not support it (the foreign keys are read by table)
+   */
+  protected Map<String, List<SqlMetaForeignKey>> getSchemaMetaForeignKeys(String catalog, String schema) throws SQLException, NotSupportedException {
+    throw new NotSupportedException("The bulk foreign keys are not supported by the connection (" + this.sqlConnection + ")");
+  }
+
+  /**
+   * @param query      - a catalog query with the columns `TABLE_NAME`, `INDEX_NAME`, `IS_PRIMARY`, `COLUMN_NAME` and `KEY_SEQ`
+   * @param parameters - the bind parameters
+   * @return the unique keys by table name
+   */
+  protected Map<String, List<SqlMetaUniqueKey>> getSchemaMetaUniqueKeysFromQuery(String query, Object... parameters) throws SQLException {
+    try (PreparedStatement statement = this.getConnection().getCurrentJdbcConnection().prepareStatement(query)) {
+      for (int i = 0; i < parameters.length; i++) {
+        statement.setObject(i + 1, parameters[i]);
+      }
+      try (ResultSet resultSet = statement.executeQuery()) {
+        return SqlMetaUniqueKey.getUniqueKeysByTableFromResultSet(resultSet);
+      }
+    }
+  }
+
+  /**
+   * @param query      - a catalog query with the columns of {@link DatabaseMetaData#getImportedKeys(String, String, String)}
+   * @param parameters - the bind parameters
+   * @return the foreign keys by (foreign) table name
+   */
+  protected Map<String, List<SqlMetaForeignKey>> getSchemaMetaForeignKeysFromQuery(String query, Object... parameters) throws SQLException {
+    try (PreparedStatement statement = this.getConnection().getCurrentJdbcConnection().prepareStatement(query)) {
+      for (int i = 0; i < parameters.length; i++) {
+        statement.setObject(i + 1, parameters[i]);
+      }
+      try (ResultSet resultSet = statement.executeQuery()) {
+        return SqlMetaForeignKey.getForeignKeyMetaFromDriverResultSet(resultSet)
+          .stream()
+          .collect(Collectors.groupingBy(SqlMetaForeignKey::getForeignTableName));
+      }
+    }
+  }
+
+  /**
+   * @param dataPath - the data path
+   * @return the primary key or null
+   * Wrapper around {@link DatabaseMetaData#getPrimaryKeys(String, String, String)}
+   * Note: there is also {@link DatabaseMetaData#getBestRowIdentifier(String, String, String, int, boolean)}
+   */
+  public SqlMetaUniqueKey getMetaPrimaryKey(SqlDataPath dataPath) {
+
+    SqlMetaSchema metaSchema = getMetaSchema(dataPath);
+    if (metaSchema != null) {
+      List<SqlMetaUniqueKey> primaryKey = metaSchema.pollPrimaryKey(dataPath.getName());
+      if (primaryKey != null) {
+        return primaryKey.isEmpty() ? null : primaryKey.get(0);
+      }
+    }
+
+    String[] catalogAndSchema = getCatalogAndSchema(dataPath);
+    try (
+      ResultSet pkResultSet = dataPath.getConnection().getCurrentJdbcConnection().getMetaData().getPrimaryKeys(catalogAndSchema[0], catalogAndSchema[1], dataPath.getName())
+    ) {
+      // Collect all the data because we don't know if they will be in order
+      // and because in a recursive call, the result set may be closed
+      SqlMetaUniqueKey primaryKey = null;
+      while (pkResultSet.next()) {
+        if (primaryKey == null) {
+          primaryKey = SqlMetaUniqueKey.createOf(pkResultSet.getString("PK_NAME"), true);
         }
+        primaryKey.addColumn(Integer.parseInt(pkResultSet.getString("KEY_SEQ")), pkResultSet.getString("COLUMN_NAME"));
+      }
+      return primaryKey;
+    } catch (SQLException e) {
+      throw new RuntimeException(e);
+    }
 
-        // Not implemented on all driver (example: sqliteDriver)
-        try {
+  }
 
-          String isAutoincrement = columnResultSet.getString("IS_AUTOINCREMENT").toLowerCase();
-          meta.setIsAutoIncrement(jdbcBooleanCast(isAutoincrement));
+  /**
+   * @param dataPath - the data path
+   * @return the unique indexes (the index of the primary key included)
+   * Wrapper around {@link DatabaseMetaData#getIndexInfo(String, String, String, boolean, boolean)}
+   */
+  public List<SqlMetaUniqueKey> getMetaUniqueKeys(SqlDataPath dataPath) {
 
+    SqlMetaSchema metaSchema = getMetaSchema(dataPath);
+    if (metaSchema != null) {
+      List<SqlMetaUniqueKey> uniqueKeys = metaSchema.pollUniqueKeys(dataPath.getName());
+      if (uniqueKeys != null) {
+        return uniqueKeys;
+      }
+    }
 
-        } catch (SQLException e) {
-          SqlLog.LOGGER_DB_JDBC.fine("The IS_AUTOINCREMENT column seems not to be implemented. Message: " + e.getMessage());
+    // Collect all data first because we need all columns that make a unique key before
+    // building the object
+    Map<String, SqlMetaUniqueKey> uniqueKeys = new HashMap<>();
+    String[] catalogAndSchema = getCatalogAndSchema(dataPath);
+    DatabaseMetaData metaData = dataPath.getConnection().getMetadata().getDatabaseMetaData();
+    try (
+      ResultSet indexResultSet = metaData.getIndexInfo(catalogAndSchema[0], catalogAndSchema[1], dataPath.getName(), true, true)
+    ) {
+      while (indexResultSet.next()) {
+
+        String indexName = indexResultSet.getString("INDEX_NAME");
+
+        if (indexName == null) {
+          continue;
         }
 
-        int typeCode = columnResultSet.getInt("DATA_TYPE");
-
-        // The display size of the column on the terminal
-        // (COLUMN_SIZE definition)
-        // As specified in the doc https://docs.oracle.com/javase/8/docs/api/java/sql/DatabaseMetaData.html#getColumns-java.lang.String-java.lang.String-java.lang.String-java.lang.String-
-        // * For numeric data, this is the maximum precision.
-        // * For character data, this is the length in characters.
-        // * For datetime datatypes, this is the length in characters
-        int columnSize = columnResultSet.getInt("COLUMN_SIZE");
-        // BUFFER_LENGTH not used
-        int decimalDigits = columnResultSet.getInt("DECIMAL_DIGITS");
-
-
-        String typeName = columnResultSet.getString("TYPE_NAME");
-        String comment = columnResultSet.getString("REMARKS");
-        int isNullable = columnResultSet.getInt("NULLABLE");
-        meta
-          .setColumnSize(columnSize)
-          .setTypeCode(typeCode)
-          .setTypeName(typeName)
-          .setDecimalDigits(decimalDigits)
-          .setIsNullable(isNullable)
-          .setComment(comment);
+        uniqueKeys
+          .computeIfAbsent(indexName, k -> SqlMetaUniqueKey.createOf(indexName, false))
+          .addColumn(indexResultSet.getInt("ORDINAL_POSITION"), indexResultSet.getString("COLUMN_NAME"));
+
       }
 
-    } catch (
-      SQLException e) {
-      throw new RuntimeException(e);
+    } catch (SQLException e) {
+      String s = "Error when getting the unique key (via Jdbc IndexInfo function) for the table (" + dataPath + "): ";
+      throw new RuntimeException(s + e.getMessage(), e);
     }
-    return sqlMetaColumns;
+    return new ArrayList<>(uniqueKeys.values());
+
   }
 
   /**
@@ -2377,29 +2853,21 @@ public class SqlDataSystem extends DataSystemAbs {
 
   public List<SqlMetaForeignKey> getMetaForeignKeys(SqlDataPath dataPath) {
 
-    String schemaName;
-    try {
-      schemaName = dataPath.getSchema().getName();
-    } catch (NoSchemaException e) {
-      schemaName = null;
+    SqlMetaSchema metaSchema = getMetaSchema(dataPath);
+    if (metaSchema != null) {
+      List<SqlMetaForeignKey> metaForeignKeys = metaSchema.pollForeignKeys(dataPath.getName());
+      if (metaForeignKeys != null) {
+        return metaForeignKeys;
+      }
     }
 
-    String catalogName;
-    try {
-      catalogName = dataPath.getCatalogDataPath().getName();
-    } catch (NoCatalogException e) {
-      catalogName = null;
-    }
     SqlConnection dataStore = this.getConnection();
 
-    // MySQL for instance
-    if (this.sqlConnection.getMetadata().isSchemaSeenAsCatalog()) {
-      catalogName = schemaName;
-      schemaName = null;
-    }
+    // MySQL for instance, the schema is the catalog
+    String[] catalogAndSchema = getJdbcCatalogAndSchema(dataPath);
     try (
       // ImportedKey = the primary keys imported by a table
-      ResultSet fkResultSet = dataStore.getCurrentJdbcConnection().getMetaData().getImportedKeys(catalogName, schemaName, dataPath.getName())
+      ResultSet fkResultSet = dataStore.getCurrentJdbcConnection().getMetaData().getImportedKeys(catalogAndSchema[0], catalogAndSchema[1], dataPath.getName())
     ) {
 
       return SqlMetaForeignKey.getForeignKeyMetaFromDriverResultSet(fkResultSet);
@@ -14,6 +14,7 @@ import com.tabulify.type.Casts;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -77,11 +78,17 @@ public class SqlInsertStream extends InsertStreamAbs implements InsertStream, Au
   private final TransferOperation transferOperation;
 
   /**
-   * For a prepared statement, if this is a batch, we will have multiple rows
+   * For a prepared statement, if this is a batch, we will have the first {@link #ERROR_SAMPLE_SIZE} rows
    * otherwise we get the actual row
    * (for debugging purpose)
    */
-  private List<List<?>> actualRows = new ArrayList<>();
+  private final List<List<?>> actualRows = new ArrayList<>();
+  /**
+   * Not all driver returns the correct sql or data that is wrong
+   * If the batch size is big we don't see the error
+   * We keep then only a sample of the rows of a batch for the error message
+   */
+  private static final int ERROR_SAMPLE_SIZE = 50;
   /**
    * For a statement with literal,
    * A list of sql statement in the batch or the actual statement executed
@@ -103,6 +110,14 @@ public class SqlInsertStream extends InsertStreamAbs implements InsertStream, Au
   private PreparedStatement secondPreparedStatement;
   private Statement secondPlainStatement;
 
+  /**
+   * The binding of the source values to the parameters
+   * of the {@link #firstPreparedStatement} and {@link #secondPreparedStatement}
+   * resolved once
+   */
+  private SqlBindingPlan firstBindingPlan;
+  private SqlBindingPlan secondBindingPlan;
+
 
   private SqlInsertStream(TransferSourceTargetOrder transferSourceTarget) {
     super(transferSourceTarget.getTargetDataPath());
@@ -164,33 +179,11 @@ public class SqlInsertStream extends InsertStreamAbs implements InsertStream, Au
         /**
          * Batch Mode
          */
-        if (this.withSqlParameters) {
-          prepareStatement(firstPreparedStatement, firstSqlStatementType, sourceValues);
-          firstPreparedStatement.addBatch();
-        } else {
-          String sql = getSqlStatementWithoutParameters(sourceValues, firstSqlStatement, firstSqlStatementType);
-          actualSQLStatements.add(sql);
-          firstPlainStatement.addBatch(sql);
-        }
+        addBatch(sourceValues);
 
         // Submit the batch for execution if full
         if (currentRowInLogicalBatch >= this.batchSize) {
-
-          if (this.batchMode) {
-            executeBatch();
-          }
-
-          if (Math.floorMod(insertStreamListener.getBatchCount(), commitFrequency) == 0) {
-            commit();
-          }
-
-          // Update the counter
-          insertStreamListener.addRows(currentRowInLogicalBatch);
-
-          if (Math.floorMod(insertStreamListener.getBatchCount(), feedbackFrequency) == 0) {
-            LOGGER.info(insertStreamListener.getRowCount() + " rows loaded in the table " + targetMetaDef.getDataPath());
-          }
-          currentRowInLogicalBatch = 0;
+          submitBatch();
         }
 
         return this;
@@ -202,10 +195,10 @@ public class SqlInsertStream extends InsertStreamAbs implements InsertStream, Au
        */
       try {
         if (this.withSqlParameters) {
-          prepareStatement(firstPreparedStatement, firstSqlStatementType, sourceValues);
+          prepareStatement(firstPreparedStatement, firstBindingPlan, sourceValues);
           firstPreparedStatement.execute();
           freeSqlXmlObject();
-          actualRows = new ArrayList<>();
+          actualRows.clear();
         } else {
           String sql = getSqlStatementWithoutParameters(sourceValues, firstSqlStatement, firstSqlStatementType);
           this.actualSQLStatements.add(sql);
@@ -218,10 +211,10 @@ public class SqlInsertStream extends InsertStreamAbs implements InsertStream, Au
         if (transferOperation == TransferOperation.UPSERT && firstSqlStatementType == SqlStatementType.UPDATE) {
           if (this.withSqlParameters) {
             if (firstPreparedStatement.getUpdateCount() == 0) {
-              prepareStatement(secondPreparedStatement, secondSqlStatementType, sourceValues);
+              prepareStatement(secondPreparedStatement, secondBindingPlan, sourceValues);
               secondPreparedStatement.execute();
               freeSqlXmlObject();
-              actualRows = new ArrayList<>();
+              actualRows.clear();
             }
           } else {
             if (firstPlainStatement.getUpdateCount() == 0) {
@@ -252,17 +245,17 @@ public class SqlInsertStream extends InsertStreamAbs implements InsertStream, Au
         /**
          * Delete the first insert or update of the upsert
          */
-        actualRows = new ArrayList<>();
+        actualRows.clear();
         actualSQLStatements = new ArrayList<>();
 
         /**
          * Second statement execution update or insert
          */
         if (this.withSqlParameters) {
-          prepareStatement(secondPreparedStatement, secondSqlStatementType, sourceValues);
+          prepareStatement(secondPreparedStatement, secondBindingPlan, sourceValues);
           secondPreparedStatement.execute();
           freeSqlXmlObject();
-          actualRows = new ArrayList<>();
+          actualRows.clear();
         } else {
           String sql = getSqlStatementWithoutParameters(sourceValues, secondSqlStatement, secondSqlStatementType);
           actualSQLStatements.add(sql);
@@ -302,6 +295,67 @@ public class SqlInsertStream extends InsertStreamAbs implements InsertStream, Au
 
   }
 
+  /**
+   * The records are added to the same batch
+   * that is then submitted as a whole
+   * (ie the batch size is the number of records and not {@link #batchSize})
+   */
+  @Override
+  public InsertStream insertBatch(List<List<Object>> rows) {
+
+    if (!this.batchMode) {
+      return super.insertBatch(rows);
+    }
+
+    try {
+      for (List<Object> row : rows) {
+        currentRowInLogicalBatch++;
+        addBatch(row);
+      }
+    } catch (SQLException e) {
+      resourceClose();
+      throw new RuntimeException("Error on batch insert on the resource : " + targetMetaDef.getDataPath() + ". Error Message: " + e.getMessage(), e);
+    }
+    submitBatch();
+    return this;
+
+  }
+
+  /**
+   * Add a record to the actual batch
+   */
+  private void addBatch(List<Object> sourceValues) throws SQLException {
+    if (this.withSqlParameters) {
+      prepareStatement(firstPreparedStatement, firstBindingPlan, sourceValues);
+      firstPreparedStatement.addBatch();
+    } else {
+      String sql = getSqlStatementWithoutParameters(sourceValues, firstSqlStatement, firstSqlStatementType);
+      actualSQLStatements.add(sql);
+      firstPlainStatement.addBatch(sql);
+    }
+  }
+
+  /**
+   * Execute the actual batch, commit if needed and update the counters
+   */
+  private void submitBatch() {
+
+    executeBatch();
+
+    if (Math.floorMod(insertStreamListener.getBatchCount(), commitFrequency) == 0) {
+      commit();
+    }
+
+    // Update the counter
+    insertStreamListener.addRows(currentRowInLogicalBatch);
+
+    if (Math.floorMod(insertStreamListener.getBatchCount(), feedbackFrequency) == 0) {
+      LOGGER.info(insertStreamListener.getRowCount() + " rows loaded in the table " + targetMetaDef.getDataPath());
+    }
+    currentRowInLogicalBatch = 0;
+
+  }
+
   /**
    * The sql statement without parameters
    * Convert the source values before statement
@@ -314,48 +368,13 @@ public class SqlInsertStream extends InsertStreamAbs implements InsertStream, Au
     return getSqlStatementWithoutParametersStatic(transferSourceTarget, sqlStatement, sourceValues, sqlStatementType);
   }
 
-  private void prepareStatement(PreparedStatement preparedStatement, SqlStatementType sqlStatementType, List<Object> sourceValues) {
-    List<Integer> sourceColumnPositionInStatementOrder = transferSourceTarget.getSourceColumnPositionInStatementOrder(sqlStatementType);
-    List<Object> actualRow = new ArrayList<>();
-    actualRows.add(actualRow);
-    int positionInStatement = 0;
-    for (Integer columnPosition : sourceColumnPositionInStatementOrder) {
-      positionInStatement++;
-      Object sourceObject = sourceValues.get(columnPosition - 1);
-      actualRow.add(sourceObject);
-      final ColumnDef<?> sourceColumn = sourceMetaDef.getColumnDef(columnPosition);
-      final ColumnDef<?> targetColumn;
-      try {
-        targetColumn = transferSourceTarget.getTargetColumnFromSourceColumn(sourceColumn);
-      } catch (NoColumnException e) {
-        throw new IllegalStateException("A target column could not be found for the source (" + sourceColumn + ")");
-      }
-      int targetColumnType = targetColumn.getDataType().getVendorTypeNumber();
-      try {
-        if (sourceObject != null) {
-
-          Object loadObject = targetDataPath.getConnection().toSqlObject(sourceObject, targetColumn.getDataType());
-          if (loadObject instanceof SQLXML) {
-            this.sqlXmlObjects.add((SQLXML) loadObject);
-          }
-          preparedStatement.setObject(positionInStatement, loadObject, targetColumnType);
-
-        } else {
-
-          preparedStatement.setNull(positionInStatement, targetColumnType);
-
-        }
-      } catch (Exception e) {
-        String sourceObjectClass = "null";
-        if (sourceObject != null) {
-          sourceObjectClass = sourceObject.getClass().toString();
-        }
-        String message = e + ", Source Column: " + sourceColumn.getFullyQualifiedName() + " (Class: " + sourceObjectClass + ", Value:" + sourceObject + "),  TargetColumn: " + targetColumn.getFullyQualifiedName() + " (Type: " + targetColumn.getDataType() + ")";
-        throw new RuntimeException(message, e);
-
-      }
-
+  private void prepareStatement(PreparedStatement preparedStatement, SqlBindingPlan bindingPlan, List<Object> sourceValues) {
+    // the record is kept for the error message
+    // (copied as the caller may reuse the list for the next record)
+    if (!this.batchMode || actualRows.size() < ERROR_SAMPLE_SIZE) {
+      actualRows.add(Arrays.asList(sourceValues.toArray()));
     }
+    bindingPlan.bind(preparedStatement, sourceValues, this.sqlXmlObjects);
   }
 
 
@@ -492,7 +511,17 @@ public class SqlInsertStream extends InsertStreamAbs implements InsertStream, Au
       executeBatch();
     }
 
-    commit();
+    // A stream that shares the connection (ie one writer connection such as Sqlite)
+    // may have been closed before and has set the auto-commit back
+    boolean autoCommit;
+    try {
+      autoCommit = connection.getAutoCommit();
+    } catch (SQLException e) {
+      throw new RuntimeException(e);
+    }
+    if (!autoCommit) {
+      commit();
+    }
 
     insertStreamListener.addRows(currentRowInLogicalBatch);
 
@@ -531,7 +560,7 @@ public class SqlInsertStream extends InsertStreamAbs implements InsertStream, Au
         insertStreamListener.incrementBatch();
         freeSqlXmlObject();
         if (this.withSqlParameters) {
-          actualRows = new ArrayList<>();
+          actualRows.clear();
         } else {
           actualSQLStatements = new ArrayList<>();
         }
@@ -546,15 +575,9 @@ public class SqlInsertStream extends InsertStreamAbs implements InsertStream, Au
 
       String message = "Error on batch execution.\nError Message: " + e.getMessage();
 
-      /**
-       * Not all driver returns the correct sql or data that is wrong
-       * If the batch size is big we don't see the error
-       * We set it for now to 50
-       */
-      int failedSampleSize = 50;
       if (this.withSqlParameters) {
 
-        List<List<?>> failedRows = new ArrayList<>();
+        List<String> failedRows = new ArrayList<>();
         if (e instanceof BatchUpdateException) {
           // https://stackoverflow.com/questions/11298220/jdbc-batch-insert-exception-handling
           BatchUpdateException exc = (BatchUpdateException) e;
@@ -564,28 +587,23 @@ public class SqlInsertStream extends InsertStreamAbs implements InsertStream, Au
           if (updateCounts.length != 0) {
             for (int i = 0; i < updateCounts.length; i++) {
               if (updateCounts[i] == Statement.EXECUTE_FAILED) {
-                failedRows.add(actualRows.get(i));
+                failedRows.add(toErrorRow(i));
               }
             }
           }
         }
         if (failedRows.isEmpty()) {
-          for (int i = 0; i < failedSampleSize; i++) {
-            try {
-              failedRows.add(actualRows.get(i));
-            } catch (IndexOutOfBoundsException ex) {
-              break;
-            }
+          for (int i = 0; i < actualRows.size(); i++) {
+            failedRows.add(toErrorRow(i));
           }
         }
         String errorSample = failedRows.stream()
-          .map(d -> Casts.castToNewListSafe(d, String.class))
-          .map(d -> d.stream().map(s -> "'" + s + "'").collect(Collectors.joining(",")))
+          .limit(ERROR_SAMPLE_SIZE)
           .collect(Collectors.joining(System.lineSeparator()));
         message += "\nStatement: " + firstSqlStatement + "\nSample Error Rows:\n" + errorSample;
       } else {
         message += "\nSample SQL Error:\n" + this.actualSQLStatements.stream()
-          .limit(failedSampleSize)
+          .limit(ERROR_SAMPLE_SIZE)
           .collect(Collectors.joining(System.lineSeparator()));
       }
 
@@ -593,6 +611,20 @@ public class SqlInsertStream extends InsertStreamAbs implements InsertStream, Au
     }
   }
 
+  /**
+   * @param index - the index of the row in the batch
+   * @return the values of the row for the error message if they were kept (ie in the sample)
+   */
+  private String toErrorRow(int index) {
+    if (index >= actualRows.size()) {
+      return "Row " + (index + 1) + " of the batch (the values are kept only for the first " + ERROR_SAMPLE_SIZE + " rows)";
+    }
+    return Casts.castToNewListSafe(actualRows.get(index), String.class)
+      .stream()
+      .map(s -> "'" + s + "'")
+      .collect(Collectors.joining(","));
+  }
+
   /**
    * Send a manual commit
    */
@@ -763,8 +795,10 @@ public class SqlInsertStream extends InsertStreamAbs implements InsertStream, Au
       }
       try {
         firstPreparedStatement = connection.prepareStatement(firstSqlStatement);
+        firstBindingPlan = SqlBindingPlan.create(transferSourceTarget, sourceMetaDef, firstSqlStatementType);
         if (secondSqlStatement != null) {
           secondPreparedStatement = connection.prepareStatement(secondSqlStatement);
+          secondBindingPlan = SqlBindingPlan.create(transferSourceTarget, sourceMetaDef, secondSqlStatementType);
         }
       } catch (SQLException e) {
         throw new RuntimeException(e);
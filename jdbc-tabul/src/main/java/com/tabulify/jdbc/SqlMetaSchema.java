@@ -0,0 +1,163 @@
+package com.tabulify.jdbc;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The metadata of all tables of a schema loaded in bulk
+ * (ie a few catalog queries by schema in place of a few by table)
+ * <p></p>
+ * The metadata of a table is taken (and removed) from the snapshot the first time that it's asked
+ * because the data path building is cached.
+ * A table that is not (or no more) in the snapshot gets its metadata from a call by table.
+ * <p></p>
+ * A map is null when the metadata could not be loaded in bulk
+ */
+public class SqlMetaSchema {
+
+  private final String catalog;
+  private final String schema;
+
+  private final Map<String, List<SqlMetaColumn>> columns;
+  private Map<String, List<SqlMetaUniqueKey>> primaryKeys;
+  private Map<String, List<SqlMetaUniqueKey>> uniqueKeys;
+  private Map<String, List<SqlMetaForeignKey>> foreignKeys;
+
+  /**
+   * @param columns - the columns by table name (the tables of the snapshot)
+   */
+  private SqlMetaSchema(String catalog, String schema, Map<String, List<SqlMetaColumn>> columns) {
+    this.catalog = catalog;
+    this.schema = schema;
+    this.columns = new ConcurrentHashMap<>(columns);
+  }
+
+  public static SqlMetaSchema create(String catalog, String schema, Map<String, List<SqlMetaColumn>> columns) {
+    return new SqlMetaSchema(catalog, schema, columns);
+  }
+
+  /**
+   * @param uniqueKeys - the primary keys and unique indexes by table name
+   */
+  public SqlMetaSchema setUniqueKeys(Map<String, List<SqlMetaUniqueKey>> uniqueKeys) {
+    this.uniqueKeys = fillTables(uniqueKeys);
+    Map<String, List<SqlMetaUniqueKey>> primaryKeys = new HashMap<>();
+    for (Map.Entry<String, List<SqlMetaUniqueKey>> entry : uniqueKeys.entrySet()) {
+      for (SqlMetaUniqueKey uniqueKey : entry.getValue()) {
+        if (uniqueKey.isPrimary()) {
+          primaryKeys.put(entry.getKey(), new ArrayList<>(List.of(uniqueKey)));
+        }
+      }
+    }
+    this.primaryKeys = fillTables(primaryKeys);
+    return this;
+  }
+
+  /**
+   * @param foreignKeys - the foreign keys by (foreign) table name
+   */
+  public SqlMetaSchema setForeignKeys(Map<String, List<SqlMetaForeignKey>> foreignKeys) {
+    this.foreignKeys = fillTables(foreignKeys);
+    return this;
+  }
+
+  /**
+   * A table of the snapshot without value has no key
+   */
+  private <T> Map<String, List<T>> fillTables(Map<String, List<T>> valuesByTable) {
+    Map<String, List<T>> filled = new ConcurrentHashMap<>();
+    for (String table : columns.keySet()) {
+      filled.put(table, valuesByTable.getOrDefault(table, new ArrayList<>()));
+    }
+    return filled;
+  }
+
+  /**
+   * @return the columns of the table or null if the table is not in the snapshot
+   */
+  public List<SqlMetaColumn> pollColumns(String tableName) {
+    return columns.remove(tableName);
+  }
+
+  /**
+   * @return the unique indexes of the table (primary key included) or null if they are not in the snapshot
+   */
+  public List<SqlMetaUniqueKey> pollUniqueKeys(String tableName) {
+    if (uniqueKeys == null) {
+      return null;
+    }
+    return uniqueKeys.remove(tableName);
+  }
+
+  /**
+   * @return the primary key of the table (empty if the table has no primary key) or null if it's not in the snapshot
+   */
+  public List<SqlMetaUniqueKey> pollPrimaryKey(String tableName) {
+    if (primaryKeys == null) {
+      return null;
+    }
+    return primaryKeys.remove(tableName);
+  }
+
+  /**
+   * @return the foreign keys of the table or null if they are not in the snapshot
+   */
+  public List<SqlMetaForeignKey> pollForeignKeys(String tableName) {
+    if (foreignKeys == null) {
+      return null;
+    }
+    return foreignKeys.remove(tableName);
+  }
+
+  /**
+   * Remove a table that was created or dropped
+   * and the foreign keys that reference it
+   *
+   * @param catalogName - the catalog of the table
+   * @param schemaName  - the schema of the table
+   * @param tableName   - the table name
+   */
+  public void invalidate(String catalogName, String schemaName, String tableName) {
+    if (Objects.equals(catalogName, this.catalog) && Objects.equals(schemaName, this.schema)) {
+      columns.remove(tableName);
+      if (primaryKeys != null) {
+        primaryKeys.remove(tableName);
+      }
+      if (uniqueKeys != null) {
+        uniqueKeys.remove(tableName);
+      }
+      if (foreignKeys != null) {
+        foreignKeys.remove(tableName);
+      }
+    }
+    if (foreignKeys != null) {
+      // Drop cascade (by name only, a table removed for nothing is just read again)
+      foreignKeys.values().removeIf(
+        tableForeignKeys -> tableForeignKeys
+          .stream()
+          .anyMatch(fk -> tableName.equals(fk.getPrimaryTableName()))
+      );
+    }
+  }
+
+  public String getCatalog() {
+    return catalog;
+  }
+
+  public String getSchema() {
+    return schema;
+  }
+
+  /**
+   * @return the number of tables that are still in the snapshot
+   */
+  public int size() {
+    return columns.size();
+  }
+
+  @Override
+  public String toString() {
+    return catalog + "." + schema;
+  }
+
+}
@@ -0,0 +1,104 @@
+package com.tabulify.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Just an utility class to collect the primary key and unique index meta
+ * <p>
+ * By default, they are created with the {@link SqlDataSystem#getMetaPrimaryKey(SqlDataPath)}
+ * and {@link SqlDataSystem#getMetaUniqueKeys(SqlDataPath)}
+ */
+public class SqlMetaUniqueKey {
+
+  /**
+   * The constraint or index name
+   */
+  private final String name;
+  private final boolean primary;
+
+  /**
+   * The column names by position
+   */
+  private final Map<Integer, String> columns = new HashMap<>();
+
+  public SqlMetaUniqueKey(String name, boolean primary) {
+    this.name = name;
+    this.primary = primary;
+  }
+
+  public static SqlMetaUniqueKey createOf(String name, boolean primary) {
+    return new SqlMetaUniqueKey(name, primary);
+  }
+
+  /**
+   * Collect the keys of a schema from a result set with the columns
+   * `TABLE_NAME`, `INDEX_NAME`, `IS_PRIMARY`, `COLUMN_NAME` and `KEY_SEQ`
+   *
+   * @return the keys by table name
+   */
+  public static Map<String, List<SqlMetaUniqueKey>> getUniqueKeysByTableFromResultSet(ResultSet resultSet) throws SQLException {
+
+    Map<String, Map<String, SqlMetaUniqueKey>> keysByTable = new HashMap<>();
+    while (resultSet.next()) {
+      String tableName = resultSet.getString("TABLE_NAME");
+      String indexName = resultSet.getString("INDEX_NAME");
+      if (indexName == null) {
+        continue;
+      }
+      boolean primary = resultSet.getBoolean("IS_PRIMARY");
+      keysByTable
+        .computeIfAbsent(tableName, k -> new HashMap<>())
+        .computeIfAbsent(indexName, k -> SqlMetaUniqueKey.createOf(indexName, primary))
+        .addColumn(resultSet.getInt("KEY_SEQ"), resultSet.getString("COLUMN_NAME"));
+    }
+    Map<String, List<SqlMetaUniqueKey>> uniqueKeys = new HashMap<>();
+    for (Map.Entry<String, Map<String, SqlMetaUniqueKey>> entry : keysByTable.entrySet()) {
+      uniqueKeys.put(entry.getKey(), new ArrayList<>(entry.getValue().values()));
+    }
+    return uniqueKeys;
+
+  }
+
+  public SqlMetaUniqueKey addColumn(int position, String columnName) {
+    this.columns.put(position, columnName);
+    return this;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public boolean isPrimary() {
+    return primary;
+  }
+
+  /**
+   * @return the column names sorted by position
+   */
+  public List<String> getColumns() {
+    return this.columns.keySet()
+      .stream()
+      .sorted()
+      .map(this.columns::get)
+      // Pfff
+      // MySQL returns 2 column with the same name
+      .distinct()
+      .collect(Collectors.toList());
+  }
+
+  /**
+   * @return the column names by position
+   */
+  public Map<Integer, String> getColumnsByPosition() {
+    return Collections.unmodifiableMap(columns);
+  }
+
+  @Override
+  public String toString() {
+    return name + " " + getColumns();
+  }
+
+}
@@ -0,0 +1,21 @@
+package com.tabulify.jdbc;
+
+import com.tabulify.exception.CastException;
+import com.tabulify.model.SqlDataType;
+
+/**
+ * A function that converts a source value to a Java SQL object for a target type
+ * <p>
+ * It's created once by column with {@link SqlConnection#createSqlObjectConverter(SqlDataType)}
+ */
+@FunctionalInterface
+public interface SqlObjectConverter {
+
+  /**
+   * @param sourceObject - a not null source value
+   * @return the Java SQL object to be loaded in a prepared statement
+   * @throws CastException - if the value cannot be converted
+   */
+  Object toSqlObject(Object sourceObject) throws CastException;
+
+}
@@ -39,6 +39,12 @@ public class SqlRequest extends SqlDataPath {
   @SuppressWarnings("unchecked")
   private List<SqlQueryMetadataDetectionMethod> selectMetadataDetectionMethods = (List<SqlQueryMetadataDetectionMethod>) SELECT_METADATA_DETECTIONS.getDefaultValue();
 
+  /**
+   * Execute on its own jdbc connection
+   * closed with the select stream (ie partition read in parallel)
+   */
+  private boolean dedicatedJdbcConnection = false;
+
   /**
    * Not null when already executed
    */
@@ -304,6 +310,20 @@ public class SqlRequest extends SqlDataPath {
       .anyMatch(p -> !p.getDirection().equals(SqlParameterDirection.IN));
   }
 
+  /**
+   * @param dedicatedJdbcConnection - if true, the request is executed on a new jdbc connection
+   *                                that is closed when the select stream is closed.
+   *                                It permits to read multiple requests concurrently.
+   */
+  public SqlRequest setDedicatedJdbcConnection(boolean dedicatedJdbcConnection) {
+    this.dedicatedJdbcConnection = dedicatedJdbcConnection;
+    return this;
+  }
+
+  public boolean hasDedicatedJdbcConnection() {
+    return this.dedicatedJdbcConnection;
+  }
+
   public boolean isParametrizedStatement() {
     return !this.parameterList.isEmpty();
   }
@@ -92,9 +92,42 @@ public class SqlRequestExecution {
   }
 
   static SelectStream getSqlStreamResultSet(SqlRequest dataPath, SqlStatement sqlStatement) throws SelectException {
-    SqlResultSetStream sqlResultSetStream;
+
     SqlConnection sqlConnection = dataPath.getConnection();
-    Connection jdbcConnection = sqlConnection.getCurrentJdbcConnection();
+    if (!dataPath.hasDedicatedJdbcConnection()) {
+      return getSqlStreamResultSet(dataPath, sqlStatement, sqlConnection.getCurrentJdbcConnection());
+    }
+
+    /**
+     * A dedicated connection is owned by the result set stream
+     * and closed with it
+     */
+    Connection dedicatedJdbcConnection = sqlConnection.getNewJdbcConnection();
+    SelectStream selectStream;
+    try {
+      selectStream = getSqlStreamResultSet(dataPath, sqlStatement, dedicatedJdbcConnection);
+    } catch (SelectException | RuntimeException e) {
+      closeDedicatedJdbcConnection(dedicatedJdbcConnection);
+      throw e;
+    }
+    if (selectStream instanceof SqlResultSetStream) {
+      return ((SqlResultSetStream) selectStream).setDedicatedJdbcConnection(dedicatedJdbcConnection);
+    }
+    closeDedicatedJdbcConnection(dedicatedJdbcConnection);
+    return selectStream;
+
+  }
+
+  private static void closeDedicatedJdbcConnection(Connection jdbcConnection) {
+    try {
+      jdbcConnection.close();
+    } catch (SQLException e) {
+      SqlLog.LOGGER_DB_JDBC.warning("Error while closing a dedicated jdbc connection. Error: " + e.getMessage());
+    }
+  }
+
+  private static SelectStream getSqlStreamResultSet(SqlRequest dataPath, SqlStatement sqlStatement, Connection jdbcConnection) throws SelectException {
+    SqlResultSetStream sqlResultSetStream;
     String statementString = sqlStatement.getStatement();
 
     InsertStream insertStream = dataPath.getConnection().getTabular().getMemoryConnection().getDataPath(dataPath.getLogicalName())
@@ -183,6 +216,12 @@ public class SqlRequestExecution {
        */
       if (!result) {
 
+        /**
+         * The statement may have created or dropped an object
+         */
+        dataPath.getConnection().getCache().invalidateObjectNames();
+        dataPath.getConnection().getCache().invalidateMetaSchemas();
+
         /**
          * Procedure with `OUT` parameters?
          */
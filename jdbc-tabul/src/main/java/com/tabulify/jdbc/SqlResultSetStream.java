@@ -9,6 +9,7 @@ import com.tabulify.stream.SelectStreamAbs;
 import com.tabulify.type.KeyNormalizer;
 
 import java.sql.Clob;
+import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -25,6 +26,12 @@ public class SqlResultSetStream extends SelectStreamAbs implements SelectStream
   // The cursor
   private ResultSet resultSet;
 
+  /**
+   * The jdbc connection owned by this stream
+   * if the request has a {@link SqlRequest#hasDedicatedJdbcConnection() dedicated connection}
+   */
+  private Connection dedicatedJdbcConnection;
+
 
   public SqlResultSetStream(SqlRequest jdbcDataPath, ResultSet resultSet, SqlStatement sqlStatement) {
 
@@ -53,9 +60,34 @@ public class SqlResultSetStream extends SelectStreamAbs implements SelectStream
       resultSet.close();
     } catch (SQLException e) {
       throw new RuntimeException(e);
+    } finally {
+      closeDedicatedJdbcConnection();
     }
   }
 
+  /**
+   * The dedicated connection is closed even if the result set could not be closed
+   */
+  private void closeDedicatedJdbcConnection() {
+    if (dedicatedJdbcConnection == null) {
+      return;
+    }
+    try {
+      dedicatedJdbcConnection.close();
+    } catch (SQLException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  SqlResultSetStream setDedicatedJdbcConnection(Connection jdbcConnection) {
+    this.dedicatedJdbcConnection = jdbcConnection;
+    return this;
+  }
+
+  Connection getDedicatedJdbcConnection() {
+    return this.dedicatedJdbcConnection;
+  }
+
   @Override
   public boolean isClosed() {
     try {
@@ -82,6 +114,10 @@ public class SqlResultSetStream extends SelectStreamAbs implements SelectStream
         SqlResultSetStream sqlResultSetStream = (SqlResultSetStream) SqlRequestExecution.getSqlStreamResultSet(this.jdbcDataPath, this.sqlStatement);
 
         resultSet = sqlResultSetStream.getResultSet();
+        if (dedicatedJdbcConnection != null) {
+          dedicatedJdbcConnection.close();
+          dedicatedJdbcConnection = sqlResultSetStream.getDedicatedJdbcConnection();
+        }
       } else {
         resultSet.beforeFirst();
       }
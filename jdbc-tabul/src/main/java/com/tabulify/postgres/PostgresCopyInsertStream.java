@@ -0,0 +1,273 @@
+package com.tabulify.postgres;
+
+import com.tabulify.jdbc.SqlBindingPlan;
+import com.tabulify.jdbc.SqlDataPath;
+import com.tabulify.jdbc.SqlLog;
+import com.tabulify.model.RelationDef;
+import com.tabulify.spi.DataPath;
+import com.tabulify.spi.Tabulars;
+import com.tabulify.stream.InsertStream;
+import com.tabulify.stream.InsertStreamAbs;
+import com.tabulify.transfer.SqlStatementType;
+import com.tabulify.transfer.TransferMethod;
+import com.tabulify.transfer.TransferSourceTargetOrder;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLXML;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * An insert stream that loads the records with the Postgres
+ * <a href="https://www.postgresql.org/docs/current/sql-copy.html">COPY FROM STDIN</a> protocol
+ * <p>
+ * The records are framed as CSV and sent by batch of {@link #batchSize} records.
+ * <p>
+ * The COPY is a single transaction, there is therefore no intermediate commit.
+ */
+public class PostgresCopyInsertStream extends InsertStreamAbs implements InsertStream, AutoCloseable {
+
+  public static final Logger LOGGER = SqlLog.LOGGER_DB_JDBC;
+
+  private final SqlDataPath targetDataPath;
+  private final SqlBindingPlan bindingPlan;
+  private final Connection connection;
+  private final CopyIn copyIn;
+
+  /**
+   * The CSV records of the actual batch
+   */
+  private final StringBuilder buffer = new StringBuilder();
+
+  private PostgresCopyInsertStream(TransferSourceTargetOrder transferSourceTarget) {
+    super(transferSourceTarget.getTargetDataPath());
+    this.targetDataPath = (SqlDataPath) transferSourceTarget.getTargetDataPath();
+
+    DataPath sourceDataPath = transferSourceTarget.getSourceDataPath();
+    /**
+     * If the source is not defined, we expect the same structure than the target
+     */
+    if (sourceDataPath == null) {
+      sourceDataPath = targetDataPath;
+    }
+    RelationDef sourceMetaDef = sourceDataPath.getOrCreateRelationDef();
+    this.bindingPlan = SqlBindingPlan.create(transferSourceTarget, sourceMetaDef, SqlStatementType.INSERT);
+
+    PostgresDataSystem dataSystem = (PostgresDataSystem) targetDataPath.getConnection().getDataSystem();
+    String copyStatement = "COPY " + targetDataPath.toSqlStringPath() + " (" +
+      IntStream.range(0, bindingPlan.size())
+        .mapToObj(i -> dataSystem.createQuotedName(bindingPlan.getTargetColumn(i).getColumnName()))
+        .collect(Collectors.joining(", ")) +
+      ") FROM STDIN WITH (FORMAT csv)";
+    LOGGER.info("Copy Statement: " + copyStatement);
+
+    // the target pre-operations (create, truncate) ran on the current connection
+    // and should be visible to the new connection of the load
+    targetDataPath.getConnection().commitCurrentJdbcConnection();
+    this.connection = targetDataPath.getConnection().getNewJdbcConnection();
+    try {
+      this.copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(copyStatement);
+    } catch (SQLException e) {
+      closeConnection();
+      throw new RuntimeException("Error while starting the copy into the table " + targetDataPath + ". Error Message: " + e.getMessage(), e);
+    }
+  }
+
+  public static PostgresCopyInsertStream create(TransferSourceTargetOrder transferSourceTarget) {
+    DataPath targetDataPath = transferSourceTarget.getTargetDataPath();
+    if (!Tabulars.exists(targetDataPath)) {
+      throw new RuntimeException("You can't open an insert stream on the SQL table (" + targetDataPath + ") because it does not exist.");
+    }
+    return new PostgresCopyInsertStream(transferSourceTarget);
+  }
+
+  @Override
+  public InsertStream insert(List<Object> sourceValues) {
+
+    for (int i = 0; i < bindingPlan.size(); i++) {
+      if (i != 0) {
+        buffer.append(',');
+      }
+      Object sqlObject;
+      try {
+        sqlObject = bindingPlan.toSqlObject(sourceValues, i);
+      } catch (Exception e) {
+        cancel();
+        throw new RuntimeException(bindingPlan.createErrorMessage(e, bindingPlan.getSourceObject(sourceValues, i), i), e);
+      }
+      appendCsvValue(sqlObject);
+    }
+    buffer.append('\n');
+
+    currentRowInLogicalBatch++;
+    if (currentRowInLogicalBatch >= this.batchSize) {
+      writeBatch();
+    }
+    return this;
+
+  }
+
+  /**
+   * Append a value in the CSV format of the COPY command
+   * (ie an unquoted empty value is a null, a quoted empty value is an empty string)
+   */
+  private void appendCsvValue(Object sqlObject) {
+    if (sqlObject == null) {
+      return;
+    }
+    String value;
+    if (sqlObject instanceof byte[]) {
+      // bytea hex format
+      StringBuilder hex = new StringBuilder("\\x");
+      for (byte b : (byte[]) sqlObject) {
+        hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+      }
+      value = hex.toString();
+    } else if (sqlObject instanceof SQLXML) {
+      // the xml object is created by the target connection and holds its resources until freed
+      SQLXML sqlXml = (SQLXML) sqlObject;
+      try {
+        value = sqlXml.getString();
+      } catch (SQLException e) {
+        throw new RuntimeException(e);
+      } finally {
+        try {
+          sqlXml.free();
+        } catch (SQLException e) {
+          LOGGER.warning("The xml value could not be freed. Error: " + e.getMessage());
+        }
+      }
+    } else if (sqlObject instanceof BigDecimal) {
+      value = ((BigDecimal) sqlObject).toPlainString();
+    } else {
+      value = sqlObject.toString();
+    }
+    if (!value.isEmpty() && !requiresQuote(value)) {
+      buffer.append(value);
+      return;
+    }
+    buffer.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '"') {
+        buffer.append('"');
+      }
+      buffer.append(c);
+    }
+    buffer.append('"');
+  }
+
+  private static boolean requiresQuote(String value) {
+    for (int i = 0; i < value.length(); i++) {
+      switch (value.charAt(i)) {
+        case ',':
+        case '"':
+        case '\r':
+        case '\n':
+        case '\\':
+          return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Send the actual batch to the server
+   */
+  private void writeBatch() {
+    if (currentRowInLogicalBatch == 0) {
+      return;
+    }
+    try {
+      byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+      copyIn.writeToCopy(bytes, 0, bytes.length);
+    } catch (SQLException e) {
+      cancel();
+      throw new RuntimeException("Error on copy into the table " + targetDataPath + ". Error Message: " + e.getMessage(), e);
+    }
+    buffer.setLength(0);
+    insertStreamListener.incrementBatch();
+    insertStreamListener.addRows(currentRowInLogicalBatch);
+    if (Math.floorMod(insertStreamListener.getBatchCount(), feedbackFrequency) == 0) {
+      LOGGER.info(insertStreamListener.getRowCount() + " rows copied in the table " + targetDataPath);
+    }
+    currentRowInLogicalBatch = 0;
+  }
+
+  @Override
+  public void flush() {
+    writeBatch();
+    try {
+      copyIn.flushCopy();
+    } catch (SQLException e) {
+      cancel();
+      throw new RuntimeException("Error on copy flush into the table " + targetDataPath + ". Error Message: " + e.getMessage(), e);
+    }
+  }
+
+  @Override
+  public void close() {
+
+    writeBatch();
+    try {
+      copyIn.endCopy();
+      if (!connection.getAutoCommit()) {
+        connection.commit();
+      }
+      insertStreamListener.incrementCommit();
+    } catch (SQLException e) {
+      cancel();
+      throw new RuntimeException("Error on copy end into the table " + targetDataPath + ". Error Message: " + e.getMessage(), e);
+    }
+    closeConnection();
+
+    LOGGER.info(insertStreamListener.getRowCount() + " rows copied (Total) in the table " + targetDataPath);
+    LOGGER.info(insertStreamListener.getBatchCount() + " batches(s) (Total) in the table " + targetDataPath);
+
+  }
+
+  /**
+   * Cancel the copy and close the connection
+   * <p>
+   * This chunk of code must never fail
+   */
+  private void cancel() {
+    try {
+      if (copyIn.isActive()) {
+        copyIn.cancelCopy();
+      }
+    } catch (SQLException e) {
+      LOGGER.warning("Error while cancelling the copy into the table " + targetDataPath + ". Error Message: " + e.getMessage());
+    }
+    closeConnection();
+  }
+
+  private void closeConnection() {
+    try {
+      if (!connection.isClosed()) {
+        connection.close();
+      }
+      LOGGER.fine(getName() + " stream closed");
+    } catch (SQLException e) {
+      LOGGER.warning("Error while closing the connection of the copy into the table " + targetDataPath + ". Error Message: " + e.getMessage());
+    }
+  }
+
+  @Override
+  public SqlDataPath getDataPath() {
+    return (SqlDataPath) super.getDataPath();
+  }
+
+  @Override
+  public TransferMethod getMethod() {
+    return TransferMethod.BULK_LOAD;
+  }
+
+}
@@ -4,19 +4,52 @@ import com.tabulify.fs.sql.SqlLexer;
 import com.tabulify.fs.sql.SqlStatement;
 import com.tabulify.jdbc.SqlConnection;
 import com.tabulify.jdbc.SqlDataPath;
+import com.tabulify.jdbc.SqlLog;
+import com.tabulify.jdbc.SqlMediaType;
+import com.tabulify.model.ColumnDef;
 import com.tabulify.spi.DataPath;
+import com.tabulify.transfer.TransferCsvCopySource;
+import com.tabulify.transfer.TransferCsvCopyTarget;
+import com.tabulify.transfer.TransferOperation;
+import com.tabulify.transfer.TransferSourceTargetOrder;
 import com.tabulify.exception.NoCatalogException;
 import com.tabulify.exception.NoSchemaException;
 import com.tabulify.type.MediaType;
 import com.tabulify.type.Strings;
 
+import org.postgresql.PGConnection;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
-public class PostgresDataPath extends SqlDataPath {
+public class PostgresDataPath extends SqlDataPath implements TransferCsvCopySource {
+
+  /**
+   * The types where the CSV text of Postgres and the CSV text of the select stream
+   * have the same value (the boolean `t` and `f`, the timestamps and the binary are not the same)
+   */
+  private static final Set<Integer> CSV_COPY_TYPES = Set.of(
+    Types.CHAR,
+    Types.VARCHAR,
+    Types.LONGVARCHAR,
+    Types.NCHAR,
+    Types.NVARCHAR,
+    Types.SMALLINT,
+    Types.INTEGER,
+    Types.BIGINT,
+    Types.NUMERIC,
+    Types.DECIMAL,
+    Types.DATE
+  );
 
 
   public PostgresDataPath(SqlConnection jdbcDataStore, String path, MediaType sqlType) {
@@ -93,6 +126,71 @@ public class PostgresDataPath extends SqlDataPath {
     return dependencies;
   }
 
+  /**
+   * The native `COPY TO STDOUT` export is used only if the transfer is a plain insert of all columns
+   * in the same order without type conversion into a CSV target of the same format
+   */
+  @Override
+  public boolean isCsvCopySupported(TransferSourceTargetOrder transferSourceTarget) {
+
+    DataPath targetDataPath = transferSourceTarget.getTargetDataPath();
+    if (!(targetDataPath instanceof TransferCsvCopyTarget)) {
+      return false;
+    }
+    if (!((TransferCsvCopyTarget) targetDataPath).isCsvCopyFormat(',', '"', "\n", StandardCharsets.UTF_8)) {
+      return false;
+    }
+    SqlMediaType mediaType = this.getMediaType();
+    if (mediaType != SqlMediaType.TABLE && mediaType != SqlMediaType.VIEW) {
+      return false;
+    }
+    TransferOperation transferOperation = transferSourceTarget.getTransferProperties().getOperation();
+    if (transferOperation != null && transferOperation != TransferOperation.INSERT && transferOperation != TransferOperation.COPY) {
+      return false;
+    }
+
+    /**
+     * No column mapping
+     */
+    List<? extends ColumnDef<?>> sourceColumns = this.getOrCreateRelationDef().getColumnDefs();
+    Map<ColumnDef<?>, ColumnDef<?>> columnMapping = transferSourceTarget.getTransferSourceTargetColumnMapping();
+    if (columnMapping.size() != sourceColumns.size()) {
+      return false;
+    }
+    for (ColumnDef<?> sourceColumn : sourceColumns) {
+      ColumnDef<?> targetColumn = columnMapping.get(sourceColumn);
+      if (targetColumn == null || targetColumn.getColumnPosition() != sourceColumn.getColumnPosition()) {
+        return false;
+      }
+      /**
+       * No type conversion
+       */
+      if (!CSV_COPY_TYPES.contains(sourceColumn.getDataType().getVendorTypeNumber())) {
+        return false;
+      }
+    }
+    return true;
+
+  }
+
+  /**
+   * <a href="https://www.postgresql.org/docs/current/sql-copy.html">...</a>
+   * The driver client encoding is always UTF-8
+   */
+  @Override
+  public long copyAsCsv(OutputStream outputStream) {
+    String copyStatement = "COPY (" + this.getConnection().getDataSystem().createSelectStatement(this) + ") TO STDOUT WITH (FORMAT csv)";
+    SqlLog.LOGGER_DB_JDBC.info("Copy Statement: " + copyStatement);
+    try {
+      return this.getConnection().getCurrentJdbcConnection()
+        .unwrap(PGConnection.class)
+        .getCopyAPI()
+        .copyOut(copyStatement, outputStream);
+    } catch (SQLException | IOException e) {
+      throw new RuntimeException("Error while exporting the data path (" + this + ") with the statement: " + copyStatement + ". Error: " + e.getMessage(), e);
+    }
+  }
+
   /**
    * See column `relpages` from
    * <a href="https://www.postgresql.org/docs/9.5/catalog-pg-class.html">...</a>
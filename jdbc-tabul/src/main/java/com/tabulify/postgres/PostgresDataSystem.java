@@ -3,15 +3,18 @@ package com.tabulify.postgres;
 import com.tabulify.jdbc.*;
 import com.tabulify.model.*;
 import com.tabulify.spi.DataPath;
+import com.tabulify.stream.InsertStream;
 import com.tabulify.transfer.TransferSourceTargetOrder;
 import com.tabulify.exception.CastException;
 import com.tabulify.exception.InternalException;
 import com.tabulify.exception.NoSchemaException;
+import com.tabulify.exception.NotSupportedException;
 import com.tabulify.type.Casts;
 
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public class PostgresDataSystem extends SqlDataSystem {
@@ -47,6 +50,53 @@ public class PostgresDataSystem extends SqlDataSystem {
     "  AND table_name = ?\n" +
     "ORDER BY table_schema, table_name, ordinal_position";
 
+  /**
+   * The unique indexes (primary key included) of a schema
+   * <a href="https://www.postgresql.org/docs/current/catalog-pg-index.html">...</a>
+   */
+  public static final String GET_SCHEMA_UNIQUE_KEYS_SQL = "SELECT\n" +
+    "    t.relname as table_name,\n" +
+    "    i.relname as index_name,\n" +
+    "    ix.indisprimary as is_primary,\n" +
+    "    a.attname as column_name,\n" +
+    "    k.seq as key_seq\n" +
+    "FROM pg_catalog.pg_index ix\n" +
+    "         JOIN pg_catalog.pg_class t ON t.oid = ix.indrelid\n" +
+    "         JOIN pg_catalog.pg_namespace n ON n.oid = t.relnamespace\n" +
+    "         JOIN pg_catalog.pg_class i ON i.oid = ix.indexrelid\n" +
+    "         CROSS JOIN LATERAL unnest(ix.indkey::smallint[]) WITH ORDINALITY AS k(attnum, seq)\n" +
+    "         JOIN pg_catalog.pg_attribute a ON a.attrelid = t.oid AND a.attnum = k.attnum\n" +
+    "WHERE n.nspname = ?\n" +
+    "  AND ix.indisunique";
+
+  /**
+   * The foreign keys of a schema with the columns of {@link DatabaseMetaData#getImportedKeys(String, String, String)}
+   * <a href="https://www.postgresql.org/docs/current/catalog-pg-constraint.html">...</a>
+   */
+  public static final String GET_SCHEMA_FOREIGN_KEYS_SQL = "SELECT\n" +
+    "    null::text as pktable_cat,\n" +
+    "    pn.nspname as pktable_schem,\n" +
+    "    pc.relname as pktable_name,\n" +
+    "    pa.attname as pkcolumn_name,\n" +
+    "    null::text as fktable_cat,\n" +
+    "    fn.nspname as fktable_schem,\n" +
+    "    fc.relname as fktable_name,\n" +
+    "    fa.attname as fkcolumn_name,\n" +
+    "    k.seq as key_seq,\n" +
+    "    con.conname as fk_name,\n" +
+    "    pi.relname as pk_name\n" +
+    "FROM pg_catalog.pg_constraint con\n" +
+    "         JOIN pg_catalog.pg_class fc ON fc.oid = con.conrelid\n" +
+    "         JOIN pg_catalog.pg_namespace fn ON fn.oid = fc.relnamespace\n" +
+    "         JOIN pg_catalog.pg_class pc ON pc.oid = con.confrelid\n" +
+    "         JOIN pg_catalog.pg_namespace pn ON pn.oid = pc.relnamespace\n" +
+    "         CROSS JOIN LATERAL unnest(con.conkey, con.confkey) WITH ORDINALITY AS k(fk_attnum, pk_attnum, seq)\n" +
+    "         JOIN pg_catalog.pg_attribute fa ON fa.attrelid = con.conrelid AND fa.attnum = k.fk_attnum\n" +
+    "         JOIN pg_catalog.pg_attribute pa ON pa.attrelid = con.confrelid AND pa.attnum = k.pk_attnum\n" +
+    "         LEFT JOIN pg_catalog.pg_class pi ON pi.oid = con.conindid\n" +
+    "WHERE con.contype = 'f'\n" +
+    "  AND fn.nspname = ?";
+
   /**
    * Due to code improvement, retrieving the data directly
    * from Postgres is no more needed
@@ -58,6 +108,14 @@ public class PostgresDataSystem extends SqlDataSystem {
     super(sqlConnection);
   }
 
+  @Override
+  public InsertStream getInsertStream(TransferSourceTargetOrder transferSourceTarget) {
+    if (isBulkLoad(transferSourceTarget)) {
+      return PostgresCopyInsertStream.create(transferSourceTarget);
+    }
+    return super.getInsertStream(transferSourceTarget);
+  }
+
 
   @Override
   protected String createDataTypeStatement(ColumnDef<?> columnDef) {
@@ -181,6 +239,22 @@ public class PostgresDataSystem extends SqlDataSystem {
     return sqlMetaColumns;
   }
 
+  @Override
+  protected Map<String, List<SqlMetaUniqueKey>> getSchemaMetaUniqueKeys(String catalog, String schema) throws SQLException, NotSupportedException {
+    if (schema == null) {
+      throw new NotSupportedException("The schema is unknown");
+    }
+    return getSchemaMetaUniqueKeysFromQuery(GET_SCHEMA_UNIQUE_KEYS_SQL, schema);
+  }
+
+  @Override
+  protected Map<String, List<SqlMetaForeignKey>> getSchemaMetaForeignKeys(String catalog, String schema) throws SQLException, NotSupportedException {
+    if (schema == null) {
+      throw new NotSupportedException("The schema is unknown");
+    }
+    return getSchemaMetaForeignKeysFromQuery(GET_SCHEMA_FOREIGN_KEYS_SQL, schema);
+  }
+
   private PreparedStatement getMetaColumnsStatement(SqlDataPath dataPath) throws SQLException {
     PreparedStatement statement = dataPath.getConnection().getCurrentJdbcConnection().prepareStatement(GET_TABLE_COLUMNS_SQL);
     try {
@@ -269,4 +343,37 @@ public class PostgresDataSystem extends SqlDataSystem {
      */
     return SqlTypeKeyUniqueIdentifier.NAME_ONLY;
   }
+
+  /**
+   * The estimation of the planner (`reltuples`) updated by `vacuum`, `analyze` and `create index`
+   * <a href="https://www.postgresql.org/docs/current/catalog-pg-class.html">...</a>
+   * The value is -1 if the table was never vacuumed or analyzed
+   */
+  @Override
+  public Long getApproximateCount(SqlDataPath dataPath) {
+    String schema;
+    try {
+      schema = dataPath.getSchema().getName();
+    } catch (NoSchemaException e) {
+      throw new InternalException("Postgres has a schema, should not fire", e);
+    }
+    Long count = getLongFromQuery(
+      "select c.reltuples::bigint from pg_class c join pg_namespace n on n.oid = c.relnamespace where n.nspname = ? and c.relname = ?",
+      schema,
+      dataPath.getName()
+    );
+    if (count == null || count < 0) {
+      return null;
+    }
+    return count;
+  }
+
+  /**
+   * `hashtext` is an internal function (not documented)
+   * but this is the one used by the Postgres hash partitioning of text
+   */
+  @Override
+  public String createPartitionHashExpression(String quotedColumnName, int partitionCount) {
+    return "mod(abs(hashtext(" + quotedColumnName + "::text)::bigint), " + partitionCount + ")";
+  }
 }
@@ -8,12 +8,11 @@ import com.tabulify.transfer.TransferSourceTargetOrder;
 import com.tabulify.exception.CastException;
 import com.tabulify.exception.InternalException;
 import com.tabulify.exception.NoSchemaException;
+import com.tabulify.exception.NotSupportedException;
 import com.tabulify.type.Casts;
 
 import java.sql.*;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 import java.util.stream.Collectors;
 
 public class MySqlDataSystem extends SqlDataSystem {
@@ -170,7 +169,7 @@ public class MySqlDataSystem extends SqlDataSystem {
    * so we need to read the information_schema and take over
    */
   @Override
-  public List<SqlMetaColumn> getMetaColumns(SqlDataPath dataPath) {
+  protected List<SqlMetaColumn> getTableMetaColumns(SqlDataPath dataPath) {
 
     Connection currentConnection = dataPath.getConnection().getCurrentJdbcConnection();
 
@@ -208,63 +207,7 @@ public class MySqlDataSystem extends SqlDataSystem {
       ResultSet columnResultSet = preparedStatement.executeQuery()
     ) {
       while (columnResultSet.next()) {
-
-        SqlMetaColumn sqlMetaColumn = SqlMetaColumn.createOf(columnResultSet.getString("COLUMN_NAME"));
-        sqlMetaColumns.add(sqlMetaColumn);
-
-
-        String sqlName = columnResultSet.getString("DATA_TYPE").toLowerCase();
-
-        int scale = columnResultSet.getInt("NUMERIC_SCALE");
-        Integer position = columnResultSet.getInt("ORDINAL_POSITION");
-        Boolean isNullable = columnResultSet.getBoolean("IS_NULLABLE");
-
-        /**
-         * Precision
-         * MySql has the precision spawn on  multiple column by type
-         * We make the assumption that they are all null except the good one
-         * We don't check the type
-         * <p></p>
-         * Fix point data type
-         * We use getObject to see if the value is null
-         * {@link ResultSet#getInt(int)} returns 0, and it's a little bit weird
-         */
-        Integer precision = columnResultSet.getObject("NUMERIC_PRECISION", Integer.class);
-        if (precision == null) {
-          /**
-           * String
-           * It's a long because the value is a long for a `longtext` type
-           */
-          Long precisionLong = columnResultSet.getObject("CHARACTER_MAXIMUM_LENGTH", Long.class);
-          if (precisionLong != null) {
-            if (precisionLong < Integer.MAX_VALUE) {
-              precision = Math.toIntExact(precisionLong);
-            } else {
-              precision = Integer.MAX_VALUE;
-            }
-          }
-        }
-        if (precision == null) {
-          /**
-           * Character
-           */
-          precision = columnResultSet.getObject("CHARACTER_OCTET_LENGTH", Integer.class);
-        }
-        if (precision == null) {
-          /**
-           * Date
-           */
-          precision = columnResultSet.getObject("DATETIME_PRECISION", Integer.class);
-        }
-        if (precision == null) {
-          precision = 0;
-        }
-        sqlMetaColumn
-          .setColumnSize(precision)
-          .setTypeName(sqlName)
-          .setDecimalDigits(scale)
-          .setPosition(position)
-          .setIsNullable(isNullable);
+        sqlMetaColumns.add(createMetaColumn(columnResultSet));
       }
 
     } catch (SQLException e) {
@@ -274,6 +217,98 @@ public class MySqlDataSystem extends SqlDataSystem {
 
   }
 
+  /**
+   * @param columnResultSet - a result set on `information_schema.columns`
+   * @return the meta column of the current row
+   */
+  private SqlMetaColumn createMetaColumn(ResultSet columnResultSet) throws SQLException {
+
+    SqlMetaColumn sqlMetaColumn = SqlMetaColumn.createOf(columnResultSet.getString("COLUMN_NAME"));
+
+    String sqlName = columnResultSet.getString("DATA_TYPE").toLowerCase();
+
+    int scale = columnResultSet.getInt("NUMERIC_SCALE");
+    Integer position = columnResultSet.getInt("ORDINAL_POSITION");
+    Boolean isNullable = columnResultSet.getBoolean("IS_NULLABLE");
+
+    /**
+     * Precision
+     * MySql has the precision spawn on  multiple column by type
+     * We make the assumption that they are all null except the good one
+     * We don't check the type
+     * <p></p>
+     * Fix point data type
+     * We use getObject to see if the value is null
+     * {@link ResultSet#getInt(int)} returns 0, and it's a little bit weird
+     */
+    Integer precision = columnResultSet.getObject("NUMERIC_PRECISION", Integer.class);
+    if (precision == null) {
+      /**
+       * String
+       * It's a long because the value is a long for a `longtext` type
+       */
+      Long precisionLong = columnResultSet.getObject("CHARACTER_MAXIMUM_LENGTH", Long.class);
+      if (precisionLong != null) {
+        if (precisionLong < Integer.MAX_VALUE) {
+          precision = Math.toIntExact(precisionLong);
+        } else {
+          precision = Integer.MAX_VALUE;
+        }
+      }
+    }
+    if (precision == null) {
+      /**
+       * Character
+       */
+      precision = columnResultSet.getObject("CHARACTER_OCTET_LENGTH", Integer.class);
+    }
+    if (precision == null) {
+      /**
+       * Date
+       */
+      precision = columnResultSet.getObject("DATETIME_PRECISION", Integer.class);
+    }
+    if (precision == null) {
+      precision = 0;
+    }
+    return sqlMetaColumn
+      .setColumnSize(precision)
+      .setTypeName(sqlName)
+      .setDecimalDigits(scale)
+      .setPosition(position)
+      .setIsNullable(isNullable);
+
+  }
+
+  /**
+   * The columns of all tables of a schema from `information_schema.columns`
+   * (the schema is the jdbc catalog)
+   */
+  @Override
+  protected Map<String, List<SqlMetaColumn>> getSchemaMetaColumns(String catalog, String schema) throws SQLException, NotSupportedException {
+
+    if (catalog == null) {
+      throw new NotSupportedException("The schema is unknown");
+    }
+    String sql = "SELECT *\n" +
+      "FROM information_schema.columns\n" +
+      "WHERE table_schema = ?\n" +
+      "order by table_name, ordinal_position";
+    Map<String, List<SqlMetaColumn>> columns = new HashMap<>();
+    try (PreparedStatement preparedStatement = this.getConnection().getCurrentJdbcConnection().prepareStatement(sql)) {
+      preparedStatement.setString(1, catalog);
+      try (ResultSet columnResultSet = preparedStatement.executeQuery()) {
+        while (columnResultSet.next()) {
+          columns
+            .computeIfAbsent(columnResultSet.getString("TABLE_NAME"), k -> new ArrayList<>())
+            .add(createMetaColumn(columnResultSet));
+        }
+      }
+    }
+    return columns;
+
+  }
+
   /**
    * Create a drop statement for a {@link Constraint}
    * <a href="https://dev.mysql.com/doc/refman/8.4/en/alter-table.html">...</a>
@@ -406,4 +441,28 @@ public class MySqlDataSystem extends SqlDataSystem {
       createUpsertStatementUtilityValuesPartAfter(transferSourceTarget);
   }
 
+  /**
+   * <a href="https://dev.mysql.com/doc/refman/8.0/en/mathematical-functions.html#function_crc32">crc32</a>
+   */
+  @Override
+  public String createPartitionHashExpression(String quotedColumnName, int partitionCount) {
+    return "mod(crc32(" + quotedColumnName + "), " + partitionCount + ")";
+  }
+
+  /**
+   * The `fetch first` clause is not supported, `limit` is
+   */
+  @Override
+  protected String createFirstRecordStatement(SqlDataPath dataPath) {
+    return "select 1 from " + createFromClause(dataPath) + " limit 1";
+  }
+
+  /**
+   * The `fetch first` clause is not supported, `limit` is
+   */
+  @Override
+  public String createSortedLimitStatement(SqlDataPath dataPath, String orderBy, int limit) {
+    return createSelectStatement(dataPath) + " order by " + orderBy + " limit " + limit;
+  }
+
 }
@@ -6,6 +6,7 @@ import com.tabulify.conf.Origin;
 import com.tabulify.jdbc.SqlConnection;
 import com.tabulify.jdbc.SqlConnectionAttributeEnum;
 import com.tabulify.jdbc.SqlDataSystem;
+import com.tabulify.jdbc.SqlObjectConverter;
 import com.tabulify.model.ColumnDef;
 import com.tabulify.model.SqlDataType;
 import com.tabulify.model.SqlDataTypeAnsi;
@@ -51,15 +52,25 @@ public class OracleConnection extends SqlConnection {
 
 
   @Override
-  public Object toSqlObject(Object sourceObject, SqlDataType<?> targetColumnType) {
-
-    if (targetColumnType.getVendorTypeNumber() == OracleTypes.BINARY_DOUBLE && sourceObject instanceof Double) {
-      return new oracle.sql.BINARY_DOUBLE((Double) sourceObject);
+  public SqlObjectConverter createSqlObjectConverter(SqlDataType<?> targetColumnType) {
+
+    if (targetColumnType.getVendorTypeNumber() == OracleTypes.BINARY_DOUBLE) {
+      return sourceObject -> {
+        if (sourceObject instanceof Double) {
+          return new oracle.sql.BINARY_DOUBLE((Double) sourceObject);
+        }
+        return sourceObject;
+      };
     }
-    if (targetColumnType.getVendorTypeNumber() == OracleTypes.BINARY_FLOAT && sourceObject instanceof Float) {
-      return new oracle.sql.BINARY_FLOAT((Float) sourceObject);
+    if (targetColumnType.getVendorTypeNumber() == OracleTypes.BINARY_FLOAT) {
+      return sourceObject -> {
+        if (sourceObject instanceof Float) {
+          return new oracle.sql.BINARY_FLOAT((Float) sourceObject);
+        }
+        return sourceObject;
+      };
     }
-    return sourceObject;
+    return sourceObject -> sourceObject;
 
   }
 
@@ -4,10 +4,15 @@ import com.tabulify.jdbc.*;
 import com.tabulify.model.*;
 import com.tabulify.spi.DropTruncateAttribute;
 import com.tabulify.transfer.TransferSourceTargetOrder;
+import com.tabulify.exception.InternalException;
+import com.tabulify.exception.NoSchemaException;
+import com.tabulify.exception.NotSupportedException;
 import oracle.jdbc.OracleTypes;
 
+import java.sql.SQLException;
 import java.sql.Types;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public class OracleSystem extends SqlDataSystem {
@@ -426,4 +431,73 @@ public class OracleSystem extends SqlDataSystem {
       .build()
       .getStatements(sqlDataPaths, dropAttributes);
   }
+
+  /**
+   * The number of rows of the last statistics gathering
+   * <a href="https://docs.oracle.com/en/database/oracle/oracle-database/19/refrn/ALL_TABLES.html">ALL_TABLES</a>
+   * (null if the statistics were never gathered)
+   */
+  @Override
+  public Long getApproximateCount(SqlDataPath dataPath) {
+    String schema;
+    try {
+      schema = dataPath.getSchema().getName();
+    } catch (NoSchemaException e) {
+      throw new InternalException("Oracle has a schema, should not fire", e);
+    }
+    return getLongFromQuery(
+      "select num_rows from all_tables where owner = ? and table_name = ?",
+      schema,
+      dataPath.getName()
+    );
+  }
+
+  /**
+   * The primary keys (from `all_constraints`) and the unique indexes (from `all_indexes`) of a schema
+   * <p>
+   * The primary keys come first because their index has mostly the same name
+   */
+  @Override
+  protected Map<String, List<SqlMetaUniqueKey>> getSchemaMetaUniqueKeys(String catalog, String schema) throws SQLException, NotSupportedException {
+    if (schema == null) {
+      throw new NotSupportedException("The schema is unknown");
+    }
+    return getSchemaMetaUniqueKeysFromQuery(
+      "select c.table_name as TABLE_NAME, c.constraint_name as INDEX_NAME, 1 as IS_PRIMARY, cc.column_name as COLUMN_NAME, cc.position as KEY_SEQ\n" +
+        "from all_constraints c\n" +
+        "join all_cons_columns cc on cc.owner = c.owner and cc.constraint_name = c.constraint_name and cc.table_name = c.table_name\n" +
+        "where c.owner = ? and c.constraint_type = 'P'\n" +
+        "union all\n" +
+        "select i.table_name, i.index_name, 0, ic.column_name, ic.column_position\n" +
+        "from all_indexes i\n" +
+        "join all_ind_columns ic on ic.index_owner = i.owner and ic.index_name = i.index_name\n" +
+        "where i.table_owner = ? and i.uniqueness = 'UNIQUE'\n" +
+        "order by IS_PRIMARY desc",
+      schema,
+      schema
+    );
+  }
+
+  /**
+   * The foreign keys of a schema from `all_constraints`
+   * with the columns of {@link java.sql.DatabaseMetaData#getImportedKeys(String, String, String)}
+   */
+  @Override
+  protected Map<String, List<SqlMetaForeignKey>> getSchemaMetaForeignKeys(String catalog, String schema) throws SQLException, NotSupportedException {
+    if (schema == null) {
+      throw new NotSupportedException("The schema is unknown");
+    }
+    return getSchemaMetaForeignKeysFromQuery(
+      "select null as PKTABLE_CAT, p.owner as PKTABLE_SCHEM, p.table_name as PKTABLE_NAME, pc.column_name as PKCOLUMN_NAME,\n" +
+        "  null as FKTABLE_CAT, f.owner as FKTABLE_SCHEM, f.table_name as FKTABLE_NAME, fc.column_name as FKCOLUMN_NAME,\n" +
+        "  fc.position as KEY_SEQ, f.constraint_name as FK_NAME, p.constraint_name as PK_NAME\n" +
+        "from all_constraints f\n" +
+        "join all_cons_columns fc on fc.owner = f.owner and fc.constraint_name = f.constraint_name\n" +
+        "join all_constraints p on p.owner = f.r_owner and p.constraint_name = f.r_constraint_name\n" +
+        "join all_cons_columns pc on pc.owner = p.owner and pc.constraint_name = p.constraint_name and pc.position = fc.position\n" +
+        "where f.owner = ? and f.constraint_type = 'R'",
+      schema
+    );
+  }
+
 }
@@ -8,6 +8,7 @@ import com.tabulify.spi.Tabulars;
 import com.tabulify.transfer.TransferSourceTargetOrder;
 import com.tabulify.exception.CastException;
 import com.tabulify.exception.InternalException;
+import com.tabulify.exception.NotSupportedException;
 import com.tabulify.type.Casts;
 import com.tabulify.type.MediaType;
 
@@ -463,4 +464,30 @@ public class SqliteDataSystem extends SqlDataSystem {
       createUpsertStatementUtilityValuesPartAfter(transferSourceTarget);
   }
 
+  /**
+   * The `fetch first` clause is not supported, `limit` is
+   */
+  @Override
+  protected String createFirstRecordStatement(SqlDataPath dataPath) {
+    return "select 1 from " + createFromClause(dataPath) + " limit 1";
+  }
+
+  /**
+   * The `fetch first` clause is not supported, `limit` is
+   */
+  @Override
+  public String createSortedLimitStatement(SqlDataPath dataPath, String orderBy, int limit) {
+    return createSelectStatement(dataPath) + " order by " + orderBy + " limit " + limit;
+  }
+
+  /**
+   * The columns, the primary key and the foreign keys are read by table
+   * with a local `pragma` (See {@link SqliteDataPathRelationDef}).
+   * A bulk metadata snapshot would not be used.
+   */
+  @Override
+  protected Map<String, List<SqlMetaColumn>> getSchemaMetaColumns(String catalog, String schema) throws NotSupportedException {
+    throw new NotSupportedException("Sqlite reads the table metadata with pragma");
+  }
+
 }
@@ -0,0 +1,228 @@
+package com.tabulify.sqlserver;
+
+import com.microsoft.sqlserver.jdbc.ISQLServerBulkData;
+import com.microsoft.sqlserver.jdbc.SQLServerBulkCopy;
+import com.microsoft.sqlserver.jdbc.SQLServerBulkCopyOptions;
+import com.tabulify.jdbc.SqlBindingPlan;
+import com.tabulify.jdbc.SqlDataPath;
+import com.tabulify.jdbc.SqlLog;
+import com.tabulify.model.ColumnDef;
+import com.tabulify.model.RelationDef;
+import com.tabulify.spi.DataPath;
+import com.tabulify.spi.Tabulars;
+import com.tabulify.stream.InsertStream;
+import com.tabulify.stream.InsertStreamAbs;
+import com.tabulify.transfer.SqlStatementType;
+import com.tabulify.transfer.TransferMethod;
+import com.tabulify.transfer.TransferSourceTargetOrder;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * An insert stream that loads the records with the
+ * <a href="https://learn.microsoft.com/en-us/sql/connect/jdbc/using-bulk-copy-with-the-jdbc-driver">SQL Server bulk copy</a>
+ * <p>
+ * The records are converted and buffered, then sent by batch of {@link #batchSize} records.
+ * Each batch is committed by the server.
+ */
+public class SqlServerBulkCopyInsertStream extends InsertStreamAbs implements InsertStream, AutoCloseable {
+
+  public static final Logger LOGGER = SqlLog.LOGGER_DB_JDBC;
+
+  private final SqlDataPath targetDataPath;
+  private final SqlBindingPlan bindingPlan;
+  private final Connection connection;
+  private final SQLServerBulkCopyOptions bulkCopyOptions;
+
+  /**
+   * The converted records of the actual batch
+   */
+  private final List<Object[]> rows = new ArrayList<>();
+
+  private SqlServerBulkCopyInsertStream(TransferSourceTargetOrder transferSourceTarget) {
+    super(transferSourceTarget.getTargetDataPath());
+    this.targetDataPath = (SqlDataPath) transferSourceTarget.getTargetDataPath();
+
+    DataPath sourceDataPath = transferSourceTarget.getSourceDataPath();
+    /**
+     * If the source is not defined, we expect the same structure than the target
+     */
+    if (sourceDataPath == null) {
+      sourceDataPath = targetDataPath;
+    }
+    RelationDef sourceMetaDef = sourceDataPath.getOrCreateRelationDef();
+    this.bindingPlan = SqlBindingPlan.create(transferSourceTarget, sourceMetaDef, SqlStatementType.INSERT);
+
+    this.bulkCopyOptions = new SQLServerBulkCopyOptions();
+    try {
+      bulkCopyOptions.setBatchSize(this.batchSize);
+      bulkCopyOptions.setKeepNulls(true);
+    } catch (SQLException e) {
+      throw new RuntimeException(e);
+    }
+
+    // the target pre-operations (create, truncate) ran on the current connection
+    // and should be visible to the new connection of the load
+    targetDataPath.getConnection().commitCurrentJdbcConnection();
+    this.connection = targetDataPath.getConnection().getNewJdbcConnection();
+  }
+
+  public static SqlServerBulkCopyInsertStream create(TransferSourceTargetOrder transferSourceTarget) {
+    DataPath targetDataPath = transferSourceTarget.getTargetDataPath();
+    if (!Tabulars.exists(targetDataPath)) {
+      throw new RuntimeException("You can't open an insert stream on the SQL table (" + targetDataPath + ") because it does not exist.");
+    }
+    return new SqlServerBulkCopyInsertStream(transferSourceTarget);
+  }
+
+  @Override
+  public InsertStream insert(List<Object> sourceValues) {
+
+    Object[] row = new Object[bindingPlan.size()];
+    for (int i = 0; i < row.length; i++) {
+      try {
+        row[i] = bindingPlan.toSqlObject(sourceValues, i);
+      } catch (Exception e) {
+        closeConnection();
+        throw new RuntimeException(bindingPlan.createErrorMessage(e, bindingPlan.getSourceObject(sourceValues, i), i), e);
+      }
+    }
+    rows.add(row);
+
+    currentRowInLogicalBatch++;
+    if (currentRowInLogicalBatch >= this.batchSize) {
+      writeBatch();
+    }
+    return this;
+
+  }
+
+  /**
+   * Send the actual batch to the server
+   */
+  private void writeBatch() {
+    if (currentRowInLogicalBatch == 0) {
+      return;
+    }
+    try (SQLServerBulkCopy bulkCopy = new SQLServerBulkCopy(connection)) {
+      bulkCopy.setBulkCopyOptions(bulkCopyOptions);
+      bulkCopy.setDestinationTableName(targetDataPath.toSqlStringPath());
+      for (int i = 0; i < bindingPlan.size(); i++) {
+        bulkCopy.addColumnMapping(i + 1, bindingPlan.getTargetColumn(i).getColumnName());
+      }
+      bulkCopy.writeToServer(new BulkData());
+    } catch (SQLException e) {
+      closeConnection();
+      throw new RuntimeException("Error on bulk copy into the table " + targetDataPath + ". Error Message: " + e.getMessage(), e);
+    }
+    rows.clear();
+    insertStreamListener.incrementBatch();
+    insertStreamListener.incrementCommit();
+    insertStreamListener.addRows(currentRowInLogicalBatch);
+    if (Math.floorMod(insertStreamListener.getBatchCount(), feedbackFrequency) == 0) {
+      LOGGER.info(insertStreamListener.getRowCount() + " rows copied in the table " + targetDataPath);
+    }
+    currentRowInLogicalBatch = 0;
+  }
+
+  @Override
+  public void flush() {
+    writeBatch();
+  }
+
+  @Override
+  public void close() {
+
+    writeBatch();
+    closeConnection();
+
+    LOGGER.info(insertStreamListener.getRowCount() + " rows copied (Total) in the table " + targetDataPath);
+    LOGGER.info(insertStreamListener.getBatchCount() + " batches(s) (Total) in the table " + targetDataPath);
+
+  }
+
+  /**
+   * This chunk of code must never fail
+   */
+  private void closeConnection() {
+    try {
+      if (!connection.isClosed()) {
+        connection.close();
+      }
+      LOGGER.fine(getName() + " stream closed");
+    } catch (SQLException e) {
+      LOGGER.warning("Error while closing the connection of the bulk copy into the table " + targetDataPath + ". Error Message: " + e.getMessage());
+    }
+  }
+
+  @Override
+  public SqlDataPath getDataPath() {
+    return (SqlDataPath) super.getDataPath();
+  }
+
+  @Override
+  public TransferMethod getMethod() {
+    return TransferMethod.BULK_LOAD;
+  }
+
+  /**
+   * The actual batch as bulk copy source
+   * (the column ordinals start at 1)
+   */
+  private class BulkData implements ISQLServerBulkData {
+
+    private int rowIndex = -1;
+
+    @Override
+    public Set<Integer> getColumnOrdinals() {
+      Set<Integer> ordinals = new LinkedHashSet<>();
+      for (int i = 1; i <= bindingPlan.size(); i++) {
+        ordinals.add(i);
+      }
+      return ordinals;
+    }
+
+    private ColumnDef<?> getColumn(int ordinal) {
+      return bindingPlan.getTargetColumn(ordinal - 1);
+    }
+
+    @Override
+    public String getColumnName(int ordinal) {
+      return getColumn(ordinal).getColumnName();
+    }
+
+    @Override
+    public int getColumnType(int ordinal) {
+      return getColumn(ordinal).getDataType().getVendorTypeNumber();
+    }
+
+    @Override
+    public int getPrecision(int ordinal) {
+      return getColumn(ordinal).getPrecision();
+    }
+
+    @Override
+    public int getScale(int ordinal) {
+      return getColumn(ordinal).getScale();
+    }
+
+    @Override
+    public Object[] getRowData() {
+      return rows.get(rowIndex);
+    }
+
+    @Override
+    public boolean next() {
+      rowIndex++;
+      return rowIndex < rows.size();
+    }
+
+  }
+
+}
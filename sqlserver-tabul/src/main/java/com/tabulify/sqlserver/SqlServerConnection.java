@@ -3,6 +3,7 @@ package com.tabulify.sqlserver;
 import com.tabulify.Tabular;
 import com.tabulify.conf.Attribute;
 import com.tabulify.jdbc.SqlConnection;
+import com.tabulify.jdbc.SqlObjectConverter;
 import com.tabulify.model.ColumnDef;
 import com.tabulify.model.SqlDataType;
 import com.tabulify.model.SqlDataTypeAnsi;
@@ -83,14 +84,16 @@ public class SqlServerConnection extends SqlConnection {
   }
 
   @Override
-  public Object toSqlObject(Object sourceObject, SqlDataType<?> targetColumnType) throws CastException {
+  public SqlObjectConverter createSqlObjectConverter(SqlDataType<?> targetColumnType) {
     if (targetColumnType.getValueClass().equals(DateTimeOffset.class)) {
-      if (sourceObject instanceof OffsetDateTime) {
-        return DateTimeOffset.valueOf((OffsetDateTime) sourceObject);
-      }
-      throw new CastException("The source value is not a OffsetDateTime object (ie timestamp with time zone) but a " + sourceObject.getClass().getName() + ". We could not convert it to the Microsoft DateTimeOffset.");
+      return sourceObject -> {
+        if (sourceObject instanceof OffsetDateTime) {
+          return DateTimeOffset.valueOf((OffsetDateTime) sourceObject);
+        }
+        throw new CastException("The source value is not a OffsetDateTime object (ie timestamp with time zone) but a " + sourceObject.getClass().getName() + ". We could not convert it to the Microsoft DateTimeOffset.");
+      };
     }
-    return super.toSqlObject(sourceObject, targetColumnType);
+    return super.createSqlObjectConverter(targetColumnType);
   }
 
 }
@@ -7,13 +7,18 @@ import com.tabulify.spi.DataPath;
 import com.tabulify.spi.DropTruncateAttribute;
 import com.tabulify.spi.Tabulars;
 import com.tabulify.stream.SelectStream;
+import com.tabulify.stream.InsertStream;
 import com.tabulify.transfer.TransferSourceTargetOrder;
 import com.tabulify.exception.InternalException;
+import com.tabulify.exception.NoCatalogException;
+import com.tabulify.exception.NotSupportedException;
 
 import java.math.BigDecimal;
+import java.sql.SQLException;
 import java.sql.Types;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -45,6 +50,14 @@ public class SqlServerDataSystem extends SqlDataSystem {
     super(jdbcDataStore);
   }
 
+  @Override
+  public InsertStream getInsertStream(TransferSourceTargetOrder transferSourceTarget) {
+    if (isBulkLoad(transferSourceTarget)) {
+      return SqlServerBulkCopyInsertStream.create(transferSourceTarget);
+    }
+    return super.getInsertStream(transferSourceTarget);
+  }
+
   /**
    * <a href="https://docs.microsoft.com/en-us/sql/t-sql/statements/truncate-table-transact-sql?view=sql-server-ver15">...</a>
    */
@@ -457,4 +470,104 @@ public class SqlServerDataSystem extends SqlDataSystem {
     return Set.of(SqlServerTypes.values());
   }
 
+  /**
+   * <a href="https://learn.microsoft.com/en-us/sql/t-sql/functions/checksum-transact-sql">checksum</a>
+   */
+  @Override
+  public String createPartitionHashExpression(String quotedColumnName, int partitionCount) {
+    return "abs(cast(checksum(" + quotedColumnName + ") as bigint)) % " + partitionCount;
+  }
+
+  /**
+   * The `fetch first` clause needs an `order by` in SQL Server, `top` does not
+   */
+  @Override
+  protected String createFirstRecordStatement(SqlDataPath dataPath) {
+    return "select top 1 1 from " + createFromClause(dataPath);
+  }
+
+  /**
+   * The `fetch` clause needs an `offset` clause in SQL Server
+   */
+  @Override
+  public String createSortedLimitStatement(SqlDataPath dataPath, String orderBy, int limit) {
+    return createSelectStatement(dataPath) + " order by " + orderBy + " offset 0 rows fetch next " + limit + " rows only";
+  }
+
+  /**
+   * The rows of the heap or of the clustered index in
+   * <a href="https://learn.microsoft.com/en-us/sql/relational-databases/system-catalog-views/sys-partitions-transact-sql">sys.partitions</a>
+   */
+  @Override
+  public Long getApproximateCount(SqlDataPath dataPath) {
+    return getLongFromQuery(
+      "select sum(p.rows) from sys.partitions p where p.object_id = object_id(?) and p.index_id in (0, 1)",
+      dataPath.toSqlStringPath()
+    );
+  }
+
+  /**
+   * The unique indexes (primary key included) of a schema from
+   * <a href="https://learn.microsoft.com/en-us/sql/relational-databases/system-catalog-views/sys-indexes-transact-sql">sys.indexes</a>
+   */
+  @Override
+  protected Map<String, List<SqlMetaUniqueKey>> getSchemaMetaUniqueKeys(String catalog, String schema) throws SQLException, NotSupportedException {
+    checkCurrentCatalog(catalog, schema);
+    return getSchemaMetaUniqueKeysFromQuery(
+      "select o.name as TABLE_NAME, i.name as INDEX_NAME, i.is_primary_key as IS_PRIMARY, c.name as COLUMN_NAME, ic.key_ordinal as KEY_SEQ\n" +
+        "from sys.indexes i\n" +
+        "join sys.objects o on o.object_id = i.object_id\n" +
+        "join sys.schemas s on s.schema_id = o.schema_id\n" +
+        "join sys.index_columns ic on ic.object_id = i.object_id and ic.index_id = i.index_id\n" +
+        "join sys.columns c on c.object_id = ic.object_id and c.column_id = ic.column_id\n" +
+        "where s.name = ? and i.is_unique = 1 and ic.is_included_column = 0",
+      schema
+    );
+  }
+
+  /**
+   * The foreign keys of a schema from
+   * <a href="https://learn.microsoft.com/en-us/sql/relational-databases/system-catalog-views/sys-foreign-key-columns-transact-sql">sys.foreign_key_columns</a>
+   * with the columns of {@link java.sql.DatabaseMetaData#getImportedKeys(String, String, String)}
+   */
+  @Override
+  protected Map<String, List<SqlMetaForeignKey>> getSchemaMetaForeignKeys(String catalog, String schema) throws SQLException, NotSupportedException {
+    checkCurrentCatalog(catalog, schema);
+    return getSchemaMetaForeignKeysFromQuery(
+      "select db_name() as PKTABLE_CAT, ps.name as PKTABLE_SCHEM, pt.name as PKTABLE_NAME, pc.name as PKCOLUMN_NAME,\n" +
+        "  db_name() as FKTABLE_CAT, fs.name as FKTABLE_SCHEM, ft.name as FKTABLE_NAME, fc.name as FKCOLUMN_NAME,\n" +
+        "  fkc.constraint_column_id as KEY_SEQ, fk.name as FK_NAME, pk.name as PK_NAME\n" +
+        "from sys.foreign_keys fk\n" +
+        "join sys.foreign_key_columns fkc on fkc.constraint_object_id = fk.object_id\n" +
+        "join sys.objects ft on ft.object_id = fk.parent_object_id\n" +
+        "join sys.schemas fs on fs.schema_id = ft.schema_id\n" +
+        "join sys.columns fc on fc.object_id = fkc.parent_object_id and fc.column_id = fkc.parent_column_id\n" +
+        "join sys.objects pt on pt.object_id = fk.referenced_object_id\n" +
+        "join sys.schemas ps on ps.schema_id = pt.schema_id\n" +
+        "join sys.columns pc on pc.object_id = fkc.referenced_object_id and pc.column_id = fkc.referenced_column_id\n" +
+        "left join sys.indexes pk on pk.object_id = fk.referenced_object_id and pk.index_id = fk.key_index_id\n" +
+        "where fs.name = ?",
+      schema
+    );
+  }
+
+  /**
+   * The `sys` catalog views are the views of the current database
+   */
+  private void checkCurrentCatalog(String catalog, String schema) throws NotSupportedException {
+    if (schema == null) {
+      throw new NotSupportedException("The schema is unknown");
+    }
+    if (catalog == null) {
+      return;
+    }
+    try {
+      if (!catalog.equals(this.getConnection().getCurrentCatalog())) {
+        throw new NotSupportedException("The catalog (" + catalog + ") is not the current database");
+      }
+    } catch (NoCatalogException e) {
+      throw new NotSupportedException("The current database is unknown");
+    }
+  }
+
 }